@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.bcoview.asm;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the most recently used decompilation results, keyed by class, class file modification
+ * stamp and decompiler options. Results for classes without a known stamp are not cached.
+ * <p>
+ * This class is thread safe.
+ */
+public class DecompiledClassCache {
+
+	private static final int MAX_ENTRIES = 16;
+
+	private static final class Key {
+		private final String classId;
+
+		private final long stamp;
+
+		private final String fieldFilter;
+
+		private final String methodFilter;
+
+		private final BitSet modes;
+
+		Key(String classId, long stamp, DecompilerOptions options) {
+			this.classId = classId;
+			this.stamp = stamp;
+			this.fieldFilter = options.fieldFilter;
+			this.methodFilter = options.methodFilter;
+			this.modes = (BitSet) options.modes.clone();
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(classId, Long.valueOf(stamp), fieldFilter, methodFilter, modes);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return stamp == other.stamp
+					&& classId.equals(other.classId)
+					&& Objects.equals(fieldFilter, other.fieldFilter)
+					&& Objects.equals(methodFilter, other.methodFilter)
+					&& modes.equals(other.modes);
+		}
+	}
+
+	private final Map<Key, DecompiledClass> entries = new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, DecompiledClass> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * @param classId non null, identifies the class file
+	 * @param stamp modification stamp of the class file, -1 if unknown
+	 * @param options non null
+	 * @return the cached result, or null
+	 */
+	public synchronized DecompiledClass get(String classId, long stamp, DecompilerOptions options) {
+		if (stamp == -1) {
+			return null;
+		}
+		return entries.get(new Key(classId, stamp, options));
+	}
+
+	/**
+	 * @param classId non null, identifies the class file
+	 * @param stamp modification stamp of the class file the result was created from, -1 if unknown
+	 * @param options non null, the options the result was created with
+	 * @param decompiledClass non null
+	 */
+	public synchronized void put(String classId, long stamp, DecompilerOptions options, DecompiledClass decompiledClass) {
+		if (stamp == -1) {
+			return;
+		}
+		entries.put(new Key(classId, stamp, options), decompiledClass);
+	}
+
+	public synchronized void clear() {
+		entries.clear();
+	}
+}
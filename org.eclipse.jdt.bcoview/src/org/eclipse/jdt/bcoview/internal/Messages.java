@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -71,6 +71,7 @@ public class Messages extends NLS {
 	public static String BytecodeOutlineView_find_replace_tooltip;
 	public static String BytecodeOutlineView_find_replace_description;
 	public static String BytecodeOutlineView_find_replace_image;
+	public static String BytecodeOutlineView_decompiling;
 
 	public static String BytecodeOutlineView_toggle_vertical_label;
 	public static String BytecodeOutlineView_toggle_horizontal_label;
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023, 2024 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -24,6 +24,7 @@ import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.bcoview.BytecodeOutlinePlugin;
 
@@ -712,6 +713,45 @@ public class JdtUtils {
 		return null;
 	}
 
+	/**
+	 * @param javaElement non null
+	 * @return the modification time of the file the bytecode of the given element is read from, in
+	 *         nanoseconds, or -1 if it cannot be determined
+	 * @see #readClassBytes(IJavaElement)
+	 */
+	public static long getClassFileStamp(IJavaElement javaElement) {
+		IClassFile classFile = (IClassFile) javaElement.getAncestor(IJavaElement.CLASS_FILE);
+		File file;
+		if (classFile != null) {
+			// class files from archives or class folders: use the stamp of the root
+			IPackageFragmentRoot root = (IPackageFragmentRoot) classFile.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (root == null) {
+				return -1;
+			}
+			IResource resource = root.getResource();
+			IPath location = resource != null ? resource.getLocation() : root.getPath();
+			if (location == null) {
+				return -1;
+			}
+			file = location.toFile();
+			if (!file.isFile()) {
+				// class folders have no meaningful stamp
+				return -1;
+			}
+		} else {
+			String classPath = getByteCodePath(javaElement);
+			if (classPath.isEmpty()) {
+				return -1;
+			}
+			file = new File(classPath);
+		}
+		try {
+			return Files.getLastModifiedTime(file.toPath()).to(TimeUnit.NANOSECONDS);
+		} catch (IOException e) {
+			return -1;
+		}
+	}
+
 	private static boolean isOnClasspath(IJavaElement javaElement) {
 		IJavaProject project = javaElement.getJavaProject();
 		if (project != null) {
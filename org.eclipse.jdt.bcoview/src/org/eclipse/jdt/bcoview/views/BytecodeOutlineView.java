@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2023 Andrey Loskutov and others.
+ * Copyright (c) 2023, 2026 Andrey Loskutov and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,6 +28,7 @@ import org.objectweb.asm.util.Printer;
 
 import org.eclipse.jdt.bcoview.BytecodeOutlinePlugin;
 import org.eclipse.jdt.bcoview.asm.DecompiledClass;
+import org.eclipse.jdt.bcoview.asm.DecompiledClassCache;
 import org.eclipse.jdt.bcoview.asm.DecompiledMethod;
 import org.eclipse.jdt.bcoview.asm.DecompilerHelper;
 import org.eclipse.jdt.bcoview.asm.DecompilerOptions;
@@ -56,13 +57,17 @@ import org.eclipse.swt.layout.GridData;
 import org.eclipse.swt.layout.GridLayout;
 import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Control;
+import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Menu;
 import org.eclipse.swt.widgets.Table;
 import org.eclipse.swt.widgets.TableColumn;
 import org.eclipse.swt.widgets.TableItem;
 import org.eclipse.swt.widgets.Widget;
 
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.core.filebuffers.FileBuffers;
 
@@ -234,6 +239,12 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 
 	private DecompiledClass lastDecompiledResult;
 
+	/** recent decompilation results, to switch quickly between members and classes */
+	private final DecompiledClassCache decompiledCache = new DecompiledClassCache();
+
+	/** the job computing the result to show next, null if no result is pending */
+	private DecompileJob decompileJob;
+
 	protected Map<String, IAction> globalActions;
 
 	protected List<String> selectionActions;
@@ -827,6 +838,8 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		setJavaInput(null);
 		lastChildElement = null;
 		lastDecompiledResult = null;
+		cancelDecompilation();
+		decompiledCache.clear();
 
 		linkWithEditorAction.dispose();
 		showSelectedOnlyAction.dispose();
@@ -1018,6 +1031,7 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 		if (statusControl != null && !statusControl.isDisposed()) {
 			updateStatus(null, -1, -1);
 		}
+		cancelDecompilation();
 		currentSelection = null;
 		lastDecompiledResult = null;
 		javaEditor = null;
@@ -1045,37 +1059,48 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 			return;
 		}
 
-		boolean clearOutput = false;
-
 		if (inputChanged || isSelectedElementChanged(childEl)) {
-			DecompiledClass result = decompileBytecode(childEl);
-			if (result == null) {
-				clearOutput = true;
-			} else {
-				boolean hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
-				if (modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
-					refreshVerifyView(result);
-				} else {
-					toggleVerifierAction.setEnabled(hasMethods);
-					refreshTextView(result);
-				}
-			}
-			lastDecompiledResult = result;
-		} else if (childEl == null && modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT)) {
-			clearOutput = true;
+			lastChildElement = childEl;
+			inputChanged = false;
+			decompileBytecode(childEl);
+			return;
+		}
+		if (decompileJob != null) {
+			// selection is updated as soon as the pending result is shown
+			lastChildElement = childEl;
+			return;
 		}
 
 		lastChildElement = childEl;
-		if (clearOutput) {
-			if (!modes.get(BCOConstants.F_SHOW_ANALYZER)) {
-				IDocument document = new Document(""); //$NON-NLS-1$
-				textViewer.setDocument(document);
+		if (childEl == null && modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT)) {
+			clearOutput();
+		}
+		setSelectionInBytecodeView();
+	}
+
+	private void showDecompiledClass(DecompiledClass result) {
+		if (result == null) {
+			clearOutput();
+		} else {
+			boolean hasMethods = !result.isAbstractOrInterface() || result.isDefaultMethodPossible();
+			if (modes.get(BCOConstants.F_SHOW_ANALYZER) && hasMethods) {
+				refreshVerifyView(result);
 			} else {
-				setVerifyTableItems(null);
+				toggleVerifierAction.setEnabled(hasMethods);
+				refreshTextView(result);
 			}
 		}
+		lastDecompiledResult = result;
 		setSelectionInBytecodeView();
-		inputChanged = false;
+	}
+
+	private void clearOutput() {
+		if (!modes.get(BCOConstants.F_SHOW_ANALYZER)) {
+			IDocument document = new Document(""); //$NON-NLS-1$
+			textViewer.setDocument(document);
+		} else {
+			setVerifyTableItems(null);
+		}
 	}
 
 	private void refreshTextView(DecompiledClass result) {
@@ -1226,7 +1251,8 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 					int lineCount = textControl.getLineCount();
 					if (decompiledLine < lineCount) {
 						int offsetAtLine = textControl.getOffsetAtLine(decompiledLine);
-						int offsetEnd = textControl.getText().indexOf('\n', offsetAtLine);
+						// don't copy the whole text of large classes on each caret move
+						int offsetEnd = offsetAtLine + textControl.getLine(decompiledLine).length();
 						textControl.setSelection(offsetAtLine, offsetEnd);
 					}
 				}
@@ -1421,61 +1447,137 @@ public class BytecodeOutlineView extends ViewPart implements IBytecodePart {
 	}
 
 	/**
+	 * Shows the decompiled bytecode of the class containing the given element. The result is
+	 * shown immediately if it is cached, otherwise it is computed in a background job and
+	 * shown when the job is done. Shows nothing if type is not known or bytecode is not written
+	 * or cannot be found.
+	 *
 	 * @param childEl can be null
-	 * @return return null if type is not known or bytecode is not written or cannot be found
 	 */
-	private DecompiledClass decompileBytecode(IJavaElement childEl) {
+	private void decompileBytecode(IJavaElement childEl) {
+		cancelDecompilation();
 		// check here for inner classes too
 		IJavaElement type = JdtUtils.getEnclosingType(childEl);
 		if (type == null) {
 			type = javaInput;
 		}
 		if (type == null) {
-			return null;
-		}
-		byte[] bytes = JdtUtils.readClassBytes(type);
-		if (bytes == null) {
-			return null;
+			showDecompiledClass(null);
+			return;
 		}
-		DecompiledClass decompiledClass = null;
-		int available = bytes.length;
-		try {
-			String fieldName = null;
-			String methodName = null;
-			/*
-			 * find out, which name we should use for selected element
-			 */
-			if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
-				if (childEl.getElementType() == IJavaElement.FIELD) {
-					fieldName = childEl.getElementName();
-				} else {
-					methodName = JdtUtils.getMethodSignature(childEl);
-				}
-			}
-			decompiledClass = DecompilerHelper.getDecompiledClass(bytes, new DecompilerOptions(fieldName, methodName, modes));
-		} catch (Exception e) {
-			try {
-				// check if compilation unit is ok - then this is the user problem
-				if (type.isStructureKnown()) {
-					BytecodeOutlinePlugin.error("Cannot decompile: " + type, e); //$NON-NLS-1$
-				} else {
-					BytecodeOutlinePlugin.log(e, IStatus.ERROR);
-				}
-			} catch (JavaModelException e1) {
-				// this is compilation problem - don't show the message
-				BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
+		String fieldName = null;
+		String methodName = null;
+		/*
+		 * find out, which name we should use for selected element
+		 */
+		if (modes.get(BCOConstants.F_SHOW_ONLY_SELECTED_ELEMENT) && childEl != null) {
+			if (childEl.getElementType() == IJavaElement.FIELD) {
+				fieldName = childEl.getElementName();
+			} else {
+				methodName = JdtUtils.getMethodSignature(childEl);
 			}
-		} catch (UnsupportedClassVersionError e) {
+		}
+		// the job must not see later changes of the view modes
+		DecompilerOptions options = new DecompilerOptions(fieldName, methodName, (BitSet) modes.clone());
+		long stamp = JdtUtils.getClassFileStamp(type);
+		DecompiledClass cached = decompiledCache.get(type.getHandleIdentifier(), stamp, options);
+		if (cached != null) {
+			showDecompiledClass(cached);
+			return;
+		}
+		decompileJob = new DecompileJob(type, options, stamp, getSite().getShell().getDisplay());
+		decompileJob.schedule();
+	}
+
+	private void cancelDecompilation() {
+		if (decompileJob != null) {
+			decompileJob.cancel();
+			decompileJob = null;
+		}
+	}
+
+	private void decompilationDone(DecompileJob job) {
+		if (job != decompileJob || !isActive()) {
+			// outdated result
+			return;
+		}
+		decompileJob = null;
+		if (job.failure != null) {
+			reportDecompileError(job.type, job.failure);
+		}
+		showDecompiledClass(job.result);
+	}
+
+	private static void reportDecompileError(IJavaElement type, Throwable failure) {
+		if (failure instanceof UnsupportedClassVersionError) {
 			BytecodeOutlinePlugin.error("Cannot decompile: " + type //$NON-NLS-1$
 					+ ". Error was caused by attempt to " //$NON-NLS-1$
 					+ "load a class compiled with the Java version which is not " //$NON-NLS-1$
-					+ "supported by the current JVM. ", e); //$NON-NLS-1$
+					+ "supported by the current JVM. ", failure); //$NON-NLS-1$
+			return;
+		}
+		try {
+			// check if compilation unit is ok - then this is the user problem
+			if (type.isStructureKnown()) {
+				BytecodeOutlinePlugin.error("Cannot decompile: " + type, failure); //$NON-NLS-1$
+			} else {
+				BytecodeOutlinePlugin.log(failure, IStatus.ERROR);
+			}
+		} catch (JavaModelException e1) {
+			// this is compilation problem - don't show the message
+			BytecodeOutlinePlugin.log(e1, IStatus.WARNING);
 		}
-		// remember class file size to show it later in UI
-		if (decompiledClass != null) {
-			decompiledClass.setClassSize(available);
+	}
+
+	/**
+	 * Reads and decompiles the bytecode outside of the UI thread, so that large classes do not
+	 * block the editor. Results are cached even if the job was canceled meanwhile.
+	 */
+	private final class DecompileJob extends Job {
+
+		final IJavaElement type;
+
+		private final DecompilerOptions options;
+
+		private final long stamp;
+
+		private final Display display;
+
+		/** null if type is not known or bytecode is not written or cannot be found */
+		DecompiledClass result;
+
+		Throwable failure;
+
+		DecompileJob(IJavaElement type, DecompilerOptions options, long stamp, Display display) {
+			super(Messages.BytecodeOutlineView_decompiling);
+			this.type = type;
+			this.options = options;
+			this.stamp = stamp;
+			this.display = display;
+			setSystem(true);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			byte[] bytes = JdtUtils.readClassBytes(type);
+			if (bytes != null && !monitor.isCanceled()) {
+				try {
+					result = DecompilerHelper.getDecompiledClass(bytes, options);
+					// remember class file size to show it later in UI
+					result.setClassSize(bytes.length);
+					decompiledCache.put(type.getHandleIdentifier(), stamp, options, result);
+				} catch (Exception | UnsupportedClassVersionError e) {
+					failure = e;
+				}
+			}
+			if (monitor.isCanceled()) {
+				return Status.CANCEL_STATUS;
+			}
+			if (!display.isDisposed()) {
+				display.asyncExec(() -> decompilationDone(this));
+			}
+			return Status.OK_STATUS;
 		}
-		return decompiledClass;
 	}
 
 	private void setVerifyTableItems(String[][] items) {
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+
+import org.eclipse.jdt.internal.corext.dom.ASTFlattener;
+
+/**
+ * Measures {@link ASTFlattener} on whole compilation units and on single method declarations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations= 3, time= 2)
+@Measurement(iterations= 5, time= 2)
+public class ASTFlattenerBenchmark {
+
+	private CompilationUnit[] fAsts;
+
+	private List<MethodDeclaration> fMethods;
+
+	@Setup
+	public void setUp() throws CoreException {
+		fAsts= BenchmarkCorpus.getDefault().parse(false);
+		fMethods= new ArrayList<>();
+		for (CompilationUnit ast : fAsts) {
+			ast.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(MethodDeclaration node) {
+					fMethods.add(node);
+					return false;
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public void flattenCompilationUnits(Blackhole blackhole) {
+		for (CompilationUnit ast : fAsts) {
+			blackhole.consume(ASTFlattener.asString(ast));
+		}
+	}
+
+	@Benchmark
+	public void flattenMethods(Blackhole blackhole) {
+		for (MethodDeclaration method : fMethods) {
+			blackhole.consume(ASTFlattener.asString(method));
+		}
+	}
+}
@@ -0,0 +1,145 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.Block;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.Expression;
+import org.eclipse.jdt.core.dom.InfixExpression;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.SimpleName;
+
+import org.eclipse.jdt.internal.corext.dom.ASTNodes;
+
+/**
+ * Measures frequently used {@link ASTNodes} utilities over the ASTs of the {@link BenchmarkCorpus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations= 3, time= 2)
+@Measurement(iterations= 5, time= 2)
+public class ASTNodesBenchmark {
+
+	private CompilationUnit[] fFirst;
+
+	private CompilationUnit[] fSecond;
+
+	private List<Block> fBodies;
+
+	private List<InfixExpression> fInfixExpressions;
+
+	private List<Expression> fExpressions;
+
+	private List<SimpleName> fNames;
+
+	@Setup
+	public void setUp() throws CoreException {
+		BenchmarkCorpus corpus= BenchmarkCorpus.getDefault();
+		fFirst= corpus.parse(true);
+		fSecond= corpus.parse(true);
+		fBodies= new ArrayList<>();
+		fInfixExpressions= new ArrayList<>();
+		fExpressions= new ArrayList<>();
+		fNames= new ArrayList<>();
+		for (CompilationUnit ast : fFirst) {
+			ast.accept(new ASTVisitor() {
+				@Override
+				public boolean visit(MethodDeclaration node) {
+					if (node.getBody() != null) {
+						fBodies.add(node.getBody());
+					}
+					return true;
+				}
+
+				@Override
+				public boolean visit(InfixExpression node) {
+					fInfixExpressions.add(node);
+					return true;
+				}
+
+				@Override
+				public boolean visit(SimpleName node) {
+					fNames.add(node);
+					return true;
+				}
+
+				@Override
+				public void postVisit(ASTNode node) {
+					if (node instanceof Expression) {
+						fExpressions.add((Expression) node);
+					}
+				}
+			});
+		}
+	}
+
+	@Benchmark
+	public void match(Blackhole blackhole) {
+		for (int i= 0; i < fFirst.length; i++) {
+			blackhole.consume(ASTNodes.match(fFirst[i], fSecond[i]));
+		}
+	}
+
+	@Benchmark
+	public void getLocalVariableIdentifiers(Blackhole blackhole) {
+		for (Block body : fBodies) {
+			blackhole.consume(ASTNodes.getLocalVariableIdentifiers(body, true));
+		}
+	}
+
+	@Benchmark
+	public void isPassive(Blackhole blackhole) {
+		for (Expression expression : fExpressions) {
+			blackhole.consume(ASTNodes.isPassive(expression));
+		}
+	}
+
+	@Benchmark
+	public void allOperands(Blackhole blackhole) {
+		for (InfixExpression expression : fInfixExpressions) {
+			blackhole.consume(ASTNodes.allOperands(expression));
+		}
+	}
+
+	@Benchmark
+	public void isSameVariable(Blackhole blackhole) {
+		SimpleName previous= null;
+		for (SimpleName name : fNames) {
+			if (previous != null) {
+				blackhole.consume(ASTNodes.isSameVariable(previous, name));
+			}
+			previous= name;
+		}
+	}
+}
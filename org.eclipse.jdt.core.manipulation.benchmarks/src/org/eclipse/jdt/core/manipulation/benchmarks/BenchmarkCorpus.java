@@ -0,0 +1,259 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IProjectDescription;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.JavaManipulation;
+
+import org.eclipse.jdt.launching.JavaRuntime;
+
+import org.eclipse.jdt.ui.PreferenceConstants;
+
+/**
+ * A generated Java project shared by all benchmarks of a run.
+ * <p>
+ * The corpus consists of {@link #SIZE_PROPERTY} classes spread over a few packages. Every class
+ * has accessors, loops over arrays and lists, string concatenations, instanceof checks, boxing
+ * and imports that organize imports has to rewrite, so that each of the measured operations finds
+ * work to do. The content only depends on the size, which keeps the numbers comparable between
+ * runs and releases.
+ * </p>
+ */
+public final class BenchmarkCorpus {
+
+	/**
+	 * System property with the number of generated compilation units, defaults to 40.
+	 */
+	public static final String SIZE_PROPERTY= "jdt.benchmark.corpusSize"; //$NON-NLS-1$
+
+	private static final String PROJECT_NAME= "ManipulationBenchmarkCorpus"; //$NON-NLS-1$
+
+	private static final int PACKAGES= 4;
+
+	private static BenchmarkCorpus fgDefault;
+
+	private final IJavaProject fProject;
+
+	private final ICompilationUnit[] fUnits;
+
+	private BenchmarkCorpus(IJavaProject project, ICompilationUnit[] units) {
+		fProject= project;
+		fUnits= units;
+	}
+
+	/**
+	 * Returns the corpus, creating the project on first access.
+	 *
+	 * @return the shared corpus
+	 * @throws CoreException if the project cannot be created
+	 */
+	public static synchronized BenchmarkCorpus getDefault() throws CoreException {
+		if (fgDefault == null) {
+			fgDefault= create(Integer.getInteger(SIZE_PROPERTY, 40).intValue());
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Deletes the corpus project.
+	 *
+	 * @throws CoreException if the project cannot be deleted
+	 */
+	public static synchronized void dispose() throws CoreException {
+		if (fgDefault != null) {
+			fgDefault.fProject.getProject().delete(true, true, null);
+			fgDefault= null;
+		}
+	}
+
+	public IJavaProject getJavaProject() {
+		return fProject;
+	}
+
+	public ICompilationUnit[] getCompilationUnits() {
+		return fUnits;
+	}
+
+	/**
+	 * Parses all compilation units of the corpus.
+	 *
+	 * @param resolveBindings whether bindings should be resolved
+	 * @return the ASTs, in the order of {@link #getCompilationUnits()}
+	 */
+	public CompilationUnit[] parse(boolean resolveBindings) {
+		CompilationUnit[] asts= new CompilationUnit[fUnits.length];
+		for (int i= 0; i < fUnits.length; i++) {
+			asts[i]= parse(fUnits[i], resolveBindings);
+		}
+		return asts;
+	}
+
+	public static CompilationUnit parse(ICompilationUnit unit, boolean resolveBindings) {
+		ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+		parser.setSource(unit);
+		parser.setResolveBindings(resolveBindings);
+		parser.setBindingsRecovery(resolveBindings);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
+	private static BenchmarkCorpus create(int size) throws CoreException {
+		// activates jdt.ui, which installs the code templates and preferences used by jdt.core.manipulation
+		PreferenceConstants.getPreferenceStore();
+		if (JavaManipulation.getCodeTemplateStore() == null) {
+			throw new IllegalStateException("Code templates are not available"); //$NON-NLS-1$
+		}
+
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		IProject project= root.getProject(PROJECT_NAME);
+		if (project.exists()) {
+			project.delete(true, true, null);
+		}
+		project.create(null);
+		project.open(null);
+		IProjectDescription description= project.getDescription();
+		description.setNatureIds(new String[] { JavaCore.NATURE_ID });
+		project.setDescription(description, null);
+
+		IJavaProject javaProject= JavaCore.create(project);
+		Map<String, String> options= javaProject.getOptions(false);
+		JavaCore.setComplianceOptions(JavaCore.latestSupportedJavaVersion(), options);
+		javaProject.setOptions(options);
+
+		project.getFolder("src").create(true, true, null); //$NON-NLS-1$
+		IPackageFragmentRoot sourceFolder= javaProject.getPackageFragmentRoot(project.getFolder("src")); //$NON-NLS-1$
+		IClasspathEntry[] classpath= new IClasspathEntry[] {
+				JavaCore.newSourceEntry(sourceFolder.getPath()),
+				JavaRuntime.getDefaultJREContainerEntry()
+		};
+		javaProject.setRawClasspath(classpath, project.getFolder("bin").getFullPath(), null); //$NON-NLS-1$
+
+		List<ICompilationUnit> units= new ArrayList<>(size);
+		for (int i= 0; i < size; i++) {
+			IPackageFragment fragment= sourceFolder.createPackageFragment(getPackageName(i), true, null);
+			units.add(fragment.createCompilationUnit(getTypeName(i) + ".java", createSource(i, size), true, null)); //$NON-NLS-1$
+		}
+		project.build(IncrementalProjectBuilder.FULL_BUILD, new NullProgressMonitor());
+		return new BenchmarkCorpus(javaProject, units.toArray(new ICompilationUnit[units.size()]));
+	}
+
+	private static String getPackageName(int index) {
+		return "corpus.p" + index % PACKAGES; //$NON-NLS-1$
+	}
+
+	private static String getTypeName(int index) {
+		return "Type" + index; //$NON-NLS-1$
+	}
+
+	@SuppressWarnings("nls")
+	private static String createSource(int index, int size) {
+		int peerIndex= (index + 1) % size;
+		String typeName= getTypeName(index);
+		String peerName= getTypeName(peerIndex);
+		StringBuilder buf= new StringBuilder();
+		buf.append("package ").append(getPackageName(index)).append(";\n\n");
+		buf.append("import java.io.Serializable;\n");
+		buf.append("import java.util.*;\n");
+		buf.append("import java.util.concurrent.TimeUnit;\n");
+		if (!getPackageName(index).equals(getPackageName(peerIndex))) {
+			buf.append("import ").append(getPackageName(peerIndex)).append('.').append(peerName).append(";\n");
+		}
+		buf.append("\n");
+		buf.append("/**\n");
+		buf.append(" * Generated benchmark type ").append(index).append(".\n");
+		buf.append(" */\n");
+		buf.append("public class ").append(typeName).append(" implements Serializable {\n\n");
+		buf.append("\tprivate static final long serialVersionUID= 1L;\n\n");
+		buf.append("\tpublic static final String PREFIX= \"").append(typeName.toLowerCase()).append("\";\n\n");
+		buf.append("\tprivate int count;\n\n");
+		buf.append("\tprivate String name;\n\n");
+		buf.append("\tprivate List<").append(peerName).append("> peers= new ArrayList<>();\n\n");
+		buf.append("\tprivate Map<String, Integer> counts= new HashMap<>();\n\n");
+		buf.append("\tpublic int getCount() {\n");
+		buf.append("\t\treturn count;\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic void setCount(int count) {\n");
+		buf.append("\t\tthis.count= count;\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic String getName() {\n");
+		buf.append("\t\treturn name;\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic void setName(String name) {\n");
+		buf.append("\t\tthis.name= name;\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic void addPeer(").append(peerName).append(" peer) {\n");
+		buf.append("\t\tpeers.add(peer);\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic String describe(Object value) {\n");
+		buf.append("\t\tString result= \"\";\n");
+		buf.append("\t\tif (value instanceof String) {\n");
+		buf.append("\t\t\tString text= (String) value;\n");
+		buf.append("\t\t\tresult= PREFIX + \": \" + text + \" (\" + count + \")\";\n");
+		buf.append("\t\t} else if (value != null) {\n");
+		buf.append("\t\t\tresult= value.toString();\n");
+		buf.append("\t\t}\n");
+		buf.append("\t\tfor (int i= 0; i < peers.size(); i++) {\n");
+		buf.append("\t\t\t").append(peerName).append(" peer= peers.get(i);\n");
+		buf.append("\t\t\tresult= result + peer.getName();\n");
+		buf.append("\t\t}\n");
+		buf.append("\t\treturn result;\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic int total(int[] values) {\n");
+		buf.append("\t\tint sum= 0;\n");
+		buf.append("\t\tfor (int i= 0; i < values.length; i++) {\n");
+		buf.append("\t\t\tsum+= values[i];\n");
+		buf.append("\t\t}\n");
+		buf.append("\t\tInteger boxed= Integer.valueOf(sum);\n");
+		buf.append("\t\tcounts.put(name, boxed);\n");
+		buf.append("\t\treturn boxed.intValue() + count;\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic boolean matches(").append(typeName).append(" other) {\n");
+		buf.append("\t\tBoolean same= Boolean.valueOf(other != null && count == other.count);\n");
+		buf.append("\t\tif (same.booleanValue() && name != null) {\n");
+		buf.append("\t\t\treturn name.equals(other.name);\n");
+		buf.append("\t\t}\n");
+		buf.append("\t\treturn same.booleanValue();\n");
+		buf.append("\t}\n\n");
+		buf.append("\tpublic Set<String> keys() {\n");
+		buf.append("\t\tSet<String> keys= new TreeSet<>();\n");
+		buf.append("\t\tfor (Iterator<String> iterator= counts.keySet().iterator(); iterator.hasNext();) {\n");
+		buf.append("\t\t\tString key= iterator.next();\n");
+		buf.append("\t\t\tkeys.add(key.trim());\n");
+		buf.append("\t\t}\n");
+		buf.append("\t\treturn keys;\n");
+		buf.append("\t}\n");
+		buf.append("}\n");
+		return buf.toString();
+	}
+}
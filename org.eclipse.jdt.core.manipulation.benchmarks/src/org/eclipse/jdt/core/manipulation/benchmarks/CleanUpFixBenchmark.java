@@ -0,0 +1,99 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.corext.fix.CodeStyleFixCore;
+import org.eclipse.jdt.internal.corext.fix.ConvertLoopFixCore;
+import org.eclipse.jdt.internal.corext.fix.PatternMatchingForInstanceofFixCore;
+import org.eclipse.jdt.internal.corext.fix.PrimitiveRatherThanWrapperFixCore;
+import org.eclipse.jdt.internal.corext.fix.VariableDeclarationFixCore;
+
+import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
+
+/**
+ * Measures representative clean ups over the {@link BenchmarkCorpus}: finding the fix operations
+ * on a shared AST and creating the resulting change.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 3, time= 2)
+@Measurement(iterations= 5, time= 2)
+public class CleanUpFixBenchmark {
+
+	private CompilationUnit[] fAsts;
+
+	@Setup
+	public void setUp() throws CoreException {
+		fAsts= BenchmarkCorpus.getDefault().parse(true);
+	}
+
+	@Benchmark
+	public void variableDeclaration(Blackhole blackhole) throws CoreException {
+		for (CompilationUnit ast : fAsts) {
+			consume(VariableDeclarationFixCore.createCleanUp(ast, true, true, true), blackhole);
+		}
+	}
+
+	@Benchmark
+	public void codeStyle(Blackhole blackhole) throws CoreException {
+		for (CompilationUnit ast : fAsts) {
+			consume(CodeStyleFixCore.createCleanUp(ast, true, true, true, true, true, true, false, false), blackhole);
+		}
+	}
+
+	@Benchmark
+	public void convertLoop(Blackhole blackhole) throws CoreException {
+		for (CompilationUnit ast : fAsts) {
+			consume(ConvertLoopFixCore.createCleanUp(ast, true, true, false, true), blackhole);
+		}
+	}
+
+	@Benchmark
+	public void patternMatchingForInstanceof(Blackhole blackhole) throws CoreException {
+		for (CompilationUnit ast : fAsts) {
+			consume(PatternMatchingForInstanceofFixCore.createCleanUp(ast), blackhole);
+		}
+	}
+
+	@Benchmark
+	public void primitiveRatherThanWrapper(Blackhole blackhole) throws CoreException {
+		for (CompilationUnit ast : fAsts) {
+			consume(PrimitiveRatherThanWrapperFixCore.createCleanUp(ast), blackhole);
+		}
+	}
+
+	private static void consume(ICleanUpFix fix, Blackhole blackhole) throws CoreException {
+		if (fix != null) {
+			blackhole.consume(fix.createChange(null));
+		}
+	}
+}
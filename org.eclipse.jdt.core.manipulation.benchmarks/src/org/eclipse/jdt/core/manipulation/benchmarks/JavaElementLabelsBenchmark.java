@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelComposerCore;
+import org.eclipse.jdt.internal.core.manipulation.JavaElementLabelsCore;
+
+/**
+ * Measures the labels rendered by {@link JavaElementLabelComposerCore} for the compilation units,
+ * types and members of the {@link BenchmarkCorpus}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations= 3, time= 2)
+@Measurement(iterations= 5, time= 2)
+public class JavaElementLabelsBenchmark {
+
+	private static final long DETAILED_FLAGS= JavaElementLabelsCore.M_PARAMETER_TYPES | JavaElementLabelsCore.M_PARAMETER_NAMES | JavaElementLabelsCore.M_APP_RETURNTYPE
+			| JavaElementLabelsCore.M_EXCEPTIONS | JavaElementLabelsCore.F_APP_TYPE_SIGNATURE | JavaElementLabelsCore.T_TYPE_PARAMETERS | JavaElementLabelsCore.APPEND_ROOT_PATH;
+
+	private List<IJavaElement> fElements;
+
+	@Setup
+	public void setUp() throws CoreException {
+		fElements= new ArrayList<>();
+		for (ICompilationUnit unit : BenchmarkCorpus.getDefault().getCompilationUnits()) {
+			fElements.add(unit);
+			for (IType type : unit.getAllTypes()) {
+				fElements.add(type);
+				for (IJavaElement member : type.getChildren()) {
+					fElements.add(member);
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	public void defaultLabels(Blackhole blackhole) {
+		for (IJavaElement element : fElements) {
+			blackhole.consume(JavaElementLabelsCore.getElementLabel(element, JavaElementLabelsCore.ALL_DEFAULT));
+		}
+	}
+
+	@Benchmark
+	public void fullyQualifiedLabels(Blackhole blackhole) {
+		for (IJavaElement element : fElements) {
+			blackhole.consume(JavaElementLabelsCore.getElementLabel(element, JavaElementLabelsCore.ALL_FULLY_QUALIFIED));
+		}
+	}
+
+	@Benchmark
+	public void detailedLabels(Blackhole blackhole) {
+		for (IJavaElement element : fElements) {
+			blackhole.consume(JavaElementLabelsCore.getElementLabel(element, DETAILED_FLAGS));
+		}
+	}
+}
@@ -0,0 +1,114 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.io.File;
+import java.util.Collection;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import org.eclipse.core.runtime.CoreException;
+
+/**
+ * Runs the JMH benchmarks of this bundle inside the running OSGi framework.
+ * <p>
+ * The benchmarks need a workspace with the Java model and the jdt.ui preferences, so they are
+ * not forked into a plain JVM as JMH does by default, but run in the test application. This bundle
+ * is a fragment of the JMH bundle, so that the runner finds the benchmark list and the classes
+ * generated by the annotation processor through its own class loader. The results
+ * are written in the JMH JSON format to the file named by the <code>jmh.result</code> system
+ * property, which the build archives to compare releases.
+ * </p>
+ * <p>
+ * Supported system properties:
+ * </p>
+ * <ul>
+ * <li><code>jmh.include</code>: regular expression selecting the benchmarks to run</li>
+ * <li><code>jmh.result</code>: path of the JSON result file, default <code>jmh-result.json</code></li>
+ * <li><code>jmh.warmupIterations</code>, <code>jmh.measurementIterations</code>: override the
+ * iteration counts given by the benchmark annotations</li>
+ * <li>{@link BenchmarkCorpus#SIZE_PROPERTY}: size of the generated corpus</li>
+ * </ul>
+ */
+public class ManipulationBenchmarks {
+
+	@AfterAll
+	public static void tearDown() throws CoreException {
+		BenchmarkCorpus.dispose();
+	}
+
+	@Test
+	public void runBenchmarks() throws RunnerException {
+		Collection<RunResult> results= run();
+		assertFalse(results.isEmpty(), "No benchmark was run"); //$NON-NLS-1$
+	}
+
+	/**
+	 * Runs the benchmarks from an application that already provides the workspace.
+	 *
+	 * @param args ignored, use the system properties described in the type comment
+	 * @throws Exception if the benchmarks fail
+	 */
+	public static void main(String[] args) throws Exception {
+		try {
+			run();
+		} finally {
+			BenchmarkCorpus.dispose();
+		}
+	}
+
+	private static Collection<RunResult> run() throws RunnerException {
+		// the runner loads the generated benchmark classes through the context class loader
+		Thread thread= Thread.currentThread();
+		ClassLoader contextClassLoader= thread.getContextClassLoader();
+		thread.setContextClassLoader(ManipulationBenchmarks.class.getClassLoader());
+		try {
+			return new Runner(createOptions()).run();
+		} finally {
+			thread.setContextClassLoader(contextClassLoader);
+		}
+	}
+
+	@SuppressWarnings("nls")
+	private static Options createOptions() {
+		String result= System.getProperty("jmh.result", "jmh-result.json");
+		new File(result).getAbsoluteFile().getParentFile().mkdirs();
+		ChainedOptionsBuilder builder= new OptionsBuilder()
+				.include(System.getProperty("jmh.include", ManipulationBenchmarks.class.getPackageName() + ".*Benchmark"))
+				.forks(0)
+				.shouldFailOnError(true)
+				.resultFormat(ResultFormatType.JSON)
+				.result(result);
+		Integer warmupIterations= Integer.getInteger("jmh.warmupIterations");
+		if (warmupIterations != null) {
+			builder.warmupIterations(warmupIterations.intValue());
+		}
+		Integer measurementIterations= Integer.getInteger("jmh.measurementIterations");
+		if (measurementIterations != null) {
+			builder.measurementIterations(measurementIterations.intValue());
+		}
+		return builder.build();
+	}
+}
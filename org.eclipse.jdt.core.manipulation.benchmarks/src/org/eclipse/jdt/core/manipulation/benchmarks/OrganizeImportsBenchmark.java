@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.OrganizeImportsOperation;
+
+/**
+ * Measures the creation of the organize imports edit for every unit of the {@link BenchmarkCorpus}.
+ * The units use an on-demand import, an unused import and imports from other packages of the
+ * corpus, so the operation has to resolve, remove and sort imports.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations= 3, time= 2)
+@Measurement(iterations= 5, time= 2)
+public class OrganizeImportsBenchmark {
+
+	private ICompilationUnit[] fUnits;
+
+	private CompilationUnit[] fAsts;
+
+	@Setup
+	public void setUp() throws CoreException {
+		BenchmarkCorpus corpus= BenchmarkCorpus.getDefault();
+		fUnits= corpus.getCompilationUnits();
+		fAsts= corpus.parse(true);
+	}
+
+	@Benchmark
+	public void organizeImports(Blackhole blackhole) throws CoreException {
+		for (int i= 0; i < fUnits.length; i++) {
+			OrganizeImportsOperation operation= new OrganizeImportsOperation(fUnits[i], fAsts[i], true, false, true, null);
+			blackhole.consume(operation.createTextEdit(null));
+		}
+	}
+
+	@Benchmark
+	public void organizeImportsWithoutAST(Blackhole blackhole) throws CoreException {
+		for (ICompilationUnit unit : fUnits) {
+			OrganizeImportsOperation operation= new OrganizeImportsOperation(unit, null, true, false, true, null);
+			blackhole.consume(operation.createTextEdit(null));
+		}
+	}
+}
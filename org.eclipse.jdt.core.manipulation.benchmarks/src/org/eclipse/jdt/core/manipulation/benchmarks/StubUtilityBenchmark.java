@@ -0,0 +1,106 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.core.manipulation.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.Signature;
+
+import org.eclipse.jdt.internal.core.manipulation.StubUtility;
+
+/**
+ * Measures the template based code generation of {@link StubUtility} for the types of the
+ * {@link BenchmarkCorpus}, using the default code templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations= 3, time= 2)
+@Measurement(iterations= 5, time= 2)
+public class StubUtilityBenchmark {
+
+	private static final String LINE_DELIMITER= "\n"; //$NON-NLS-1$
+
+	private static final String[] NO_NAMES= new String[0];
+
+	private IJavaProject fProject;
+
+	private ICompilationUnit[] fUnits;
+
+	private String[] fTypeNames;
+
+	@Setup
+	public void setUp() throws CoreException {
+		BenchmarkCorpus corpus= BenchmarkCorpus.getDefault();
+		fProject= corpus.getJavaProject();
+		fUnits= corpus.getCompilationUnits();
+		fTypeNames= new String[fUnits.length];
+		for (int i= 0; i < fUnits.length; i++) {
+			fTypeNames[i]= fUnits[i].findPrimaryType().getElementName();
+		}
+	}
+
+	@Benchmark
+	public void accessorBodies(Blackhole blackhole) throws CoreException {
+		for (String typeName : fTypeNames) {
+			blackhole.consume(StubUtility.getGetterMethodBodyContent(fProject, typeName, "getCount", "count", LINE_DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
+			blackhole.consume(StubUtility.getSetterMethodBodyContent(fProject, typeName, "setCount", "count", "count", LINE_DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+	}
+
+	@Benchmark
+	public void methodBodies(Blackhole blackhole) throws CoreException {
+		for (String typeName : fTypeNames) {
+			blackhole.consume(StubUtility.getMethodBodyContent(false, fProject, typeName, "describe", "return null;", LINE_DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
+			blackhole.consume(StubUtility.getMethodBodyContent(true, fProject, typeName, typeName, "super();", LINE_DELIMITER)); //$NON-NLS-1$
+		}
+	}
+
+	@Benchmark
+	public void comments(Blackhole blackhole) throws CoreException {
+		String stringSignature= Signature.createTypeSignature("String", false); //$NON-NLS-1$
+		for (int i= 0; i < fUnits.length; i++) {
+			ICompilationUnit unit= fUnits[i];
+			String typeName= fTypeNames[i];
+			blackhole.consume(StubUtility.getFileComment(unit, LINE_DELIMITER));
+			blackhole.consume(StubUtility.getTypeComment(unit, typeName, NO_NAMES, NO_NAMES, LINE_DELIMITER));
+			blackhole.consume(StubUtility.getFieldComment(unit, "int", "count", LINE_DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
+			blackhole.consume(StubUtility.getMethodComment(unit, typeName, "describe", new String[] { "value" }, NO_NAMES, stringSignature, NO_NAMES, null, false, LINE_DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$
+			blackhole.consume(StubUtility.getGetterComment(unit, typeName, "getCount", "count", "int", "count", LINE_DELIMITER)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
+	}
+
+	@Benchmark
+	public void compilationUnitContent(Blackhole blackhole) throws CoreException {
+		for (int i= 0; i < fUnits.length; i++) {
+			String typeContent= "public class " + fTypeNames[i] + " {\n}"; //$NON-NLS-1$ //$NON-NLS-2$
+			blackhole.consume(StubUtility.getCompilationUnitContent(fUnits[i], null, null, typeContent, LINE_DELIMITER));
+		}
+	}
+}
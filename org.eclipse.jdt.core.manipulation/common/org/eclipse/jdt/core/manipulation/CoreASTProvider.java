@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2018 IBM Corporation and others.
+ * Copyright (c) 2018, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -31,6 +31,7 @@ import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 
 import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTCache;
 import org.eclipse.jdt.internal.corext.dom.ASTNodes;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
@@ -59,6 +60,7 @@ public final class CoreASTProvider {
 	private volatile ITypeRoot fReconcilingJavaElement;
 	private ITypeRoot fActiveJavaElement;
 	private CompilationUnit fAST;
+	private ITypeRoot fASTElement;
 	private Object fReconcileLock= new Object();
 	private Object fWaitLock= new Object();
 	private volatile boolean fIsReconciling;
@@ -135,14 +137,34 @@ public final class CoreASTProvider {
 		boolean isActiveElement;
 		synchronized (this) {
 			isActiveElement= input.equals(fActiveJavaElement);
-			if (isActiveElement) {
-				if (fAST != null) {
+			if (isActiveElement && fAST != null) {
+				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning cached AST:" + toString(fAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+				return fAST;
+			}
+		}
+
+		if (isActiveElement) {
+			// look up the AST cache without holding the lock, validating an entry can take a while
+			CompilationUnit cachedAST= isReconciling(input) ? null : ASTCache.getInstance().get(input);
+			synchronized (this) {
+				isActiveElement= input.equals(fActiveJavaElement);
+				if (isActiveElement && fAST != null) {
 					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning cached AST:" + toString(fAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
 					return fAST;
 				}
-				if (waitFlag == CoreASTProvider.WAIT_NO) {
+				if (isActiveElement && cachedAST != null && !isReconciling(input)) {
+					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "reusing AST from AST cache:" + toString(cachedAST) + " for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+
+					fAST= cachedAST;
+					fASTElement= input;
+					return fAST;
+				}
+				if (isActiveElement && waitFlag == CoreASTProvider.WAIT_NO) {
 					if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
 						System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "returning null (WAIT_NO) for: " + input.getElementName()); //$NON-NLS-1$ //$NON-NLS-2$
 
@@ -196,7 +218,10 @@ public final class CoreASTProvider {
 
 		CompilationUnit ast= null;
 		try {
-			ast= createAST(input, progressMonitor);
+			if (!isActiveElement)
+				ast= ASTCache.getInstance().get(input);
+			if (ast == null)
+				ast= createAST(input, progressMonitor);
 			if (progressMonitor != null && progressMonitor.isCanceled()) {
 				ast= null;
 				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
@@ -357,26 +382,39 @@ public final class CoreASTProvider {
 	 * @param ast the ast
 	 * @param javaElement the java element
 	 */
-	public synchronized void cache(CompilationUnit ast, ITypeRoot javaElement) {
-
-		if (fActiveJavaElement != null && !fActiveJavaElement.equals(javaElement)) {
-			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && javaElement != null) // don't report call from disposeAST()
-				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "don't cache AST for inactive: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$
-			return;
-		}
+	public void cache(CompilationUnit ast, ITypeRoot javaElement) {
+		ITypeRoot previousElement= null;
+		CompilationUnit previousAST= null;
+		synchronized (this) {
+			if (fActiveJavaElement != null && !fActiveJavaElement.equals(javaElement)) {
+				if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && javaElement != null) // don't report call from disposeAST()
+					System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "don't cache AST for inactive: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$
+				return;
+			}
 
-		if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && (javaElement != null || ast != null)) // don't report call from disposeAST()
-			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "caching AST: " + toString(ast) + " for: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER && (javaElement != null || ast != null)) // don't report call from disposeAST()
+				System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "caching AST: " + toString(ast) + " for: " + toString(javaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
-		if (fAST != null)
-			disposeAST();
+			if (fAST != null) {
+				if (fASTElement != null && !fASTElement.equals(javaElement)) {
+					previousElement= fASTElement;
+					previousAST= fAST;
+				}
+				disposeAST();
+			}
 
-		fAST= ast;
+			fAST= ast;
+			fASTElement= ast != null ? javaElement : null;
 
-		// Signal AST change
-		synchronized (fWaitLock) {
-			fWaitLock.notifyAll();
+			// Signal AST change
+			synchronized (fWaitLock) {
+				fWaitLock.notifyAll();
+			}
 		}
+
+		// keep the AST of the previously active element for when it becomes active again
+		if (previousAST != null)
+			ASTCache.getInstance().put(previousElement, previousAST);
 	}
 
 	/**
@@ -410,6 +448,7 @@ public final class CoreASTProvider {
 			System.out.println(getThreadName() + " - " + DEBUG_PREFIX + "disposing AST: " + toString(fAST) + " for: " + toString(fActiveJavaElement)); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
 
 		fAST= null;
+		fASTElement= null;
 
 		cache(null, null);
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,22 @@ import org.eclipse.jdt.internal.ui.IJavaStatusConstants;
 
 public class JarPackagerUtilCore {
 
+	/**
+	 * Writes an entry of an archive to the destination archive.
+	 *
+	 * @since 1.23
+	 */
+	@FunctionalInterface
+	public interface ZipEntryWriter {
+		/**
+		 * @param zipEntry the entry to write
+		 * @param zipFile the archive containing the entry
+		 * @param path the destination path in the jar file
+		 * @throws IOException If an I/O error occurred
+		 */
+		void addZipEntry(ZipEntry zipEntry, ZipFile zipFile, String path) throws IOException;
+	}
+
 	private JarPackagerUtilCore() {
 
 	}
@@ -81,6 +97,21 @@ public class JarPackagerUtilCore {
 	public static void writeArchive(ZipFile zipFile, boolean areDirectoryEntriesIncluded,
 			boolean isCompressed, JarOutputStream jarOutputStream,
 			Set<String> directories, MultiStatus status, IProgressMonitor progressMonitor) {
+		writeArchive(zipFile, (zipEntry, file, path) -> addZipEntry(zipEntry, file, path, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories),
+				status, progressMonitor);
+	}
+
+	/**
+	 * Write the contents of the given zipFile with the given writer.
+	 *
+	 * @param zipFile the zipFile to extract
+	 * @param writer the writer that adds the entries to the destination archive
+	 * @param status the <code>MultiStatus</code> saving the warnings during the process
+	 * @param progressMonitor the progressMonitor
+	 *
+	 * @since 1.23
+	 */
+	public static void writeArchive(ZipFile zipFile, ZipEntryWriter writer, MultiStatus status, IProgressMonitor progressMonitor) {
 		Enumeration<? extends ZipEntry> jarEntriesEnum= zipFile.entries();
 		File zipFile1= new File(zipFile.getName());
 		try {
@@ -93,7 +124,7 @@ public class JarPackagerUtilCore {
 					File zipEntryFile= new File(zipFile1, entryName);
 					String zipEntryCanonical= zipEntryFile.getCanonicalPath();
 					if (zipEntryCanonical.startsWith(zipFileCanonical + File.separator)) {
-						addFile(entryName, zipEntry, zipFile, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories, status);
+						addFile(entryName, zipEntry, zipFile, writer, status);
 					} else {
 						addWarning("Invalid path" + entryName, null, status); //$NON-NLS-1$
 					}
@@ -116,24 +147,19 @@ public class JarPackagerUtilCore {
 	 * @param destinationPath the destinationPath in the jar file
 	 * @param jarEntry the jar entry to write
 	 * @param zipFile the zipFile to extract
-	 * @param areDirectoryEntriesIncluded the directory entries are included
-	 * @param isCompressed the jar is compressed
-	 * @param jarOutputStream the destination JarOutputStream
-	 * @param directories the temporary set saves existing directories
+	 * @param writer the writer that adds the entry to the destination archive
 	 * @param status the <code>MultiStatus</code> saving the warnings during the process
 	 *
 	 * @since 1.14
 	 */
-	private static void addFile(String destinationPath, ZipEntry jarEntry, ZipFile zipFile,
-			boolean areDirectoryEntriesIncluded, boolean isCompressed,
-			JarOutputStream jarOutputStream, Set<String> directories, MultiStatus status) {
+	private static void addFile(String destinationPath, ZipEntry jarEntry, ZipFile zipFile, ZipEntryWriter writer, MultiStatus status) {
 		// Handle META-INF/MANIFEST.MF
 		if ("META-INF/MANIFEST.MF".equalsIgnoreCase(destinationPath) //$NON-NLS-1$
 				|| (destinationPath.startsWith("META-INF/") && destinationPath.endsWith(".SF"))) { //$NON-NLS-1$//$NON-NLS-2$
 			return;
 		}
 		try {
-			addZipEntry(jarEntry, zipFile, destinationPath, areDirectoryEntriesIncluded, isCompressed, jarOutputStream, directories);
+			writer.addZipEntry(jarEntry, zipFile, destinationPath);
 		} catch (IOException ex) {
 			if (ex instanceof ZipException && ex.getMessage() != null && ex.getMessage().startsWith("duplicate entry:")) {//$NON-NLS-1$
 				// ignore duplicates in META-INF (*.SF, *.RSA)
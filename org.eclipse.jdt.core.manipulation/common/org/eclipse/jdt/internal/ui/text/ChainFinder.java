@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2020 Darmstadt University of Technology and others.
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others.
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -11,11 +11,14 @@
  */
 package org.eclipse.jdt.internal.ui.text;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IType;
@@ -24,24 +27,61 @@ import org.eclipse.jdt.internal.ui.text.ChainElement.ElementType;
 
 public class ChainFinder {
 
+	/**
+	 * The members reachable from the types visited by a chain search, as seen from a receiver type
+	 * and without the excluded types. A graph can be shared by consecutive searches for the same
+	 * receiver type and excluded types, e.g. while the user keeps typing in a content assist
+	 * session. The graph is not updated when the Java model changes.
+	 * <p>
+	 * This class is thread safe.
+	 * </p>
+	 */
+	public static final class MemberGraph {
+
+		private final IType receiverType;
+
+		private final List<String> excludedTypes;
+
+		private final Map<IJavaElement, ChainElement> edgeCache= new ConcurrentHashMap<>();
+
+		private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new ConcurrentHashMap<>();
+
+		private final Map<String, Boolean> assignableCache= new ConcurrentHashMap<>();
+
+		public MemberGraph(final IType receiverType, final List<String> excludedTypes) {
+			this.receiverType= receiverType;
+			this.excludedTypes= List.copyOf(excludedTypes);
+		}
+
+		/**
+		 * @param receiver the receiver type of a search
+		 * @param excluded the excluded types of a search
+		 * @return <code>true</code> if this graph can be used by a search with the given receiver
+		 *         type and excluded types
+		 */
+		public boolean isFor(final IType receiver, final List<String> excluded) {
+			return Objects.equals(receiverType, receiver) && excludedTypes.equals(excluded);
+		}
+	}
+
 	private final List<ChainType> expectedTypes;
 
 	private final List<String> excludedTypes;
 
 	private final IType receiverType;
 
-	private final List<Chain> chains= new LinkedList<>();
+	private final List<Chain> chains= new ArrayList<>();
 
-	private final Map<IJavaElement, ChainElement> edgeCache= new HashMap<>();
-
-	private final Map<String, List<IJavaElement>> fieldsAndMethodsCache= new HashMap<>();
-
-	private final Map<String, Boolean> assignableCache= new HashMap<>();
+	private final MemberGraph graph;
 
 	private volatile boolean isCanceled;
 
 	private String token;
 
+	private AtomicLongArray expandedChains= new AtomicLongArray(0);
+
+	private AtomicLongArray expansionNanos= new AtomicLongArray(0);
+
 	public ChainFinder(final List<ChainType> expectedTypes, final List<String> excludedTypes,
 			final IType receiverType) {
 		this(expectedTypes, excludedTypes, receiverType, null);
@@ -49,14 +89,30 @@ public class ChainFinder {
 
 	public ChainFinder(final List<ChainType> expectedTypes, final List<String> excludedTypes,
 			final IType receiverType, final String token) {
+		this(expectedTypes, excludedTypes, receiverType, token, null);
+	}
+
+	/**
+	 * @param expectedTypes the types the chains have to be assignable to
+	 * @param excludedTypes the fully qualified names of the types whose members are not used
+	 * @param receiverType the type in which the chains are inserted
+	 * @param token the prefix typed by the user, may be <code>null</code>
+	 * @param graph the member graph to use, or <code>null</code> to use a new one. Must have been
+	 *            created for the given receiver type and excluded types.
+	 */
+	public ChainFinder(final List<ChainType> expectedTypes, final List<String> excludedTypes,
+			final IType receiverType, final String token, final MemberGraph graph) {
 		this.expectedTypes= expectedTypes;
 		this.excludedTypes= excludedTypes;
 		this.receiverType= receiverType;
 		this.token= token;
+		this.graph= graph != null ? graph : new MemberGraph(receiverType, excludedTypes);
 	}
 
 	public void startChainSearch(final List<ChainElement> entrypoints, final int maxChains, final int minDepth,
 			final int maxDepth) {
+		expandedChains= new AtomicLongArray(maxDepth + 1);
+		expansionNanos= new AtomicLongArray(maxDepth + 1);
 		for (final ChainType expected : expectedTypes) {
 			if (expected != null && !ChainFinder.isFromExcludedType(excludedTypes, expected)) {
 				ChainType expectedType= expected;
@@ -84,27 +140,58 @@ public class ChainFinder {
 			final ChainElement start= chain.getFirst();
 			if (isValidEndOfChain(edge, start, expectedType, expectedDimensions)) {
 				if (chain.size() >= minDepth) {
-					chains.add(new Chain(chain, expectedDimensions));
-					if (chains.size() == maxChains) {
-						break;
+					synchronized (chains) {
+						chains.add(new Chain(chain, expectedDimensions));
+						if (chains.size() >= maxChains) {
+							break;
+						}
 					}
 				}
 				continue;
 			}
 			if (chain.size() < maxDepth && incompleteChains.size() <= 50000) {
+				long start= System.nanoTime();
 				searchDeeper(chain, incompleteChains, edge.getReturnType());
+				expandedChains.incrementAndGet(chain.size());
+				expansionNanos.addAndGet(chain.size(), System.nanoTime() - start);
 			}
 		}
 	}
 
 	/**
-	 * Returns the potentially incomplete list of call chains that could be found before a time out
-	 * happened. The contents of this list are mutable and may change as the search makes progress.
+	 * Returns the call chains found so far. The search is breadth first, so shorter chains come
+	 * first. May be called while the search is running, e.g. after a time out, to get the
+	 * potentially incomplete result.
 	 *
-	 * @return The list of call chains
+	 * @return a snapshot of the call chains
 	 */
 	public List<Chain> getChains() {
-		return chains;
+		synchronized (chains) {
+			return new ArrayList<>(chains);
+		}
+	}
+
+	/**
+	 * Returns the number of chains of the given length that have been extended by the search,
+	 * i.e. the breadth of the search at that depth.
+	 *
+	 * @param depth the chain length
+	 * @return the number of chains extended
+	 */
+	public long getExpandedChains(final int depth) {
+		AtomicLongArray expanded= expandedChains;
+		return depth < expanded.length() ? expanded.get(depth) : 0;
+	}
+
+	/**
+	 * Returns the time spent extending chains of the given length.
+	 *
+	 * @param depth the chain length
+	 * @return the time in nanoseconds
+	 */
+	public long getExpansionTime(final int depth) {
+		AtomicLongArray nanos= expansionNanos;
+		return depth < nanos.length() ? nanos.get(depth) : 0;
 	}
 
 	private static LinkedList<LinkedList<ChainElement>> prepareQueue(final List<ChainElement> entrypoints) {
@@ -147,10 +234,10 @@ public class ChainFinder {
 		if (expectedType.getPrimitiveType() != null) {
 			return expectedType.getPrimitiveType().equals(edge.getReturnType().getPrimitiveType());
 		}
-		Boolean isAssignable= assignableCache.get(edge.toString() + expectedType.toString());
+		Boolean isAssignable= graph.assignableCache.get(edge.toString() + expectedType.toString());
 		if (isAssignable == null) {
 			isAssignable= ChainElementAnalyzer.isAssignable(edge, expectedType.getType(), expectedDimension);
-			assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
+			graph.assignableCache.put(edge.toString() + expectedType.toString(), isAssignable);
 		}
 		return isAssignable;
 	}
@@ -171,7 +258,7 @@ public class ChainFinder {
 	}
 
 	private List<IJavaElement> findAllFieldsAndMethods(final ChainType chainElementType, boolean staticOnly) {
-		List<IJavaElement> cached= fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
+		List<IJavaElement> cached= graph.fieldsAndMethodsCache.get(chainElementType.toString() + Boolean.toString(staticOnly));
 		if (cached == null) {
 			cached= new LinkedList<>();
 			Collection<IJavaElement> candidates= staticOnly
@@ -182,16 +269,16 @@ public class ChainFinder {
 					cached.add(e);
 				}
 			}
-			fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
+			graph.fieldsAndMethodsCache.put(chainElementType.toString() + Boolean.toString(staticOnly), cached);
 		}
 		return cached;
 	}
 
 	private ChainElement createEdge(final IJavaElement member) {
-		ChainElement cached= edgeCache.get(member);
+		ChainElement cached= graph.edgeCache.get(member);
 		if (cached == null) {
 			cached= new ChainElement(member, false);
-			edgeCache.put(member, cached);
+			graph.edgeCache.put(member, cached);
 		}
 		return cached;
 	}
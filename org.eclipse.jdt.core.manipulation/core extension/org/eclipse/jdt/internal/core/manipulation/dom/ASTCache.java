@@ -0,0 +1,379 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.core.manipulation.dom;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.IFileBuffer;
+import org.eclipse.core.filebuffers.IFileBufferListener;
+import org.eclipse.core.filebuffers.ITextFileBuffer;
+import org.eclipse.core.filebuffers.LocationKind;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentExtension4;
+
+import org.eclipse.jdt.core.IBuffer;
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * A least recently used cache of shared, binding-resolved compilation unit ASTs.
+ * <p>
+ * The AST of an element is only valid as long as the element is unchanged. Each entry therefore
+ * remembers a stamp of the element's resource and buffer taken when the AST was added and
+ * entries whose element has changed since are dropped on access. The stamp of a buffer is the
+ * modification stamp of its document if the element is open in a file buffer; only buffers with
+ * unsaved changes that are not backed by a file buffer are hashed. A document stamp restarts from
+ * the file's stamp when the file buffer is created again, so the entries of a file are dropped
+ * when its file buffer is disposed, e.g. after its unsaved changes have been discarded.
+ * </p>
+ * <p>
+ * The cache is bounded by the estimated size of the retained ASTs, see
+ * {@link #estimateSize(CompilationUnit)}, not by the number of entries: a few ASTs of large
+ * generated files can fill the budget that many ASTs of small files share.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ *
+ * @since 1.23
+ */
+public final class ASTCache {
+
+	/**
+	 * Default budget for the estimated size of the cached ASTs, in bytes.
+	 */
+	public static final long DEFAULT_BUDGET= 32L << 20;
+
+	private static final long NO_STAMP= -1;
+
+	/**
+	 * Factor by which the bindings of an AST outweigh its nodes, see
+	 * {@link #estimateSize(CompilationUnit)}.
+	 */
+	private static final int BINDINGS_FACTOR= 3;
+
+	/**
+	 * Estimated size of the lookup environment an AST with bindings keeps alive, in bytes.
+	 */
+	private static final long BINDING_ENVIRONMENT_SIZE= 512L << 10;
+
+	private static final ASTCache INSTANCE= new ASTCache(DEFAULT_BUDGET);
+
+	private static final class Entry {
+
+		final CompilationUnit fAST;
+		final long fStamp;
+		final long fSize;
+
+		Entry(CompilationUnit ast, long stamp, long size) {
+			fAST= ast;
+			fStamp= stamp;
+			fSize= size;
+		}
+	}
+
+	private final LinkedHashMap<ITypeRoot, Entry> fEntries= new LinkedHashMap<>(16, 0.75f, true);
+
+	private final IFileBufferListener fFileBufferListener= new IFileBufferListener() {
+		@Override
+		public void bufferDisposed(IFileBuffer buffer) {
+			removeFile(buffer.getLocation());
+		}
+	};
+	private long fBudget;
+	private long fRetainedSize;
+
+	private long fHitCount;
+	private long fMissCount;
+	private long fEvictionCount;
+
+	/**
+	 * Returns the cache used by the shared AST provider.
+	 *
+	 * @return the shared AST cache
+	 */
+	public static ASTCache getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Creates a new AST cache.
+	 *
+	 * @param budget the budget for the estimated size of the cached ASTs, in bytes
+	 */
+	public ASTCache(long budget) {
+		fBudget= budget;
+		FileBuffers.getTextFileBufferManager().addFileBufferListener(fFileBufferListener);
+	}
+
+	/**
+	 * Removes all ASTs from this cache and stops listening to file buffers.
+	 */
+	public void dispose() {
+		FileBuffers.getTextFileBufferManager().removeFileBufferListener(fFileBufferListener);
+		clear();
+	}
+
+	/**
+	 * Adds the AST of the given element to this cache. The AST is only added if the element is
+	 * consistent with its buffer, i.e. the AST reflects the current content of the element.
+	 *
+	 * @param element the element the AST has been created for
+	 * @param ast the AST, must have been created from the current content of the element
+	 */
+	public void put(ITypeRoot element, CompilationUnit ast) {
+		if (element == null || ast == null)
+			return;
+
+		long stamp= computeStamp(element);
+		long size= estimateSize(ast);
+		synchronized (this) {
+			Entry old= fEntries.remove(element);
+			if (old != null)
+				fRetainedSize-= old.fSize;
+
+			if (stamp == NO_STAMP || size > fBudget)
+				return;
+
+			fEntries.put(element, new Entry(ast, stamp, size));
+			fRetainedSize+= size;
+
+			if (JavaManipulationPlugin.DEBUG_AST_PROVIDER)
+				System.out.println(Thread.currentThread().getName() + " - ASTCache > caching AST for: " + element.getElementName() + " (" + size + " bytes)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+
+			evict();
+		}
+	}
+
+	/**
+	 * Returns the cached AST of the given element if the element has not changed since the AST
+	 * was added.
+	 *
+	 * @param element the element
+	 * @return the AST or <code>null</code> if none is cached or the cached one is out of date
+	 */
+	public CompilationUnit get(ITypeRoot element) {
+		if (element == null)
+			return null;
+
+		Entry entry;
+		synchronized (this) {
+			entry= fEntries.get(element);
+			if (entry == null) {
+				fMissCount++;
+				return null;
+			}
+		}
+
+		long stamp= computeStamp(element);
+		synchronized (this) {
+			if (stamp != NO_STAMP && stamp == entry.fStamp) {
+				fHitCount++;
+				return entry.fAST;
+			}
+
+			if (fEntries.get(element) == entry) {
+				fEntries.remove(element);
+				fRetainedSize-= entry.fSize;
+			}
+			fMissCount++;
+			return null;
+		}
+	}
+
+	/**
+	 * Removes the AST of the given element from this cache.
+	 *
+	 * @param element the element
+	 */
+	public synchronized void remove(ITypeRoot element) {
+		Entry entry= fEntries.remove(element);
+		if (entry != null)
+			fRetainedSize-= entry.fSize;
+	}
+
+	/**
+	 * Removes the ASTs of the elements of the given file from this cache.
+	 *
+	 * @param path the full path of the file
+	 */
+	private synchronized void removeFile(IPath path) {
+		if (path == null)
+			return;
+		Iterator<Map.Entry<ITypeRoot, Entry>> iterator= fEntries.entrySet().iterator();
+		while (iterator.hasNext()) {
+			Map.Entry<ITypeRoot, Entry> entry= iterator.next();
+			IResource resource= entry.getKey().getResource();
+			if (resource != null && path.equals(resource.getFullPath())) {
+				iterator.remove();
+				fRetainedSize-= entry.getValue().fSize;
+			}
+		}
+	}
+
+	/**
+	 * Removes all ASTs from this cache. The statistics are not reset.
+	 */
+	public synchronized void clear() {
+		fEntries.clear();
+		fRetainedSize= 0;
+	}
+
+	/**
+	 * Sets the budget for the estimated size of the cached ASTs and evicts ASTs if necessary.
+	 *
+	 * @param budget the budget in bytes, <code>0</code> disables the cache
+	 */
+	public synchronized void setBudget(long budget) {
+		fBudget= budget;
+		evict();
+	}
+
+	public synchronized long getBudget() {
+		return fBudget;
+	}
+
+	/**
+	 * @return the estimated size of the cached ASTs in bytes
+	 */
+	public synchronized long getRetainedSize() {
+		return fRetainedSize;
+	}
+
+	/**
+	 * @return the number of cached ASTs
+	 */
+	public synchronized int size() {
+		return fEntries.size();
+	}
+
+	/**
+	 * @return the number of requests that have been answered with a cached AST
+	 */
+	public synchronized long getHitCount() {
+		return fHitCount;
+	}
+
+	/**
+	 * @return the number of requests for which no valid AST was cached
+	 */
+	public synchronized long getMissCount() {
+		return fMissCount;
+	}
+
+	/**
+	 * @return the number of ASTs that have been removed to stay within the budget
+	 */
+	public synchronized long getEvictionCount() {
+		return fEvictionCount;
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters.
+	 */
+	public synchronized void resetStatistics() {
+		fHitCount= 0;
+		fMissCount= 0;
+		fEvictionCount= 0;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "ASTCache [size=" + fEntries.size() + ", retained=" + fRetainedSize + "/" + fBudget //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+				+ ", hits=" + fHitCount + ", misses=" + fMissCount + ", evictions=" + fEvictionCount + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+	}
+
+	/**
+	 * Estimates the memory retained by an AST. {@link CompilationUnit#subtreeBytes()} only counts
+	 * the nodes. The bindings of an AST with resolved bindings keep the compiler's bindings of all
+	 * referenced types alive, which usually take several times the memory of the nodes.
+	 *
+	 * @param ast the AST
+	 * @return the estimated size in bytes
+	 */
+	public static long estimateSize(CompilationUnit ast) {
+		long size= ast.subtreeBytes();
+		if (ast.getAST().hasResolvedBindings())
+			size+= BINDINGS_FACTOR * size + BINDING_ENVIRONMENT_SIZE;
+		return size;
+	}
+
+	private void evict() {
+		Iterator<Map.Entry<ITypeRoot, Entry>> iterator= fEntries.entrySet().iterator();
+		while (fRetainedSize > fBudget && iterator.hasNext()) {
+			Entry eldest= iterator.next().getValue();
+			iterator.remove();
+			fRetainedSize-= eldest.fSize;
+			fEvictionCount++;
+		}
+	}
+
+	/**
+	 * Computes a stamp for the current content of the given element. Must not be called while
+	 * holding a lock, since it may have to hash the content of the element's buffer.
+	 *
+	 * @param element the element
+	 * @return the stamp or {@link #NO_STAMP} if the element does not exist, has no source or has
+	 *         unreconciled changes
+	 */
+	private static long computeStamp(ITypeRoot element) {
+		try {
+			if (!element.exists() || !element.isConsistent())
+				return NO_STAMP;
+
+			IBuffer buffer= element.getBuffer();
+			if (buffer == null)
+				return NO_STAMP;
+
+			IResource resource= element.getResource();
+			long modificationStamp= resource != null ? resource.getModificationStamp() : 0;
+			long contentStamp= getDocumentStamp(resource);
+			if (contentStamp == IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP) {
+				if (buffer.hasUnsavedChanges()) {
+					String contents= buffer.getContents();
+					contentStamp= contents != null ? contents.hashCode() : 0;
+				} else {
+					contentStamp= 0; // the content of the resource
+				}
+			}
+			return (modificationStamp << 32) ^ (contentStamp & 0xFFFFFFFFL);
+		} catch (JavaModelException e) {
+			return NO_STAMP;
+		}
+	}
+
+	private static long getDocumentStamp(IResource resource) {
+		if (resource == null)
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		IPath path= resource.getFullPath();
+		ITextFileBuffer fileBuffer= FileBuffers.getTextFileBufferManager().getTextFileBuffer(path, LocationKind.IFILE);
+		if (fileBuffer == null)
+			return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+		IDocument document= fileBuffer.getDocument();
+		if (document instanceof IDocumentExtension4 extension)
+			return extension.getModificationStamp();
+		return IDocumentExtension4.UNKNOWN_MODIFICATION_STAMP;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2021 IBM Corporation and others.
+ * Copyright (c) 2019, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -53,6 +53,13 @@ public class CallHierarchyCore {
     public static final String PREF_USE_IMPLEMENTORS= "PREF_USE_IMPLEMENTORS"; //$NON-NLS-1$
     public static final String PREF_USE_FILTERS= "PREF_USE_FILTERS"; //$NON-NLS-1$
     public static final String PREF_FILTERS_LIST= "PREF_FILTERS_LIST"; //$NON-NLS-1$
+    /**
+     * Preference key that tells whether callers and callees are looked up in the
+     * {@link CallHierarchyIndex} before searching.
+     *
+     * @since 1.23
+     */
+    public static final String PREF_USE_CALL_INDEX= "PREF_USE_CALL_INDEX"; //$NON-NLS-1$
     private String defaultIgnoreFilters= "java.*,javax.*"; //$NON-NLS-1$
 
     private static CallHierarchyCore fgInstance;
@@ -71,6 +78,17 @@ public class CallHierarchyCore {
         return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_USE_IMPLEMENTORS, null));
     }
 
+    /**
+     * Tells whether callers and callees are looked up in the {@link CallHierarchyIndex} before
+     * searching.
+     *
+     * @return <code>true</code> if the call index is enabled
+     * @since 1.23
+     */
+    public boolean isCallIndexEnabled() {
+        return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_USE_CALL_INDEX, null));
+    }
+
     public boolean isShowTestCode() {
         return Boolean.parseBoolean(JavaManipulation.getPreference(PREF_SHOW_TEST_CODE_ONLY, null));
     }
@@ -0,0 +1,1043 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.callhierarchy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IMember;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.ASTVisitor;
+import org.eclipse.jdt.core.dom.AnonymousClassDeclaration;
+import org.eclipse.jdt.core.dom.ClassInstanceCreation;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ConstructorInvocation;
+import org.eclipse.jdt.core.dom.CreationReference;
+import org.eclipse.jdt.core.dom.EnumConstantDeclaration;
+import org.eclipse.jdt.core.dom.ExpressionMethodReference;
+import org.eclipse.jdt.core.dom.FieldDeclaration;
+import org.eclipse.jdt.core.dom.IBinding;
+import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.LambdaExpression;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
+import org.eclipse.jdt.core.dom.MethodInvocation;
+import org.eclipse.jdt.core.dom.Modifier;
+import org.eclipse.jdt.core.dom.SuperConstructorInvocation;
+import org.eclipse.jdt.core.dom.SuperMethodInvocation;
+import org.eclipse.jdt.core.dom.SuperMethodReference;
+import org.eclipse.jdt.core.dom.TypeDeclarationStatement;
+import org.eclipse.jdt.core.dom.TypeMethodReference;
+import org.eclipse.jdt.core.dom.VariableDeclarationFragment;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+import org.eclipse.jdt.internal.corext.dom.Bindings;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
+/**
+ * An index of the calls in the source of the workspace, used to answer caller and callee
+ * queries of the call hierarchy without a search.
+ * <p>
+ * The index is built in the background, updated from Java element deltas and persisted in the
+ * state location of the plug-in. Working copies with unsaved changes are indexed from their buffer
+ * after they have been reconciled. The index only answers a query when it is current, i.e. when
+ * there are no pending updates and no working copies waiting for a reconcile, and when it can
+ * answer the query exactly as the search or the AST analysis would. Otherwise the query methods
+ * return <code>null</code> and the caller falls back to the search.
+ * </p>
+ *
+ * @see CallHierarchyCore#isCallIndexEnabled()
+ * @since 1.23
+ */
+public final class CallHierarchyIndex implements IElementChangedListener {
+
+	private static final int MAGIC= 0x4A434849; // "JCHI"
+	private static final int VERSION= 2;
+
+	private static final String INDEX_FILE= "callHierarchyIndex.dat"; //$NON-NLS-1$
+
+	/**
+	 * The number of compilation units that are parsed in one batch.
+	 */
+	private static final int BATCH_SIZE= 200;
+
+	private static CallHierarchyIndex fgInstance;
+
+	/**
+	 * A call from a member to a method or constructor.
+	 */
+	private static final class CallEdge {
+		final UnitEntry fUnit;
+		final String fCaller;
+		final String fCallee;
+		final int fStart;
+		/**
+		 * The start of the reference to the callee, as reported by the search.
+		 */
+		final int fReferenceStart;
+		final int fEnd;
+		final int fLine;
+		/**
+		 * The search reports calls in lambda bodies with the lambda as caller.
+		 */
+		final boolean fInLambda;
+
+		CallEdge(UnitEntry unit, String caller, String callee, int start, int referenceStart, int end, int line, boolean inLambda) {
+			fUnit= unit;
+			fCaller= caller;
+			fCallee= callee;
+			fStart= start;
+			fReferenceStart= referenceStart;
+			fEnd= end;
+			fLine= line;
+			fInLambda= inLambda;
+		}
+	}
+
+	/**
+	 * The calls of one compilation unit.
+	 */
+	private static final class UnitEntry {
+		final String fHandle;
+		final String fProject;
+		final long fStamp;
+		final List<CallEdge> fEdges= new ArrayList<>();
+		/**
+		 * The callers whose callees cannot be answered from the index, e.g. because they contain
+		 * unresolved calls, local or anonymous types.
+		 */
+		final Set<String> fIncompleteCallers= new HashSet<>();
+		/**
+		 * The methods that are called polymorphically, i.e. methods declared in an interface,
+		 * overriding methods and the methods they override.
+		 */
+		final Set<String> fPolymorphicMethods= new HashSet<>();
+
+		UnitEntry(String handle, String project, long stamp) {
+			fHandle= handle;
+			fProject= project;
+			fStamp= stamp;
+		}
+	}
+
+	/**
+	 * Collects the calls of a compilation unit.
+	 */
+	private final class UnitIndexer extends ASTVisitor {
+
+		private final ICompilationUnit fCompilationUnit;
+		private final CompilationUnit fAST;
+		private final UnitEntry fEntry;
+		private final ArrayDeque<String> fMembers= new ArrayDeque<>();
+		private int fLambdaDepth;
+
+		UnitIndexer(ICompilationUnit compilationUnit, CompilationUnit ast, UnitEntry entry) {
+			fCompilationUnit= compilationUnit;
+			fAST= ast;
+			fEntry= entry;
+		}
+
+		private void enterMember(IBinding binding) {
+			IJavaElement element= binding != null ? binding.getJavaElement() : null;
+			fMembers.push(element != null ? intern(element.getHandleIdentifier()) : ""); //$NON-NLS-1$
+		}
+
+		private void leaveMember() {
+			fMembers.pop();
+		}
+
+		private void markIncomplete() {
+			String caller= fMembers.peek();
+			if (caller != null && !caller.isEmpty())
+				fEntry.fIncompleteCallers.add(caller);
+		}
+
+		private void addPolymorphicMethods(IMethodBinding binding) {
+			int modifiers= binding.getModifiers();
+			if (binding.isConstructor() || Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers))
+				return;
+			List<IMethodBinding> overridden= Bindings.findOverriddenMethods(binding, false, false);
+			if (overridden.isEmpty() && !binding.getDeclaringClass().isInterface())
+				return;
+			IJavaElement element= binding.getJavaElement();
+			if (element != null)
+				fEntry.fPolymorphicMethods.add(intern(element.getHandleIdentifier()));
+			for (IMethodBinding method : overridden) {
+				element= method.getMethodDeclaration().getJavaElement();
+				if (element != null)
+					fEntry.fPolymorphicMethods.add(intern(element.getHandleIdentifier()));
+			}
+		}
+
+		private void addCall(IMethodBinding binding, ASTNode node) {
+			addCall(binding, node, node.getStartPosition());
+		}
+
+		private void addCall(IMethodBinding binding, ASTNode node, int referenceStart) {
+			String caller= fMembers.peek();
+			if (caller == null || caller.isEmpty())
+				return;
+			IJavaElement callee= null;
+			if (binding != null) {
+				callee= binding.getMethodDeclaration().getJavaElement();
+				if (callee == null && binding.isConstructor() && binding.getParameterTypes().length == 0 && !binding.getDeclaringClass().isAnonymous())
+					callee= binding.getDeclaringClass().getJavaElement(); // the type is a stand-in for the default constructor
+			}
+			if (callee == null) {
+				markIncomplete();
+				return;
+			}
+			int start= node.getStartPosition();
+			fEntry.fEdges.add(new CallEdge(fEntry, caller, intern(callee.getHandleIdentifier()), start, referenceStart, start + node.getLength(), fAST.getLineNumber(start), fLambdaDepth > 0));
+		}
+
+		@Override
+		public boolean visit(MethodDeclaration node) {
+			IMethodBinding binding= node.resolveBinding();
+			enterMember(binding);
+			if (binding != null)
+				addPolymorphicMethods(binding);
+			if (node.getBody() == null)
+				markIncomplete();
+			return true;
+		}
+
+		@Override
+		public void endVisit(MethodDeclaration node) {
+			leaveMember();
+		}
+
+		@Override
+		public boolean visit(Initializer node) {
+			String handle= ""; //$NON-NLS-1$
+			try {
+				IJavaElement element= fCompilationUnit.getElementAt(node.getBody().getStartPosition());
+				if (element != null && element.getElementType() == IJavaElement.INITIALIZER)
+					handle= intern(element.getHandleIdentifier());
+			} catch (JavaModelException e) {
+				// calls in the initializer are not indexed
+			}
+			fMembers.push(handle);
+			return true;
+		}
+
+		@Override
+		public void endVisit(Initializer node) {
+			leaveMember();
+		}
+
+		@Override
+		public boolean visit(VariableDeclarationFragment node) {
+			if (node.getParent() instanceof FieldDeclaration)
+				enterMember(node.resolveBinding());
+			return true;
+		}
+
+		@Override
+		public void endVisit(VariableDeclarationFragment node) {
+			if (node.getParent() instanceof FieldDeclaration)
+				leaveMember();
+		}
+
+		@Override
+		public boolean visit(EnumConstantDeclaration node) {
+			enterMember(node.resolveVariable());
+			return true;
+		}
+
+		@Override
+		public void endVisit(EnumConstantDeclaration node) {
+			leaveMember();
+		}
+
+		@Override
+		public boolean visit(LambdaExpression node) {
+			fLambdaDepth++;
+			return true;
+		}
+
+		@Override
+		public void endVisit(LambdaExpression node) {
+			fLambdaDepth--;
+		}
+
+		@Override
+		public boolean visit(AnonymousClassDeclaration node) {
+			markIncomplete();
+			return true;
+		}
+
+		@Override
+		public boolean visit(TypeDeclarationStatement node) {
+			markIncomplete();
+			return true;
+		}
+
+		@Override
+		public boolean visit(MethodInvocation node) {
+			addCall(node.resolveMethodBinding(), node, node.getName().getStartPosition());
+			return true;
+		}
+
+		@Override
+		public boolean visit(SuperMethodInvocation node) {
+			addCall(node.resolveMethodBinding(), node, node.getName().getStartPosition());
+			return true;
+		}
+
+		@Override
+		public boolean visit(ClassInstanceCreation node) {
+			addCall(node.resolveConstructorBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(ConstructorInvocation node) {
+			addCall(node.resolveConstructorBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(SuperConstructorInvocation node) {
+			addCall(node.resolveConstructorBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(ExpressionMethodReference node) {
+			addCall(node.resolveMethodBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(TypeMethodReference node) {
+			addCall(node.resolveMethodBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(SuperMethodReference node) {
+			addCall(node.resolveMethodBinding(), node);
+			return true;
+		}
+
+		@Override
+		public boolean visit(CreationReference node) {
+			addCall(node.resolveMethodBinding(), node);
+			return true;
+		}
+	}
+
+	/**
+	 * Verifies the persisted index and applies the pending updates.
+	 */
+	private final class IndexJob extends Job {
+
+		IndexJob() {
+			super(CallHierarchyMessages.CallHierarchyIndex_job_name);
+			setSystem(true);
+			setPriority(DECORATE);
+		}
+
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			try {
+				if (!fLoaded) {
+					load();
+					verify(monitor);
+					fLoaded= true;
+				}
+				update(monitor);
+				save();
+			} catch (OperationCanceledException e) {
+				return Status.CANCEL_STATUS;
+			} catch (JavaModelException e) {
+				JavaManipulationPlugin.log(e);
+			}
+			return Status.OK_STATUS;
+		}
+	}
+
+	private final Object fLock= new Object();
+
+	/**
+	 * Compilation unit handle to entry, guarded by <code>fLock</code>.
+	 */
+	private final Map<String, UnitEntry> fUnits= new HashMap<>();
+
+	/**
+	 * Callee handle to calls, guarded by <code>fLock</code>.
+	 */
+	private final Map<String, List<CallEdge>> fCallers= new HashMap<>();
+
+	/**
+	 * Caller handle to calls, guarded by <code>fLock</code>.
+	 */
+	private final Map<String, List<CallEdge>> fCallees= new HashMap<>();
+
+	/**
+	 * Polymorphic method handle to the number of compilation units that declare it as such,
+	 * guarded by <code>fLock</code>.
+	 */
+	private final Map<String, Integer> fPolymorphicMethods= new HashMap<>();
+
+	/**
+	 * Project name to the stamp of its resolved classpath, guarded by <code>fLock</code>.
+	 */
+	private final Map<String, Integer> fProjectStamps= new HashMap<>();
+
+	/**
+	 * The names of the projects that have to be indexed again, guarded by <code>fLock</code>.
+	 */
+	private final Set<String> fDirtyProjects= new HashSet<>();
+
+	/**
+	 * The compilation units that have to be indexed again, guarded by <code>fLock</code>.
+	 */
+	private final Set<ICompilationUnit> fDirtyUnits= new HashSet<>();
+
+	/**
+	 * Tells whether the job is applying updates, guarded by <code>fLock</code>.
+	 */
+	private boolean fUpdating;
+
+	private final Map<String, String> fStrings= new HashMap<>();
+
+	private volatile boolean fLoaded;
+
+	private boolean fChanged;
+
+	private final IndexJob fJob= new IndexJob();
+
+	private CallHierarchyIndex() {
+	}
+
+	/**
+	 * Returns the shared index. The index is created and scheduled for building on first access.
+	 *
+	 * @return the index
+	 */
+	public static synchronized CallHierarchyIndex getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new CallHierarchyIndex();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+			fgInstance.fJob.schedule();
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Stops updating the shared index, if it has been created, and saves it.
+	 */
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance);
+			fgInstance.fJob.cancel();
+			try {
+				fgInstance.fJob.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			if (fgInstance.fLoaded)
+				fgInstance.save();
+			fgInstance= null;
+		}
+	}
+
+	/**
+	 * Tells whether the index reflects the current state of the workspace.
+	 *
+	 * @return <code>true</code> iff the index is current
+	 */
+	public boolean isCurrent() {
+		if (!fLoaded || hasPendingReconcile())
+			return false;
+		synchronized (fLock) {
+			return !fUpdating && fDirtyProjects.isEmpty() && fDirtyUnits.isEmpty();
+		}
+	}
+
+	/**
+	 * Waits until the pending updates have been applied.
+	 *
+	 * @param monitor the progress monitor, can be <code>null</code>
+	 * @throws InterruptedException if the thread has been interrupted
+	 */
+	public void waitUntilCurrent(IProgressMonitor monitor) throws InterruptedException {
+		while (!isCurrent()) {
+			if (hasPendingReconcile())
+				return;
+			fJob.join(100, monitor);
+		}
+	}
+
+	/**
+	 * Returns the callers of the given method.
+	 *
+	 * @param method the method
+	 * @param scope the search scope
+	 * @return a map from handle identifier to {@link MethodCall}, or <code>null</code> if the
+	 *         index cannot answer the query
+	 */
+	public Map<String, MethodCall> getCallers(IMethod method, IJavaSearchScope scope) {
+		try {
+			// binary members and constructors are also referenced from class files and implicit super calls
+			if (method.getCompilationUnit() == null || method.isConstructor())
+				return null;
+			// the search also reports calls through the methods in the type hierarchy
+			if (method.getDeclaringType().isInterface() && !Flags.isStatic(method.getFlags()))
+				return null;
+		} catch (JavaModelException e) {
+			return null;
+		}
+		if (!isCurrent())
+			return null;
+
+		String handle= method.getHandleIdentifier();
+		List<CallEdge> edges;
+		synchronized (fLock) {
+			if (fPolymorphicMethods.containsKey(handle))
+				return null;
+			List<CallEdge> calls= fCallers.get(handle);
+			edges= calls != null ? new ArrayList<>(calls) : List.of();
+		}
+		CallSearchResultCollector collector= new CallSearchResultCollector();
+		for (CallEdge edge : edges) {
+			if (edge.fInLambda)
+				return null;
+			if (JavaCore.create(edge.fCaller) instanceof IMember caller && scope.encloses(caller))
+				collector.addMember(caller, caller, edge.fReferenceStart, edge.fEnd);
+		}
+		return collector.getCallers();
+	}
+
+	/**
+	 * Returns the callees of the given member.
+	 *
+	 * @param member the member
+	 * @return a map from handle identifier to {@link MethodCall}, or <code>null</code> if the
+	 *         index cannot answer the query
+	 */
+	public Map<String, MethodCall> getCallees(IMember member) {
+		if (!(member instanceof IMethod) || member.getCompilationUnit() == null || !isCurrent())
+			return null;
+
+		String handle= member.getHandleIdentifier();
+		List<CallEdge> edges;
+		synchronized (fLock) {
+			UnitEntry entry= fUnits.get(member.getCompilationUnit().getHandleIdentifier());
+			if (entry == null || entry.fIncompleteCallers.contains(handle))
+				return null;
+			List<CallEdge> calls= fCallees.get(handle);
+			edges= calls != null ? new ArrayList<>(calls) : List.of();
+		}
+		CallSearchResultCollector collector= new CallSearchResultCollector();
+		for (CallEdge edge : edges) {
+			if (JavaCore.create(edge.fCallee) instanceof IMember callee)
+				collector.addMember(member, callee, edge.fStart, edge.fEnd, edge.fLine, false);
+		}
+		return collector.getCallers();
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		synchronized (fLock) {
+			if (processDelta(event.getDelta()))
+				fJob.schedule(500);
+		}
+	}
+
+	private boolean processDelta(IJavaElementDelta delta) {
+		IJavaElement element= delta.getElement();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					markProjectDirty(element.getJavaProject());
+					return true;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+					markProjectDirty(element.getJavaProject());
+					return true;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					markProjectDirty(element.getJavaProject());
+					return true;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+				ICompilationUnit unit= (ICompilationUnit) element;
+				if (unit.isWorkingCopy() && !unit.getPrimary().equals(unit))
+					return false;
+				if (isStructuralChange(delta)) {
+					// bindings in other compilation units may have changed
+					markProjectDirty(element.getJavaProject());
+				} else {
+					fDirtyUnits.add(unit.getPrimary());
+				}
+				return true;
+			default:
+				break;
+		}
+		boolean changed= false;
+		for (IJavaElementDelta child : delta.getAffectedChildren())
+			changed|= processDelta(child);
+		return changed;
+	}
+
+	private static boolean isStructuralChange(IJavaElementDelta delta) {
+		if (delta.getKind() != IJavaElementDelta.CHANGED)
+			return true;
+		if (delta.getElement().getElementType() == IJavaElement.COMPILATION_UNIT
+				&& (delta.getFlags() & IJavaElementDelta.F_CONTENT) != 0 && (delta.getFlags() & IJavaElementDelta.F_FINE_GRAINED) == 0)
+			return true; // no details available
+		if ((delta.getFlags() & (IJavaElementDelta.F_MODIFIERS | IJavaElementDelta.F_SUPER_TYPES)) != 0)
+			return true;
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (child.getElement().getElementType() != IJavaElement.IMPORT_CONTAINER && isStructuralChange(child))
+				return true;
+		}
+		return false;
+	}
+
+	private void markProjectDirty(IJavaProject project) {
+		fDirtyProjects.add(project.getElementName());
+		for (IJavaProject referencing : getReferencingProjects(project))
+			fDirtyProjects.add(referencing.getElementName());
+	}
+
+	private static List<IJavaProject> getReferencingProjects(IJavaProject project) {
+		List<IJavaProject> result= new ArrayList<>();
+		try {
+			IJavaProject[] projects= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+			Set<String> names= new HashSet<>();
+			names.add(project.getElementName());
+			boolean added= true;
+			while (added) {
+				added= false;
+				for (IJavaProject candidate : projects) {
+					if (names.contains(candidate.getElementName()))
+						continue;
+					for (String required : candidate.getRequiredProjectNames()) {
+						if (names.contains(required)) {
+							names.add(candidate.getElementName());
+							result.add(candidate);
+							added= true;
+							break;
+						}
+					}
+				}
+			}
+		} catch (JavaModelException e) {
+			JavaManipulationPlugin.log(e);
+		}
+		return result;
+	}
+
+	/**
+	 * Tells whether a working copy has changed since it was last reconciled. The index is updated
+	 * from the reconcile.
+	 *
+	 * @return <code>true</code> if a working copy has not been reconciled yet
+	 */
+	private static boolean hasPendingReconcile() {
+		for (ICompilationUnit workingCopy : JavaCore.getWorkingCopies(null)) {
+			try {
+				if (workingCopy.hasUnsavedChanges() && !workingCopy.isConsistent())
+					return true;
+			} catch (JavaModelException e) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private String intern(String string) {
+		synchronized (fStrings) {
+			String existing= fStrings.putIfAbsent(string, string);
+			return existing != null ? existing : string;
+		}
+	}
+
+	private static int getClasspathStamp(IJavaProject project) throws JavaModelException {
+		IClasspathEntry[] entries= project.getResolvedClasspath(true);
+		String[] paths= new String[entries.length];
+		for (int i= 0; i < entries.length; i++)
+			paths[i]= entries[i].getEntryKind() + entries[i].getPath().toString();
+		return Arrays.hashCode(paths);
+	}
+
+	private static long getStamp(ICompilationUnit unit) throws JavaModelException {
+		if (unit.hasUnsavedChanges())
+			return IResource.NULL_STAMP; // indexed from the buffer, verified again on startup
+		IResource resource= unit.getResource();
+		return resource != null ? resource.getModificationStamp() : IResource.NULL_STAMP;
+	}
+
+	private static List<ICompilationUnit> getCompilationUnits(IJavaProject project) throws JavaModelException {
+		List<ICompilationUnit> units= new ArrayList<>();
+		for (IPackageFragmentRoot root : project.getPackageFragmentRoots()) {
+			if (root.getKind() != IPackageFragmentRoot.K_SOURCE || !root.getJavaProject().equals(project))
+				continue;
+			for (IJavaElement child : root.getChildren())
+				units.addAll(Arrays.asList(((IPackageFragment) child).getCompilationUnits()));
+		}
+		return units;
+	}
+
+	// ---- updates -----------------------------------------------------------
+
+	private void verify(IProgressMonitor monitor) throws JavaModelException {
+		IJavaProject[] projects= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+		SubMonitor subMonitor= SubMonitor.convert(monitor, projects.length);
+		Set<String> projectNames= new HashSet<>();
+		Set<String> unitHandles= new HashSet<>();
+		for (IJavaProject project : projects) {
+			if (subMonitor.isCanceled())
+				throw new OperationCanceledException();
+			projectNames.add(project.getElementName());
+			Integer stamp;
+			synchronized (fLock) {
+				stamp= fProjectStamps.get(project.getElementName());
+			}
+			if (stamp == null || stamp.intValue() != getClasspathStamp(project)) {
+				synchronized (fLock) {
+					fDirtyProjects.add(project.getElementName());
+				}
+				subMonitor.worked(1);
+				continue;
+			}
+			for (ICompilationUnit unit : getCompilationUnits(project)) {
+				String handle= unit.getHandleIdentifier();
+				unitHandles.add(handle);
+				synchronized (fLock) {
+					UnitEntry entry= fUnits.get(handle);
+					if (entry == null || entry.fStamp == IResource.NULL_STAMP || entry.fStamp != getStamp(unit))
+						fDirtyUnits.add(unit);
+				}
+			}
+			subMonitor.worked(1);
+		}
+		synchronized (fLock) {
+			for (UnitEntry entry : new ArrayList<>(fUnits.values())) {
+				if (!unitHandles.contains(entry.fHandle) && !fDirtyProjects.contains(entry.fProject))
+					removeUnit(entry);
+			}
+			fProjectStamps.keySet().retainAll(projectNames);
+		}
+	}
+
+	private void update(IProgressMonitor monitor) throws JavaModelException {
+		while (true) {
+			Set<String> projects;
+			Set<ICompilationUnit> units;
+			synchronized (fLock) {
+				if (fDirtyProjects.isEmpty() && fDirtyUnits.isEmpty()) {
+					fUpdating= false;
+					return;
+				}
+				fUpdating= true;
+				projects= new HashSet<>(fDirtyProjects);
+				units= new HashSet<>(fDirtyUnits);
+				fDirtyProjects.clear();
+				fDirtyUnits.clear();
+			}
+			try {
+				SubMonitor subMonitor= SubMonitor.convert(monitor, projects.size() + 1);
+				for (String name : projects)
+					indexProject(name, subMonitor.split(1));
+
+				Map<IJavaProject, List<ICompilationUnit>> byProject= new LinkedHashMap<>();
+				for (ICompilationUnit unit : units) {
+					if (!projects.contains(unit.getJavaProject().getElementName()))
+						byProject.computeIfAbsent(unit.getJavaProject(), p -> new ArrayList<>()).add(unit);
+				}
+				SubMonitor unitsMonitor= subMonitor.split(1).setWorkRemaining(byProject.size());
+				for (Map.Entry<IJavaProject, List<ICompilationUnit>> entry : byProject.entrySet())
+					indexUnits(entry.getKey(), entry.getValue(), unitsMonitor.split(1));
+			} catch (OperationCanceledException | JavaModelException e) {
+				synchronized (fLock) {
+					fDirtyProjects.addAll(projects);
+					fDirtyUnits.addAll(units);
+					fUpdating= false;
+				}
+				throw e;
+			}
+		}
+	}
+
+	private void indexProject(String name, IProgressMonitor monitor) throws JavaModelException {
+		synchronized (fLock) {
+			for (UnitEntry entry : new ArrayList<>(fUnits.values())) {
+				if (entry.fProject.equals(name))
+					removeUnit(entry);
+			}
+			fProjectStamps.remove(name);
+		}
+		IJavaProject project= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot().getProject(name));
+		if (!project.exists())
+			return;
+		int stamp= getClasspathStamp(project);
+		indexUnits(project, getCompilationUnits(project), monitor);
+		synchronized (fLock) {
+			fProjectStamps.put(name, Integer.valueOf(stamp));
+		}
+	}
+
+	private void indexUnits(IJavaProject project, List<ICompilationUnit> units, IProgressMonitor monitor) throws JavaModelException {
+		List<ICompilationUnit> existing= new ArrayList<>();
+		for (ICompilationUnit unit : units) {
+			if (!unit.exists()) {
+				synchronized (fLock) {
+					UnitEntry entry= fUnits.get(unit.getHandleIdentifier());
+					if (entry != null)
+						removeUnit(entry);
+				}
+			} else {
+				existing.add(unit);
+			}
+		}
+
+		SubMonitor subMonitor= SubMonitor.convert(monitor, existing.size());
+		String projectName= intern(project.getElementName());
+		for (int i= 0; i < existing.size(); i+= BATCH_SIZE) {
+			List<ICompilationUnit> batch= existing.subList(i, Math.min(i + BATCH_SIZE, existing.size()));
+			Map<ICompilationUnit, Long> stamps= new HashMap<>();
+			for (ICompilationUnit unit : batch)
+				stamps.put(unit, Long.valueOf(getStamp(unit)));
+
+			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setProject(project);
+			parser.setResolveBindings(true);
+			parser.createASTs(batch.toArray(new ICompilationUnit[batch.size()]), new String[0], new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					if (subMonitor.isCanceled())
+						throw new OperationCanceledException();
+					UnitEntry entry= new UnitEntry(intern(source.getHandleIdentifier()), projectName, stamps.get(source).longValue());
+					ast.accept(new UnitIndexer(source, ast, entry));
+					synchronized (fLock) {
+						UnitEntry old= fUnits.get(entry.fHandle);
+						if (old != null)
+							removeUnit(old);
+						addUnit(entry);
+					}
+					subMonitor.worked(1);
+				}
+			}, null);
+		}
+	}
+
+	private void addUnit(UnitEntry entry) {
+		fUnits.put(entry.fHandle, entry);
+		for (String method : entry.fPolymorphicMethods)
+			fPolymorphicMethods.merge(method, Integer.valueOf(1), (a, b) -> Integer.valueOf(a.intValue() + b.intValue()));
+		for (CallEdge edge : entry.fEdges) {
+			fCallers.computeIfAbsent(edge.fCallee, k -> new ArrayList<>(2)).add(edge);
+			fCallees.computeIfAbsent(edge.fCaller, k -> new ArrayList<>(4)).add(edge);
+		}
+		fChanged= true;
+	}
+
+	private void removeUnit(UnitEntry entry) {
+		fUnits.remove(entry.fHandle);
+		for (String method : entry.fPolymorphicMethods)
+			fPolymorphicMethods.computeIfPresent(method, (k, count) -> count.intValue() > 1 ? Integer.valueOf(count.intValue() - 1) : null);
+		for (CallEdge edge : entry.fEdges) {
+			removeEdges(fCallers, edge.fCallee, entry);
+			removeEdges(fCallees, edge.fCaller, entry);
+		}
+		fChanged= true;
+	}
+
+	private static void removeEdges(Map<String, List<CallEdge>> map, String key, UnitEntry entry) {
+		List<CallEdge> edges= map.get(key);
+		if (edges != null) {
+			edges.removeIf(edge -> edge.fUnit == entry);
+			if (edges.isEmpty())
+				map.remove(key);
+		}
+	}
+
+	// ---- persistence -------------------------------------------------------
+
+	private static File getIndexFile() {
+		JavaManipulationPlugin plugin= JavaManipulationPlugin.getDefault();
+		if (plugin == null)
+			return null;
+		IPath stateLocation= plugin.getStateLocation();
+		return stateLocation.append(INDEX_FILE).toFile();
+	}
+
+	private void load() {
+		File file= getIndexFile();
+		if (file == null || !file.isFile())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION)
+				return;
+			String[] strings= new String[in.readInt()];
+			for (int i= 0; i < strings.length; i++)
+				strings[i]= intern(in.readUTF());
+
+			synchronized (fLock) {
+				int projects= in.readInt();
+				for (int i= 0; i < projects; i++)
+					fProjectStamps.put(strings[in.readInt()], Integer.valueOf(in.readInt()));
+				int units= in.readInt();
+				for (int i= 0; i < units; i++) {
+					UnitEntry entry= new UnitEntry(strings[in.readInt()], strings[in.readInt()], in.readLong());
+					int incomplete= in.readInt();
+					for (int j= 0; j < incomplete; j++)
+						entry.fIncompleteCallers.add(strings[in.readInt()]);
+					int polymorphic= in.readInt();
+					for (int j= 0; j < polymorphic; j++)
+						entry.fPolymorphicMethods.add(strings[in.readInt()]);
+					int edges= in.readInt();
+					for (int j= 0; j < edges; j++)
+						entry.fEdges.add(new CallEdge(entry, strings[in.readInt()], strings[in.readInt()], in.readInt(), in.readInt(), in.readInt(), in.readInt(), in.readBoolean()));
+					addUnit(entry);
+				}
+				fChanged= false;
+			}
+		} catch (IOException | RuntimeException e) {
+			// the index is rebuilt
+			synchronized (fLock) {
+				fUnits.clear();
+				fCallers.clear();
+				fCallees.clear();
+				fPolymorphicMethods.clear();
+				fProjectStamps.clear();
+			}
+		}
+	}
+
+	private void save() {
+		File file= getIndexFile();
+		if (file == null)
+			return;
+		synchronized (fLock) {
+			if (!fChanged)
+				return;
+			Map<String, Integer> strings= new LinkedHashMap<>();
+			for (String project : fProjectStamps.keySet())
+				strings.putIfAbsent(project, Integer.valueOf(strings.size()));
+			for (UnitEntry entry : fUnits.values()) {
+				strings.putIfAbsent(entry.fHandle, Integer.valueOf(strings.size()));
+				strings.putIfAbsent(entry.fProject, Integer.valueOf(strings.size()));
+				for (String caller : entry.fIncompleteCallers)
+					strings.putIfAbsent(caller, Integer.valueOf(strings.size()));
+				for (String method : entry.fPolymorphicMethods)
+					strings.putIfAbsent(method, Integer.valueOf(strings.size()));
+				for (CallEdge edge : entry.fEdges) {
+					strings.putIfAbsent(edge.fCaller, Integer.valueOf(strings.size()));
+					strings.putIfAbsent(edge.fCallee, Integer.valueOf(strings.size()));
+				}
+			}
+
+			File temp= new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+					out.writeInt(MAGIC);
+					out.writeInt(VERSION);
+					out.writeInt(strings.size());
+					for (String string : strings.keySet())
+						out.writeUTF(string);
+					out.writeInt(fProjectStamps.size());
+					for (Map.Entry<String, Integer> project : fProjectStamps.entrySet()) {
+						out.writeInt(strings.get(project.getKey()).intValue());
+						out.writeInt(project.getValue().intValue());
+					}
+					out.writeInt(fUnits.size());
+					for (UnitEntry entry : fUnits.values()) {
+						out.writeInt(strings.get(entry.fHandle).intValue());
+						out.writeInt(strings.get(entry.fProject).intValue());
+						out.writeLong(entry.fStamp);
+						out.writeInt(entry.fIncompleteCallers.size());
+						for (String caller : entry.fIncompleteCallers)
+							out.writeInt(strings.get(caller).intValue());
+						out.writeInt(entry.fPolymorphicMethods.size());
+						for (String method : entry.fPolymorphicMethods)
+							out.writeInt(strings.get(method).intValue());
+						out.writeInt(entry.fEdges.size());
+						for (CallEdge edge : entry.fEdges) {
+							out.writeInt(strings.get(edge.fCaller).intValue());
+							out.writeInt(strings.get(edge.fCallee).intValue());
+							out.writeInt(edge.fStart);
+							out.writeInt(edge.fReferenceStart);
+							out.writeInt(edge.fEnd);
+							out.writeInt(edge.fLine);
+							out.writeBoolean(edge.fInLambda);
+						}
+					}
+				}
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				fChanged= false;
+			} catch (IOException e) {
+				JavaManipulationPlugin.log(e);
+				temp.delete();
+			}
+		}
+	}
+}
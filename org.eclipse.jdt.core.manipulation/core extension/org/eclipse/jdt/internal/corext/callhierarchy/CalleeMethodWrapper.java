@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -89,6 +89,11 @@ class CalleeMethodWrapper extends MethodWrapper {
     @Override
 	protected Map<String, MethodCall> findChildren(IProgressMonitor progressMonitor) {
     	IMember member= getMember();
+		if (CallHierarchyCore.getDefault().isCallIndexEnabled()) {
+			Map<String, MethodCall> callees= CallHierarchyIndex.getDefault().getCallees(member);
+			if (callees != null)
+				return callees;
+		}
 		if (member.exists()) {
 			CompilationUnit cu= CallHierarchyCore.getCompilationUnitNode(member, true);
 		    if (progressMonitor != null) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -105,6 +105,12 @@ public class CallerMethodWrapper extends MethodWrapper {
 			checkCanceled(progressMonitor);
 
 			IMember member= getMember();
+			if (member instanceof IMethod && CallHierarchyCore.getDefault().isCallIndexEnabled()) {
+				Map<String, MethodCall> callers= CallHierarchyIndex.getDefault().getCallers((IMethod) member, getSearchScope());
+				if (callers != null)
+					return callers;
+			}
+
 			SearchPattern pattern= null;
 			IType type= null;
 			if (member instanceof IType) {
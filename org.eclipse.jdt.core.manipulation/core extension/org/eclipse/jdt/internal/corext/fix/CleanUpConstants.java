@@ -2302,6 +2302,32 @@ public class CleanUpConstants {
 	 */
 	public static final String SHOW_CLEAN_UP_WIZARD= "cleanup.showwizard"; //$NON-NLS-1$
 
+	/**
+	 * The number of worker threads used to compute the fixes of a clean up run. A value of
+	 * <code>1</code> computes all fixes on the calling thread.<br>
+	 * <br>
+	 * Possible values: Integer value &gt;= 1<br>
+	 * Default value: <code>1</code><br>
+	 * <br>
+	 *
+	 * @since 4.38
+	 */
+	public static final String CLEAN_UP_PARALLELISM= "cleanup.parallelism"; //$NON-NLS-1$
+
+	/**
+	 * The maximal number of compilation units cleaned up and applied at once when executing clean
+	 * up without the wizard. Larger selections are processed in windows of this size, each window
+	 * is applied and can be undone on its own. A value of <code>0</code> processes the whole
+	 * selection at once.<br>
+	 * <br>
+	 * Possible values: Integer value &gt;= 0<br>
+	 * Default value: <code>0</code><br>
+	 * <br>
+	 *
+	 * @since 4.38
+	 */
+	public static final String CLEAN_UP_WINDOW_SIZE= "cleanup.window_size"; //$NON-NLS-1$
+
 	/**
 	 * A key to a serialized string in the {@code InstanceScope} containing all the profiles.<br>
 	 * Following code snippet can load the profiles:
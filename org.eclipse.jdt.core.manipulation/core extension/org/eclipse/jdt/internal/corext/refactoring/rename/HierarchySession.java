@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.rename;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.ITypeHierarchy;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.WorkingCopyOwner;
+
+/**
+ * Memoizes type hierarchies and ripple method partitions for the duration of a refactoring,
+ * or of a batch of refactorings that inspect the same part of the type hierarchy.
+ * <p>
+ * The cached hierarchies are not updated when the Java model changes, so a session must only be
+ * used while the checked elements stay unchanged, typically from the initial to the end of the
+ * final condition checking. Whoever creates a session is responsible for calling {@link #end()};
+ * afterwards the session still answers requests, but no longer caches anything.
+ * </p>
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ *
+ * @see RippleMethodFinder2
+ * @see MethodChecks
+ */
+public final class HierarchySession {
+
+	private final WorkingCopyOwner fOwner;
+
+	private Map<IType, ITypeHierarchy> fTypeHierarchies= new HashMap<>();
+
+	private Map<IType, ITypeHierarchy> fSupertypeHierarchies= new HashMap<>();
+
+	private List<RippleMethodFinder2.Partition> fPartitions= new ArrayList<>();
+
+	private int fHierarchyCount;
+
+	/**
+	 * Creates a session for hierarchies of the primary working copies.
+	 */
+	public HierarchySession() {
+		this(null);
+	}
+
+	/**
+	 * Creates a session.
+	 *
+	 * @param owner the owner of the working copies to build the hierarchies with, or
+	 *            <code>null</code> for the primary working copies
+	 */
+	public HierarchySession(WorkingCopyOwner owner) {
+		fOwner= owner;
+	}
+
+	/**
+	 * Returns the hierarchy of the given type with all its supertypes and subtypes.
+	 *
+	 * @param type the focus type
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return the type hierarchy
+	 * @throws JavaModelException if the hierarchy cannot be created
+	 */
+	public ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+		ITypeHierarchy hierarchy= fTypeHierarchies != null ? fTypeHierarchies.get(type) : null;
+		if (hierarchy == null) {
+			hierarchy= type.newTypeHierarchy(fOwner, monitor);
+			fHierarchyCount++;
+			if (fTypeHierarchies != null)
+				fTypeHierarchies.put(type, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Returns a hierarchy that contains at least all supertypes of the given type. This is the
+	 * full type hierarchy if one has already been computed in this session.
+	 *
+	 * @param type the focus type
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return the supertype hierarchy
+	 * @throws JavaModelException if the hierarchy cannot be created
+	 */
+	public ITypeHierarchy getSupertypeHierarchy(IType type, IProgressMonitor monitor) throws JavaModelException {
+		if (fTypeHierarchies == null) {
+			fHierarchyCount++;
+			return type.newSupertypeHierarchy(fOwner, monitor);
+		}
+		ITypeHierarchy hierarchy= fTypeHierarchies.get(type);
+		if (hierarchy == null)
+			hierarchy= fSupertypeHierarchies.get(type);
+		if (hierarchy == null) {
+			hierarchy= type.newSupertypeHierarchy(fOwner, monitor);
+			fHierarchyCount++;
+			fSupertypeHierarchies.put(type, hierarchy);
+		}
+		return hierarchy;
+	}
+
+	/**
+	 * Ends the session and releases all cached hierarchies.
+	 */
+	public void end() {
+		fTypeHierarchies= null;
+		fSupertypeHierarchies= null;
+		fPartitions= null;
+	}
+
+	/**
+	 * @return <code>true</code> if {@link #end()} has been called
+	 */
+	public boolean isEnded() {
+		return fTypeHierarchies == null;
+	}
+
+	/**
+	 * Returns the number of hierarchies that have been computed on behalf of this session. Cache
+	 * hits do not count.
+	 *
+	 * @return the number of computed hierarchies
+	 */
+	public int getHierarchyCount() {
+		return fHierarchyCount;
+	}
+
+	void hierarchyCreated() {
+		fHierarchyCount++;
+	}
+
+	/**
+	 * @param owner a working copy owner
+	 * @return <code>true</code> if hierarchies of this session have been built for the given owner
+	 */
+	boolean isFor(WorkingCopyOwner owner) {
+		return Objects.equals(fOwner, owner);
+	}
+
+	RippleMethodFinder2.Partition findPartition(IMethod method, int mode) {
+		if (fPartitions != null) {
+			for (RippleMethodFinder2.Partition partition : fPartitions) {
+				if (partition.covers(method, mode))
+					return partition;
+			}
+		}
+		return null;
+	}
+
+	void addPartition(RippleMethodFinder2.Partition partition) {
+		if (fPartitions != null)
+			fPartitions.add(partition);
+	}
+}
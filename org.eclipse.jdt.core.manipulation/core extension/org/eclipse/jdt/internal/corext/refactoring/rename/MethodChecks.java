@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -103,6 +103,21 @@ public class MethodChecks {
 	}
 
 	public static IMethod isDeclaredInInterface(IMethod method, ITypeHierarchy hierarchy, IProgressMonitor monitor) throws JavaModelException {
+		return isDeclaredInInterface(method, hierarchy, null, monitor);
+	}
+
+	/**
+	 * Finds a method in a super interface of a class in the given hierarchy that is implemented by
+	 * the given method.
+	 *
+	 * @param method the method
+	 * @param hierarchy a type hierarchy of the declaring type of the method
+	 * @param session the session to reuse supertype hierarchies from, or <code>null</code>
+	 * @param monitor the progress monitor
+	 * @return the implemented interface method, or <code>null</code> if none
+	 * @throws JavaModelException if a supertype hierarchy cannot be created
+	 */
+	public static IMethod isDeclaredInInterface(IMethod method, ITypeHierarchy hierarchy, HierarchySession session, IProgressMonitor monitor) throws JavaModelException {
 		Assert.isTrue(isVirtual(method));
 		IProgressMonitor subMonitor= Progress.subMonitor(monitor, 1);
 		try {
@@ -112,6 +127,8 @@ public class MethodChecks {
 				IType[] superinterfaces= null;
 				if (clazz.equals(hierarchy.getType()))
 					superinterfaces= hierarchy.getAllSuperInterfaces(clazz);
+				else if (session != null)
+					superinterfaces= session.getSupertypeHierarchy(clazz, Progress.subMonitor(subMonitor, 1)).getAllSuperInterfaces(clazz);
 				else
 					superinterfaces= clazz.newSupertypeHierarchy(Progress.subMonitor(subMonitor, 1)).getAllSuperInterfaces(clazz);
 				for (IType superinterface : superinterfaces) {
@@ -147,6 +164,20 @@ public class MethodChecks {
 	 * @return the topmost method of the ripple, or null if none
 	 */
 	public static IMethod getTopmostMethod(IMethod method, ITypeHierarchy typeHierarchy, IProgressMonitor monitor) throws JavaModelException {
+		return getTopmostMethod(method, typeHierarchy, null, monitor);
+	}
+
+	/**
+	 * Locates the topmost method of an override ripple and returns it. If none
+	 * is found, null is returned.
+	 *
+	 * @param method the IMethod which may be part of a ripple
+	 * @param typeHierarchy a ITypeHierarchy of the declaring type of the method. May be null
+	 * @param session the session to reuse type hierarchies from, or <code>null</code>
+	 * @param monitor an IProgressMonitor
+	 * @return the topmost method of the ripple, or null if none
+	 */
+	public static IMethod getTopmostMethod(IMethod method, ITypeHierarchy typeHierarchy, HierarchySession session, IProgressMonitor monitor) throws JavaModelException {
 
 		Assert.isNotNull(method);
 
@@ -155,15 +186,15 @@ public class MethodChecks {
 		final IType declaringType= method.getDeclaringType();
 		if (!declaringType.isInterface()) {
 			if ((hierarchy == null) || !declaringType.equals(hierarchy.getType()))
-				hierarchy= declaringType.newTypeHierarchy(monitor);
+				hierarchy= session != null ? session.getTypeHierarchy(declaringType, monitor) : declaringType.newTypeHierarchy(monitor);
 
-			IMethod inInterface= isDeclaredInInterface(method, hierarchy, monitor);
+			IMethod inInterface= isDeclaredInInterface(method, hierarchy, session, monitor);
 			if (inInterface != null && !inInterface.equals(method))
 				topmostMethod= inInterface;
 		}
 		if (topmostMethod == null) {
 			if (hierarchy == null)
-				hierarchy= declaringType.newSupertypeHierarchy(monitor);
+				hierarchy= session != null ? session.getSupertypeHierarchy(declaringType, monitor) : declaringType.newSupertypeHierarchy(monitor);
 			IMethod overrides= overridesAnotherMethod(method, hierarchy);
 			if (overrides != null && !overrides.equals(method))
 				topmostMethod= overrides;
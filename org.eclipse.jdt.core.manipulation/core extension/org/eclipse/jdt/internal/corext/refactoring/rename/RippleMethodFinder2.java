@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -32,7 +32,9 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 
+import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IRegion;
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
@@ -57,6 +59,10 @@ import org.eclipse.jdt.internal.ui.util.Progress;
 
 public class RippleMethodFinder2 {
 
+	private static final int MODE_SOURCES= 0;
+	private static final int MODE_ALL= 1;
+	private static final int MODE_BINARY_REFERENCES= 2;
+
 	private final IMethod fMethod;
 	private Set<IMethod> fDeclarations;
 	private ITypeHierarchy fHierarchy;
@@ -70,6 +76,7 @@ public class RippleMethodFinder2 {
 	private final ReferencesInBinaryContext fBinaryRefs;
 	private Map<IMethod, SearchMatch> fDeclarationToMatch;
 	private boolean fSearchOnlyInCompilationUnit = false;
+	private final HierarchySession fSession;
 
 	private static class MultiMap<K, V> {
 		HashMap<K, Collection<V>> fImplementation= new HashMap<>();
@@ -87,6 +94,60 @@ public class RippleMethodFinder2 {
 			return fImplementation.get(key);
 		}
 	}
+	/**
+	 * The declarations found for a method, partitioned into override ripples. A partition is
+	 * memoized in a {@link HierarchySession} and reused for every method the declaration search
+	 * of which would produce the same declarations, i.e. for the other search results with the
+	 * same visibility context.
+	 */
+	static final class Partition {
+		private final int fMode;
+		private final IJavaProject fProject;
+		private final IPackageFragment fPackage;
+		private final Set<IMethod> fSearchResults;
+		private final Set<IMethod> fDeclarations;
+		private final Map<IMethod, SearchMatch> fDeclarationToMatch;
+		private final MultiMap<IType, IMethod> fTypeToMethod;
+		private final UnionFind fUnionFind;
+		private final MultiMap<IType, IType> fRootReps;
+		private final Map<IType, ITypeHierarchy> fRootHierarchies;
+
+		private Partition(RippleMethodFinder2 finder, Set<IMethod> searchResults) {
+			fMode= finder.getMode();
+			fProject= finder.fMethod.getJavaProject();
+			fPackage= finder.fMethod.getDeclaringType().getPackageFragment();
+			fSearchResults= searchResults;
+			fDeclarations= new HashSet<>(finder.fDeclarations);
+			fDeclarationToMatch= finder.fDeclarationToMatch == null ? null : new HashMap<>(finder.fDeclarationToMatch);
+			fTypeToMethod= finder.fTypeToMethod;
+			fUnionFind= finder.fUnionFind;
+			fRootReps= finder.fRootReps;
+			fRootHierarchies= finder.fRootHierarchies;
+		}
+
+		boolean covers(IMethod method, int mode) {
+			return fMode == mode
+					&& fSearchResults.contains(method)
+					&& fProject.equals(method.getJavaProject())
+					&& fPackage.equals(method.getDeclaringType().getPackageFragment());
+		}
+
+		/*
+		 * The type to method map, the union find and the root representatives are only read after
+		 * the partition has been created (apart from path compression, which keeps the represented
+		 * sets), and the root hierarchies are only filled lazily, so all finders of a session can share them.
+		 */
+		private void restore(RippleMethodFinder2 finder) {
+			finder.fDeclarations= new HashSet<>(fDeclarations);
+			if (finder.fDeclarationToMatch != null)
+				finder.fDeclarationToMatch.putAll(fDeclarationToMatch);
+			finder.fTypeToMethod= fTypeToMethod;
+			finder.fUnionFind= fUnionFind;
+			finder.fRootReps= fRootReps;
+			finder.fRootHierarchies= fRootHierarchies;
+		}
+	}
+
 	private static class UnionFind {
 		HashMap<IType, IType> fElementToRepresentative= new HashMap<>();
 
@@ -136,26 +197,43 @@ public class RippleMethodFinder2 {
 	}
 
 
-	private RippleMethodFinder2(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit){
+	private RippleMethodFinder2(IMethod method, boolean excludeBinaries, boolean searchOnlyInCompilationUnit, HierarchySession session){
 		fMethod= method;
 		fExcludeBinaries= excludeBinaries;
 		fSearchOnlyInCompilationUnit= searchOnlyInCompilationUnit;
 		fBinaryRefs= null;
+		fSession= searchOnlyInCompilationUnit ? null : session;
 	}
 
-	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs) {
+	private RippleMethodFinder2(IMethod method, ReferencesInBinaryContext binaryRefs, HierarchySession session) {
 		fMethod= method;
 		fExcludeBinaries= true;
 		fDeclarationToMatch= new HashMap<>();
 		fBinaryRefs= binaryRefs;
+		fSession= session;
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		return getRelatedMethods(method, excludeBinaries, null, pm, owner);
+	}
+
+	/**
+	 * Finds the methods in the override ripple of the given method.
+	 *
+	 * @param method the method
+	 * @param excludeBinaries whether to leave out methods declared in binaries
+	 * @param session the session to reuse type hierarchies and ripples from, or <code>null</code>
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @return the related methods
+	 * @throws CoreException if the search or a type hierarchy fails
+	 */
+	public static IMethod[] getRelatedMethods(IMethod method, boolean excludeBinaries, HierarchySession session, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		try{
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, excludeBinaries, false).getAllRippleMethods(pm, owner);
+			return new RippleMethodFinder2(method, excludeBinaries, false, session).getAllRippleMethods(pm, owner);
 		} finally{
 			pm.done();
 		}
@@ -165,7 +243,7 @@ public class RippleMethodFinder2 {
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, true, true).getAllRippleMethods(pm, owner);
+			return new RippleMethodFinder2(method, true, true, null).getAllRippleMethods(pm, owner);
 		} finally{
 			pm.done();
 		}
@@ -175,16 +253,38 @@ public class RippleMethodFinder2 {
 	}
 
 	public static IMethod[] getRelatedMethods(IMethod method, ReferencesInBinaryContext binaryRefs, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
+		return getRelatedMethods(method, binaryRefs, null, pm, owner);
+	}
+
+	/**
+	 * Finds the methods in the override ripple of the given method. Ripple methods declared in
+	 * binaries are reported to <code>binaryRefs</code> instead of being returned.
+	 *
+	 * @param method the method
+	 * @param binaryRefs the context to collect binary declarations in
+	 * @param session the session to reuse type hierarchies and ripples from, or <code>null</code>
+	 * @param pm the progress monitor
+	 * @param owner the working copy owner, or <code>null</code>
+	 * @return the related methods
+	 * @throws CoreException if the search or a type hierarchy fails
+	 */
+	public static IMethod[] getRelatedMethods(IMethod method, ReferencesInBinaryContext binaryRefs, HierarchySession session, IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		try {
 			if (! MethodChecks.isVirtual(method))
 				return new IMethod[]{ method };
 
-			return new RippleMethodFinder2(method, binaryRefs).getAllRippleMethods(pm, owner);
+			return new RippleMethodFinder2(method, binaryRefs, session).getAllRippleMethods(pm, owner);
 		} finally{
 			pm.done();
 		}
 	}
 
+	private int getMode() {
+		if (fBinaryRefs != null)
+			return MODE_BINARY_REFERENCES;
+		return fExcludeBinaries ? MODE_SOURCES : MODE_ALL;
+	}
+
 	private IMethod[] getAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		IMethod[] rippleMethods= findAllRippleMethods(pm, owner);
 		if (fDeclarationToMatch == null)
@@ -206,22 +306,30 @@ public class RippleMethodFinder2 {
 	private IMethod[] findAllRippleMethods(IProgressMonitor pm, WorkingCopyOwner owner) throws CoreException {
 		pm.beginTask("", 4); //$NON-NLS-1$
 
-		findAllDeclarations(Progress.subMonitor(pm, 1), owner);
-
-		//TODO: report assertion as error status and fall back to only return fMethod
-		//check for bug 81058:
-		if (! fDeclarations.contains(fMethod)) {
-			if (fSearchOnlyInCompilationUnit) {
-				return new IMethod[0];
-			} else {
-				Assert.isTrue(false, "Search for method declaration did not find original element: " + fMethod.toString()); //$NON-NLS-1$
+		Partition partition= fSession != null && fSession.isFor(owner) ? fSession.findPartition(fMethod, getMode()) : null;
+		if (partition != null) {
+			partition.restore(this);
+		} else {
+			findAllDeclarations(Progress.subMonitor(pm, 1), owner);
+
+			//TODO: report assertion as error status and fall back to only return fMethod
+			//check for bug 81058:
+			if (! fDeclarations.contains(fMethod)) {
+				if (fSearchOnlyInCompilationUnit) {
+					return new IMethod[0];
+				} else {
+					Assert.isTrue(false, "Search for method declaration did not find original element: " + fMethod.toString()); //$NON-NLS-1$
+				}
 			}
+			Set<IMethod> searchResults= new HashSet<>(fDeclarations);
+
+			createHierarchyOfDeclarations(Progress.subMonitor(pm, 1), owner);
+			addMissedSuperTypes();
+			createTypeToMethod();
+			createUnionFind();
+			if (fSession != null && fSession.isFor(owner))
+				fSession.addPartition(new Partition(this, searchResults));
 		}
-
-		createHierarchyOfDeclarations(Progress.subMonitor(pm, 1), owner);
-		addMissedSuperTypes();
-		createTypeToMethod();
-		createUnionFind();
 		checkCanceled(pm);
 
 		fHierarchy= null;
@@ -359,7 +467,9 @@ public class RippleMethodFinder2 {
 
 		for (IType methodTypeSubtype : methodTypeSubtypes) {
 			checkCanceled(pm);
-			ITypeHierarchy subtypeHierarchy= methodTypeSubtype.newTypeHierarchy(owner, pm);
+			ITypeHierarchy subtypeHierarchy= fSession != null && fSession.isFor(owner)
+					? fSession.getSupertypeHierarchy(methodTypeSubtype, pm)
+					: methodTypeSubtype.newTypeHierarchy(owner, pm);
 			IType[] subtypeSuperTypes= subtypeHierarchy.getAllSupertypes(methodTypeSubtype);
 			for (IType subtypeSuperType : subtypeSuperTypes) {
 				checkCanceled(pm);
@@ -405,10 +515,16 @@ public class RippleMethodFinder2 {
 			throws JavaModelException {
 		ITypeHierarchy hierarchy= getCachedHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		if (hierarchy == null)
-			hierarchy= type.newTypeHierarchy(owner, Progress.subMonitor(pm, 1));
+			hierarchy= newTypeHierarchy(type, owner, Progress.subMonitor(pm, 1));
 		return hierarchy;
 	}
 
+	private ITypeHierarchy newTypeHierarchy(IType type, WorkingCopyOwner owner, IProgressMonitor pm) throws JavaModelException {
+		if (fSession != null && fSession.isFor(owner))
+			return fSession.getTypeHierarchy(type, pm);
+		return type.newTypeHierarchy(owner, pm);
+	}
+
 	private void addMissedSuperTypes() throws JavaModelException {
 		Set<IMethod> newDeclarations = new HashSet<>();
 		for (IMethod method : fDeclarations) {
@@ -425,7 +541,7 @@ public class RippleMethodFinder2 {
 			for (IType root : fRootReps.get(rep)) {
 				ITypeHierarchy hierarchy= fRootHierarchies.get(root);
 				if (hierarchy == null) {
-					hierarchy= root.newTypeHierarchy(owner, Progress.subMonitor(monitor, 1));
+					hierarchy= newTypeHierarchy(root, owner, Progress.subMonitor(monitor, 1));
 					fRootHierarchies.put(root, hierarchy);
 				}
 				if (hierarchy.contains(type))
@@ -479,6 +595,8 @@ public class RippleMethodFinder2 {
 	private void createHierarchyOfDeclarations(IProgressMonitor pm, WorkingCopyOwner owner) throws JavaModelException {
 		Stream<IType> types= fDeclarations.stream().map(IMethod::getDeclaringType);
 		fHierarchy= createHierarchyOfTypes(pm, owner, types);
+		if (fSession != null && fSession.isFor(owner))
+			fSession.hierarchyCreated();
 	}
 
 	private static ITypeHierarchy createHierarchyOfTypes(IProgressMonitor pm, WorkingCopyOwner owner, Stream<IType> types) throws JavaModelException {
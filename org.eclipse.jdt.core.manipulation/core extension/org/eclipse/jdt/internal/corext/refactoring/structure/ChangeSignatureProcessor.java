@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -159,6 +159,7 @@ import org.eclipse.jdt.internal.corext.refactoring.changes.DynamicValidationRefa
 import org.eclipse.jdt.internal.corext.refactoring.code.Invocations;
 import org.eclipse.jdt.internal.corext.refactoring.delegates.DelegateMethodCreator;
 import org.eclipse.jdt.internal.corext.refactoring.participants.JavaProcessors;
+import org.eclipse.jdt.internal.corext.refactoring.rename.HierarchySession;
 import org.eclipse.jdt.internal.corext.refactoring.rename.MethodChecks;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RefactoringAnalyzeUtil;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
@@ -214,6 +215,8 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 	private IDefaultValueAdvisor fDefaultValueAdvisor;
 
 	private ITypeHierarchy fCachedTypeHierarchy= null;
+	private HierarchySession fHierarchySession;
+	private boolean fSharedHierarchySession;
 	private boolean fDelegateUpdating;
 	private boolean fDelegateDeprecation;
 
@@ -1005,10 +1008,36 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 
 	private ITypeHierarchy getCachedTypeHierarchy(IProgressMonitor monitor) throws JavaModelException {
 		if (fCachedTypeHierarchy == null)
-			fCachedTypeHierarchy= fMethod.getDeclaringType().newTypeHierarchy(Progress.subMonitor(monitor, 1));
+			fCachedTypeHierarchy= getHierarchySession().getTypeHierarchy(fMethod.getDeclaringType(), Progress.subMonitor(monitor, 1));
 		return fCachedTypeHierarchy;
 	}
 
+	/**
+	 * Shares the type hierarchies and ripple methods computed by this processor with other
+	 * refactorings using the same session. The session is not ended by this processor.
+	 *
+	 * @param session the session, or <code>null</code> to use a private session
+	 */
+	public void setHierarchySession(HierarchySession session) {
+		fHierarchySession= session;
+		fSharedHierarchySession= session != null;
+	}
+
+	private HierarchySession getHierarchySession() {
+		if (fHierarchySession == null || fHierarchySession.isEnded()) {
+			fHierarchySession= new HierarchySession();
+			fSharedHierarchySession= false;
+		}
+		return fHierarchySession;
+	}
+
+	private void endHierarchySession() {
+		if (fHierarchySession != null && !fSharedHierarchySession) {
+			fHierarchySession.end();
+			fHierarchySession= null;
+		}
+	}
+
 	@Override
 	public RefactoringStatus checkInitialConditions(IProgressMonitor monitor) throws CoreException {
 		try {
@@ -1021,11 +1050,11 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 				return RefactoringStatus.createFatalErrorStatus(message);
 			}
 			if (fMethod.getDeclaringType().isInterface()) {
-				fTopMethod= MethodChecks.overridesAnotherMethod(fMethod, fMethod.getDeclaringType().newSupertypeHierarchy(Progress.subMonitor(monitor, 1)));
+				fTopMethod= MethodChecks.overridesAnotherMethod(fMethod, getHierarchySession().getSupertypeHierarchy(fMethod.getDeclaringType(), Progress.subMonitor(monitor, 1)));
 				monitor.worked(1);
 			} else if (MethodChecks.isVirtual(fMethod)) {
 				ITypeHierarchy hierarchy= getCachedTypeHierarchy(Progress.subMonitor(monitor, 1));
-				fTopMethod= MethodChecks.isDeclaredInInterface(fMethod, hierarchy, Progress.subMonitor(monitor, 1));
+				fTopMethod= MethodChecks.isDeclaredInInterface(fMethod, hierarchy, getHierarchySession(), Progress.subMonitor(monitor, 1));
 				if (fTopMethod == null)
 					fTopMethod= MethodChecks.overridesAnotherMethod(fMethod, hierarchy);
 			}
@@ -1110,7 +1139,7 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 			String binaryRefsDescription= Messages.format(RefactoringCoreMessages.ReferencesInBinaryContext_ref_in_binaries_description , BasicElementLabels.getJavaElementName(getMethodName()));
 			ReferencesInBinaryContext binaryRefs= new ReferencesInBinaryContext(binaryRefsDescription);
 
-			fRippleMethods= RippleMethodFinder2.getRelatedMethods(fMethod, binaryRefs, Progress.subMonitor(pm, 1), null);
+			fRippleMethods= RippleMethodFinder2.getRelatedMethods(fMethod, binaryRefs, getHierarchySession(), Progress.subMonitor(pm, 1), null);
 			result.merge(checkVarargs());
 			if (result.hasFatalError())
 				return result;
@@ -1145,6 +1174,7 @@ public class ChangeSignatureProcessor extends RefactoringProcessor implements ID
 
 			createChangeManager(Progress.subMonitor(pm, 1), result);
 			fCachedTypeHierarchy= null;
+			endHierarchySession();
 
 			if (mustAnalyzeAstOfDeclaringCu())
 				result.merge(checkCompilationofDeclaringCu()); //TODO: should also check in ripple methods (move into createChangeManager)
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -28,7 +28,6 @@ import java.util.Set;
 import org.eclipse.core.runtime.Assert;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
-import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.text.edits.MalformedTreeException;
 import org.eclipse.text.edits.TextEdit;
@@ -110,6 +109,7 @@ import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TType;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types.TypeEnvironment;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.CastVariable2;
 import org.eclipse.jdt.internal.corext.refactoring.typeconstraints2.ITypeConstraintVariable;
+import org.eclipse.jdt.internal.corext.refactoring.util.ASTBatchProcessor;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
 import org.eclipse.jdt.internal.corext.refactoring.util.TextEditBasedChangeManager;
 import org.eclipse.jdt.internal.corext.util.CodeFormatterUtil;
@@ -756,6 +756,18 @@ public abstract class SuperTypeRefactoringProcessor extends RefactoringProcessor
 		}
 	}
 
+	private ASTBatchProcessor.ParserFactory createParserFactory(final IJavaProject project) {
+		final Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+		return () -> {
+			ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+			parser.setWorkingCopyOwner(fOwner);
+			parser.setResolveBindings(true);
+			parser.setProject(project);
+			parser.setCompilerOptions(options);
+			return parser;
+		};
+	}
+
 	static class CleanableWorkingCopyOwner extends WorkingCopyOwner implements Runnable {
         @Override
 		public void run() {
@@ -1133,7 +1145,6 @@ public abstract class SuperTypeRefactoringProcessor extends RefactoringProcessor
 			final Map<IJavaProject, Set<ICompilationUnit>> secondPass= new HashMap<>();
 			Collection<SearchResultGroup> collection= null;
 			try {
-				final ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
 				ICompilationUnit current= null;
 				final Map<ICompilationUnit, SearchResultGroup> groups= new HashMap<>();
 				for (Map.Entry<IJavaProject, Set<SearchResultGroup>> entry : firstPass.entrySet()) {
@@ -1155,6 +1166,7 @@ public abstract class SuperTypeRefactoringProcessor extends RefactoringProcessor
 				if (subUnit != null)
 					processed.add(subUnit);
 				model.beginCreation();
+				final ASTBatchProcessor processor= new ASTBatchProcessor();
 				IProgressMonitor subMonitor= Progress.subMonitor(monitor, 120);
 				try {
 					final Set<IJavaProject> keySet= firstPass.keySet();
@@ -1174,45 +1186,22 @@ public abstract class SuperTypeRefactoringProcessor extends RefactoringProcessor
 									}
 								}
 							}
-							final List<ICompilationUnit> batches= new ArrayList<>(units);
-							final int size= batches.size();
-							final int iterations= (size - 1) / SIZE_BATCH + 1;
 							final IProgressMonitor subsubMonitor= Progress.subMonitor(subMonitor, 100);
 							try {
-								subsubMonitor.beginTask("", iterations * 100); //$NON-NLS-1$
+								subsubMonitor.beginTask("", units.size() * 100); //$NON-NLS-1$
 								subsubMonitor.setTaskName(RefactoringCoreMessages.SuperTypeRefactoringProcessor_creating);
-								final Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-								for (int index= 0; index < iterations; index++) {
-									final List<ICompilationUnit> iteration= batches.subList(index * SIZE_BATCH, Math.min(size, (index + 1) * SIZE_BATCH));
-									parser.setWorkingCopyOwner(fOwner);
-									parser.setResolveBindings(true);
-									parser.setProject(project);
-									parser.setCompilerOptions(options);
-									final IProgressMonitor subsubsubMonitor= Progress.subMonitor(subsubMonitor, 100);
-									try {
-										final int count= iteration.size();
-										subsubsubMonitor.beginTask("", count * 100); //$NON-NLS-1$
-										subsubsubMonitor.setTaskName(RefactoringCoreMessages.SuperTypeRefactoringProcessor_creating);
-										parser.createASTs(iteration.toArray(new ICompilationUnit[count]), new String[0], new ASTRequestor() {
+								processor.process(processor.split(new ArrayList<>(units), SIZE_BATCH), createParserFactory(project), new ASTRequestor() {
 
-											@Override
-											public final void acceptAST(final ICompilationUnit unit, final CompilationUnit node) {
-												if (!processed.contains(unit)) {
-													performFirstPass(creator, secondPass, groups, unit, node, Progress.subMonitor(subsubsubMonitor, 100));
-													processed.add(unit);
-												} else
-													subsubsubMonitor.worked(100);
-											}
-
-											@Override
-											public final void acceptBinding(final String key, final IBinding binding) {
-												// Do nothing
-											}
-										}, new NullProgressMonitor());
-									} finally {
-										subsubsubMonitor.done();
+									@Override
+									public final void acceptAST(final ICompilationUnit unit, final CompilationUnit node) {
+										if (!processed.contains(unit)) {
+											processor.reportProgress(subsubMonitor, unit);
+											performFirstPass(creator, secondPass, groups, unit, node, Progress.subMonitor(subsubMonitor, 100));
+											processed.add(unit);
+										} else
+											subsubMonitor.worked(100);
 									}
-								}
+								}, subsubMonitor);
 							} finally {
 								subsubMonitor.done();
 							}
@@ -1232,29 +1221,21 @@ public abstract class SuperTypeRefactoringProcessor extends RefactoringProcessor
 					for (IJavaProject project : keySet) {
 						Collection<ICompilationUnit> cuCollection= secondPass.get(project);
 						if (cuCollection != null) {
-							parser.setWorkingCopyOwner(fOwner);
-							parser.setResolveBindings(true);
-							parser.setProject(project);
-							parser.setCompilerOptions(RefactoringASTParser.getCompilerOptions(project));
 							final IProgressMonitor subsubMonitor= Progress.subMonitor(subMonitor, 100);
 							try {
 								subsubMonitor.beginTask("", cuCollection.size() * 100); //$NON-NLS-1$
 								subsubMonitor.setTaskName(RefactoringCoreMessages.SuperTypeRefactoringProcessor_creating);
-								parser.createASTs(cuCollection.toArray(new ICompilationUnit[cuCollection.size()]), new String[0], new ASTRequestor() {
+								processor.process(processor.split(new ArrayList<>(cuCollection), SIZE_BATCH), createParserFactory(project), new ASTRequestor() {
 
 									@Override
 									public final void acceptAST(final ICompilationUnit unit, final CompilationUnit node) {
-										if (!processed.contains(unit))
+										if (!processed.contains(unit)) {
+											processor.reportProgress(subsubMonitor, unit);
 											performSecondPass(creator, unit, node, Progress.subMonitor(subsubMonitor, 100));
-										else
+										} else
 											subsubMonitor.worked(100);
 									}
-
-									@Override
-									public final void acceptBinding(final String key, final IBinding binding) {
-										// Do nothing
-									}
-								}, new NullProgressMonitor());
+								}, subsubMonitor);
 							} finally {
 								subsubMonitor.done();
 							}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,8 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 
-import java.util.Map;
-
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.core.IType;
@@ -61,15 +59,13 @@ public abstract class HierarchyType extends TType {
 	}
 
 	public boolean isSubType(HierarchyType other) {
-		if (getEnvironment() == other.getEnvironment()) {
-			Map<TypeTuple, Boolean> cache= getEnvironment().getSubTypeCache();
-			TypeTuple key= new TypeTuple(this, other);
-			Boolean value= cache.get(key);
-			if (value != null)
-				return value;
+		TypeEnvironment environment= getEnvironment();
+		if (environment == other.getEnvironment()) {
+			int cached= environment.getCachedSubType(this, other);
+			if (cached != TypeEnvironment.UNKNOWN)
+				return cached == TypeEnvironment.TRUE;
 			boolean isSub= doIsSubType(other);
-			value= isSub;
-			cache.put(key, value);
+			environment.cacheIsSubType(this, other, isSub);
 			return isSub;
 		}
 		return doIsSubType(other);
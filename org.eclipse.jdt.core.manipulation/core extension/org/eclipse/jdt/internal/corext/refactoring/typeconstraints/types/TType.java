@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,10 +13,6 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-
 import org.eclipse.core.runtime.Assert;
 
 import org.eclipse.jdt.core.dom.ITypeBinding;
@@ -71,6 +67,7 @@ public abstract class TType {
 	protected static final TType[] EMPTY_TYPE_ARRAY= new TType[0];
 
 	private TypeEnvironment fEnvironment;
+	private final int fTypeId;
 	private String fBindingKey;
 	private int fModifiers;
 	private int fFlags;
@@ -83,6 +80,7 @@ public abstract class TType {
 	 */
 	protected TType(TypeEnvironment environment) {
 		fEnvironment= environment;
+		fTypeId= environment.nextTypeId();
 	}
 
 	/**
@@ -142,6 +140,16 @@ public abstract class TType {
 		return fEnvironment;
 	}
 
+	/**
+	 * Returns the id of this type, which is unique within the type's environment. The ids of an
+	 * environment are assigned consecutively from 0.
+	 *
+	 * @return the type's id
+	 */
+	final int getTypeId() {
+		return fTypeId;
+	}
+
 	/**
 	 * Returns the key of the binding from which this type
 	 * got constructed.
@@ -517,14 +525,7 @@ public abstract class TType {
 	 * 		was not created with rememberSubtypes == true
 	 */
 	public TType[] getSubTypes() throws IllegalStateException {
-		Map<TType, ArrayList<TType>> subTypes= fEnvironment.getSubTypes();
-		if (subTypes == null)
-			throw new IllegalStateException("This TypeEnvironment does not remember subtypes"); //$NON-NLS-1$
-		List<TType> subtypes= subTypes.get(this);
-		if (subtypes == null)
-			return EMPTY_TYPE_ARRAY;
-		else
-			return subtypes.toArray(new TType[subtypes.size()]);
+		return fEnvironment.getSubTypes(this);
 	}
 
 	/**
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,9 +14,8 @@
 package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -40,6 +39,11 @@ import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
  * A type environment comprises a set of {@link TType}s that stand for Java {@link ITypeBinding}s.
  * In contrast to type bindings, TTypes of the same type environment also work across project boundaries and
  * across compiler environments, i.e. a type environment can handle bindings from multiple {@link ASTParser} sessions.
+ * <p>
+ * Every type of an environment has a dense integer id. Types derived from other types, the subtype
+ * relation and the subtype cache are keyed by these ids, which keeps the environments of refactorings
+ * over large projects small.
+ * </p>
  *
  * @see TType
  */
@@ -70,6 +74,13 @@ public class TypeEnvironment {
 		}
 	}
 
+	/**
+	 * The number of types created in this environment, i.e. the id of the next type. Must not have
+	 * an initializer, since the primitive types below are created before the initializers of later
+	 * fields run.
+	 */
+	private int fTypeCount;
+
 	/** Type code for the primitive type "int". */
 	public final PrimitiveType INT= new PrimitiveType(this, PrimitiveType.INT, BindingKey.createTypeBindingKey("int")); //$NON-NLS-1$
 	/** Type code for the primitive type "char". */
@@ -106,31 +117,39 @@ public class TypeEnvironment {
 
 	private TType OBJECT_TYPE= null;
 
-	private List<Map<TType, ArrayType>>      fArrayTypes= new ArrayList<>();
+	private List<TypeIdMap<ArrayType>>       fArrayTypes= new ArrayList<>();
 	private Map<IJavaElement, StandardType>  fStandardTypes= new HashMap<>();
 	private Map<IJavaElement, GenericType>   fGenericTypes= new HashMap<>();
 	private Map<ProjectKeyPair, ParameterizedType> fParameterizedTypes= new HashMap<>();
 	private Map<IJavaElement, RawType>       fRawTypes= new HashMap<>();
 	private Map<IJavaElement, TypeVariable>  fTypeVariables= new HashMap<>();
 	private Map<ProjectKeyPair, CaptureType> fCaptureTypes= new HashMap<>();
-	private Map<TType, ExtendsWildcardType>  fExtendsWildcardTypes= new HashMap<>();
-	private Map<TType, SuperWildcardType>    fSuperWildcardTypes= new HashMap<>();
+	private TypeIdMap<ExtendsWildcardType>   fExtendsWildcardTypes= new TypeIdMap<>();
+	private TypeIdMap<SuperWildcardType>     fSuperWildcardTypes= new TypeIdMap<>();
 	private UnboundWildcardType fUnboundWildcardType= null;
 
-	private static final int MAX_ENTRIES= 1024;
-	private Map<TypeTuple, Boolean> fSubTypeCache= new LinkedHashMap<>(50, 0.75f, true) {
-		private static final long serialVersionUID= 1L;
-		@Override
-		protected boolean removeEldestEntry(Map.Entry<TypeTuple, Boolean> eldest) {
-			return size() > MAX_ENTRIES;
-		}
-	};
+	/** Result of {@link #getCachedSubType(HierarchyType, HierarchyType)} if the result is not cached. */
+	static final int UNKNOWN= -1;
+	/** Result of {@link #getCachedSubType(HierarchyType, HierarchyType)} for a subtype. */
+	static final int TRUE= 1;
+	/** Result of {@link #getCachedSubType(HierarchyType, HierarchyType)} for a type that is not a subtype. */
+	static final int FALSE= 0;
+
+	private static final int SUBTYPE_CACHE_SIZE= 4096;
+	/**
+	 * Direct mapped cache of {@link HierarchyType#isSubType(HierarchyType)} results. An entry holds the
+	 * ids of the subtype (plus one) and the supertype and the result in its lowest bit, <code>0</code>
+	 * is an empty entry. A colliding entry replaces the previous one.
+	 */
+	private final long[] fSubTypeCache= new long[SUBTYPE_CACHE_SIZE];
 
 	/**
-	 * Map from TType to its known subtypes, or <code>null</code> iff subtype
-	 * information was not requested in the constructor.
+	 * The known direct subtypes, indexed by the id of the supertype, or <code>null</code> iff subtype
+	 * information was not requested in the constructor. The arrays may have unused trailing slots,
+	 * see {@link #fSubTypeCounts}.
 	 */
-	private Map<TType, ArrayList<TType>> fSubTypes;
+	private TType[][] fSubTypes;
+	private int[] fSubTypeCounts;
 	/**
 	 * If <code>true</code>, replace all capture types by their wildcard type.
 	 * @since 3.7
@@ -177,13 +196,43 @@ public class TypeEnvironment {
 
 	public TypeEnvironment(boolean rememberSubtypes, boolean removeCapures) {
 		if (rememberSubtypes) {
-			fSubTypes= new HashMap<>();
+			fSubTypes= new TType[64][];
+			fSubTypeCounts= new int[64];
 		}
 		fRemoveCapures= removeCapures;
 	}
 
-	Map<TypeTuple, Boolean> getSubTypeCache() {
-		return fSubTypeCache;
+	int nextTypeId() {
+		return fTypeCount++;
+	}
+
+	/**
+	 * Looks up the cached result of {@link HierarchyType#isSubType(HierarchyType)}.
+	 *
+	 * @param subType the potential subtype
+	 * @param superType the potential supertype
+	 * @return {@link #TRUE}, {@link #FALSE} or {@link #UNKNOWN} if the result is not cached
+	 */
+	int getCachedSubType(HierarchyType subType, HierarchyType superType) {
+		long key= getSubTypeCacheKey(subType, superType);
+		long entry= fSubTypeCache[getSubTypeCacheIndex(key)];
+		if (entry >>> 1 != key)
+			return UNKNOWN;
+		return (int) (entry & 1);
+	}
+
+	void cacheIsSubType(HierarchyType subType, HierarchyType superType, boolean isSubType) {
+		long key= getSubTypeCacheKey(subType, superType);
+		fSubTypeCache[getSubTypeCacheIndex(key)]= key << 1 | (isSubType ? 1 : 0);
+	}
+
+	private static long getSubTypeCacheKey(TType subType, TType superType) {
+		return (long) (subType.getTypeId() + 1) << 31 | superType.getTypeId();
+	}
+
+	private static int getSubTypeCacheIndex(long key) {
+		long h= key * 0x9E3779B97F4A7C15L;
+		return (int) (h >>> 32) & (SUBTYPE_CACHE_SIZE - 1);
 	}
 
 	public TType create(ITypeBinding binding) {
@@ -287,8 +336,13 @@ public class TypeEnvironment {
 		return null;
 	}
 
-	Map<TType, ArrayList<TType>> getSubTypes() {
-		return fSubTypes;
+	TType[] getSubTypes(TType type) {
+		if (fSubTypes == null)
+			throw new IllegalStateException("This TypeEnvironment does not remember subtypes"); //$NON-NLS-1$
+		int id= type.getTypeId();
+		if (type.getEnvironment() != this || id >= fSubTypes.length || fSubTypes[id] == null)
+			return TType.EMPTY_TYPE_ARRAY;
+		return Arrays.copyOf(fSubTypes[id], fSubTypeCounts[id]);
 	}
 
 	private void cacheSubType(TType supertype, TType result) {
@@ -297,14 +351,28 @@ public class TypeEnvironment {
 		if (supertype == null)
 			supertype= OBJECT_TYPE;
 
-		ArrayList<TType> subtypes= fSubTypes.get(supertype);
+		int id= supertype.getTypeId();
+		if (id >= fSubTypes.length) {
+			int length= Math.max(id + 1, fSubTypes.length * 2);
+			fSubTypes= Arrays.copyOf(fSubTypes, length);
+			fSubTypeCounts= Arrays.copyOf(fSubTypeCounts, length);
+		}
+		TType[] subtypes= fSubTypes[id];
+		int count= fSubTypeCounts[id];
 		if (subtypes == null) {
-			subtypes= new ArrayList<>(5);
-			fSubTypes.put(supertype, subtypes);
+			subtypes= new TType[2];
+			fSubTypes[id]= subtypes;
 		} else {
-			Assert.isTrue(! subtypes.contains(result));
+			for (int i= 0; i < count; i++) {
+				Assert.isTrue(! subtypes[i].equals(result));
+			}
+			if (count == subtypes.length) {
+				subtypes= Arrays.copyOf(subtypes, count * 2);
+				fSubTypes[id]= subtypes;
+			}
 		}
-		subtypes.add(result);
+		subtypes[count]= result;
+		fSubTypeCounts[id]= count + 1;
 	}
 
 	private void cacheSubTypes(TType[] interfaces, TType result) {
@@ -328,7 +396,7 @@ public class TypeEnvironment {
 	private ArrayType createArrayType(ITypeBinding binding) {
 		int index= binding.getDimensions() - 1;
 		TType elementType= create(binding.getElementType());
-		Map<TType, ArrayType> arrayTypes= getArrayTypesMap(index);
+		TypeIdMap<ArrayType> arrayTypes= getArrayTypesMap(index);
 		ArrayType result= arrayTypes.get(elementType);
 		if (result != null)
 			return result;
@@ -342,9 +410,10 @@ public class TypeEnvironment {
 		Assert.isTrue(! elementType.isArrayType());
 		Assert.isTrue(! elementType.isAnonymous());
 		Assert.isTrue(dimensions > 0);
+		Assert.isTrue(elementType.getEnvironment() == this);
 
 		int index= dimensions - 1;
-		Map<TType, ArrayType> arrayTypes= getArrayTypesMap(index);
+		TypeIdMap<ArrayType> arrayTypes= getArrayTypesMap(index);
 		ArrayType result= arrayTypes.get(elementType);
 		if (result != null)
 			return result;
@@ -354,14 +423,13 @@ public class TypeEnvironment {
 		return result;
 	}
 
-	private Map<TType, ArrayType> getArrayTypesMap(int index) {
-		int oldLength= fArrayTypes.size();
-		if (index >= oldLength) {
-			fArrayTypes.addAll(Collections.<Map<TType,ArrayType>>nCopies(index + 1 - oldLength, null));
+	private TypeIdMap<ArrayType> getArrayTypesMap(int index) {
+		while (index >= fArrayTypes.size()) {
+			fArrayTypes.add(null);
 		}
-		Map<TType, ArrayType> arrayTypes= fArrayTypes.get(index);
+		TypeIdMap<ArrayType> arrayTypes= fArrayTypes.get(index);
 		if (arrayTypes == null) {
-			arrayTypes= new HashMap<>();
+			arrayTypes= new TypeIdMap<>();
 			fArrayTypes.set(index, arrayTypes);
 		}
 		return arrayTypes;
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.typeconstraints.types;
+
+import java.util.Arrays;
+
+/**
+ * A map from types of a {@link TypeEnvironment} to the types derived from them, keyed by the
+ * {@link TType#getTypeId() type id} of the key type. Uses open addressing, so that neither a
+ * lookup nor an insertion allocates a map entry or boxes the key.
+ * <p>
+ * Entries cannot be removed. This class is not thread safe.
+ * </p>
+ *
+ * @param <T> the type of the values
+ */
+final class TypeIdMap<T extends TType> {
+
+	private static final int EMPTY= -1;
+
+	private int[] fKeys;
+
+	private TType[] fValues;
+
+	private int fSize;
+
+	TypeIdMap() {
+		fKeys= new int[16];
+		Arrays.fill(fKeys, EMPTY);
+		fValues= new TType[16];
+	}
+
+	@SuppressWarnings("unchecked")
+	T get(TType key) {
+		int id= key.getTypeId();
+		int mask= fKeys.length - 1;
+		for (int i= hash(id) & mask; fKeys[i] != EMPTY; i= (i + 1) & mask) {
+			if (fKeys[i] == id)
+				return (T) fValues[i];
+		}
+		return null;
+	}
+
+	void put(TType key, T value) {
+		if ((fSize + 1) * 4 > fKeys.length * 3)
+			rehash(fKeys.length * 2);
+		if (insert(fKeys, fValues, key.getTypeId(), value))
+			fSize++;
+	}
+
+	private static boolean insert(int[] keys, TType[] values, int id, TType value) {
+		int mask= keys.length - 1;
+		int i= hash(id) & mask;
+		while (keys[i] != EMPTY) {
+			if (keys[i] == id) {
+				values[i]= value;
+				return false;
+			}
+			i= (i + 1) & mask;
+		}
+		keys[i]= id;
+		values[i]= value;
+		return true;
+	}
+
+	private void rehash(int capacity) {
+		int[] keys= new int[capacity];
+		Arrays.fill(keys, EMPTY);
+		TType[] values= new TType[capacity];
+		for (int i= 0; i < fKeys.length; i++) {
+			if (fKeys[i] != EMPTY)
+				insert(keys, values, fKeys[i], fValues[i]);
+		}
+		fKeys= keys;
+		fValues= values;
+	}
+
+	private static int hash(int id) {
+		int h= id * 0x9E3779B1;
+		return h ^ (h >>> 16);
+	}
+}
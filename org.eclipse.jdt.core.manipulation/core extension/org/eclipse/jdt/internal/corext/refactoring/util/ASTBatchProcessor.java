@@ -0,0 +1,208 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.refactoring.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+
+import org.eclipse.jdt.internal.core.manipulation.util.BasicElementLabels;
+import org.eclipse.jdt.internal.corext.refactoring.RefactoringCoreMessages;
+import org.eclipse.jdt.internal.corext.util.Messages;
+
+/**
+ * Creates the ASTs of batches of compilation units on several threads and passes them to a single
+ * requestor, e.g. the constraint creator of a type constraint refactoring.
+ * <p>
+ * Every batch is compiled by its own {@link ASTParser}. The bindings of a batch must only be
+ * resolved while the batch is not compiling, so an AST is passed to the requestor on the thread
+ * that compiled it, which waits until the requestor returns. The requestor is called by one thread
+ * at a time, in no defined order across batches; it does not need to be thread safe.
+ * </p>
+ * <p>
+ * The batches are processed sequentially on the calling thread if there is only one batch, or if
+ * the system property <code>org.eclipse.jdt.ui.disableParallelConstraintCreation</code> is set.
+ * A failure or cancellation in one batch stops the other batches.
+ * </p>
+ */
+public final class ASTBatchProcessor {
+
+	private static final boolean ENABLED= !Boolean.getBoolean("org.eclipse.jdt.ui.disableParallelConstraintCreation"); //$NON-NLS-1$
+
+	/**
+	 * The smallest batch that is split up to keep the threads busy.
+	 */
+	private static final int MIN_BATCH_SIZE= 25;
+
+	/**
+	 * Creates a configured parser for a batch.
+	 */
+	@FunctionalInterface
+	public interface ParserFactory {
+		ASTParser createParser();
+	}
+
+	private final int fThreads;
+
+	private final Object fLock= new Object();
+
+	private final long fStart= System.nanoTime();
+
+	private int fProcessed;
+
+	private volatile boolean fFailed;
+
+	public ASTBatchProcessor() {
+		this(ENABLED ? Math.min(4, Runtime.getRuntime().availableProcessors()) : 1);
+	}
+
+	/**
+	 * Creates a processor that uses the given number of threads, regardless of the number of
+	 * processors and of the system property.
+	 *
+	 * @param threads the maximum number of batches to process at the same time
+	 */
+	public ASTBatchProcessor(int threads) {
+		fThreads= Math.max(1, threads);
+	}
+
+	/**
+	 * Splits compilation units into batches of at most the given size. If this processor uses more
+	 * than one thread, the units are split into at least as many batches as there are threads, unless
+	 * the batches would get too small.
+	 *
+	 * @param units the compilation units
+	 * @param maxBatchSize the maximum number of units per batch
+	 * @return the batches
+	 */
+	public List<ICompilationUnit[]> split(List<ICompilationUnit> units, int maxBatchSize) {
+		int size= units.size();
+		int count= Math.max((size - 1) / maxBatchSize + 1, Math.min(fThreads, size / MIN_BATCH_SIZE));
+		List<ICompilationUnit[]> batches= new ArrayList<>(count);
+		for (int i= 0; i < count; i++) {
+			List<ICompilationUnit> batch= units.subList(i * size / count, (i + 1) * size / count);
+			if (!batch.isEmpty())
+				batches.add(batch.toArray(new ICompilationUnit[batch.size()]));
+		}
+		return batches;
+	}
+
+	/**
+	 * Creates the ASTs of the given batches and passes them to the requestor.
+	 *
+	 * @param batches the batches of compilation units
+	 * @param factory the factory for the parsers, called once per batch
+	 * @param requestor the requestor that is passed the ASTs, one at a time
+	 * @param monitor the progress monitor to check for cancellation. Progress is reported by the
+	 *            requestor.
+	 * @throws OperationCanceledException if the monitor has been canceled
+	 */
+	public void process(List<ICompilationUnit[]> batches, ParserFactory factory, ASTRequestor requestor, IProgressMonitor monitor) {
+		if (fThreads == 1 || batches.size() == 1) {
+			for (ICompilationUnit[] batch : batches) {
+				process(batch, factory, requestor, monitor);
+			}
+			return;
+		}
+		ExecutorService executor= Executors.newFixedThreadPool(Math.min(fThreads, batches.size()), runnable -> {
+			Thread thread= new Thread(runnable, "Constraint Creation"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			List<Future<?>> futures= new ArrayList<>(batches.size());
+			for (ICompilationUnit[] batch : batches) {
+				futures.add(executor.submit(() -> {
+					try {
+						process(batch, factory, requestor, monitor);
+					} catch (RuntimeException | Error e) {
+						fFailed= true; // stop the other batches
+						throw e;
+					}
+				}));
+			}
+			Throwable failure= null;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					fFailed= true;
+					if (failure == null || failure instanceof OperationCanceledException)
+						failure= e.getCause();
+				} catch (InterruptedException e) {
+					fFailed= true;
+					Thread.currentThread().interrupt();
+					if (failure == null)
+						failure= new OperationCanceledException();
+				}
+			}
+			if (failure instanceof RuntimeException runtime)
+				throw runtime;
+			if (failure instanceof Error error)
+				throw error;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void process(ICompilationUnit[] batch, ParserFactory factory, ASTRequestor requestor, IProgressMonitor monitor) {
+		IProgressMonitor cancellation= new NullProgressMonitor() {
+			@Override
+			public boolean isCanceled() {
+				return fFailed || monitor.isCanceled();
+			}
+		};
+		factory.createParser().createASTs(batch, new String[0], new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				synchronized (fLock) {
+					if (cancellation.isCanceled())
+						throw new OperationCanceledException();
+					try {
+						requestor.acceptAST(source, ast);
+					} catch (RuntimeException | Error e) {
+						fFailed= true;
+						throw e;
+					}
+					fProcessed++;
+				}
+			}
+		}, cancellation);
+	}
+
+	/**
+	 * Reports the compilation unit that is processed and the number of compilation units per second
+	 * processed so far. Must be called from the requestor.
+	 *
+	 * @param monitor the monitor to report to
+	 * @param unit the compilation unit that is passed to the requestor
+	 */
+	public void reportProgress(IProgressMonitor monitor, ICompilationUnit unit) {
+		long elapsed= Math.max(1, System.nanoTime() - fStart);
+		long rate= fProcessed * 1_000_000_000L / elapsed;
+		monitor.subTask(Messages.format(RefactoringCoreMessages.ASTBatchProcessor_progress, new Object[] { BasicElementLabels.getFileName(unit), Long.valueOf(rate) }));
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,10 +14,19 @@
 package org.eclipse.jdt.internal.corext.util;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
 
 import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.ITypeHierarchy;
@@ -26,18 +35,26 @@ import org.eclipse.jdt.core.JavaModelException;
 
 /**
  * A thread-safe cache for super type hierarchies.
+ * <p>
+ * Every type of a cached hierarchy is indexed, so that lookups do not need a lock. The cache is
+ * bounded by a budget for the total number of types in the cached hierarchies, see
+ * {@link #setBudget(int)}; the hierarchies that were least recently accessed are evicted first.
+ * Concurrent requests for the hierarchy of the same type wait for a single computation.
+ * </p>
  */
 // @see JDTUIHelperClasses
 public class SuperTypeHierarchyCache {
 
 	private static class HierarchyCacheEntry implements ITypeHierarchyChangedListener {
 
-		private ITypeHierarchy fTypeHierarchy;
-		private long fLastAccess;
+		private final ITypeHierarchy fTypeHierarchy;
+		private final IType[] fTypes;
+		private final Map<IType, MethodOverrideTester> fMethodOverrideTesters= new ConcurrentHashMap<>();
+		private volatile long fLastAccess;
 
 		public HierarchyCacheEntry(ITypeHierarchy hierarchy) {
 			fTypeHierarchy= hierarchy;
-			fTypeHierarchy.addTypeHierarchyChangedListener(this);
+			fTypes= hierarchy.getAllTypes();
 			markAsAccessed();
 		}
 
@@ -50,19 +67,33 @@ public class SuperTypeHierarchyCache {
 			return fTypeHierarchy;
 		}
 
+		public IType[] getTypes() {
+			return fTypes;
+		}
+
+		public int getWeight() {
+			return Math.max(1, fTypes.length);
+		}
+
+		public MethodOverrideTester getMethodOverrideTester(IType type) {
+			return fMethodOverrideTesters.computeIfAbsent(type, t -> new MethodOverrideTester(t, fTypeHierarchy));
+		}
+
 		public void markAsAccessed() {
-			fLastAccess= System.currentTimeMillis();
+			fLastAccess= fgAccessCounter.incrementAndGet();
 		}
 
 		public long getLastAccess() {
 			return fLastAccess;
 		}
 
+		public void connect() {
+			fTypeHierarchy.addTypeHierarchyChangedListener(this);
+		}
+
 		public void dispose() {
-			if (fTypeHierarchy != null) {
-				fTypeHierarchy.removeTypeHierarchyChangedListener(this);
-				fTypeHierarchy= null;
-			}
+			fTypeHierarchy.removeTypeHierarchyChangedListener(this);
+			fMethodOverrideTesters.clear();
 		}
 
 		@Override
@@ -73,13 +104,36 @@ public class SuperTypeHierarchyCache {
 	}
 
 
-	private static final int CACHE_SIZE= 8;
+	/**
+	 * Default budget for the total number of types in the cached hierarchies. Can be changed with
+	 * the system property <code>org.eclipse.jdt.ui.superTypeHierarchyCacheBudget</code>.
+	 */
+	public static final int DEFAULT_BUDGET= 2000;
+
+	private static final long WAIT_INTERVAL= 100;
+
+	private static final Object fgLock= new Object();
+
+	/**
+	 * The cached entries, guarded by {@link #fgLock}.
+	 */
+	private static final Set<HierarchyCacheEntry> fgHierarchyCache= new HashSet<>();
+
+	/**
+	 * Maps every type of a cached hierarchy to its entry. Written under {@link #fgLock}.
+	 */
+	private static final Map<IType, HierarchyCacheEntry> fgTypeIndex= new ConcurrentHashMap<>();
+
+	private static final Map<IType, FutureTask<ITypeHierarchy>> fgPendingComputations= new ConcurrentHashMap<>();
+
+	private static final AtomicLong fgAccessCounter= new AtomicLong();
 
-	private static ArrayList<HierarchyCacheEntry> fgHierarchyCache= new ArrayList<>(CACHE_SIZE);
-	private static Map<IType, MethodOverrideTester> fgMethodOverrideTesterCache= new LRUMap<>(CACHE_SIZE);
+	private static int fgBudget= Integer.getInteger("org.eclipse.jdt.ui.superTypeHierarchyCacheBudget", DEFAULT_BUDGET).intValue(); //$NON-NLS-1$
+	private static int fgWeight= 0;
 
-	private static int fgCacheHits= 0;
-	private static int fgCacheMisses= 0;
+	private static final LongAdder fgCacheHits= new LongAdder();
+	private static final LongAdder fgCacheMisses= new LongAdder();
+	private static final LongAdder fgEvictions= new LongAdder();
 
 	/**
 	 * Returns a super type hierarchy that contains the given type.
@@ -97,32 +151,18 @@ public class SuperTypeHierarchyCache {
 	}
 
 	public static MethodOverrideTester getMethodOverrideTester(IType type) throws JavaModelException {
-		MethodOverrideTester test= null;
-		synchronized (fgMethodOverrideTesterCache) {
-			test= fgMethodOverrideTesterCache.get(type);
-		}
-		if (test == null) {
-			ITypeHierarchy hierarchy= getTypeHierarchy(type); // don't nest the locks
-			synchronized (fgMethodOverrideTesterCache) {
-				test= fgMethodOverrideTesterCache.get(type); // test again after waiting a long time for 'getTypeHierarchy'
-				if (test == null) {
-					test= new MethodOverrideTester(type, hierarchy);
-					fgMethodOverrideTesterCache.put(type, test);
-				}
-			}
+		HierarchyCacheEntry entry= findEntryInCache(type);
+		if (entry != null) {
+			fgCacheHits.increment();
+			return entry.getMethodOverrideTester(type);
 		}
-		return test;
-	}
-
-	private static void removeMethodOverrideTester(ITypeHierarchy hierarchy) {
-		synchronized (fgMethodOverrideTesterCache) {
-			for (Iterator<MethodOverrideTester> iter= fgMethodOverrideTesterCache.values().iterator(); iter.hasNext();) {
-				MethodOverrideTester curr= iter.next();
-				if (curr.getTypeHierarchy().equals(hierarchy)) {
-					iter.remove();
-				}
-			}
+		ITypeHierarchy hierarchy= getTypeHierarchy(type);
+		entry= findEntryInCache(type);
+		if (entry != null && entry.getTypeHierarchy() == hierarchy) {
+			return entry.getMethodOverrideTester(type);
 		}
+		// the hierarchy has not been cached, e.g. because it exceeds the budget
+		return new MethodOverrideTester(type, hierarchy);
 	}
 
 	/**
@@ -138,44 +178,121 @@ public class SuperTypeHierarchyCache {
 	 * @throws JavaModelException if a problem occurs
 	 */
 	public static ITypeHierarchy getTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
-		ITypeHierarchy hierarchy= findTypeHierarchyInCache(type);
-		if (hierarchy == null) {
-			fgCacheMisses++;
-			hierarchy= type.newSupertypeHierarchy(progressMonitor);
-			addTypeHierarchyToCache(hierarchy);
-		} else {
-			fgCacheHits++;
+		HierarchyCacheEntry entry= findEntryInCache(type);
+		if (entry != null) {
+			fgCacheHits.increment();
+			return entry.getTypeHierarchy();
 		}
-		return hierarchy;
+		fgCacheMisses.increment();
+		return computeTypeHierarchy(type, progressMonitor);
 	}
 
-	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
-		synchronized (fgHierarchyCache) {
-			int nEntries= fgHierarchyCache.size();
-			if (nEntries >= CACHE_SIZE) {
-				// find obsolete entries or remove entry that was least recently accessed
-				HierarchyCacheEntry oldest= null;
-				ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>(CACHE_SIZE);
-				for (HierarchyCacheEntry entry : fgHierarchyCache) {
-					ITypeHierarchy curr= entry.getTypeHierarchy();
-					if (!curr.exists() || hierarchy.contains(curr.getType())) {
-						obsoleteHierarchies.add(entry);
-					} else {
-						if (oldest == null || entry.getLastAccess() < oldest.getLastAccess()) {
-							oldest= entry;
-						}
-					}
+	private static ITypeHierarchy computeTypeHierarchy(IType type, IProgressMonitor progressMonitor) throws JavaModelException {
+		while (true) {
+			FutureTask<ITypeHierarchy> task= new FutureTask<>(() -> type.newSupertypeHierarchy(progressMonitor));
+			FutureTask<ITypeHierarchy> pending= fgPendingComputations.putIfAbsent(type, task);
+			if (pending == null) {
+				try {
+					task.run();
+					ITypeHierarchy hierarchy= getResult(task);
+					addTypeHierarchyToCache(hierarchy);
+					return hierarchy;
+				} finally {
+					fgPendingComputations.remove(type, task);
 				}
-				if (!obsoleteHierarchies.isEmpty()) {
-					for (HierarchyCacheEntry obsoleteHierarchie : obsoleteHierarchies) {
-						removeHierarchyEntryFromCache(obsoleteHierarchie);
-					}
-				} else if (oldest != null) {
-					removeHierarchyEntryFromCache(oldest);
+			}
+			ITypeHierarchy hierarchy= waitForResult(pending, progressMonitor);
+			if (hierarchy != null) {
+				return hierarchy;
+			}
+			// the requester that computed the hierarchy has been canceled, try again
+		}
+	}
+
+	private static ITypeHierarchy getResult(FutureTask<ITypeHierarchy> task) throws JavaModelException {
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OperationCanceledException();
+		} catch (ExecutionException e) {
+			throw rethrow(e);
+		}
+	}
+
+	/**
+	 * Waits for the computation of another requester.
+	 *
+	 * @param task the pending computation
+	 * @param progressMonitor the monitor of this requester
+	 * @return the computed hierarchy or <code>null</code> if the computation has been canceled
+	 * @throws JavaModelException if the computation failed
+	 */
+	private static ITypeHierarchy waitForResult(FutureTask<ITypeHierarchy> task, IProgressMonitor progressMonitor) throws JavaModelException {
+		while (true) {
+			try {
+				return task.get(WAIT_INTERVAL, TimeUnit.MILLISECONDS);
+			} catch (TimeoutException e) {
+				if (progressMonitor != null && progressMonitor.isCanceled())
+					throw new OperationCanceledException();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new OperationCanceledException();
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof OperationCanceledException)
+					return null;
+				throw rethrow(e);
+			}
+		}
+	}
+
+	private static JavaModelException rethrow(ExecutionException e) throws JavaModelException {
+		Throwable cause= e.getCause();
+		if (cause instanceof JavaModelException)
+			throw (JavaModelException) cause;
+		if (cause instanceof RuntimeException)
+			throw (RuntimeException) cause;
+		if (cause instanceof Error)
+			throw (Error) cause;
+		throw new IllegalStateException(cause);
+	}
+
+	private static void addTypeHierarchyToCache(ITypeHierarchy hierarchy) {
+		HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+		synchronized (fgLock) {
+			// remove obsolete entries
+			ArrayList<HierarchyCacheEntry> obsoleteHierarchies= new ArrayList<>();
+			for (HierarchyCacheEntry entry : fgHierarchyCache) {
+				ITypeHierarchy curr= entry.getTypeHierarchy();
+				if (!curr.exists() || hierarchy.contains(curr.getType())) {
+					obsoleteHierarchies.add(entry);
 				}
 			}
-			HierarchyCacheEntry newEntry= new HierarchyCacheEntry(hierarchy);
+			for (HierarchyCacheEntry obsoleteHierarchy : obsoleteHierarchies) {
+				removeHierarchyEntryFromCache(obsoleteHierarchy);
+			}
+
+			if (newEntry.getWeight() > fgBudget)
+				return;
+
 			fgHierarchyCache.add(newEntry);
+			fgWeight+= newEntry.getWeight();
+			for (IType type : newEntry.getTypes()) {
+				fgTypeIndex.put(type, newEntry);
+			}
+			newEntry.connect();
+			evict();
+		}
+	}
+
+	private static void evict() {
+		if (fgWeight <= fgBudget)
+			return;
+		ArrayList<HierarchyCacheEntry> entries= new ArrayList<>(fgHierarchyCache);
+		entries.sort((e1, e2) -> Long.compare(e1.getLastAccess(), e2.getLastAccess()));
+		for (int i= 0; fgWeight > fgBudget && i < entries.size(); i++) {
+			removeHierarchyEntryFromCache(entries.get(i));
+			fgEvictions.increment();
 		}
 	}
 
@@ -186,43 +303,69 @@ public class SuperTypeHierarchyCache {
 	 * @return <code>true</code> if a hierarchy for the given type is cached
 	 */
 	public static boolean hasInCache(IType type) {
-		return findTypeHierarchyInCache(type) != null;
-	}
-
-
-	private static ITypeHierarchy findTypeHierarchyInCache(IType type) {
-		synchronized (fgHierarchyCache) {
-			for (int i= fgHierarchyCache.size() - 1; i>= 0; i--) {
-				HierarchyCacheEntry curr= fgHierarchyCache.get(i);
-				ITypeHierarchy hierarchy= curr.getTypeHierarchy();
-				if (!hierarchy.exists()) {
-					removeHierarchyEntryFromCache(curr);
-				} else {
-					if (hierarchy.contains(type)) {
-						curr.markAsAccessed();
-						return hierarchy;
-					}
-				}
-			}
+		return findEntryInCache(type) != null;
+	}
+
+
+	private static HierarchyCacheEntry findEntryInCache(IType type) {
+		HierarchyCacheEntry entry= fgTypeIndex.get(type);
+		if (entry == null)
+			return null;
+		if (!entry.getTypeHierarchy().exists()) {
+			removeHierarchyEntryFromCache(entry);
+			return null;
 		}
-		return null;
+		entry.markAsAccessed();
+		return entry;
 	}
 
 	private static void removeHierarchyEntryFromCache(HierarchyCacheEntry entry) {
-		synchronized (fgHierarchyCache) {
-			removeMethodOverrideTester(entry.getTypeHierarchy());
+		synchronized (fgLock) {
+			if (!fgHierarchyCache.remove(entry))
+				return;
+			fgWeight-= entry.getWeight();
+			for (IType type : entry.getTypes()) {
+				fgTypeIndex.remove(type, entry);
+			}
 			entry.dispose();
-			fgHierarchyCache.remove(entry);
 		}
 	}
 
 
+	/**
+	 * Sets the budget for the total number of types in the cached hierarchies and evicts
+	 * hierarchies if necessary.
+	 *
+	 * @param budget the budget, <code>0</code> disables the cache
+	 */
+	public static void setBudget(int budget) {
+		synchronized (fgLock) {
+			fgBudget= budget;
+			evict();
+		}
+	}
+
+	public static int getBudget() {
+		synchronized (fgLock) {
+			return fgBudget;
+		}
+	}
+
+	/**
+	 * @return the total number of types in the cached hierarchies
+	 */
+	public static int getWeight() {
+		synchronized (fgLock) {
+			return fgWeight;
+		}
+	}
+
 	/**
 	 * Gets the number of times the hierarchy could be taken from the hierarchy.
 	 * @return Returns a int
 	 */
 	public static int getCacheHits() {
-		return fgCacheHits;
+		return fgCacheHits.intValue();
 	}
 
 	/**
@@ -230,7 +373,33 @@ public class SuperTypeHierarchyCache {
 	 * @return Returns a int
 	 */
 	public static int getCacheMisses() {
-		return fgCacheMisses;
+		return fgCacheMisses.intValue();
+	}
+
+	/**
+	 * @return the number of hierarchies that have been removed to stay within the budget
+	 */
+	public static int getCacheEvictions() {
+		return fgEvictions.intValue();
+	}
+
+	/**
+	 * Resets the hit, miss and eviction counters.
+	 */
+	public static void resetStatistics() {
+		fgCacheHits.reset();
+		fgCacheMisses.reset();
+		fgEvictions.reset();
+	}
+
+	/**
+	 * @return a description of the cache state and statistics, for tracing
+	 */
+	public static String getStatistics() {
+		synchronized (fgLock) {
+			return "SuperTypeHierarchyCache [size=" + fgHierarchyCache.size() + ", weight=" + fgWeight + "/" + fgBudget //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					+ ", hits=" + fgCacheHits.sum() + ", misses=" + fgCacheMisses.sum() + ", evictions=" + fgEvictions.sum() + "]"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		}
 	}
 
 	private SuperTypeHierarchyCache() {
@@ -0,0 +1,296 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.corext.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+import org.eclipse.jdt.core.search.IJavaSearchConstants;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.SearchPattern;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+import org.eclipse.jdt.core.search.TypeNameMatchRequestor;
+
+import org.eclipse.jdt.internal.core.manipulation.JavaManipulationPlugin;
+
+/**
+ * An in-memory index from simple type names to the types visible on the classpath of a project.
+ * <p>
+ * Resolving the unresolved names of many compilation units, e.g. when organizing the imports of a
+ * package or on save, would otherwise run a type name search per compilation unit. The index of a
+ * project is built with a single search on first use and dropped when the classpath of the project
+ * changes or a type is added, removed or changes its modifiers in the project or a project it
+ * depends on. The index holds unfiltered matches; the type filters and access rules are applied by
+ * the requestor on every lookup.
+ * </p>
+ * <p>
+ * The index can be disabled with the system property
+ * <code>org.eclipse.jdt.ui.disableTypeNameIndex</code>, lookups then fall back to a search.
+ * </p>
+ */
+public final class TypeNameIndex implements IElementChangedListener {
+
+	private static final boolean DISABLED= Boolean.getBoolean("org.eclipse.jdt.ui.disableTypeNameIndex"); //$NON-NLS-1$
+
+	/**
+	 * Maximum number of project indexes kept at a time.
+	 */
+	private static final int MAX_PROJECTS= 8;
+
+	private static TypeNameIndex fgInstance;
+
+	private static final class ProjectIndex {
+
+		private final IJavaProject fProject;
+		private final boolean fExcludeTestCode;
+		private Map<String, TypeNameMatch[]> fTypes;
+
+		ProjectIndex(IJavaProject project, boolean excludeTestCode) {
+			fProject= project;
+			fExcludeTestCode= excludeTestCode;
+		}
+
+		synchronized Map<String, TypeNameMatch[]> getTypes(IProgressMonitor monitor) throws JavaModelException {
+			if (fTypes == null) {
+				final Map<String, List<TypeNameMatch>> types= new HashMap<>();
+				TypeNameMatchRequestor requestor= new TypeNameMatchRequestor() {
+					@Override
+					public void acceptTypeNameMatch(TypeNameMatch match) {
+						types.computeIfAbsent(match.getSimpleTypeName(), name -> new ArrayList<>(1)).add(match);
+					}
+				};
+				IJavaSearchScope scope= SearchEngine.createJavaSearchScope(fExcludeTestCode, new IJavaElement[] { fProject }, true);
+				new SearchEngine().searchAllTypeNames(null, SearchPattern.R_PATTERN_MATCH, null, SearchPattern.R_PREFIX_MATCH, IJavaSearchConstants.TYPE, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+
+				Map<String, TypeNameMatch[]> result= new HashMap<>(types.size() * 4 / 3 + 1);
+				for (Entry<String, List<TypeNameMatch>> entry : types.entrySet()) {
+					List<TypeNameMatch> matches= entry.getValue();
+					result.put(entry.getKey(), matches.toArray(new TypeNameMatch[matches.size()]));
+				}
+				fTypes= result;
+			}
+			return fTypes;
+		}
+	}
+
+	/**
+	 * The project indexes, keyed by project name and test code visibility. Guarded by itself.
+	 */
+	private final Map<String, ProjectIndex> fIndexes= new LRUMap<>(MAX_PROJECTS * 2);
+
+	private TypeNameIndex() {
+	}
+
+	/**
+	 * Returns the shared index.
+	 *
+	 * @return the index
+	 */
+	public static synchronized TypeNameIndex getDefault() {
+		if (fgInstance == null) {
+			fgInstance= new TypeNameIndex();
+			JavaCore.addElementChangedListener(fgInstance, ElementChangedEvent.POST_CHANGE | ElementChangedEvent.POST_RECONCILE);
+		}
+		return fgInstance;
+	}
+
+	/**
+	 * Stops updating the shared index, if it has been created, and releases it.
+	 */
+	public static synchronized void shutdown() {
+		if (fgInstance != null) {
+			JavaCore.removeElementChangedListener(fgInstance);
+			fgInstance.clear();
+			fgInstance= null;
+		}
+	}
+
+	/**
+	 * Reports the types with the given simple names that are visible on the classpath of the given
+	 * project. This is equivalent to a type name search for the names in a scope created with
+	 * {@link SearchEngine#createJavaSearchScope(boolean, IJavaElement[], boolean)}.
+	 *
+	 * @param project the project
+	 * @param excludeTestCode whether types in test source folders and test dependencies are left out
+	 * @param simpleNames the simple type names to find
+	 * @param requestor the requestor that is passed the matching types
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @throws JavaModelException if the index cannot be built
+	 */
+	public void findTypes(IJavaProject project, boolean excludeTestCode, Collection<String> simpleNames, TypeNameMatchRequestor requestor, IProgressMonitor monitor) throws JavaModelException {
+		if (simpleNames.isEmpty())
+			return;
+		if (DISABLED) {
+			char[][] names= new char[simpleNames.size()][];
+			int i= 0;
+			for (String name : simpleNames) {
+				names[i++]= name.toCharArray();
+			}
+			IJavaSearchScope scope= SearchEngine.createJavaSearchScope(excludeTestCode, new IJavaElement[] { project }, true);
+			new SearchEngine().searchAllTypeNames(null, names, scope, requestor, IJavaSearchConstants.WAIT_UNTIL_READY_TO_SEARCH, monitor);
+			return;
+		}
+		Map<String, TypeNameMatch[]> types= getIndex(project, excludeTestCode).getTypes(monitor);
+		for (String name : simpleNames) {
+			TypeNameMatch[] matches= types.get(name);
+			if (matches != null) {
+				for (TypeNameMatch match : matches) {
+					requestor.acceptTypeNameMatch(match);
+				}
+			}
+		}
+	}
+
+	private ProjectIndex getIndex(IJavaProject project, boolean excludeTestCode) {
+		String key= project.getElementName() + (excludeTestCode ? "/main" : "/test"); //$NON-NLS-1$ //$NON-NLS-2$
+		synchronized (fIndexes) {
+			ProjectIndex index= fIndexes.get(key);
+			if (index == null) {
+				index= new ProjectIndex(project, excludeTestCode);
+				fIndexes.put(key, index);
+			}
+			return index;
+		}
+	}
+
+	/**
+	 * Drops all project indexes.
+	 */
+	public void clear() {
+		synchronized (fIndexes) {
+			fIndexes.clear();
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<String> changedProjects= new HashSet<>();
+		collectChangedProjects(event.getDelta(), changedProjects);
+		if (!changedProjects.isEmpty())
+			invalidate(changedProjects);
+	}
+
+	private static void collectChangedProjects(IJavaElementDelta delta, Set<String> changedProjects) {
+		IJavaElement element= delta.getElement();
+		int flags= delta.getFlags();
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_OPENED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED)) != 0) {
+					changedProjects.add(element.getElementName());
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED
+						|| (flags & (IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+					changedProjects.add(element.getJavaProject().getElementName());
+					return;
+				}
+				break;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				if (delta.getKind() != IJavaElementDelta.CHANGED) {
+					changedProjects.add(element.getJavaProject().getElementName());
+					return;
+				}
+				break;
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				if (hasTypeChange(delta))
+					changedProjects.add(element.getJavaProject().getElementName());
+				return;
+			default:
+				break;
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChangedProjects(child, changedProjects);
+		}
+	}
+
+	private static boolean hasTypeChange(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		switch (delta.getElement().getElementType()) {
+			case IJavaElement.COMPILATION_UNIT:
+			case IJavaElement.CLASS_FILE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED)
+					return true;
+				if ((flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0)
+					return true; // no details available
+				break;
+			case IJavaElement.TYPE:
+				if (delta.getKind() != IJavaElementDelta.CHANGED || (flags & IJavaElementDelta.F_MODIFIERS) != 0)
+					return true;
+				break;
+			default:
+				return false; // members other than types do not affect the index
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			if (hasTypeChange(child))
+				return true;
+		}
+		return false;
+	}
+
+	private void invalidate(Set<String> changedProjects) {
+		addReferencingProjects(changedProjects);
+		synchronized (fIndexes) {
+			for (Iterator<ProjectIndex> iter= fIndexes.values().iterator(); iter.hasNext();) {
+				if (changedProjects.contains(iter.next().fProject.getElementName()))
+					iter.remove();
+			}
+		}
+	}
+
+	private static void addReferencingProjects(Set<String> projectNames) {
+		try {
+			IJavaProject[] projects= JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects();
+			boolean added= true;
+			while (added) {
+				added= false;
+				for (IJavaProject candidate : projects) {
+					if (projectNames.contains(candidate.getElementName()))
+						continue;
+					for (String required : candidate.getRequiredProjectNames()) {
+						if (projectNames.contains(required)) {
+							projectNames.add(candidate.getElementName());
+							added= true;
+							break;
+						}
+					}
+				}
+			}
+		} catch (JavaModelException e) {
+			JavaManipulationPlugin.log(e);
+		}
+	}
+}
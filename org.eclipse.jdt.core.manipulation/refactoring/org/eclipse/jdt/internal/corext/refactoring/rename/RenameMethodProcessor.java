@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -256,7 +256,7 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 
 	private void initializeMethodsToRename(IProgressMonitor pm, ReferencesInBinaryContext binaryRefs) throws CoreException {
 		if (fMethodsToRename == null) {
-			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(getMethod(), binaryRefs, pm, null);
+			IMethod[] rippleMethods= RippleMethodFinder2.getRelatedMethods(getMethod(), binaryRefs, getHierarchySession(), pm, null);
 			fMethodsToRename= new HashSet<>();
 			for (IMethod method : rippleMethods) {
 				if (!method.isLambdaMethod()) {
@@ -266,6 +266,15 @@ public abstract class RenameMethodProcessor extends JavaRenameProcessor implemen
 		}
 	}
 
+	/**
+	 * Returns the session used to share type hierarchies while checking the conditions.
+	 *
+	 * @return the hierarchy session, or <code>null</code> if hierarchies are not shared
+	 */
+	protected HierarchySession getHierarchySession() {
+		return null;
+	}
+
 	protected void setMethodsToRename(IMethod[] methods) {
 		fMethodsToRename= new HashSet<>(Arrays.asList(methods));
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -1287,6 +1287,16 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 	 * @throws CoreException should not happen
 	 */
 	private RefactoringStatus initializeSimilarElementsRenameProcessors(IProgressMonitor progressMonitor, CheckConditionsContext context) throws CoreException {
+		// similarly named methods are often declared in the same hierarchies, e.g. getters and setters
+		HierarchySession session= new HierarchySession();
+		try {
+			return initializeSimilarElementsRenameProcessors(session, progressMonitor, context);
+		} finally {
+			session.end();
+		}
+	}
+
+	private RefactoringStatus initializeSimilarElementsRenameProcessors(HierarchySession session, IProgressMonitor progressMonitor, CheckConditionsContext context) throws CoreException {
 
 		Assert.isNotNull(fPreloadedElementToName);
 		Assert.isNotNull(fPreloadedElementToSelection);
@@ -1369,15 +1379,15 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 					final IType declaringType= currentMethod.getDeclaringType();
 					ITypeHierarchy hierarchy= null;
 					if (!declaringType.isInterface())
-						hierarchy= declaringType.newTypeHierarchy(new NullProgressMonitor());
+						hierarchy= session.getTypeHierarchy(declaringType, new NullProgressMonitor());
 
-					final IMethod topmost= MethodChecks.getTopmostMethod(currentMethod, hierarchy, new NullProgressMonitor());
+					final IMethod topmost= MethodChecks.getTopmostMethod(currentMethod, hierarchy, session, new NullProgressMonitor());
 					if (topmost != null)
 						currentMethod= topmost;
 					if (handledTopLevelMethods.contains(currentMethod))
 						continue;
 					handledTopLevelMethods.add(currentMethod);
-					final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, new NullProgressMonitor(), null);
+					final IMethod[] ripples= RippleMethodFinder2.getRelatedMethods(currentMethod, true, session, new NullProgressMonitor(), null);
 
 					if (checkForWarnings(warnings, newName, ripples))
 						continue;
@@ -1386,7 +1396,7 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 					if (status.hasFatalError())
 						return status;
 
-					processor= createVirtualMethodRenameProcessor(currentMethod, newName, ripples, hierarchy);
+					processor= createVirtualMethodRenameProcessor(currentMethod, newName, ripples, hierarchy, session);
 					fFinalSimilarElementToName.put(currentMethod, newName);
 					for (IMethod ripple : ripples) {
 						fFinalSimilarElementToName.put(ripple, newName);
@@ -1643,8 +1653,9 @@ public class RenameTypeProcessor extends JavaRenameProcessor implements ITextUpd
 
 	// ----------------- Processor creation --------
 
-	private RenameMethodProcessor createVirtualMethodRenameProcessor(IMethod currentMethod, String newMethodName, IMethod[] ripples, ITypeHierarchy hierarchy) {
-		RenameMethodProcessor processor= new RenameVirtualMethodProcessor(currentMethod, ripples, fChangeManager, hierarchy, CATEGORY_METHOD_RENAME);
+	private RenameMethodProcessor createVirtualMethodRenameProcessor(IMethod currentMethod, String newMethodName, IMethod[] ripples, ITypeHierarchy hierarchy, HierarchySession session) {
+		RenameVirtualMethodProcessor processor= new RenameVirtualMethodProcessor(currentMethod, ripples, fChangeManager, hierarchy, CATEGORY_METHOD_RENAME);
+		processor.setHierarchySession(session);
 		initMethodProcessor(processor, newMethodName);
 		return processor;
 	}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,8 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 	private IMethod fOriginalMethod;
 	private boolean fActivationChecked;
 	private ITypeHierarchy fCachedHierarchy= null;
+	private HierarchySession fHierarchySession;
+	private boolean fSharedHierarchySession;
 
 	/**
 	 * Creates a new rename method processor.
@@ -94,10 +96,37 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 	private ITypeHierarchy getCachedHierarchy(IType declaring, IProgressMonitor monitor) throws JavaModelException {
 		if (fCachedHierarchy != null && declaring.equals(fCachedHierarchy.getType()))
 			return fCachedHierarchy;
-		fCachedHierarchy= declaring.newTypeHierarchy(Progress.subMonitor(monitor, 1));
+		fCachedHierarchy= getHierarchySession().getTypeHierarchy(declaring, Progress.subMonitor(monitor, 1));
 		return fCachedHierarchy;
 	}
 
+	/**
+	 * Shares the type hierarchies and ripple methods computed by this processor with other
+	 * refactorings using the same session. The session is not ended by this processor.
+	 *
+	 * @param session the session, or <code>null</code> to use a private session
+	 */
+	public void setHierarchySession(HierarchySession session) {
+		fHierarchySession= session;
+		fSharedHierarchySession= session != null;
+	}
+
+	@Override
+	protected HierarchySession getHierarchySession() {
+		if (fHierarchySession == null || fHierarchySession.isEnded()) {
+			fHierarchySession= new HierarchySession();
+			fSharedHierarchySession= false;
+		}
+		return fHierarchySession;
+	}
+
+	private void endHierarchySession() {
+		if (fHierarchySession != null && !fSharedHierarchySession) {
+			fHierarchySession.end();
+			fHierarchySession= null;
+		}
+	}
+
 	public IMethod getOriginalMethod() {
 		return fOriginalMethod;
 	}
@@ -128,7 +157,7 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 
 				IMethod topmost= getMethod();
 				if (MethodChecks.isVirtual(topmost))
-					topmost= MethodChecks.getTopmostMethod(getMethod(), hierarchy, monitor);
+					topmost= MethodChecks.getTopmostMethod(getMethod(), hierarchy, getHierarchySession(), monitor);
 				if (topmost != null) {
 					initializeWithTopMostImplementation(topmost);
 				}
@@ -186,9 +215,10 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 					}
 				}
 			}
-			fCachedHierarchy= null;
 			return result;
 		} finally{
+			fCachedHierarchy= null;
+			endHierarchySession();
 			pm.done();
 		}
 	}
@@ -203,7 +233,8 @@ public class RenameVirtualMethodProcessor extends RenameMethodProcessor {
 			for (IType type : types) {
 				final IMethod found= Checks.findMethod(method, type);
 				final IType declaring= found.getDeclaringType();
-				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(Progress.subMonitor(pm, 1), declaring.newTypeHierarchy(Progress.subMonitor(pm, 1)), found, newName)));
+				ITypeHierarchy hierarchy= getHierarchySession().getTypeHierarchy(declaring, Progress.subMonitor(pm, 1));
+				result.addAll(Arrays.asList(hierarchyDeclaresMethodName(Progress.subMonitor(pm, 1), hierarchy, found, newName)));
 			}
 			return result.toArray(new IMethod[result.size()]);
 		} finally {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -62,6 +62,20 @@ public class JUnitPreferencesConstants {
 	 */
 	public static final String MAX_TEST_RUNS= JUnitCorePlugin.PLUGIN_ID + ".max_test_runs"; //$NON-NLS-1$
 
+	/**
+	 * Boolean preference controlling whether the test runtime is offered to send its messages in
+	 * binary frames instead of lines of text. Runtimes that do not support the framed protocol
+	 * still send text.
+	 */
+	public static final String FRAMED_PROTOCOL= JUnitCorePlugin.PLUGIN_ID + ".framed_protocol"; //$NON-NLS-1$
+
+	/**
+	 * Boolean preference controlling whether the tests of a launch run in the order suggested by
+	 * the outcomes and durations of past runs, so that likely failures and fast tests run first.
+	 * Off by default, since it changes the order of tests that do not declare one.
+	 */
+	public static final String PRIORITIZE_BY_HISTORY= JUnitCorePlugin.PLUGIN_ID + ".prioritize_by_history"; //$NON-NLS-1$
+
 	/**
 	 * Javadoc location for JUnit 3
 	 */
@@ -217,6 +231,14 @@ public class JUnitPreferencesConstants {
 		return Platform.getPreferencesService().getBoolean(JUnitCorePlugin.CORE_PLUGIN_ID, DO_FILTER_STACK, true, null);
 	}
 
+	public static boolean getFramedProtocol() {
+		return Platform.getPreferencesService().getBoolean(JUnitCorePlugin.CORE_PLUGIN_ID, FRAMED_PROTOCOL, true, null);
+	}
+
+	public static boolean getPrioritizeByHistory() {
+		return Platform.getPreferencesService().getBoolean(JUnitCorePlugin.CORE_PLUGIN_ID, PRIORITIZE_BY_HISTORY, false, null);
+	}
+
 	public static void setFilterStack(boolean filter) {
 		InstanceScope.INSTANCE.getNode(JUnitCorePlugin.CORE_PLUGIN_ID).putBoolean(DO_FILTER_STACK, filter);
 	}
@@ -0,0 +1,65 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IType;
+
+/**
+ * A test finder that answers the tests in projects, source folders and packages from the
+ * {@link TestContainerIndex} and searches with the finder of its test kind only if the container is
+ * not indexed.
+ */
+class IndexedTestFinder implements ITestFinder {
+
+	private final String fKindId;
+
+	private final ITestFinder fFinder;
+
+	IndexedTestFinder(String kindId, ITestFinder finder) {
+		fKindId= kindId;
+		fFinder= finder;
+	}
+
+	@Override
+	public void findTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
+		TestContainerIndex index= TestContainerIndex.getDefault();
+		if (index == null || element == null || result == null || !TestContainerIndex.isIndexed(element)) {
+			fFinder.findTestsInContainer(element, result, pm);
+			return;
+		}
+		IType[] tests= index.getTests(fKindId, element, fFinder, pm);
+		if (tests != null) {
+			Collections.addAll(result, tests);
+			return;
+		}
+		int generation= index.getGeneration(element);
+		Set<IType> found= new HashSet<>();
+		fFinder.findTestsInContainer(element, found, pm);
+		index.putTests(fKindId, element, found, generation);
+		result.addAll(found);
+	}
+
+	@Override
+	public boolean isTest(IType type) throws CoreException {
+		return fFinder.isTest(type);
+	}
+}
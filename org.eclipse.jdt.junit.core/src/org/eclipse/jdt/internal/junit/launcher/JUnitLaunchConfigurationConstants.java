@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -42,6 +42,18 @@ public class JUnitLaunchConfigurationConstants {
 
 	public static final String ATTR_PORT= JUnitCorePlugin.PLUGIN_ID+".PORT"; //$NON-NLS-1$
 
+	/**
+	 * The comma-separated ports of the test runners of a sharded launch, set on the launch. The first
+	 * one is also the {@link #ATTR_PORT}.
+	 */
+	public static final String ATTR_SHARD_PORTS= JUnitCorePlugin.PLUGIN_ID + ".SHARD_PORTS"; //$NON-NLS-1$
+
+	/**
+	 * The number of VMs the test classes of a JUnit 5 launch in run mode are distributed to, or 1 to
+	 * run all test classes in one VM.
+	 */
+	public static final String ATTR_SHARD_COUNT= JUnitCorePlugin.PLUGIN_ID + ".SHARD_COUNT"; //$NON-NLS-1$
+
 	public static final String ATTR_DONT_ADD_MISSING_JUNIT5_DEPENDENCY= JUnitCorePlugin.PLUGIN_ID + ".DONT_ADD_MISSING_JUNIT5_DEPENDENCY"; //$NON-NLS-1$
 
 	/**
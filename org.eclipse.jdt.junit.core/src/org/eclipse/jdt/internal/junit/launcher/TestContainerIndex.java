@@ -0,0 +1,615 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.ElementChangedEvent;
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+
+/**
+ * Remembers the tests found in projects, source folders and packages, per test kind, so that
+ * running the tests of an unchanged container does not search again.
+ * <p>
+ * A Java element delta that may change which types are tests marks the compilation unit as changed:
+ * added compilation units and types, changed supertypes, modifiers or annotations, added or removed
+ * methods and imports. Before the entries of a test kind are used again, the changed compilation
+ * units and the compilation units of the subtypes of their types are searched, and the entries of
+ * the containers that contain them are patched. Subtypes are searched in the projects that require
+ * the changed project as well. Changes of method bodies keep the entries.
+ * </p>
+ * <p>
+ * The entries of a project, and of the projects that require it, are dropped on changes that cannot
+ * be patched: removed compilation units and types, whose subtypes are no longer known, added or
+ * removed packages, changes of the class path or of libraries.
+ * </p>
+ * <p>
+ * The entries are stored in the state location of the plug-in when the plug-in stops, together with
+ * a fingerprint of the source files and libraries of the project. Stored entries are used in a later
+ * session only if the fingerprint is unchanged. The index is disabled with the system property
+ * <code>org.eclipse.jdt.junit.disableTestIndex</code>.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class TestContainerIndex implements IElementChangedListener {
+
+	private static final boolean ENABLED= !Boolean.getBoolean("org.eclipse.jdt.junit.disableTestIndex"); //$NON-NLS-1$
+
+	private static final String INDEX_DIR_NAME= "testIndex"; //$NON-NLS-1$
+
+	private static final int FILE_MAGIC= 0x54434931; // "TCI1"
+
+	/**
+	 * Flags of a changed member that may change whether its type is a test.
+	 */
+	private static final int STRUCTURAL_FLAGS= IJavaElementDelta.F_MODIFIERS | IJavaElementDelta.F_SUPER_TYPES | IJavaElementDelta.F_ANNOTATIONS;
+
+	private static final int CLASSPATH_FLAGS= IJavaElementDelta.F_CLASSPATH_CHANGED | IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_CLOSED | IJavaElementDelta.F_OPENED;
+
+	private static final int ROOT_FLAGS= IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED | IJavaElementDelta.F_ADDED_TO_CLASSPATH | IJavaElementDelta.F_REMOVED_FROM_CLASSPATH | IJavaElementDelta.F_REORDER;
+
+	private static final int NO_CHANGE= 0;
+
+	private static final int UNIT_CHANGE= 1;
+
+	private static final int PROJECT_CHANGE= 2;
+
+	private static class ProjectIndex {
+		/**
+		 * Maps the test kind and the handle of a container to the handles of its tests.
+		 */
+		final Map<String, String[]> fEntries= new HashMap<>();
+
+		/**
+		 * Maps the test kind to the handles of the compilation units changed since its entries were
+		 * patched, and the number of the last change of each.
+		 */
+		final Map<String, Map<String, Long>> fChangedUnits= new HashMap<>();
+
+		/**
+		 * Incremented whenever the entries are dropped.
+		 */
+		int fDropCount;
+
+		/**
+		 * Incremented whenever the entries are dropped or compilation units are marked as changed.
+		 */
+		int fGeneration;
+	}
+
+	private static TestContainerIndex fgDefault;
+
+	private final Map<String, ProjectIndex> fProjects= new HashMap<>();
+
+	/**
+	 * Incremented for every delta that changes the index. Guarded by this.
+	 */
+	private long fChangeCount;
+
+	private TestContainerIndex() {
+	}
+
+	/**
+	 * @return the index, or <code>null</code> if the index is disabled
+	 */
+	public static synchronized TestContainerIndex getDefault() {
+		if (!ENABLED)
+			return null;
+		if (fgDefault == null) {
+			fgDefault= new TestContainerIndex();
+			JavaCore.addElementChangedListener(fgDefault);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Stores the index and stops listening to changes.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault == null)
+			return;
+		JavaCore.removeElementChangedListener(fgDefault);
+		fgDefault.save();
+		fgDefault= null;
+	}
+
+	/**
+	 * @param element a Java element
+	 * @return <code>true</code> if the tests in the element are indexed
+	 */
+	public static boolean isIndexed(IJavaElement element) {
+		switch (element.getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+			case IJavaElement.PACKAGE_FRAGMENT:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Returns the tests in a container. The entries of the test kind are patched first if
+	 * compilation units have changed since.
+	 *
+	 * @param kindId the id of the test kind
+	 * @param container the container
+	 * @param finder the finder of the test kind, to search the changed compilation units
+	 * @param pm the progress monitor
+	 * @return the tests in the container, or <code>null</code> if not known
+	 */
+	public IType[] getTests(String kindId, IJavaElement container, ITestFinder finder, IProgressMonitor pm) {
+		IJavaProject project= container.getJavaProject();
+		ProjectIndex index= getProjectIndex(project);
+		String key= getKey(kindId, container);
+		Map<String, Long> changedUnits;
+		int dropCount;
+		synchronized (this) {
+			String[] handles= index.fEntries.get(key);
+			if (handles == null)
+				return null;
+			changedUnits= index.fChangedUnits.get(kindId);
+			if (changedUnits == null || changedUnits.isEmpty())
+				return toTypes(handles);
+			changedUnits= new HashMap<>(changedUnits);
+			dropCount= index.fDropCount;
+		}
+
+		// search without holding the lock, the result is dropped if the entries are dropped meanwhile
+		Map<String, String[]> unitTests;
+		try {
+			unitTests= searchUnits(project, changedUnits.keySet(), finder, pm);
+		} catch (CoreException e) {
+			unitTests= null;
+		}
+
+		synchronized (this) {
+			if (index.fDropCount != dropCount)
+				return null;
+			if (unitTests == null) {
+				String prefix= kindId + '\n';
+				index.fEntries.keySet().removeIf(entryKey -> entryKey.startsWith(prefix));
+				index.fChangedUnits.remove(kindId);
+				return null;
+			}
+			patch(index, kindId, unitTests);
+			Map<String, Long> pending= index.fChangedUnits.get(kindId);
+			for (Map.Entry<String, Long> unit : changedUnits.entrySet()) {
+				// a unit that changed again during the search stays
+				if (pending != null)
+					pending.remove(unit.getKey(), unit.getValue());
+			}
+			String[] handles= index.fEntries.get(key);
+			return handles != null ? toTypes(handles) : null;
+		}
+	}
+
+	/**
+	 * Searches the tests in the given compilation units of the project, and in the compilation units
+	 * of the project that declare subtypes of their types.
+	 *
+	 * @param project the project
+	 * @param unitHandles the handles of the changed compilation units
+	 * @param finder the finder of the test kind
+	 * @param pm the progress monitor
+	 * @return the handles of the tests, by the handle of the compilation unit
+	 * @throws CoreException if the compilation units cannot be searched
+	 */
+	private static Map<String, String[]> searchUnits(IJavaProject project, Set<String> unitHandles, ITestFinder finder, IProgressMonitor pm) throws CoreException {
+		Set<ICompilationUnit> units= new HashSet<>();
+		for (String handle : unitHandles) {
+			if (!(JavaCore.create(handle) instanceof ICompilationUnit unit))
+				continue;
+			if (project.equals(unit.getJavaProject()))
+				units.add(unit);
+			if (!unit.exists())
+				continue;
+			for (IType type : unit.getAllTypes()) {
+				if (Flags.isFinal(type.getFlags()))
+					continue;
+				for (IType subtype : type.newTypeHierarchy(project, pm).getAllSubtypes(type)) {
+					ICompilationUnit subtypeUnit= subtype.getCompilationUnit();
+					if (subtypeUnit != null && project.equals(subtypeUnit.getJavaProject()))
+						units.add(subtypeUnit);
+				}
+			}
+		}
+		Map<String, String[]> unitTests= new HashMap<>();
+		for (ICompilationUnit unit : units) {
+			Set<IType> tests= new HashSet<>();
+			if (unit.exists())
+				finder.findTestsInContainer(unit, tests, pm);
+			String[] handles= new String[tests.size()];
+			int i= 0;
+			for (IType type : tests) {
+				handles[i++]= type.getHandleIdentifier();
+			}
+			unitTests.put(unit.getHandleIdentifier(), handles);
+		}
+		return unitTests;
+	}
+
+	/**
+	 * Replaces the tests of the given compilation units in the entries of the containers that
+	 * contain them. Must be called while holding this.
+	 *
+	 * @param index the index of the project
+	 * @param kindId the id of the test kind
+	 * @param unitTests the handles of the tests, by the handle of the compilation unit
+	 */
+	private static void patch(ProjectIndex index, String kindId, Map<String, String[]> unitTests) {
+		String prefix= kindId + '\n';
+		for (Map.Entry<String, String[]> entry : index.fEntries.entrySet()) {
+			if (!entry.getKey().startsWith(prefix))
+				continue;
+			String containerHandle= entry.getKey().substring(prefix.length());
+			Set<String> tests= null;
+			for (Map.Entry<String, String[]> unit : unitTests.entrySet()) {
+				if (!isInContainer(unit.getKey(), containerHandle))
+					continue;
+				if (tests == null)
+					tests= new LinkedHashSet<>(Arrays.asList(entry.getValue()));
+				String typePrefix= unit.getKey() + '[';
+				tests.removeIf(handle -> handle.startsWith(typePrefix));
+				tests.addAll(Arrays.asList(unit.getValue()));
+			}
+			if (tests != null)
+				entry.setValue(tests.toArray(new String[tests.size()]));
+		}
+	}
+
+	private static boolean isInContainer(String unitHandle, String containerHandle) {
+		IJavaElement element= JavaCore.create(unitHandle);
+		for (int type : new int[] { IJavaElement.PACKAGE_FRAGMENT, IJavaElement.PACKAGE_FRAGMENT_ROOT, IJavaElement.JAVA_PROJECT }) {
+			IJavaElement ancestor= element.getAncestor(type);
+			if (ancestor != null && ancestor.getHandleIdentifier().equals(containerHandle))
+				return true;
+		}
+		return false;
+	}
+
+	private static IType[] toTypes(String[] handles) {
+		List<IType> tests= new ArrayList<>(handles.length);
+		for (String handle : handles) {
+			if (JavaCore.create(handle) instanceof IType type)
+				tests.add(type);
+		}
+		return tests.toArray(new IType[tests.size()]);
+	}
+
+	/**
+	 * Returns the generation of the index of the container's project, to be passed to
+	 * {@link #putTests(String, IJavaElement, Set, int)} after searching.
+	 *
+	 * @param container the container
+	 * @return the generation
+	 */
+	public int getGeneration(IJavaElement container) {
+		ProjectIndex index= getProjectIndex(container.getJavaProject());
+		synchronized (this) {
+			return index.fGeneration;
+		}
+	}
+
+	/**
+	 * Remembers the tests in a container, unless the index has been changed since the search began.
+	 *
+	 * @param kindId the id of the test kind
+	 * @param container the container
+	 * @param tests the tests found in the container
+	 * @param generation the generation when the search began
+	 */
+	public void putTests(String kindId, IJavaElement container, Set<IType> tests, int generation) {
+		ProjectIndex index= getProjectIndex(container.getJavaProject());
+		String[] handles= new String[tests.size()];
+		int i= 0;
+		for (IType type : tests) {
+			handles[i++]= type.getHandleIdentifier();
+		}
+		synchronized (this) {
+			if (index.fGeneration != generation)
+				return;
+			index.fEntries.put(getKey(kindId, container), handles);
+		}
+	}
+
+	private static String getKey(String kindId, IJavaElement container) {
+		return kindId + '\n' + container.getHandleIdentifier();
+	}
+
+	private ProjectIndex getProjectIndex(IJavaProject project) {
+		String name= project.getElementName();
+		long changeCount;
+		synchronized (this) {
+			ProjectIndex index= fProjects.get(name);
+			if (index != null)
+				return index;
+			changeCount= fChangeCount;
+		}
+		// computes the fingerprint without holding the lock
+		ProjectIndex loaded= load(project);
+		synchronized (this) {
+			ProjectIndex index= fProjects.get(name);
+			if (index == null) {
+				if (fChangeCount != changeCount)
+					loaded.fEntries.clear(); // a change may not be covered by the fingerprint
+				index= loaded;
+				fProjects.put(name, index);
+			}
+			return index;
+		}
+	}
+
+	@Override
+	public void elementChanged(ElementChangedEvent event) {
+		Set<String> droppedProjects= new HashSet<>();
+		Map<String, Set<String>> changedUnits= new HashMap<>();
+		collectChanges(event.getDelta(), droppedProjects, changedUnits);
+		if (droppedProjects.isEmpty() && changedUnits.isEmpty())
+			return;
+		synchronized (this) {
+			fChangeCount++;
+			IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+			for (Map.Entry<String, ProjectIndex> entry : fProjects.entrySet()) {
+				ProjectIndex index= entry.getValue();
+				Set<String> projects= new HashSet<>();
+				projects.add(entry.getKey());
+				try {
+					projects.addAll(Arrays.asList(JavaCore.create(root.getProject(entry.getKey())).getRequiredProjectNames()));
+				} catch (JavaModelException e) {
+					projects= null;
+				}
+				if (projects == null || !Collections.disjoint(projects, droppedProjects)) {
+					index.fEntries.clear();
+					index.fChangedUnits.clear();
+					index.fDropCount++;
+					index.fGeneration++;
+					continue;
+				}
+				for (String project : projects) {
+					Set<String> units= changedUnits.get(project);
+					if (units != null) {
+						markChanged(index, units);
+						index.fGeneration++; // a running search may not see the change
+					}
+				}
+			}
+		}
+	}
+
+	private void markChanged(ProjectIndex index, Set<String> units) {
+		for (String key : index.fEntries.keySet()) {
+			String kindId= key.substring(0, key.indexOf('\n'));
+			Map<String, Long> changed= index.fChangedUnits.computeIfAbsent(kindId, k -> new HashMap<>());
+			for (String unit : units) {
+				changed.put(unit, Long.valueOf(fChangeCount));
+			}
+		}
+	}
+
+	private static void collectChanges(IJavaElementDelta delta, Set<String> droppedProjects, Map<String, Set<String>> changedUnits) {
+		IJavaElement element= delta.getElement();
+		if (element.getElementType() != IJavaElement.JAVA_MODEL) {
+			IJavaProject project= element.getJavaProject();
+			if (project == null || droppedProjects.contains(project.getElementName()))
+				return;
+			if (element instanceof ICompilationUnit cu && cu.getOwner() != null)
+				return; // not the primary compilation unit
+			switch (getChange(delta)) {
+				case PROJECT_CHANGE:
+					droppedProjects.add(project.getElementName());
+					changedUnits.remove(project.getElementName());
+					return;
+				case UNIT_CHANGE:
+					IJavaElement unit= element.getAncestor(IJavaElement.COMPILATION_UNIT);
+					if (unit != null) {
+						changedUnits.computeIfAbsent(project.getElementName(), k -> new HashSet<>()).add(unit.getHandleIdentifier());
+					} else {
+						droppedProjects.add(project.getElementName());
+						changedUnits.remove(project.getElementName());
+					}
+					return;
+				default:
+					break;
+			}
+		}
+		for (IJavaElementDelta child : delta.getAffectedChildren()) {
+			collectChanges(child, droppedProjects, changedUnits);
+		}
+	}
+
+	/**
+	 * @param delta the delta of an element below the Java model
+	 * @return {@link #PROJECT_CHANGE} if the entries of the project must be dropped,
+	 *         {@link #UNIT_CHANGE} if the compilation unit of the element must be searched again,
+	 *         {@link #NO_CHANGE} if only the children of the delta may change the index
+	 */
+	private static int getChange(IJavaElementDelta delta) {
+		int flags= delta.getFlags();
+		int kind= delta.getKind();
+		boolean isChanged= kind == IJavaElementDelta.CHANGED;
+		switch (delta.getElement().getElementType()) {
+			case IJavaElement.JAVA_PROJECT:
+				return !isChanged || (flags & CLASSPATH_FLAGS) != 0 ? PROJECT_CHANGE : NO_CHANGE;
+			case IJavaElement.PACKAGE_FRAGMENT_ROOT:
+				return !isChanged || (flags & ROOT_FLAGS) != 0 ? PROJECT_CHANGE : NO_CHANGE;
+			case IJavaElement.PACKAGE_FRAGMENT:
+				return !isChanged ? PROJECT_CHANGE : NO_CHANGE;
+			case IJavaElement.CLASS_FILE:
+				return PROJECT_CHANGE;
+			case IJavaElement.COMPILATION_UNIT:
+				if (kind == IJavaElementDelta.REMOVED)
+					return PROJECT_CHANGE;
+				if (kind == IJavaElementDelta.ADDED)
+					return UNIT_CHANGE;
+				// a content change without details, e.g. from a file changed on disk
+				return (flags & IJavaElementDelta.F_CONTENT) != 0 && (flags & IJavaElementDelta.F_FINE_GRAINED) == 0 ? UNIT_CHANGE : NO_CHANGE;
+			case IJavaElement.TYPE:
+				if (kind == IJavaElementDelta.REMOVED)
+					return PROJECT_CHANGE;
+				return !isChanged || (flags & STRUCTURAL_FLAGS) != 0 ? UNIT_CHANGE : NO_CHANGE;
+			default:
+				// members, imports and annotations
+				return !isChanged || (flags & STRUCTURAL_FLAGS) != 0 ? UNIT_CHANGE : NO_CHANGE;
+		}
+	}
+
+	private static File getIndexFile(IJavaProject project) {
+		File dir= JUnitCorePlugin.getDefault().getStateLocation().append(INDEX_DIR_NAME).toFile();
+		if (!dir.isDirectory())
+			dir.mkdir();
+		return new File(dir, project.getElementName() + ".dat"); //$NON-NLS-1$
+	}
+
+	private static ProjectIndex load(IJavaProject project) {
+		ProjectIndex index= new ProjectIndex();
+		File file;
+		try {
+			file= getIndexFile(project);
+		} catch (IllegalStateException e) {
+			return index; // no state location
+		}
+		if (!file.isFile())
+			return index;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != FILE_MAGIC || in.readLong() != computeFingerprint(project))
+				return index;
+			int size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				String key= in.readUTF();
+				String[] handles= new String[in.readInt()];
+				for (int j= 0; j < handles.length; j++) {
+					handles[j]= in.readUTF();
+				}
+				index.fEntries.put(key, handles);
+			}
+		} catch (IOException | CoreException e) {
+			index.fEntries.clear();
+		}
+		return index;
+	}
+
+	private synchronized void save() {
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		for (Map.Entry<String, ProjectIndex> entry : fProjects.entrySet()) {
+			IJavaProject project= JavaCore.create(root.getProject(entry.getKey()));
+			try {
+				File file= getIndexFile(project);
+				if (entry.getValue().fEntries.isEmpty() || !project.exists()) {
+					file.delete();
+					continue;
+				}
+				File temp= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+				try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+					out.writeInt(FILE_MAGIC);
+					out.writeLong(computeFingerprint(project));
+					out.writeInt(entry.getValue().fEntries.size());
+					for (Map.Entry<String, String[]> tests : entry.getValue().fEntries.entrySet()) {
+						out.writeUTF(tests.getKey());
+						out.writeInt(tests.getValue().length);
+						for (String handle : tests.getValue()) {
+							out.writeUTF(handle);
+						}
+					}
+				}
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			} catch (IOException | CoreException e) {
+				JUnitCorePlugin.log(e);
+			} catch (IllegalStateException e) {
+				return; // no state location
+			}
+		}
+	}
+
+	/**
+	 * Computes a fingerprint of the sources and libraries a project's tests depend on: the resolved
+	 * class path, the modification stamps of the Java files in the source folders of the project and
+	 * of the projects it requires, and the time stamps of the libraries.
+	 *
+	 * @param project the project
+	 * @return the fingerprint
+	 * @throws CoreException if the class path cannot be resolved or a folder cannot be visited
+	 */
+	private static long computeFingerprint(IJavaProject project) throws CoreException {
+		IWorkspaceRoot root= ResourcesPlugin.getWorkspace().getRoot();
+		long[] hash= { 17 };
+		for (IClasspathEntry entry : project.getResolvedClasspath(true)) {
+			hash[0]= hash[0] * 31 + entry.getPath().hashCode();
+			if (entry.getEntryKind() == IClasspathEntry.CPE_PROJECT) {
+				IJavaProject required= JavaCore.create(root.getProject(entry.getPath().lastSegment()));
+				if (required.exists()) {
+					for (IClasspathEntry requiredEntry : required.getRawClasspath()) {
+						if (requiredEntry.getEntryKind() == IClasspathEntry.CPE_SOURCE)
+							hash[0]= hash[0] * 31 + fingerprint(root.findMember(requiredEntry.getPath()));
+					}
+				}
+			} else if (entry.getEntryKind() == IClasspathEntry.CPE_SOURCE) {
+				hash[0]= hash[0] * 31 + fingerprint(root.findMember(entry.getPath()));
+			} else {
+				IResource library= root.findMember(entry.getPath());
+				File file= library != null && library.getLocation() != null ? library.getLocation().toFile() : entry.getPath().toFile();
+				hash[0]= hash[0] * 31 + file.lastModified();
+			}
+		}
+		return hash[0];
+	}
+
+	private static long fingerprint(IResource folder) throws CoreException {
+		if (folder == null)
+			return 0;
+		long[] hash= { 0 };
+		folder.accept(proxy -> {
+			if (proxy.getType() == IResource.FILE && proxy.getName().endsWith(".java")) //$NON-NLS-1$
+				hash[0]= hash[0] * 31 + proxy.requestFullPath().hashCode() * 17L + proxy.getModificationStamp();
+			return true;
+		}, IResource.NONE);
+		return hash[0];
+	}
+}
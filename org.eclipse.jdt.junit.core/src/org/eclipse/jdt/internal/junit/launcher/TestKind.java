@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2009 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,7 +39,7 @@ public class TestKind implements ITestKind {
 	public ITestFinder getFinder() {
 		if (fFinder == null) {
 			try {
-				fFinder= (ITestFinder) fElement.createExecutableExtension(FINDER_CLASS_NAME);
+				fFinder= new IndexedTestFinder(getId(), (ITestFinder) fElement.createExecutableExtension(FINDER_CLASS_NAME));
 			} catch (CoreException e1) {
 				JUnitCorePlugin.log(e1);
 				fFinder= ITestFinder.NULL;
@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.launcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.junit.model.TestRunHistory;
+
+/**
+ * Distributes the test classes of a launch to the VMs of a sharded launch.
+ */
+public final class TestShards {
+
+	private TestShards() {
+	}
+
+	/**
+	 * Partitions test classes into shards of about equal duration. The durations are taken from
+	 * the {@link TestRunHistory}; classes that have not been run before are assumed to take the
+	 * average time of the known classes. The longest classes are distributed first, each to the
+	 * shard with the least total duration so far.
+	 *
+	 * @param project the project of the test classes
+	 * @param types the test classes
+	 * @param shardCount the maximum number of shards
+	 * @return the non-empty shards, each with its classes in the given order
+	 */
+	public static List<IType[]> partition(IJavaProject project, IType[] types, int shardCount) {
+		TestRunHistory history= TestRunHistory.getDefault();
+		double[] durations= new double[types.length];
+		double knownDuration= 0;
+		int known= 0;
+		for (int i= 0; i < types.length; i++) {
+			durations[i]= history.getDuration(project, types[i].getFullyQualifiedName());
+			if (!Double.isNaN(durations[i])) {
+				knownDuration+= durations[i];
+				known++;
+			}
+		}
+		double defaultDuration= known > 0 ? knownDuration / known : 1;
+		for (int i= 0; i < durations.length; i++) {
+			if (Double.isNaN(durations[i]))
+				durations[i]= defaultDuration;
+		}
+		int[] assignment= partition(durations, shardCount);
+
+		List<IType[]> shards= new ArrayList<>(shardCount);
+		for (int shard= 0; shard < shardCount; shard++) {
+			List<IType> shardTypes= new ArrayList<>();
+			for (int i= 0; i < types.length; i++) {
+				if (assignment[i] == shard)
+					shardTypes.add(types[i]);
+			}
+			if (!shardTypes.isEmpty())
+				shards.add(shardTypes.toArray(new IType[shardTypes.size()]));
+		}
+		return shards;
+	}
+
+	/**
+	 * @param durations the durations of the items
+	 * @param shardCount the number of shards
+	 * @return the shard of each item
+	 */
+	public static int[] partition(double[] durations, int shardCount) {
+		Integer[] order= new Integer[durations.length];
+		for (int i= 0; i < order.length; i++) {
+			order[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(order, Comparator.comparingDouble((Integer i) -> durations[i.intValue()]).reversed());
+
+		double[] loads= new double[shardCount];
+		int[] assignment= new int[durations.length];
+		for (Integer item : order) {
+			int lightest= 0;
+			for (int shard= 1; shard < shardCount; shard++) {
+				if (loads[shard] < loads[lightest])
+					lightest= shard;
+			}
+			assignment[item.intValue()]= lightest;
+			loads[lightest]+= durations[item.intValue()];
+		}
+		return assignment;
+	}
+}
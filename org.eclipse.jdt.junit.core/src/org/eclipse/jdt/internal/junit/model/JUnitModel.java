@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2016 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
@@ -126,16 +127,22 @@ public final class JUnitModel {
 			if (portStr == null)
 				return;
 			try {
-				final int port= Integer.parseInt(portStr);
+				int[] ports;
+				String shardPortsStr= launch.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS);
+				if (shardPortsStr != null) {
+					ports= Arrays.stream(shardPortsStr.split(",")).mapToInt(Integer::parseInt).toArray(); //$NON-NLS-1$
+				} else {
+					ports= new int[] { Integer.parseInt(portStr) };
+				}
 				fTrackedLaunches.remove(launch);
-				connectTestRunner(launch, javaProject, port);
+				connectTestRunner(launch, javaProject, ports);
 			} catch (NumberFormatException e) {
 				return;
 			}
 		}
 
-		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int port) {
-			TestRunSession testRunSession= new TestRunSession(launch, javaProject, port);
+		private void connectTestRunner(ILaunch launch, IJavaProject javaProject, int[] ports) {
+			TestRunSession testRunSession= new TestRunSession(launch, javaProject, ports);
 			addTestRunSession(testRunSession);
 
 			for (TestRunListener listener : JUnitCorePlugin.getDefault().getNewTestRunListeners()) {
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,8 +15,10 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.junit.model;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -30,6 +32,7 @@ import org.eclipse.core.runtime.ISafeRunnable;
 import org.eclipse.core.runtime.SafeRunner;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.runner.FramedMessageReader;
 import org.eclipse.jdt.internal.junit.runner.MessageIds;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
 
@@ -237,6 +240,11 @@ public class RemoteTestRunnerClient {
 	private int fPort= -1;
 	private PrintWriter fWriter;
 	private PushbackReader fPushbackReader;
+	/**
+	 * Reader for a runner that sends binary frames, see
+	 * {@link org.eclipse.jdt.internal.junit.runner.FramedMessageSender}
+	 */
+	private FramedMessageReader fFramedReader;
 	private String fLastLineDelimiter;
 	/**
 	 * The protocol version
@@ -275,11 +283,20 @@ public class RemoteTestRunnerClient {
 					System.out.println("Creating server socket "+fServerPort); //$NON-NLS-1$
 				fServerSocket= new ServerSocket(fServerPort);
 				fSocket= fServerSocket.accept();
-				fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(fSocket.getInputStream(), StandardCharsets.UTF_8)));
+				InputStream in= new BufferedInputStream(fSocket.getInputStream());
 				fWriter= new PrintWriter(new OutputStreamWriter(fSocket.getOutputStream(), StandardCharsets.UTF_8), true);
 				String message;
-				while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
-					receiveMessage(message);
+				// runtimes that do not know the framed protocol ignore the offer and send text
+				if (FramedMessageReader.isFramed(in)) {
+					fFramedReader= new FramedMessageReader(in);
+					fLastLineDelimiter= fFramedReader.getLineSeparator();
+					while (fFramedReader != null && (message= fFramedReader.readMessage()) != null)
+						receiveMessage(message);
+				} else {
+					fPushbackReader= new PushbackReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+					while(fPushbackReader != null && (message= readMessage(fPushbackReader)) != null)
+						receiveMessage(message);
+				}
 			} catch (SocketException e) {
 				notifyTestRunTerminated();
 			} catch (IOException e) {
@@ -328,6 +345,7 @@ public class RemoteTestRunnerClient {
 			fWriter.close();
 			fWriter= null;
 		}
+		fFramedReader= null;
 		try {
 			if (fPushbackReader != null) {
 				fPushbackReader.close();
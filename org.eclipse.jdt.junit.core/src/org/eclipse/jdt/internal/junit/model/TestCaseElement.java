@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -39,7 +39,10 @@ public class TestCaseElement extends TestElement implements ITestCaseElement {
 	 */
 	@Override
 	public String getTestMethodName() {
-		String testName= getTestName();
+		String testName= getTestNameWithoutClass();
+		if (testName != null)
+			return testName;
+		testName= getTestName();
 		int index= testName.lastIndexOf('(');
 		if (index > 0)
 			return testName.substring(0, index);
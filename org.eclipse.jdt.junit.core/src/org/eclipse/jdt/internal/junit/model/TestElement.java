@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2017 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -166,13 +166,32 @@ public abstract class TestElement implements ITestElement {
 
 	}
 
+	/**
+	 * Returned by {@link #parseNumericId(String)} for ids that are not decimal numbers.
+	 */
+	static final long NO_NUMERIC_ID= Long.MIN_VALUE;
+
 	private final TestSuiteElement fParent;
+	/**
+	 * The test id if it is a decimal number, see {@link #fId}.
+	 */
+	private final int fNumericId;
+	/**
+	 * The test id, or <code>null</code> if the id is the decimal number {@link #fNumericId}.
+	 */
 	private final String fId;
+
 	private String fTestName;
 
+	/**
+	 * The interned class name at the end of the test name in parentheses, or <code>null</code> if
+	 * the test name does not end with a class name.
+	 */
+	private String fClassPart;
+
 	/**
 	 * The display name of the test element, can be <code>null</code>. In that case, use
-	 * {@link TestElement#fTestName fTestName}.
+	 * {@link TestElement#getTestName() getTestName()}.
 	 */
 	private String fDisplayName;
 
@@ -185,12 +204,18 @@ public abstract class TestElement implements ITestElement {
 
 	/**
 	 * The unique ID of the test element which can be <code>null</code> as it is applicable to JUnit 5
-	 * and above.
+	 * and above. If {@link #fUniqueIdIsRelative}, the unique ID of the parent followed by '/' is
+	 * omitted. Only test cases have relative unique IDs, so that {@link #getUniqueId()} is answered
+	 * from the suite without walking up the tree.
 	 */
 	private String fUniqueId;
+	private boolean fUniqueIdIsRelative;
 
 	private Status fStatus;
-	private String fTrace;
+	/**
+	 * The failure trace as stored by {@link TestElementStore#storeTrace(String)}.
+	 */
+	private Object fTrace;
 	private String fExpected;
 	private String fActual;
 
@@ -222,14 +247,68 @@ public abstract class TestElement implements ITestElement {
 		Assert.isNotNull(id);
 		Assert.isNotNull(testName);
 		fParent= parent;
-		fId= id;
-		fTestName= testName;
-		fDisplayName= displayName;
-		fParameterTypes= parameterTypes;
-		fUniqueId= uniqueId;
+		long numericId= parseNumericId(id);
+		fNumericId= numericId != NO_NUMERIC_ID ? (int) numericId : 0;
+		fId= numericId != NO_NUMERIC_ID ? null : id;
 		fStatus= Status.NOT_RUN;
-		if (parent != null)
-			parent.addChild(this);
+		if (parent == null) { // the root
+			fTestName= testName;
+			fDisplayName= displayName;
+			fParameterTypes= parameterTypes;
+			fUniqueId= uniqueId;
+			return;
+		}
+		TestElementStore store= parent.getRoot().getStore();
+		setName(testName, store);
+		fDisplayName= store.intern(displayName);
+		fParameterTypes= store.intern(parameterTypes);
+		String parentUniqueId= parent.getUniqueId(); // suites keep absolute IDs
+		if (!(this instanceof TestSuiteElement) && uniqueId != null && parentUniqueId != null
+				&& uniqueId.length() > parentUniqueId.length() && uniqueId.charAt(parentUniqueId.length()) == '/' && uniqueId.startsWith(parentUniqueId)) {
+			fUniqueId= uniqueId.substring(parentUniqueId.length() + 1);
+			fUniqueIdIsRelative= true;
+		} else {
+			fUniqueId= uniqueId;
+		}
+		parent.addChild(this);
+	}
+
+	/**
+	 * @param id a test id
+	 * @return the id as an <code>int</code> if it is the canonical decimal representation of an
+	 *         <code>int</code>, otherwise {@link #NO_NUMERIC_ID}
+	 */
+	static long parseNumericId(String id) {
+		int length= id.length();
+		if (length == 0 || length > 11)
+			return NO_NUMERIC_ID;
+		boolean negative= id.charAt(0) == '-';
+		int start= negative ? 1 : 0;
+		if (start == length || (id.charAt(start) == '0' && length > start + 1))
+			return NO_NUMERIC_ID;
+		long value= 0;
+		for (int i= start; i < length; i++) {
+			char c= id.charAt(i);
+			if (c < '0' || c > '9')
+				return NO_NUMERIC_ID;
+			value= value * 10 + (c - '0');
+		}
+		if (negative)
+			value= -value;
+		if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE || (negative && value == 0))
+			return NO_NUMERIC_ID;
+		return value;
+	}
+
+	private void setName(String name, TestElementStore store) {
+		int index= name.lastIndexOf('(');
+		if (index > 0 && name.endsWith(")")) { //$NON-NLS-1$
+			fTestName= name;
+			fClassPart= store.intern(name.substring(index + 1, name.length() - 1));
+		} else {
+			fTestName= store.intern(name);
+			fClassPart= null;
+		}
 	}
 
 	@Override
@@ -263,7 +342,7 @@ public abstract class TestElement implements ITestElement {
 		Result testResult= getTestResult(false);
 		if (testResult == Result.ERROR || testResult == Result.FAILURE
 				|| (testResult == Result.IGNORED && fTrace != null)) {
-			return new FailureTrace(fTrace, fExpected, fActual);
+			return new FailureTrace(getTrace(), fExpected, fActual);
 		}
 		return null;
 	}
@@ -276,15 +355,26 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public String getId() {
-		return fId;
+		return fId != null ? fId : Integer.toString(fNumericId);
 	}
 
 	public String getTestName() {
 		return fTestName;
 	}
 
+	/**
+	 * @return the test name without the class name in parentheses, or <code>null</code> if the test
+	 *         name does not end with a class name
+	 */
+	String getTestNameWithoutClass() {
+		return fClassPart != null ? fTestName.substring(0, fTestName.length() - fClassPart.length() - 2) : null;
+	}
+
 	public void setName(String name) {
-		fTestName= name;
+		if (fParent == null)
+			fTestName= name;
+		else
+			setName(name, getRoot().getStore());
 	}
 
 	public void setStatus(Status status) {
@@ -304,11 +394,12 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public void setStatus(Status status, String trace, String expected, String actual) {
+		TestElementStore store= getRoot().getStore();
 		if (trace != null && fTrace != null) {
 			//don't overwrite first trace if same test run logs multiple errors
-			fTrace= fTrace + trace;
+			fTrace= store.storeTrace(store.getTrace(fTrace) + trace);
 		} else {
-			fTrace= trace;
+			fTrace= store.storeTrace(trace);
 			fExpected= expected;
 			fActual= actual;
 		}
@@ -320,7 +411,7 @@ public abstract class TestElement implements ITestElement {
 	}
 
 	public String getTrace() {
-		return fTrace;
+		return fTrace != null ? getRoot().getStore().getTrace(fTrace) : null;
 	}
 
 	public String getExpected() {
@@ -341,6 +432,8 @@ public abstract class TestElement implements ITestElement {
 	 * @see org.eclipse.jdt.internal.junit.runner.MessageIds#TEST_IDENTIFIER_MESSAGE_FORMAT
 	 */
 	public String getClassName() {
+		if (fClassPart != null)
+			return fClassPart.replace('$', '.'); // see bug 178503
 		return extractClassName(getTestName());
 	}
 
@@ -419,6 +512,8 @@ public abstract class TestElement implements ITestElement {
 	 * @return the unique ID of the test, can be <code>null</code>
 	 */
 	public String getUniqueId() {
+		if (fUniqueIdIsRelative)
+			return fParent.getUniqueId() + '/' + fUniqueId;
 		return fUniqueId;
 	}
 
@@ -0,0 +1,92 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps test ids to test elements. The test runners number their tests, so ids that are decimal
+ * numbers are kept in an open addressing table without a map entry or a key string per element;
+ * other ids are kept in a hash map.
+ * <p>
+ * This class is not thread safe.
+ * </p>
+ */
+public final class TestElementIndex {
+
+	private int[] fKeys= new int[64];
+
+	private TestElement[] fValues= new TestElement[64];
+
+	private int fSize;
+
+	private final Map<String, TestElement> fOthers= new HashMap<>();
+
+	public TestElement get(String id) {
+		long numericId= TestElement.parseNumericId(id);
+		if (numericId == TestElement.NO_NUMERIC_ID)
+			return fOthers.get(id);
+		int key= (int) numericId;
+		int mask= fKeys.length - 1;
+		for (int i= hash(key) & mask; fValues[i] != null; i= (i + 1) & mask) {
+			if (fKeys[i] == key)
+				return fValues[i];
+		}
+		return null;
+	}
+
+	public void put(String id, TestElement element) {
+		long numericId= TestElement.parseNumericId(id);
+		if (numericId == TestElement.NO_NUMERIC_ID) {
+			fOthers.put(id, element);
+			return;
+		}
+		if ((fSize + 1) * 4 > fKeys.length * 3)
+			rehash(fKeys.length * 2);
+		if (insert(fKeys, fValues, (int) numericId, element))
+			fSize++;
+	}
+
+	private static boolean insert(int[] keys, TestElement[] values, int key, TestElement value) {
+		int mask= keys.length - 1;
+		int i= hash(key) & mask;
+		while (values[i] != null) {
+			if (keys[i] == key) {
+				values[i]= value;
+				return false;
+			}
+			i= (i + 1) & mask;
+		}
+		keys[i]= key;
+		values[i]= value;
+		return true;
+	}
+
+	private void rehash(int capacity) {
+		int[] keys= new int[capacity];
+		TestElement[] values= new TestElement[capacity];
+		for (int i= 0; i < fValues.length; i++) {
+			if (fValues[i] != null)
+				insert(keys, values, fKeys[i], fValues[i]);
+		}
+		fKeys= keys;
+		fValues= values;
+	}
+
+	private static int hash(int key) {
+		int h= key * 0x9E3779B1;
+		return h ^ (h >>> 16);
+	}
+}
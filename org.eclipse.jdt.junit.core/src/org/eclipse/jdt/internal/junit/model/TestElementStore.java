@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+
+/**
+ * Shared storage of the strings of the test elements of one {@link TestRoot}.
+ * <p>
+ * Names and parameter types that recur across test elements, like class names and the display
+ * names of parameterized tests, are interned. Failure traces are stored as arrays of ids of interned
+ * lines, so that the stack frames shared by the failures of a run are kept only once. Traces of more
+ * than {@value #LARGE_TRACE} characters are kept in memory only until they add up to
+ * {@value #LARGE_TRACE_BUDGET} characters; later ones are spilled to a temporary file and read back
+ * when requested.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class TestElementStore {
+
+	public static final int LARGE_TRACE= 16 * 1024;
+
+	public static final long LARGE_TRACE_BUDGET= 4 * 1024 * 1024;
+
+	/**
+	 * A trace in the spill file.
+	 */
+	private record SpilledTrace(long offset, int length) {
+	}
+
+	private final Map<String, String> fStrings= new HashMap<>();
+
+	private final Map<List<String>, String[]> fStringArrays= new HashMap<>();
+
+	private final Map<String, Integer> fLineIds= new HashMap<>();
+
+	private final List<String> fLines= new ArrayList<>();
+
+	private long fLargeTraceChars;
+
+	private File fSpillFile;
+
+	private RandomAccessFile fSpill;
+
+	private boolean fDisposed;
+
+	/**
+	 * @param string a string, can be <code>null</code>
+	 * @return the shared string equal to <code>string</code>
+	 */
+	public synchronized String intern(String string) {
+		if (string == null)
+			return null;
+		String shared= fStrings.putIfAbsent(string, string);
+		return shared != null ? shared : string;
+	}
+
+	/**
+	 * @param strings an array that is not modified afterwards, can be <code>null</code>
+	 * @return the shared array equal to <code>strings</code>
+	 */
+	public synchronized String[] intern(String[] strings) {
+		if (strings == null)
+			return null;
+		String[] shared= fStringArrays.get(Arrays.asList(strings));
+		if (shared != null)
+			return shared;
+		for (int i= 0; i < strings.length; i++) {
+			strings[i]= intern(strings[i]);
+		}
+		fStringArrays.put(Arrays.asList(strings), strings);
+		return strings;
+	}
+
+	/**
+	 * @param trace a trace, can be <code>null</code>
+	 * @return a handle to be passed to {@link #getTrace(Object)}
+	 */
+	public synchronized Object storeTrace(String trace) {
+		if (trace == null)
+			return null;
+		if (trace.length() > LARGE_TRACE) {
+			if (fLargeTraceChars + trace.length() > LARGE_TRACE_BUDGET) {
+				SpilledTrace spilled= spill(trace);
+				if (spilled != null)
+					return spilled;
+			} else {
+				fLargeTraceChars+= trace.length();
+			}
+		}
+		String[] lines= trace.split("\n", -1); //$NON-NLS-1$
+		int[] ids= new int[lines.length];
+		for (int i= 0; i < lines.length; i++) {
+			Integer id= fLineIds.get(lines[i]);
+			if (id == null) {
+				id= Integer.valueOf(fLines.size());
+				fLines.add(lines[i]);
+				fLineIds.put(lines[i], id);
+			}
+			ids[i]= id.intValue();
+		}
+		return ids;
+	}
+
+	/**
+	 * @param handle a handle returned by {@link #storeTrace(String)}
+	 * @return the trace, or <code>null</code> if the handle is <code>null</code> or the trace has been
+	 *         spilled and cannot be read anymore
+	 */
+	public synchronized String getTrace(Object handle) {
+		if (handle instanceof int[] ids) {
+			StringBuilder trace= new StringBuilder(ids.length * 64);
+			for (int i= 0; i < ids.length; i++) {
+				if (i > 0)
+					trace.append('\n');
+				trace.append(fLines.get(ids[i]));
+			}
+			return trace.toString();
+		}
+		if (handle instanceof SpilledTrace spilled && fSpill != null) {
+			try {
+				byte[] bytes= new byte[spilled.length()];
+				fSpill.seek(spilled.offset());
+				fSpill.readFully(bytes);
+				return new String(bytes, StandardCharsets.UTF_8);
+			} catch (IOException e) {
+				JUnitCorePlugin.log(e);
+			}
+		}
+		return null;
+	}
+
+	private SpilledTrace spill(String trace) {
+		if (fDisposed)
+			return null;
+		try {
+			if (fSpill == null) {
+				fSpillFile= File.createTempFile("junitTraces", ".tmp"); //$NON-NLS-1$ //$NON-NLS-2$
+				fSpillFile.deleteOnExit();
+				fSpill= new RandomAccessFile(fSpillFile, "rw"); //$NON-NLS-1$
+			}
+			byte[] bytes= trace.getBytes(StandardCharsets.UTF_8);
+			long offset= fSpill.length();
+			fSpill.seek(offset);
+			fSpill.write(bytes);
+			return new SpilledTrace(offset, bytes.length);
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Deletes the spill file. Spilled traces cannot be read afterwards.
+	 */
+	public synchronized void dispose() {
+		fDisposed= true;
+		if (fSpill != null) {
+			try {
+				fSpill.close();
+			} catch (IOException e) {
+				// ignore
+			}
+			fSpill= null;
+			fSpillFile.delete();
+		}
+	}
+}
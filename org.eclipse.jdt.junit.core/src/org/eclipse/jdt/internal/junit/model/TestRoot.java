@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2017 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,11 +19,20 @@ public class TestRoot extends TestSuiteElement {
 
 	private final ITestRunSession fSession;
 
+	private final TestElementStore fStore= new TestElementStore();
+
 	public TestRoot(ITestRunSession session) {
 		super(null, "-1", session.getTestRunName(), 1, session.getTestRunName(), null, null); //$NON-NLS-1$
 		fSession= session;
 	}
 
+	/**
+	 * @return the storage of the strings of the elements in this tree
+	 */
+	public TestElementStore getStore() {
+		return fStore;
+	}
+
 	@Override
 	public TestRoot getRoot() {
 		return this;
@@ -0,0 +1,412 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.jdt.junit.model.ITestElement;
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+
+import org.eclipse.core.runtime.CoreException;
+
+import org.eclipse.debug.core.ILaunchConfiguration;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
+
+/**
+ * Durations of the test classes and outcomes of the tests of past test runs, per project.
+ * <p>
+ * The history is updated when a launched test run ends, and kept in the state location of the
+ * plug-in across sessions. The duration of a class is the sum of the elapsed times of its tests,
+ * including the tests of its nested classes, averaged over the recent runs that ran all of its
+ * tests. Runs of single tests, runs filtered by tags and stopped runs do not change the duration of
+ * the classes they ran only partially. Only the
+ * {@value #MAX_ENTRIES} most recently run classes and the {@value #MAX_TEST_ENTRIES} most recently
+ * run tests are kept.
+ * </p>
+ * <p>
+ * For each test, the history keeps moving averages of its duration, of how often it fails and of
+ * how often its outcome flips between passing and failing. These estimate the probability that
+ * the test fails in the next run, see {@link #getPrioritizedTestNames(IJavaProject)}.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class TestRunHistory {
+
+	private static final String FILE_NAME= "testHistory.dat"; //$NON-NLS-1$
+
+	private static final int FILE_MAGIC_V1= 0x54524831; // "TRH1"
+
+	private static final int FILE_MAGIC= 0x54524832; // "TRH2"
+
+	private static final int MAX_ENTRIES= 20000;
+
+	private static final int MAX_TEST_ENTRIES= 100000;
+
+	/**
+	 * The weight of the latest run in the moving averages of a test.
+	 */
+	private static final double DECAY= 0.3;
+
+	/**
+	 * The failure probability assumed for tests that have always passed, so that fast tests still
+	 * run before slow ones.
+	 */
+	private static final double MIN_FAILURE_PROBABILITY= 0.01;
+
+	/**
+	 * The failure probability assumed for tests that have not been run before.
+	 */
+	private static final double UNKNOWN_FAILURE_PROBABILITY= 0.1;
+
+	/**
+	 * The duration in seconds added to the duration of each test, so that tests which report no
+	 * elapsed time do not take precedence over everything else.
+	 */
+	private static final double MIN_DURATION= 0.001;
+
+	/**
+	 * The history of a single test.
+	 */
+	private static final class TestStats {
+		/** Moving average of the duration in seconds */
+		double fDuration;
+		/** Moving average of failing runs, from 0 to 1 */
+		double fFailureRate;
+		/** Moving average of runs with another outcome than the run before, from 0 to 1 */
+		double fFlipRate;
+		boolean fLastFailed;
+
+		void update(double duration, boolean failed) {
+			fDuration+= DECAY * (duration - fDuration);
+			fFailureRate+= DECAY * ((failed ? 1 : 0) - fFailureRate);
+			fFlipRate+= DECAY * ((failed != fLastFailed ? 1 : 0) - fFlipRate);
+			fLastFailed= failed;
+		}
+
+		double getFailureProbability() {
+			return Math.max(MIN_FAILURE_PROBABILITY, Math.max(fFailureRate, fFlipRate));
+		}
+	}
+
+	private static TestRunHistory fgDefault;
+
+	/**
+	 * Maps project name + '\n' + class name to the duration of the class in seconds. In access
+	 * order, so that the least recently run classes are evicted first.
+	 */
+	private final LinkedHashMap<String, Double> fDurations= new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, Double> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	};
+
+	/**
+	 * Maps project name + '\n' + test name to the history of the test. In access order, so that
+	 * the least recently run tests are evicted first.
+	 */
+	private final LinkedHashMap<String, TestStats> fTests= new LinkedHashMap<>(256, 0.75f, true) {
+		private static final long serialVersionUID= 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, TestStats> eldest) {
+			return size() > MAX_TEST_ENTRIES;
+		}
+	};
+
+	private boolean fDirty;
+
+	private TestRunHistory() {
+	}
+
+	/**
+	 * @return the history of this workspace
+	 */
+	public static synchronized TestRunHistory getDefault() {
+		if (fgDefault == null) {
+			fgDefault= new TestRunHistory();
+			fgDefault.load();
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Stores the history.
+	 */
+	public static synchronized void shutdown() {
+		if (fgDefault == null)
+			return;
+		fgDefault.save();
+		fgDefault= null;
+	}
+
+	/**
+	 * @param project the project of the test class
+	 * @param className the fully qualified name of a top-level test class
+	 * @return the duration of the class in seconds, or {@link Double#NaN} if the class has not been
+	 *         run before
+	 */
+	public synchronized double getDuration(IJavaProject project, String className) {
+		Double duration= fDurations.get(getKey(project.getElementName(), className));
+		return duration != null ? duration.doubleValue() : Double.NaN;
+	}
+
+	/**
+	 * Returns the names of the tests of a project that have been run before, in the order in which
+	 * they should run so that failures are found early. The tests are sorted by their estimated
+	 * failure probability divided by their duration, which minimizes the expected time to the first
+	 * failure. Tests that have been run before take the same position relative to each other in
+	 * every run until their history changes.
+	 * <p>
+	 * The list contains an empty string at the position of the tests that have not been run
+	 * before. These are assumed to fail with a probability of
+	 * {@value #UNKNOWN_FAILURE_PROBABILITY} and to take the average duration of the known tests.
+	 * </p>
+	 *
+	 * @param project the project of the tests
+	 * @return the test names in the form <code>method(class)</code> and the empty string, or an
+	 *         empty list if no test of the project has been run before
+	 */
+	public List<String> getPrioritizedTestNames(IJavaProject project) {
+		String prefix= getKey(project.getElementName(), ""); //$NON-NLS-1$
+		List<String> names= new ArrayList<>();
+		Map<String, Double> scores= new HashMap<>();
+		double totalDuration= 0;
+		synchronized (this) {
+			for (Map.Entry<String, TestStats> entry : fTests.entrySet()) {
+				String key= entry.getKey();
+				if (!key.startsWith(prefix))
+					continue;
+				TestStats stats= entry.getValue();
+				String testName= key.substring(prefix.length());
+				names.add(testName);
+				scores.put(testName, Double.valueOf(getScore(stats.getFailureProbability(), stats.fDuration)));
+				totalDuration+= stats.fDuration;
+			}
+		}
+		if (names.isEmpty())
+			return names;
+		String unknown= ""; //$NON-NLS-1$
+		names.add(unknown);
+		scores.put(unknown, Double.valueOf(getScore(UNKNOWN_FAILURE_PROBABILITY, totalDuration / (names.size() - 1))));
+		names.sort(Comparator.comparingDouble((String name) -> scores.get(name).doubleValue()).reversed().thenComparing(Comparator.naturalOrder()));
+		return names;
+	}
+
+	private static double getScore(double failureProbability, double duration) {
+		return failureProbability / (duration + MIN_DURATION);
+	}
+
+	/**
+	 * Records the durations of the test classes and the outcomes of the tests of a test run that
+	 * has ended.
+	 *
+	 * @param session the test run session
+	 */
+	void record(TestRunSession session) {
+		IJavaProject project= session.getLaunchedProject();
+		if (project == null || session.getLaunch() == null)
+			return;
+		Map<String, double[]> durations= new HashMap<>();
+		Set<String> partialClasses= new HashSet<>();
+		Map<String, double[]> outcomes= new HashMap<>();
+		collect(session.getTestRoot(), durations, partialClasses, outcomes);
+		if (isFiltered(session))
+			durations.clear();
+		else
+			durations.keySet().removeAll(partialClasses);
+		synchronized (this) {
+			for (Map.Entry<String, double[]> entry : durations.entrySet()) {
+				String key= getKey(project.getElementName(), entry.getKey());
+				double duration= entry.getValue()[0];
+				Double previous= fDurations.get(key);
+				fDurations.put(key, Double.valueOf(previous != null ? (previous.doubleValue() + duration) / 2 : duration));
+			}
+			for (Map.Entry<String, double[]> entry : outcomes.entrySet()) {
+				String key= getKey(project.getElementName(), entry.getKey());
+				double duration= entry.getValue()[0];
+				boolean failed= entry.getValue()[1] != 0;
+				TestStats stats= fTests.get(key);
+				if (stats == null) {
+					stats= new TestStats();
+					stats.fDuration= duration;
+					stats.fLastFailed= failed;
+					fTests.put(key, stats);
+				}
+				stats.update(duration, failed);
+			}
+			fDirty|= !durations.isEmpty() || !outcomes.isEmpty();
+		}
+	}
+
+	/**
+	 * @param session the test run session
+	 * @return <code>true</code> if the launch ran only some of the tests of its classes, i.e. a
+	 *         single test or the tests with some tags
+	 */
+	private static boolean isFiltered(TestRunSession session) {
+		if (!session.getIncludeTags().isEmpty() || !session.getExcludeTags().isEmpty())
+			return true;
+		ILaunchConfiguration configuration= session.getLaunch().getLaunchConfiguration();
+		if (configuration == null)
+			return false;
+		try {
+			return configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, "").length() > 0 //$NON-NLS-1$
+					|| !configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, "").trim().isEmpty(); //$NON-NLS-1$
+		} catch (CoreException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * @param suite the suite to collect from
+	 * @param durations maps class names to their duration
+	 * @param partialClasses the names of the classes with tests that have not completed
+	 * @param outcomes maps test names to their duration and whether they failed (1) or not (0).
+	 *            Dynamic tests are added to the test that created them.
+	 */
+	private static void collect(TestSuiteElement suite, Map<String, double[]> durations, Set<String> partialClasses, Map<String, double[]> outcomes) {
+		for (TestElement child : suite.getAllChildren()) {
+			if (child instanceof TestSuiteElement childSuite) {
+				collect(childSuite, durations, partialClasses, outcomes);
+			} else {
+				String className= getTopLevelClassName(child);
+				if (className == null)
+					continue;
+				if (child.getProgressState() != ITestElement.ProgressState.COMPLETED) {
+					partialClasses.add(className);
+					continue;
+				}
+				double elapsedTime= child.getElapsedTimeInSeconds();
+				if (Double.isNaN(elapsedTime))
+					continue;
+				durations.computeIfAbsent(className, c -> new double[1])[0]+= elapsedTime;
+				Result result= child.getTestResult(false);
+				if (result == Result.OK || result == Result.FAILURE || result == Result.ERROR) {
+					double[] outcome= outcomes.computeIfAbsent(child.getTestName(), t -> new double[2]);
+					outcome[0]+= elapsedTime;
+					if (result != Result.OK)
+						outcome[1]= 1;
+				}
+			}
+		}
+	}
+
+	private static String getTopLevelClassName(TestElement testCase) {
+		String className= TestElement.extractRawClassName(testCase.getTestName());
+		if (className.startsWith("[")) //$NON-NLS-1$
+			return null; // a parameterized test without a class name
+		int nested= className.indexOf('$');
+		return nested != -1 ? className.substring(0, nested) : className;
+	}
+
+	private static String getKey(String projectName, String className) {
+		return projectName + '\n' + className;
+	}
+
+	private static File getFile() {
+		return JUnitCorePlugin.getDefault().getStateLocation().append(FILE_NAME).toFile();
+	}
+
+	private void load() {
+		File file;
+		try {
+			file= getFile();
+		} catch (IllegalStateException e) {
+			return; // no state location
+		}
+		if (!file.isFile())
+			return;
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			int magic= in.readInt();
+			if (magic != FILE_MAGIC && magic != FILE_MAGIC_V1)
+				return;
+			int size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				String key= in.readUTF();
+				fDurations.put(key, Double.valueOf(in.readDouble()));
+			}
+			if (magic == FILE_MAGIC_V1)
+				return;
+			size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				String key= in.readUTF();
+				TestStats stats= new TestStats();
+				stats.fDuration= in.readDouble();
+				stats.fFailureRate= in.readDouble();
+				stats.fFlipRate= in.readDouble();
+				stats.fLastFailed= in.readBoolean();
+				fTests.put(key, stats);
+			}
+		} catch (IOException e) {
+			fDurations.clear();
+			fTests.clear();
+		}
+	}
+
+	private synchronized void save() {
+		if (!fDirty)
+			return;
+		try {
+			File file= getFile();
+			File temp= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+				out.writeInt(FILE_MAGIC);
+				out.writeInt(fDurations.size());
+				for (Map.Entry<String, Double> entry : fDurations.entrySet()) {
+					out.writeUTF(entry.getKey());
+					out.writeDouble(entry.getValue().doubleValue());
+				}
+				out.writeInt(fTests.size());
+				for (Map.Entry<String, TestStats> entry : fTests.entrySet()) {
+					TestStats stats= entry.getValue();
+					out.writeUTF(entry.getKey());
+					out.writeDouble(stats.fDuration);
+					out.writeDouble(stats.fFailureRate);
+					out.writeDouble(stats.fFlipRate);
+					out.writeBoolean(stats.fLastFailed);
+				}
+			}
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			fDirty= false;
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+		} catch (IllegalStateException e) {
+			// no state location
+		}
+	}
+}
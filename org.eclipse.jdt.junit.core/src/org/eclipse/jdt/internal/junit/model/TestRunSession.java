@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,7 +21,6 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
 
 import org.eclipse.jdt.junit.model.ITestElement;
@@ -71,6 +70,12 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private RemoteTestRunnerClient fTestRunnerClient;
 
+	/**
+	 * Test runner clients of all shards of a sharded launch, or <code>null</code>. The first one
+	 * is also {@link #fTestRunnerClient}.
+	 */
+	private RemoteTestRunnerClient[] fShardClients;
+
 	private final ListenerList<ITestSessionListener> fSessionListeners;
 
 	/**
@@ -86,7 +91,7 @@ public class TestRunSession implements ITestRunSession {
 	/**
 	 * Map from testId to testElement.
 	 */
-	private HashMap<String, TestElement> fIdToTest;
+	private TestElementIndex fIdToTest;
 
 	/**
 	 * The TestSuites for which additional children are expected.
@@ -100,6 +105,16 @@ public class TestRunSession implements ITestRunSession {
 	 */
 	private TestSuiteElement fUnrootedSuite;
 
+	/**
+	 * Journal that writes the swap file while the session is running, or <code>null</code>.
+	 */
+	private TestRunSessionJournal fJournal;
+
+	/**
+	 * <code>true</code> iff the swap file is up to date with the model.
+	 */
+	private boolean fSwapFileValid;
+
 	private static final String EMPTY_STRING= ""; //$NON-NLS-1$
 
 	/**
@@ -167,7 +182,7 @@ public class TestRunSession implements ITestRunSession {
 		fTestRunnerKind= ITestKind.NULL; //TODO
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
 
 		fTestRunnerClient= null;
 
@@ -176,7 +191,20 @@ public class TestRunSession implements ITestRunSession {
 
 
 	public TestRunSession(ILaunch launch, IJavaProject project, int port) {
+		this(launch, project, new int[] { port });
+	}
+
+	/**
+	 * Creates a test run session for a launch. If the launch is sharded, i.e. runs its tests in
+	 * more than one VM, the results of all shards are merged into this session.
+	 *
+	 * @param launch the launch
+	 * @param project the project
+	 * @param ports the ports the test runners connect to, one per shard
+	 */
+	public TestRunSession(ILaunch launch, IJavaProject project, int[] ports) {
 		Assert.isNotNull(launch);
+		Assert.isTrue(ports.length > 0);
 
 		fLaunch= launch;
 		fProject= project;
@@ -191,28 +219,35 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		fTestRoot= new TestRoot(this);
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
 
-		fTestRunnerClient= new RemoteTestRunnerClient();
-		fTestRunnerClient.startListening(new ITestRunListener2[] { new TestSessionNotifier() }, port);
+		TestSessionNotifier notifier= new TestSessionNotifier();
+		if (ports.length == 1) {
+			fTestRunnerClient= new RemoteTestRunnerClient();
+			fTestRunnerClient.startListening(new ITestRunListener2[] { notifier }, ports[0]);
+		} else {
+			ShardedRun shardedRun= new ShardedRun(ports.length);
+			fShardClients= new RemoteTestRunnerClient[ports.length];
+			for (int i= 0; i < ports.length; i++) {
+				fShardClients[i]= new RemoteTestRunnerClient();
+				fShardClients[i].startListening(new ITestRunListener2[] { new ShardNotifier(notifier, shardedRun, i) }, ports[i]);
+			}
+			fTestRunnerClient= fShardClients[0];
+		}
 
 		final ILaunchManager launchManager= DebugPlugin.getDefault().getLaunchManager();
 		launchManager.addLaunchListener(new ILaunchesListener2() {
 			@Override
 			public void launchesTerminated(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
 			@Override
 			public void launchesRemoved(ILaunch[] launches) {
 				if (Arrays.asList(launches).contains(fLaunch)) {
-					if (fTestRunnerClient != null) {
-						fTestRunnerClient.stopWaiting();
-					}
+					stopWaiting();
 					launchManager.removeLaunchListener(this);
 				}
 			}
@@ -225,9 +260,23 @@ public class TestRunSession implements ITestRunSession {
 		});
 
 		fSessionListeners= new ListenerList<>();
+		// the journal must be finished before the adapter swaps out the session
+		fJournal= new TestRunSessionJournal(this);
+		addTestSessionListener(fJournal);
 		addTestSessionListener(new TestRunListenerAdapter(this));
 	}
 
+	private void stopWaiting() {
+		RemoteTestRunnerClient[] shardClients= fShardClients;
+		if (shardClients != null) {
+			for (RemoteTestRunnerClient client : shardClients) {
+				client.stopWaiting();
+			}
+		} else if (fTestRunnerClient != null) {
+			fTestRunnerClient.stopWaiting();
+		}
+	}
+
 	void reset() {
 		fStartedCount= 0;
 		fFailureCount= 0;
@@ -236,9 +285,11 @@ public class TestRunSession implements ITestRunSession {
 		fIgnoredCount= 0;
 		fTotalCount= 0;
 
+		if (fTestRoot != null)
+			fTestRoot.getStore().dispose();
 		fTestRoot= new TestRoot(this);
 		fTestResult= null;
-		fIdToTest= new HashMap<>();
+		fIdToTest= new TestElementIndex();
 	}
 
 	@Override
@@ -368,13 +419,21 @@ public class TestRunSession implements ITestRunSession {
 		}
 
 		try {
-			File swapFile= getSwapFile();
-
-			JUnitModel.exportTestRunSession(this, swapFile);
+			if (fJournal != null) {
+				fSwapFileValid= fJournal.close();
+				removeTestSessionListener(fJournal);
+				fJournal= null;
+			}
+			if (! fSwapFileValid) {
+				TestRunSessionJournal.write(this, getSwapFile());
+				fSwapFileValid= true;
+			}
 			fTestResult= fTestRoot.getTestResult(true);
+			fTestRoot.getStore().dispose();
 			fTestRoot= null;
 			fTestRunnerClient= null;
-			fIdToTest= new HashMap<>();
+			fShardClients= null;
+			fIdToTest= new TestElementIndex();
 			fIncompleteTestSuites= null;
 			fFactoryTestSuites= null;
 			fUnrootedSuite= null;
@@ -390,15 +449,22 @@ public class TestRunSession implements ITestRunSession {
 
 
 	public void removeSwapFile() {
+		TestRunSessionJournal journal= fJournal;
+		if (journal != null)
+			journal.close();
+		TestRoot testRoot= fTestRoot;
+		if (testRoot != null)
+			testRoot.getStore().dispose();
+		fSwapFileValid= false;
 		File swapFile= getSwapFile();
 		if (swapFile.exists())
 			swapFile.delete();
 	}
 
-	private File getSwapFile() throws IllegalStateException {
+	File getSwapFile() throws IllegalStateException {
 		File historyDir= JUnitCorePlugin.getHistoryDirectory();
 		String isoTime= new SimpleDateFormat("yyyyMMdd-HHmmss.SSS").format(new Date(getStartTime())); //$NON-NLS-1$
-		String swapFileName= isoTime + ".xml"; //$NON-NLS-1$
+		String swapFileName= isoTime + ".testrun"; //$NON-NLS-1$
 		return new File(historyDir, swapFileName);
 	}
 
@@ -407,8 +473,10 @@ public class TestRunSession implements ITestRunSession {
 		if (fTestRoot != null)
 			return;
 
+		// the swapped in tree can change, e.g. by a rerun, so swap it out again in any case
+		fSwapFileValid= false;
 		try {
-			JUnitModel.importIntoTestRunSession(getSwapFile(), this);
+			TestRunSessionJournal.read(getSwapFile(), this);
 		} catch (IllegalStateException | CoreException e) {
 			JUnitCorePlugin.log(e);
 			fTestRoot= new TestRoot(this);
@@ -419,8 +487,14 @@ public class TestRunSession implements ITestRunSession {
 	public void stopTestRun() {
 		if (isRunning() || ! isKeptAlive())
 			fIsStopped= true;
-		if (fTestRunnerClient != null)
+		RemoteTestRunnerClient[] shardClients= fShardClients;
+		if (shardClients != null) {
+			for (RemoteTestRunnerClient client : shardClients) {
+				client.stopTest();
+			}
+		} else if (fTestRunnerClient != null) {
 			fTestRunnerClient.stopTest();
+		}
 	}
 
 	/**
@@ -592,7 +666,7 @@ public class TestRunSession implements ITestRunSession {
 	 *
 	 * @return the index of the next ','
 	 */
-	private int scanTestName(String s, int start, StringBuilder testName) {
+	private static int scanTestName(String s, int start, StringBuilder testName) {
 		boolean inQuote= false;
 		int i= start;
 		for (; i < s.length(); i++) {
@@ -648,6 +722,7 @@ public class TestRunSession implements ITestRunSession {
 		@Override
 		public void testRunEnded(long elapsedTime) {
 			fIsRunning= false;
+			TestRunHistory.getDefault().record(TestRunSession.this);
 
 			for (ITestSessionListener listener : fSessionListeners) {
 				listener.sessionEnded(elapsedTime);
@@ -802,6 +877,193 @@ public class TestRunSession implements ITestRunSession {
 		}
 	}
 
+	/**
+	 * The state shared by the {@link ShardNotifier}s of a sharded launch. Also the lock that
+	 * serializes their events.
+	 */
+	private static class ShardedRun {
+		final int fShardCount;
+		int fStartedShards;
+		int fFinishedShards;
+		boolean fStopped;
+		boolean fTerminated;
+
+		ShardedRun(int shardCount) {
+			fShardCount= shardCount;
+		}
+	}
+
+	/**
+	 * Merges the events of the test runner of one shard of a sharded launch into this session.
+	 * <p>
+	 * The test ids of the shard are mapped to ids that are unique across all shards, and the shard
+	 * keeps its own incomplete suites, so that the test trees of the shards can arrive interleaved.
+	 * The run starts with the first shard that starts, and ends when all shards have ended.
+	 * </p>
+	 */
+	private class ShardNotifier implements ITestRunListener2 {
+		private final TestSessionNotifier fNotifier;
+		private final ShardedRun fRun;
+		private final int fShard;
+		private List<IncompleteTestSuite> fShardIncompleteTestSuites= new ArrayList<>();
+		private List<IncompleteTestSuite> fShardFactoryTestSuites= new ArrayList<>();
+		private boolean fFinished;
+
+		public ShardNotifier(TestSessionNotifier notifier, ShardedRun run, int shard) {
+			fNotifier= notifier;
+			fRun= run;
+			fShard= shard;
+		}
+
+		@Override
+		public void testRunStarted(int testCount) {
+			synchronized (fRun) {
+				if (fRun.fStartedShards++ == 0) {
+					fNotifier.testRunStarted(testCount);
+				} else {
+					fTotalCount+= testCount;
+				}
+			}
+		}
+
+		@Override
+		public void testRunEnded(long elapsedTime) {
+			finished();
+		}
+
+		@Override
+		public void testRunStopped(long elapsedTime) {
+			synchronized (fRun) {
+				fRun.fStopped= true;
+				finished();
+			}
+		}
+
+		@Override
+		public void testRunTerminated() {
+			synchronized (fRun) {
+				fRun.fTerminated|= !fFinished;
+				finished();
+			}
+		}
+
+		private void finished() {
+			synchronized (fRun) {
+				if (fFinished)
+					return;
+				fFinished= true;
+				if (++fRun.fFinishedShards < fRun.fShardCount)
+					return;
+				long elapsedTime= fStartTime > 0 ? System.currentTimeMillis() - fStartTime : 0;
+				if (fRun.fStartedShards == 0 || fRun.fTerminated)
+					fNotifier.testRunTerminated();
+				else if (fRun.fStopped)
+					fNotifier.testRunStopped(elapsedTime);
+				else
+					fNotifier.testRunEnded(elapsedTime);
+			}
+		}
+
+		@Override
+		public void testTreeEntry(String description) {
+			synchronized (fRun) {
+				List<IncompleteTestSuite> incompleteTestSuites= fIncompleteTestSuites;
+				List<IncompleteTestSuite> factoryTestSuites= fFactoryTestSuites;
+				fIncompleteTestSuites= fShardIncompleteTestSuites;
+				fFactoryTestSuites= fShardFactoryTestSuites;
+				try {
+					fNotifier.testTreeEntry(mapTreeEntry(description));
+				} finally {
+					fIncompleteTestSuites= incompleteTestSuites;
+					fFactoryTestSuites= factoryTestSuites;
+				}
+			}
+		}
+
+		@Override
+		public void testStarted(String testId, String testName) {
+			synchronized (fRun) {
+				fNotifier.testStarted(mapId(testId), testName);
+			}
+		}
+
+		@Override
+		public void testEnded(String testId, String testName) {
+			synchronized (fRun) {
+				fNotifier.testEnded(mapId(testId), testName);
+			}
+		}
+
+		@Override
+		public void testFailed(int status, String testId, String testName, String trace, String expected, String actual) {
+			synchronized (fRun) {
+				fNotifier.testFailed(status, mapId(testId), testName, trace, expected, actual);
+			}
+		}
+
+		@Override
+		public void testReran(String testId, String testClass, String testName, int status, String trace, String expected, String actual) {
+			synchronized (fRun) {
+				fNotifier.testReran(mapId(testId), testClass, testName, status, trace, expected, actual);
+			}
+		}
+
+		private String mapId(String testId) {
+			return mapShardTestId(testId, fShard, fRun.fShardCount);
+		}
+
+		private String mapTreeEntry(String treeEntry) {
+			return mapShardTreeEntry(treeEntry, fShard, fRun.fShardCount);
+		}
+	}
+
+	/**
+	 * Maps the test id of a shard of a sharded launch to an id that is unique across all shards.
+	 * The decimal ids the runners use are interleaved, so that they stay decimal.
+	 *
+	 * @param testId the test id sent by the runner of the shard
+	 * @param shard the index of the shard
+	 * @param shardCount the number of shards
+	 * @return the test id in the session
+	 */
+	public static String mapShardTestId(String testId, int shard, int shardCount) {
+		long numericId= TestElement.parseNumericId(testId);
+		if (numericId >= 0) {
+			long mapped= numericId * shardCount + shard;
+			if (mapped <= Integer.MAX_VALUE)
+				return String.valueOf(mapped);
+		}
+		return shard + ":" + testId; //$NON-NLS-1$
+	}
+
+	/**
+	 * Maps the test id and the parent id of a tree entry of a shard of a sharded launch, see
+	 * {@link ITestRunListener2#testTreeEntry(String)} and {@link #mapShardTestId(String, int, int)}.
+	 *
+	 * @param treeEntry the tree entry sent by the runner of the shard
+	 * @param shard the index of the shard
+	 * @param shardCount the number of shards
+	 * @return the tree entry with mapped ids
+	 */
+	public static String mapShardTreeEntry(String treeEntry, int shard, int shardCount) {
+		int index0= treeEntry.indexOf(',');
+		if (index0 == -1)
+			return treeEntry;
+		StringBuilder mapped= new StringBuilder(treeEntry.length() + 16);
+		mapped.append(mapShardTestId(treeEntry.substring(0, index0), shard, shardCount));
+		int index1= scanTestName(treeEntry, index0 + 1, new StringBuilder());
+		int index2= treeEntry.indexOf(',', index1 + 1); // isSuite
+		int index3= index2 == -1 ? -1 : treeEntry.indexOf(',', index2 + 1); // testCount
+		int index4= index3 == -1 ? -1 : treeEntry.indexOf(',', index3 + 1); // isDynamicTest
+		int index5= index4 == -1 ? -1 : treeEntry.indexOf(',', index4 + 1); // parentId
+		if (index5 == -1)
+			return mapped.append(treeEntry, index0, treeEntry.length()).toString();
+		String parentId= treeEntry.substring(index4 + 1, index5);
+		mapped.append(treeEntry, index0, index4 + 1);
+		mapped.append("-1".equals(parentId) ? parentId : mapShardTestId(parentId, shard, shardCount)); //$NON-NLS-1$
+		return mapped.append(treeEntry, index5, treeEntry.length()).toString();
+	}
+
 	private static class IncompleteTestSuite {
 		public TestSuiteElement fTestSuiteElement;
 		public int fOutstandingChildren;
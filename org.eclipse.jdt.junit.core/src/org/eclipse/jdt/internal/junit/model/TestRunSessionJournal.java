@@ -0,0 +1,507 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+
+import org.eclipse.jdt.internal.junit.BasicElementLabels;
+import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
+import org.eclipse.jdt.internal.junit.Messages;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+
+/**
+ * Binary swap file of a {@link TestRunSession}.
+ * <p>
+ * The file is a sequence of records. Test and class names, display names and traces are written
+ * to a string table on first use and referenced by index afterwards, so that the names shared by
+ * the tests of a class and the identical traces of repeated failures are only stored once.
+ * </p>
+ * <p>
+ * Records are only ever appended: while a launched session is running, the journal listens to the
+ * session and writes each test when it is added and its result when it ends. Swapping out a
+ * finished session then only has to close the file. Sessions without a journal are written in one
+ * go by {@link #write(TestRunSession, File)}. Reading replays the records into the session; the
+ * last result written for a test wins.
+ * </p>
+ * <p>
+ * The format is private to the history directory. Use {@link JUnitModel#exportTestRunSession(TestRunSession, File)}
+ * to export a session in the XML format.
+ * </p>
+ */
+public class TestRunSessionJournal implements ITestSessionListener {
+
+	private static final int MAGIC= 0x4A555452; // "JUTR"
+	private static final int VERSION= 1;
+
+	private static final byte RECORD_SESSION= 1;
+	private static final byte RECORD_ADDED= 2;
+	private static final byte RECORD_RESULT= 3;
+	private static final byte RECORD_END= 4;
+
+	private static final int NULL_STRING= -1;
+	private static final int NEW_STRING= -2;
+
+	/**
+	 * Writes records and maintains the string table.
+	 */
+	private static final class Writer {
+
+		private final DataOutputStream fOut;
+		private final Map<String, Integer> fStrings= new HashMap<>();
+		private final Set<TestElement> fAdded= new LinkedHashSet<>();
+
+		Writer(OutputStream out) throws IOException {
+			fOut= new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+			fOut.writeInt(MAGIC);
+			fOut.writeInt(VERSION);
+		}
+
+		void writeSession(TestRunSession session) throws IOException {
+			fOut.writeByte(RECORD_SESSION);
+			writeString(session.getIncludeTags());
+			writeString(session.getExcludeTags());
+		}
+
+		void writeAdded(TestElement testElement) throws IOException {
+			if (testElement instanceof TestRoot || !fAdded.add(testElement))
+				return;
+			TestSuiteElement parent= testElement.getParent();
+			writeAdded(parent); // unrooted suites are not announced
+
+			fOut.writeByte(RECORD_ADDED);
+			fOut.writeUTF(testElement.getId());
+			fOut.writeUTF(parent.getId());
+			fOut.writeBoolean(testElement instanceof TestSuiteElement);
+			fOut.writeBoolean(testElement instanceof TestCaseElement && ((TestCaseElement) testElement).isDynamicTest());
+			writeString(testElement.getTestName());
+			writeString(testElement.getDisplayName());
+			String[] parameterTypes= testElement.getParameterTypes();
+			if (parameterTypes == null) {
+				fOut.writeInt(-1);
+			} else {
+				fOut.writeInt(parameterTypes.length);
+				for (String parameterType : parameterTypes) {
+					writeString(parameterType);
+				}
+			}
+			writeString(testElement.getUniqueId());
+		}
+
+		void writeResult(TestElement testElement) throws IOException {
+			Status status;
+			boolean completed;
+			boolean ignored;
+			if (testElement instanceof TestSuiteElement) {
+				status= ((TestSuiteElement) testElement).getSuiteStatus();
+				completed= testElement.getStatus().isDone();
+				ignored= false;
+			} else {
+				status= testElement.getStatus();
+				completed= status.isDone();
+				ignored= ((TestCaseElement) testElement).isIgnored();
+			}
+
+			fOut.writeByte(RECORD_RESULT);
+			fOut.writeUTF(testElement.getId());
+			fOut.writeByte(status.isError() ? Status.ERROR.getOldCode() : status.isFailure() ? Status.FAILURE.getOldCode() : Status.OK.getOldCode());
+			fOut.writeBoolean(completed);
+			fOut.writeBoolean(ignored);
+			fOut.writeBoolean(testElement.isAssumptionFailure());
+			fOut.writeDouble(testElement.getElapsedTimeInSeconds());
+			writeString(testElement.getTrace());
+			writeString(testElement.getExpected());
+			writeString(testElement.getActual());
+		}
+
+		void writeSuiteResults() throws IOException {
+			for (TestElement testElement : fAdded) {
+				if (testElement instanceof TestSuiteElement)
+					writeResult(testElement);
+			}
+		}
+
+		void writeEnd() throws IOException {
+			fOut.writeByte(RECORD_END);
+		}
+
+		void flush() throws IOException {
+			fOut.flush();
+		}
+
+		void close() throws IOException {
+			fOut.close();
+		}
+
+		private void writeString(String string) throws IOException {
+			if (string == null) {
+				fOut.writeInt(NULL_STRING);
+				return;
+			}
+			Integer index= fStrings.get(string);
+			if (index != null) {
+				fOut.writeInt(index.intValue());
+				return;
+			}
+			fStrings.put(string, Integer.valueOf(fStrings.size()));
+			byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+			fOut.writeInt(NEW_STRING);
+			fOut.writeInt(bytes.length);
+			fOut.write(bytes);
+		}
+	}
+
+	/**
+	 * The last result read for a test element.
+	 */
+	private static final class ElementResult {
+		Status fStatus;
+		boolean fCompleted;
+		boolean fIgnored;
+		boolean fAssumptionFailed;
+		double fTime;
+		String fTrace;
+		String fExpected;
+		String fActual;
+	}
+
+	private final TestRunSession fSession;
+
+	private Writer fWriter;
+	private boolean fComplete;
+	private boolean fClosed;
+
+	public TestRunSessionJournal(TestRunSession session) {
+		fSession= session;
+	}
+
+	/**
+	 * Closes the journal. Later changes to the session are not recorded any more.
+	 *
+	 * @return <code>true</code> iff the journal file is complete, i.e. the session has ended and
+	 *         all records have been written successfully
+	 */
+	public synchronized boolean close() {
+		fClosed= true;
+		if (fWriter == null)
+			return false;
+		try {
+			fWriter.close();
+		} catch (IOException e) {
+			JUnitCorePlugin.log(e);
+			fComplete= false;
+		}
+		fWriter= null;
+		return fComplete;
+	}
+
+	@Override
+	public synchronized void sessionStarted() {
+		if (fClosed || fWriter != null)
+			return;
+		try {
+			fWriter= new Writer(new FileOutputStream(fSession.getSwapFile()));
+			fWriter.writeSession(fSession);
+		} catch (IOException | IllegalStateException e) {
+			abort(e);
+		}
+	}
+
+	@Override
+	public void sessionEnded(long elapsedTime) {
+		finish();
+	}
+
+	@Override
+	public void sessionStopped(long elapsedTime) {
+		finish();
+	}
+
+	@Override
+	public void sessionTerminated() {
+		finish();
+	}
+
+	@Override
+	public synchronized void testAdded(TestElement testElement) {
+		if (fWriter == null)
+			return;
+		try {
+			fWriter.writeAdded(testElement);
+		} catch (IOException e) {
+			abort(e);
+		}
+	}
+
+	@Override
+	public void runningBegins() {
+		// nothing to record
+	}
+
+	@Override
+	public void testStarted(TestCaseElement testCaseElement) {
+		// nothing to record
+	}
+
+	@Override
+	public void testEnded(TestCaseElement testCaseElement) {
+		recordResult(testCaseElement);
+	}
+
+	@Override
+	public void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+		recordResult(testElement);
+	}
+
+	@Override
+	public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+		recordResult(testCaseElement);
+	}
+
+	@Override
+	public boolean acceptsSwapToDisk() {
+		return true;
+	}
+
+	private synchronized void recordResult(TestElement testElement) {
+		if (fWriter == null)
+			return;
+		try {
+			fWriter.writeAdded(testElement);
+			fWriter.writeResult(testElement);
+			if (fComplete)
+				fWriter.flush(); // a rerun after the end of the session
+		} catch (IOException e) {
+			abort(e);
+		}
+	}
+
+	/*
+	 * Suites only get their result at the end, since not all changes of their status are reported.
+	 */
+	private synchronized void finish() {
+		if (fWriter == null || fComplete)
+			return;
+		try {
+			fWriter.writeSuiteResults();
+			fWriter.writeEnd();
+			fWriter.flush();
+			fComplete= true;
+		} catch (IOException e) {
+			abort(e);
+		}
+	}
+
+	private void abort(Exception e) {
+		JUnitCorePlugin.log(e);
+		if (fWriter != null) {
+			try {
+				fWriter.close();
+			} catch (IOException e1) {
+				// already failed
+			}
+		}
+		fWriter= null;
+		fComplete= false;
+		fClosed= true;
+	}
+
+	/**
+	 * Writes the complete given test run session to a file.
+	 *
+	 * @param testRunSession the test run session
+	 * @param file the destination
+	 * @throws CoreException if an error occurred
+	 */
+	public static void write(TestRunSession testRunSession, File file) throws CoreException {
+		try {
+			Writer writer= new Writer(new FileOutputStream(file));
+			try {
+				writer.writeSession(testRunSession);
+				writeTree(writer, testRunSession.getTestRoot());
+				writer.writeEnd();
+			} finally {
+				writer.close();
+			}
+		} catch (IOException e) {
+			throw new CoreException(new org.eclipse.core.runtime.Status(IStatus.ERROR,
+					JUnitCorePlugin.getPluginId(),
+					Messages.format(ModelMessages.JUnitModel_could_not_write, BasicElementLabels.getPathLabel(file)),
+					e));
+		}
+	}
+
+	private static void writeTree(Writer writer, TestSuiteElement suite) throws IOException {
+		for (TestElement testElement : suite.getAllChildren()) {
+			writer.writeAdded(testElement);
+			writer.writeResult(testElement);
+			if (testElement instanceof TestSuiteElement)
+				writeTree(writer, (TestSuiteElement) testElement);
+		}
+	}
+
+	/**
+	 * Reads the test run session from the given file into the given session.
+	 *
+	 * @param file the file written by a journal or by {@link #write(TestRunSession, File)}
+	 * @param testRunSession the session to fill, will be reset
+	 * @throws CoreException if an error occurred
+	 */
+	public static void read(File file, TestRunSession testRunSession) throws CoreException {
+		try (InputStream in= new FileInputStream(file)) {
+			read(in, testRunSession);
+		} catch (IOException e) {
+			throw new CoreException(new org.eclipse.core.runtime.Status(IStatus.ERROR,
+					JUnitCorePlugin.getPluginId(),
+					Messages.format(ModelMessages.JUnitModel_could_not_read, BasicElementLabels.getPathLabel(file)),
+					e));
+		}
+	}
+
+	private static void read(InputStream input, TestRunSession testRunSession) throws IOException {
+		DataInputStream in= new DataInputStream(new BufferedInputStream(input, 64 * 1024));
+		if (in.readInt() != MAGIC || in.readInt() != VERSION)
+			throw new IOException("Unsupported test run format"); //$NON-NLS-1$
+
+		testRunSession.reset();
+		TestRoot root= testRunSession.getTestRoot();
+		List<String> strings= new ArrayList<>();
+		Map<String, TestElement> elements= new HashMap<>();
+		elements.put(root.getId(), root);
+		Map<TestElement, ElementResult> results= new HashMap<>();
+		boolean ended= false;
+
+		int record;
+		while ((record= in.read()) != -1) {
+			switch (record) {
+				case RECORD_SESSION:
+					testRunSession.setIncludeTags(readString(in, strings));
+					testRunSession.setExcludeTags(readString(in, strings));
+					break;
+				case RECORD_ADDED: {
+					String id= in.readUTF();
+					TestElement parent= elements.get(in.readUTF());
+					boolean isSuite= in.readBoolean();
+					boolean isDynamicTest= in.readBoolean();
+					String testName= readString(in, strings);
+					String displayName= readString(in, strings);
+					String[] parameterTypes= null;
+					int parameterCount= in.readInt();
+					if (parameterCount >= 0) {
+						parameterTypes= new String[parameterCount];
+						for (int i= 0; i < parameterCount; i++) {
+							parameterTypes[i]= readString(in, strings);
+						}
+					}
+					String uniqueId= readString(in, strings);
+					if (!(parent instanceof TestSuiteElement))
+						throw new IOException("Unknown parent of test " + id); //$NON-NLS-1$
+					TestElement testElement= testRunSession.createTestElement((TestSuiteElement) parent, id, testName, isSuite, 0, isDynamicTest, displayName, parameterTypes, uniqueId);
+					elements.put(id, testElement);
+					break;
+				}
+				case RECORD_RESULT: {
+					String id= in.readUTF();
+					ElementResult result= new ElementResult();
+					result.fStatus= Status.convert(in.readByte());
+					result.fCompleted= in.readBoolean();
+					result.fIgnored= in.readBoolean();
+					result.fAssumptionFailed= in.readBoolean();
+					result.fTime= in.readDouble();
+					result.fTrace= readString(in, strings);
+					result.fExpected= readString(in, strings);
+					result.fActual= readString(in, strings);
+					TestElement testElement= elements.get(id);
+					if (testElement == null)
+						throw new IOException("Result for unknown test " + id); //$NON-NLS-1$
+					results.put(testElement, result);
+					break;
+				}
+				case RECORD_END:
+					ended= true;
+					break;
+				default:
+					throw new IOException("Unknown record " + record); //$NON-NLS-1$
+			}
+		}
+		if (!ended)
+			throw new EOFException();
+
+		applyResults(testRunSession, root, results);
+	}
+
+	/*
+	 * Registers the results in the same order as TestRunHandler does for the XML format:
+	 * a suite's own failure before its children, the end of a suite after its children.
+	 */
+	private static void applyResults(TestRunSession testRunSession, TestSuiteElement suite, Map<TestElement, ElementResult> results) {
+		for (TestElement testElement : suite.getAllChildren()) {
+			ElementResult result= results.get(testElement);
+			if (result == null) {
+				if (testElement instanceof TestSuiteElement)
+					applyResults(testRunSession, (TestSuiteElement) testElement, results);
+				testRunSession.registerTestEnded(testElement, false);
+				continue;
+			}
+
+			if (!Double.isNaN(result.fTime))
+				testElement.setElapsedTimeInSeconds(result.fTime);
+			if (testElement instanceof TestCaseElement)
+				((TestCaseElement) testElement).setIgnored(result.fIgnored);
+			if (result.fTrace != null || result.fStatus.isErrorOrFailure())
+				testRunSession.registerTestFailureStatus(testElement, result.fStatus, result.fTrace, result.fExpected, result.fActual);
+			testElement.setAssumptionFailed(result.fAssumptionFailed);
+
+			if (testElement instanceof TestSuiteElement)
+				applyResults(testRunSession, (TestSuiteElement) testElement, results);
+			testRunSession.registerTestEnded(testElement, result.fCompleted);
+		}
+	}
+
+	private static String readString(DataInputStream in, List<String> strings) throws IOException {
+		int index= in.readInt();
+		if (index == NULL_STRING)
+			return null;
+		if (index == NEW_STRING) {
+			byte[] bytes= new byte[in.readInt()];
+			in.readFully(bytes);
+			String string= new String(bytes, StandardCharsets.UTF_8);
+			strings.add(string);
+			return string;
+		}
+		if (index < 0 || index >= strings.size())
+			throw new IOException("Invalid string reference " + index); //$NON-NLS-1$
+		return strings.get(index);
+	}
+}
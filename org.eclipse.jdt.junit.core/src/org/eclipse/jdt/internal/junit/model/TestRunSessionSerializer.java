@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2017 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -158,8 +158,9 @@ public class TestRunSessionSerializer implements XMLReader {
 				String paramTypesStr= Arrays.stream(paramTypes).collect(Collectors.joining(",")); //$NON-NLS-1$
 				addCDATA(atts, IXMLTags.ATTR_PARAMETER_TYPES, paramTypesStr);
 			}
-			if (testCaseElement.getUniqueId() != null) {
-				addCDATA(atts, IXMLTags.ATTR_UNIQUE_ID, testCaseElement.getUniqueId());
+			String uniqueId= testCaseElement.getUniqueId();
+			if (uniqueId != null) {
+				addCDATA(atts, IXMLTags.ATTR_UNIQUE_ID, uniqueId);
 			}
 			startElement(IXMLTags.NODE_TESTCASE, atts);
 			addFailure(testCaseElement);
@@ -59,6 +59,13 @@ public class TestSuiteElement extends TestElement implements ITestSuiteElement {
 		return new ITestElement[0];
 	}
 
+	/**
+	 * @return all children, including a single dynamic test hidden by {@link #getChildren()}
+	 */
+	TestElement[] getAllChildren() {
+		return fChildren.toArray(new TestElement[fChildren.size()]);
+	}
+
 	public void addChild(TestElement child) {
 		fChildren.add(child);
 	}
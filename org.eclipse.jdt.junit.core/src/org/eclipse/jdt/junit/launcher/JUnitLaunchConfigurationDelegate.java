@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2022 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,7 +27,9 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -51,6 +53,7 @@ import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.ILaunchManager;
 
+import org.eclipse.jdt.core.Flags;
 import org.eclipse.jdt.core.IClasspathAttribute;
 import org.eclipse.jdt.core.IClasspathEntry;
 import org.eclipse.jdt.core.ICompilationUnit;
@@ -66,11 +69,14 @@ import org.eclipse.jdt.core.JavaModelException;
 
 import org.eclipse.jdt.internal.junit.JUnitCorePlugin;
 import org.eclipse.jdt.internal.junit.JUnitMessages;
+import org.eclipse.jdt.internal.junit.JUnitPreferencesConstants;
 import org.eclipse.jdt.internal.junit.Messages;
 import org.eclipse.jdt.internal.junit.launcher.ITestKind;
 import org.eclipse.jdt.internal.junit.launcher.JUnitLaunchConfigurationConstants;
 import org.eclipse.jdt.internal.junit.launcher.JUnitRuntimeClasspathEntry;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
+import org.eclipse.jdt.internal.junit.launcher.TestShards;
+import org.eclipse.jdt.internal.junit.model.TestRunHistory;
 import org.eclipse.jdt.internal.junit.util.CoreTestSearchEngine;
 import org.eclipse.jdt.internal.junit.util.IJUnitStatusConstants;
 
@@ -96,6 +102,11 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 	private boolean fKeepAlive= false;
 	private int fPort;
 	private IJavaElement[] fTestElements;
+	/**
+	 * The test classes of each VM of a sharded launch, or <code>null</code>.
+	 */
+	private List<IType[]> fShards;
+	private int[] fShardPorts;
 
 	private static final String DEFAULT= "<default>"; //$NON-NLS-1$
 
@@ -150,7 +161,6 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			fKeepAlive= ILaunchManager.DEBUG_MODE.equals(mode) && configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_KEEPRUNNING, false);
 			fPort= evaluatePort();
-			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
 
 			ITestKind testKind= getTestRunnerKind(configuration);
 			IJavaProject javaProject= getJavaProject(configuration);
@@ -165,6 +175,26 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 				}
 			}
 
+			fShards= null;
+			int shardCount= getShardCount(configuration, mode, testKind);
+			if (shardCount > 1) {
+				IType[] types= collectTestTypes(fTestElements, testKind, subMon.newChild(1));
+				if (types.length > 1) {
+					fShards= TestShards.partition(javaProject, types, shardCount);
+					fShardPorts= evaluatePorts(fShards.size());
+					fPort= fShardPorts[0];
+					fTestElements= fShards.get(0);
+					StringBuilder ports= new StringBuilder();
+					for (int port : fShardPorts) {
+						if (ports.length() > 0)
+							ports.append(',');
+						ports.append(port);
+					}
+					launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_PORTS, ports.toString());
+				}
+			}
+			launch.setAttribute(JUnitLaunchConfigurationConstants.ATTR_PORT, String.valueOf(fPort));
+
 			String mainTypeName= verifyMainTypeName(configuration);
 
 
@@ -179,11 +209,7 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 
 			ArrayList<String> vmArguments= new ArrayList<>();
 			ArrayList<String> programArguments= new ArrayList<>();
-			collectExecutionArguments(configuration, vmArguments, programArguments);
-			vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
-			if (JavaRuntime.isModularProject(javaProject)) {
-				vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
-			}
+			collectArguments(configuration, mode, vmArguments, programArguments);
 
 			// VM-specific attributes
 			Map<String, Object> vmAttributesMap= getVMSpecificAttributesMap(configuration);
@@ -264,6 +290,41 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		}
 	}
 
+	private void collectArguments(ILaunchConfiguration configuration, String mode, List<String> vmArguments, List<String> programArguments) throws CoreException {
+		collectExecutionArguments(configuration, vmArguments, programArguments);
+		vmArguments.addAll(Arrays.asList(DebugPlugin.parseArguments(getVMArguments(configuration, mode))));
+		if (JavaRuntime.isModularProject(getJavaProject(configuration))) {
+			vmArguments.add("--add-modules=ALL-MODULE-PATH"); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * Creates the configuration of a further VM of a sharded launch, for the shard in
+	 * {@link #fTestElements} and {@link #fPort}.
+	 *
+	 * @param configuration the launch configuration
+	 * @param template the configuration of the first VM
+	 * @return the configuration of the VM
+	 * @throws CoreException if the arguments cannot be computed
+	 */
+	private VMRunnerConfiguration createShardConfiguration(ILaunchConfiguration configuration, VMRunnerConfiguration template) throws CoreException {
+		ArrayList<String> vmArguments= new ArrayList<>();
+		ArrayList<String> programArguments= new ArrayList<>();
+		collectArguments(configuration, ILaunchManager.RUN_MODE, vmArguments, programArguments);
+
+		VMRunnerConfiguration runConfig= new VMRunnerConfiguration(template.getClassToLaunch(), template.getClassPath());
+		runConfig.setVMArguments(vmArguments.toArray(new String[vmArguments.size()]));
+		runConfig.setProgramArguments(programArguments.toArray(new String[programArguments.size()]));
+		runConfig.setEnvironment(template.getEnvironment());
+		runConfig.setWorkingDirectory(template.getWorkingDirectory());
+		runConfig.setVMSpecificAttributesMap(template.getVMSpecificAttributesMap());
+		runConfig.setPreviewEnabled(template.isPreviewEnabled());
+		runConfig.setBootClassPath(template.getBootClassPath());
+		runConfig.setModulepath(template.getModulepath());
+		runConfig.setOverrideDependencies(template.getOverrideDependencies());
+		return runConfig;
+	}
+
 	@Override
 	public synchronized void launch(ILaunchConfiguration configuration, String mode, ILaunch launch, IProgressMonitor monitor) throws CoreException {
 		if (monitor == null) {
@@ -285,12 +346,25 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 			// Launch the configuration - 1 unit of work
 			runner.run(runConfig, launch, monitor);
 
+			// launch the further VMs of a sharded launch
+			List<IType[]> shards= fShards;
+			for (int i= 1; shards != null && i < shards.size(); i++) {
+				if (monitor.isCanceled()) {
+					return;
+				}
+				fTestElements= shards.get(i);
+				fPort= fShardPorts[i];
+				runner.run(createShardConfiguration(configuration, runConfig), launch, monitor);
+			}
+
 			// check for cancellation
 			if (monitor.isCanceled()) {
 				return;
 			}
 		} finally {
 			fTestElements= null;
+			fShards= null;
+			fShardPorts= null;
 			monitor.done();
 		}
 	}
@@ -303,6 +377,80 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		return port;
 	}
 
+	private int[] evaluatePorts(int count) throws CoreException {
+		Set<Integer> ports= new LinkedHashSet<>();
+		for (int attempts= 0; ports.size() < count && attempts < count * 4; attempts++) {
+			ports.add(Integer.valueOf(evaluatePort()));
+		}
+		if (ports.size() < count) {
+			abort(JUnitMessages.JUnitLaunchConfigurationDelegate_error_no_socket, null, IJavaLaunchConfigurationConstants.ERR_NO_SOCKET_AVAILABLE);
+		}
+		return ports.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	/**
+	 * Returns the number of VMs to distribute the test classes to. Only JUnit 5 launches in run
+	 * mode that are not restricted to a single test are sharded. The default is taken from the
+	 * system property <code>org.eclipse.jdt.junit.shardCount</code>.
+	 *
+	 * @param configuration the launch configuration
+	 * @param mode the launch mode
+	 * @param testKind the test kind
+	 * @return the number of shards, 1 if the launch is not sharded
+	 * @throws CoreException if an attribute cannot be read
+	 */
+	private int getShardCount(ILaunchConfiguration configuration, String mode, ITestKind testKind) throws CoreException {
+		if (!ILaunchManager.RUN_MODE.equals(mode) || !TestKindRegistry.JUNIT5_TEST_KIND_ID.equals(testKind.getId()))
+			return 1;
+		if (configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_NAME, "").length() > 0 //$NON-NLS-1$
+				|| !configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, "").trim().isEmpty()) //$NON-NLS-1$
+			return 1;
+		return configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_SHARD_COUNT, Integer.getInteger("org.eclipse.jdt.junit.shardCount", 1).intValue()); //$NON-NLS-1$
+	}
+
+	/**
+	 * Collects the test classes of a launch that is to be sharded. Inner classes are run with their
+	 * enclosing classes.
+	 * <p>
+	 * The shards select these classes instead of the package or project of the launch, so a
+	 * sharded launch only runs the classes the JDT test finder finds. Tests that only the JUnit
+	 * Platform discovers in a package, e.g. those of other test engines, are not run.
+	 * </p>
+	 *
+	 * @param testElements the test elements of the launch
+	 * @param testKind the test kind
+	 * @param monitor the progress monitor
+	 * @return the test classes sorted by name, empty if the test elements cannot be split
+	 * @throws CoreException if the search for tests failed
+	 */
+	private IType[] collectTestTypes(IJavaElement[] testElements, ITestKind testKind, IProgressMonitor monitor) throws CoreException {
+		Set<IType> types= new HashSet<>();
+		if (testElements.length == 1 && testElements[0] instanceof IPackageFragmentRoot packageFragmentRoot) {
+			types.addAll(enumerateTypesInPackage(packageFragmentRoot));
+		} else if (testElements.length == 1 && testElements[0] instanceof IPackageFragment packageFragment) {
+			String packageName= getPackageName(packageFragment.getElementName());
+			for (IJavaElement child : ((IPackageFragmentRoot) packageFragment.getParent()).getChildren()) {
+				if (child instanceof IPackageFragment && getPackageName(child.getElementName()).startsWith(packageName))
+					testKind.getFinder().findTestsInContainer(child, types, monitor);
+			}
+		} else if (testElements.length == 1 && testElements[0] instanceof IJavaProject javaProject) {
+			testKind.getFinder().findTestsInContainer(javaProject, types, monitor);
+		} else {
+			for (IJavaElement testElement : testElements) {
+				if (!(testElement instanceof IType))
+					return new IType[0];
+				types.add((IType) testElement);
+			}
+		}
+		List<IType> result= new ArrayList<>(types.size());
+		for (IType type : types) {
+			if (type.getDeclaringType() == null || Flags.isStatic(type.getFlags()))
+				result.add(type);
+		}
+		result.sort(Comparator.comparing(IType::getFullyQualifiedName));
+		return result.toArray(new IType[result.size()]);
+	}
+
 	/**
 	 * Performs a check on the launch configuration's attributes. If an attribute contains an invalid value, a {@link CoreException}
 	 * with the error is thrown.
@@ -438,6 +586,10 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		if (fKeepAlive)
 			programArguments.add(0, "-keepalive"); //$NON-NLS-1$
 
+		// runtimes that don't know the argument ignore it and send text messages
+		if (JUnitPreferencesConstants.getFramedProtocol())
+			programArguments.add("-framedprotocol"); //$NON-NLS-1$
+
 		ITestKind testRunnerKind= getTestRunnerKind(configuration);
 
 		programArguments.add("-testLoaderClass"); //$NON-NLS-1$
@@ -494,6 +646,13 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		if (testFailureNames.length() > 0) {
 			programArguments.add("-testfailures"); //$NON-NLS-1$
 			programArguments.add(testFailureNames);
+		} else if (JUnitPreferencesConstants.getPrioritizeByHistory()) {
+			// runtimes that don't know the argument ignore it and run the tests in their usual order
+			String fileName= createTestPrioritiesFile(getJavaProject(configuration));
+			if (fileName != null) {
+				programArguments.add("-testpriorities"); //$NON-NLS-1$
+				programArguments.add(fileName);
+			}
 		}
 
 		String uniqueId= configuration.getAttribute(JUnitLaunchConfigurationConstants.ATTR_TEST_UNIQUE_ID, ""); //$NON-NLS-1$
@@ -680,6 +839,35 @@ public class JUnitLaunchConfigurationDelegate extends AbstractJavaLaunchConfigur
 		}
 	}
 
+	/**
+	 * Writes the names of the tests of a project in the order given by the {@link TestRunHistory}.
+	 *
+	 * @param javaProject the project of the tests
+	 * @return the path of the file, or <code>null</code> if no test of the project has been run
+	 *         before
+	 * @throws CoreException if the file cannot be written
+	 */
+	private String createTestPrioritiesFile(IJavaProject javaProject) throws CoreException {
+		if (javaProject == null)
+			return null;
+		List<String> testNames= TestRunHistory.getDefault().getPrioritizedTestNames(javaProject);
+		if (testNames.isEmpty())
+			return null;
+		try {
+			File file= File.createTempFile("testPriorities", ".txt"); //$NON-NLS-1$ //$NON-NLS-2$
+			file.deleteOnExit();
+			try (BufferedWriter bw= new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+				for (String testName : testNames) {
+					bw.write(testName);
+					bw.newLine();
+				}
+			}
+			return file.getAbsolutePath();
+		} catch (IOException e) {
+			throw new CoreException(new Status(IStatus.ERROR, JUnitCorePlugin.CORE_PLUGIN_ID, IStatus.ERROR, "", e)); //$NON-NLS-1$
+		}
+	}
+
 	@Override
 	public String[][] getClasspathAndModulepath(ILaunchConfiguration configuration) throws CoreException {
 		String[][] cpmp= super.getClasspathAndModulepath(configuration);
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Reads the messages written by a {@link FramedMessageSender} and returns them in the format of
+ * the {@link MessageIds} text protocol, one message at a time.
+ */
+public class FramedMessageReader {
+
+	private final DataInputStream fIn;
+	private final String fLineSeparator;
+
+	private byte[] fFrame= new byte[0];
+	private int fFrameLength;
+	private int fPosition;
+
+	private final ArrayList<String> fStrings= new ArrayList<>();
+
+	/**
+	 * Tells whether the given stream starts with a framed message stream. Does not consume any
+	 * bytes.
+	 *
+	 * @param in the stream, must support {@link InputStream#mark(int)}
+	 * @return <code>true</code> iff the stream has been written by a {@link FramedMessageSender}
+	 * @throws IOException if reading fails
+	 */
+	public static boolean isFramed(InputStream in) throws IOException {
+		byte[] magic= FramedMessageSender.MAGIC;
+		in.mark(magic.length);
+		try {
+			for (byte b : magic) {
+				if (in.read() != b)
+					return false;
+			}
+			return true;
+		} finally {
+			in.reset();
+		}
+	}
+
+	/**
+	 * Creates a reader and reads the stream header.
+	 *
+	 * @param in the stream to read from
+	 * @throws IOException if the header is invalid or cannot be read
+	 */
+	public FramedMessageReader(InputStream in) throws IOException {
+		fIn= new DataInputStream(in);
+		byte[] magic= new byte[FramedMessageSender.MAGIC.length];
+		fIn.readFully(magic);
+		for (int i= 0; i < magic.length; i++) {
+			if (magic[i] != FramedMessageSender.MAGIC[i])
+				throw new IOException("Not a framed message stream"); //$NON-NLS-1$
+		}
+		int version= fIn.readUnsignedByte();
+		if (version != FramedMessageSender.VERSION)
+			throw new IOException("Unsupported framed message version: " + version); //$NON-NLS-1$
+		fLineSeparator= readHeaderString();
+	}
+
+	/**
+	 * @return the line separator of the sending VM, which terminated the lines of the text protocol
+	 */
+	public String getLineSeparator() {
+		return fLineSeparator;
+	}
+
+	/**
+	 * Reads the next message.
+	 *
+	 * @return the message in the text format or <code>null</code> at the end of the stream
+	 * @throws IOException if reading fails
+	 */
+	public String readMessage() throws IOException {
+		if (fPosition == fFrameLength && !readFrame())
+			return null;
+
+		int kind= readByte();
+		if (kind == FramedMessageSender.KIND_RAW)
+			return readString();
+
+		boolean hasTestId= (kind & FramedMessageSender.KIND_TEST_ID) != 0;
+		kind&= ~FramedMessageSender.KIND_TEST_ID;
+		if (kind < 1 || kind > FramedMessageSender.HEADERS.length)
+			throw new IOException("Invalid message kind: " + kind); //$NON-NLS-1$
+		String header= FramedMessageSender.HEADERS[kind - 1];
+		if (!hasTestId)
+			return header + readString();
+
+		int testId= readVarInt();
+		String rest= FramedMessageSender.hasTestName(kind) ? readStringRef() : readString();
+		return header + testId + ',' + rest;
+	}
+
+	private boolean readFrame() throws IOException {
+		int length;
+		try {
+			length= fIn.readInt();
+		} catch (EOFException e) {
+			return false;
+		}
+		if (length <= 0)
+			throw new IOException("Invalid frame length: " + length); //$NON-NLS-1$
+		if (fFrame.length < length)
+			fFrame= new byte[length];
+		fIn.readFully(fFrame, 0, length);
+		fFrameLength= length;
+		fPosition= 0;
+		return true;
+	}
+
+	private int readByte() throws IOException {
+		if (fPosition >= fFrameLength)
+			throw new EOFException();
+		return fFrame[fPosition++] & 0xFF;
+	}
+
+	private int readVarInt() throws IOException {
+		int value= 0;
+		for (int shift= 0; shift < 32; shift+= 7) {
+			int b= readByte();
+			value|= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				return value;
+		}
+		throw new IOException("Malformed variable length integer"); //$NON-NLS-1$
+	}
+
+	private String readString() throws IOException {
+		int length= readVarInt();
+		if (length < 0 || length > fFrameLength - fPosition)
+			throw new EOFException();
+		String string= new String(fFrame, fPosition, length, StandardCharsets.UTF_8);
+		fPosition+= length;
+		return string;
+	}
+
+	private String readStringRef() throws IOException {
+		int index= readVarInt();
+		if (index == 0) {
+			String string= readString();
+			fStrings.add(string);
+			return string;
+		}
+		if (index > fStrings.size())
+			throw new IOException("Invalid string reference: " + index); //$NON-NLS-1$
+		return fStrings.get(index - 1);
+	}
+
+	private String readHeaderString() throws IOException {
+		int length= 0;
+		for (int shift= 0; ; shift+= 7) {
+			if (shift >= 32)
+				throw new IOException("Malformed variable length integer"); //$NON-NLS-1$
+			int b= fIn.readUnsignedByte();
+			length|= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0)
+				break;
+		}
+		byte[] bytes= new byte[length];
+		fIn.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
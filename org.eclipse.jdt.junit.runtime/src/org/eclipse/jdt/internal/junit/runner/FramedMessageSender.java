@@ -0,0 +1,307 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+/**
+ * A {@link MessageSender} that encodes the {@link MessageIds} messages in binary frames.
+ * <p>
+ * The messages of a time slice are collected and sent as one frame. Test ids are written as
+ * integers and test names are sent only once per connection and referenced by index afterwards.
+ * A daemon thread sends pending messages at the end of their time slice, so that a long running
+ * test does not delay the previous events. {@link #flush()} does nothing, since the runner flushes
+ * after every test event. The last messages are written by {@link #close()}, or by a shutdown hook
+ * if the test VM exits without closing the sender.
+ * </p>
+ * <p>
+ * The stream starts with {@link #MAGIC}, which cannot start a message of the text protocol. See
+ * {@link FramedMessageReader} for the receiving side.
+ * </p>
+ * <p>
+ * Stream format:
+ * <pre>
+ * stream:  MAGIC VERSION lineSeparator:string frame*
+ * frame:   length:int32 message*
+ * message: kind:byte [testId:varint] [argument:string | argument:stringRef]
+ * string:  length:varint utf8-bytes
+ * stringRef: 0 string | index+1:varint
+ * </pre>
+ * </p>
+ */
+public class FramedMessageSender implements MessageSender {
+
+	/**
+	 * First bytes of a framed message stream.
+	 */
+	public static final byte[] MAGIC= { 0, 'J', 'F', 'M' };
+
+	public static final int VERSION= 1;
+
+	/**
+	 * Default length of a time slice in milliseconds.
+	 */
+	public static final int DEFAULT_TIME_SLICE= 50;
+
+	/**
+	 * A message that does not start with one of the {@link #HEADERS}, e.g. a line of a trace.
+	 */
+	static final int KIND_RAW= 0;
+
+	/**
+	 * Flag for kinds of messages whose argument starts with a test id created by {@link TestIdMap}.
+	 */
+	static final int KIND_TEST_ID= 0x40;
+
+	/**
+	 * The message headers. The kind of a message is the index of its header + 1.
+	 */
+	static final String[] HEADERS= {
+			MessageIds.TRACE_START,
+			MessageIds.TRACE_END,
+			MessageIds.EXPECTED_START,
+			MessageIds.EXPECTED_END,
+			MessageIds.ACTUAL_START,
+			MessageIds.ACTUAL_END,
+			MessageIds.RTRACE_START,
+			MessageIds.RTRACE_END,
+			MessageIds.TEST_RUN_START,
+			MessageIds.TEST_START,
+			MessageIds.TEST_END,
+			MessageIds.TEST_ERROR,
+			MessageIds.TEST_FAILED,
+			MessageIds.TEST_RUN_END,
+			MessageIds.TEST_STOPPED,
+			MessageIds.TEST_RERAN,
+			MessageIds.TEST_TREE,
+	};
+
+	/**
+	 * @param kind the kind of a message, without {@link #KIND_TEST_ID}
+	 * @return whether the argument of the message after the test id is a test name, which is sent
+	 *         via the string table
+	 */
+	static boolean hasTestName(int kind) {
+		String header= HEADERS[kind - 1];
+		return header == MessageIds.TEST_START || header == MessageIds.TEST_END
+				|| header == MessageIds.TEST_ERROR || header == MessageIds.TEST_FAILED;
+	}
+
+	private static final int MAX_FRAME_SIZE= 64 * 1024;
+
+	private final OutputStream fOut;
+	private final long fTimeSlice;
+
+	private final ByteArrayOutputStream fFrame= new ByteArrayOutputStream(MAX_FRAME_SIZE);
+	private final DataOutputStream fFrameData= new DataOutputStream(fFrame);
+	private long fFrameStart;
+
+	private final HashMap<String, Integer> fStrings= new HashMap<>();
+
+	private final Thread fShutdownHook;
+
+	private IOException fException;
+	private boolean fClosed;
+
+	/**
+	 * Creates a sender and writes the stream header.
+	 *
+	 * @param out the stream to write to
+	 * @param timeSlice the time in milliseconds for which messages are collected into a frame
+	 * @throws IOException if the header could not be written
+	 */
+	public FramedMessageSender(OutputStream out, int timeSlice) throws IOException {
+		fOut= out;
+		fTimeSlice= timeSlice * 1_000_000L;
+
+		DataOutputStream header= new DataOutputStream(out);
+		header.write(MAGIC);
+		header.writeByte(VERSION);
+		writeString(header, System.lineSeparator());
+		header.flush();
+
+		Thread flusher= new Thread("FramedMessageSender") { //$NON-NLS-1$
+			@Override
+			public void run() {
+				flushPeriodically();
+			}
+		};
+		flusher.setDaemon(true);
+		flusher.start();
+
+		fShutdownHook= new Thread("FramedMessageSender shutdown") { //$NON-NLS-1$
+			@Override
+			public void run() {
+				try {
+					close();
+				} catch (IOException e) {
+					// the client is gone
+				}
+			}
+		};
+		Runtime.getRuntime().addShutdownHook(fShutdownHook);
+	}
+
+	@Override
+	public synchronized void sendMessage(String msg) {
+		if (fClosed)
+			return;
+		try {
+			if (fFrame.size() == 0)
+				fFrameStart= System.nanoTime();
+			writeMessage(msg);
+			if (fFrame.size() >= MAX_FRAME_SIZE || System.nanoTime() - fFrameStart >= fTimeSlice)
+				writeFrame();
+		} catch (IOException e) {
+			fail(e);
+		}
+	}
+
+	/**
+	 * Does nothing. Pending messages are written at the end of their time slice, so that the events
+	 * of many short tests are sent in one frame.
+	 */
+	@Override
+	public void flush() {
+	}
+
+	/**
+	 * Writes pending messages and stops sending.
+	 *
+	 * @throws IOException if the messages could not be written, including earlier failures
+	 */
+	public synchronized void close() throws IOException {
+		if (fClosed)
+			return;
+		try {
+			writeFrame();
+		} catch (IOException e) {
+			fail(e);
+		}
+		fClosed= true;
+		notifyAll();
+		if (Thread.currentThread() != fShutdownHook) {
+			try {
+				Runtime.getRuntime().removeShutdownHook(fShutdownHook);
+			} catch (IllegalStateException e) {
+				// the VM is shutting down
+			}
+		}
+		if (fException != null)
+			throw fException;
+	}
+
+	private synchronized void flushPeriodically() {
+		long sliceMillis= Math.max(1, fTimeSlice / 1_000_000L);
+		while (!fClosed) {
+			try {
+				wait(sliceMillis);
+			} catch (InterruptedException e) {
+				return;
+			}
+			if (fClosed || fFrame.size() == 0)
+				continue;
+			try {
+				writeFrame();
+			} catch (IOException e) {
+				fail(e);
+			}
+		}
+	}
+
+	private void fail(IOException e) {
+		if (fException == null)
+			fException= e;
+		fClosed= true;
+		fFrame.reset();
+	}
+
+	private void writeFrame() throws IOException {
+		if (fFrame.size() == 0)
+			return;
+		int size= fFrame.size();
+		fOut.write(size >>> 24);
+		fOut.write(size >>> 16);
+		fOut.write(size >>> 8);
+		fOut.write(size);
+		fFrame.writeTo(fOut);
+		fOut.flush();
+		fFrame.reset();
+	}
+
+	private void writeMessage(String msg) throws IOException {
+		int kind= KIND_RAW;
+		if (msg.length() >= MessageIds.MSG_HEADER_LENGTH) {
+			for (int i= 0; i < HEADERS.length; i++) {
+				if (msg.startsWith(HEADERS[i])) {
+					kind= i + 1;
+					break;
+				}
+			}
+		}
+		if (kind == KIND_RAW) {
+			fFrameData.writeByte(KIND_RAW);
+			writeString(fFrameData, msg);
+			return;
+		}
+
+		String argument= msg.substring(MessageIds.MSG_HEADER_LENGTH);
+		int comma= argument.indexOf(',');
+		int testId= comma > 0 ? TestIdMap.toInt(argument.substring(0, comma)) : -1;
+		if (testId < 0 || !(hasTestName(kind) || HEADERS[kind - 1] == MessageIds.TEST_TREE)) {
+			fFrameData.writeByte(kind);
+			writeString(fFrameData, argument);
+			return;
+		}
+
+		fFrameData.writeByte(kind | KIND_TEST_ID);
+		writeVarInt(fFrameData, testId);
+		String rest= argument.substring(comma + 1);
+		if (hasTestName(kind))
+			writeStringRef(rest);
+		else
+			writeString(fFrameData, rest);
+	}
+
+	private void writeStringRef(String string) throws IOException {
+		Integer index= fStrings.get(string);
+		if (index != null) {
+			writeVarInt(fFrameData, index.intValue() + 1);
+			return;
+		}
+		fStrings.put(string, Integer.valueOf(fStrings.size()));
+		writeVarInt(fFrameData, 0);
+		writeString(fFrameData, string);
+	}
+
+	private static void writeString(DataOutputStream out, String string) throws IOException {
+		byte[] bytes= string.getBytes(StandardCharsets.UTF_8);
+		writeVarInt(out, bytes.length);
+		out.write(bytes);
+	}
+
+	private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+		while ((value & ~0x7F) != 0) {
+			out.writeByte((value & 0x7F) | 0x80);
+			value>>>= 7;
+		}
+		out.writeByte(value);
+	}
+}
@@ -0,0 +1,67 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.util.Enumeration;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Vector;
+
+import junit.extensions.TestDecorator;
+import junit.framework.Test;
+import junit.framework.TestCase;
+import junit.framework.TestSuite;
+
+/**
+ * Reorders the tests of each suite by their {@link TestRanking}. A suite ranks like its best
+ * ranked test; tests of the same rank keep their order.
+ */
+public class RankingPrioritizer implements ITestPrioritizer {
+	private final TestRanking fRanking;
+
+	public RankingPrioritizer(TestRanking ranking) {
+		fRanking= ranking;
+	}
+
+	@Override
+	public Test prioritize(Test suite) {
+		doPrioritize(suite);
+		return suite;
+	}
+
+	private int doPrioritize(Test test) {
+		if (test instanceof TestCase) {
+			return fRanking.getRank(test.toString());
+		} else if (test instanceof TestSuite) {
+			@SuppressWarnings("unchecked")
+			Vector<Test> tests= (Vector<Test>) FailuresFirstPrioritizer.getField(test, "fTests"); //$NON-NLS-1$
+			Map<Test, Integer> ranks= new IdentityHashMap<>();
+			int best= Integer.MAX_VALUE;
+			for (Enumeration<Test> e= ((TestSuite) test).tests(); e.hasMoreElements();) {
+				Test child= e.nextElement();
+				int rank= doPrioritize(child);
+				ranks.put(child, Integer.valueOf(rank));
+				best= Math.min(best, rank);
+			}
+			if (tests != null)
+				tests.sort((t1, t2) -> Integer.compare(ranks.get(t1).intValue(), ranks.get(t2).intValue()));
+			return best != Integer.MAX_VALUE ? best : fRanking.getUnknownRank();
+		} else if (test instanceof TestDecorator) {
+			return doPrioritize(((TestDecorator) test).getTest());
+		}
+		return fRanking.getUnknownRank();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -91,6 +91,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Print writer for sending messages
 	 */
 	private PrintWriter fWriter;
+	/**
+	 * Sender for messages in binary frames, or <code>null</code> if messages are sent as text
+	 */
+	private FramedMessageSender fFramedSender;
 	/**
 	 * Reader for incoming messages
 	 */
@@ -107,6 +111,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Is the debug mode enabled?
 	 */
 	private boolean fDebugMode= false;
+	/**
+	 * Has the client offered to receive messages in binary frames?
+	 */
+	private boolean fFramedProtocol= false;
 	/**
 	 * Keep the test run server alive after a test run has finished.
 	 * This allows to rerun tests.
@@ -131,6 +139,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	private String[] fFailureNames;
 
+	private TestRanking fTestRanking;
+
 	private ITestLoader fLoader;
 
 	private MessageSender fSender;
@@ -202,6 +212,7 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * -host: the host to connect to default local host
 	 * -port: the port to connect to, mandatory argument
 	 * -keepalive: keep the process alive after a test run
+	 * -framedprotocol: send messages in binary frames, see FramedMessageSender
      * </pre>
      */
 	public static void main(String[] args) {
@@ -286,6 +297,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 				}
 				i++;
 
+			} else if ("-testpriorities".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				String testPrioritiesFile= args[i+1];
+				try {
+					readTestPriorities(testPrioritiesFile);
+				} catch (IOException e) {
+					throw new IllegalArgumentException("Cannot read testpriorities file.");		 //$NON-NLS-1$
+				}
+				i++;
+
 			} else if("-port".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fPort= Integer.parseInt(args[i+1]);
 				i++;
@@ -301,6 +321,9 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 			else if("-keepalive".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
 				fKeepAlive= true;
 			}
+			else if("-framedprotocol".equalsIgnoreCase(args[i])) { //$NON-NLS-1$
+				fFramedProtocol= true;
+			}
 			else if("-debugging".equalsIgnoreCase(args[i]) || "-debug".equalsIgnoreCase(args[i])){ //$NON-NLS-1$ //$NON-NLS-2$
 			    fDebugMode= true;
 
@@ -427,6 +450,17 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		}
 	}
 
+	private void readTestPriorities(String testPrioritiesFile) throws IOException {
+		String[] testNames= readLines(testPrioritiesFile);
+		fTestRanking= new TestRanking(testNames);
+		if (fDebugMode) {
+			System.out.println("Priorities:"); //$NON-NLS-1$
+			for (String testName : testNames) {
+				System.out.println("    "+testName); //$NON-NLS-1$
+			}
+		}
+	}
+
 	/**
 	 * Connects to the remote ports and runs the tests.
 	 */
@@ -501,6 +535,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * @param execution executor
 	 */
 	private void runTests(String[] testClassNames, String testName, TestExecution execution) {
+		if (fFailureNames == null && fTestRanking != null)
+			testClassNames= fTestRanking.sortClassNames(testClassNames);
 		ITestReference[] suites= fLoader.loadTests(loadClasses(testClassNames), testName, fFailureNames, fPackageNames, fIncludeExcludeTags, fUniqueId, this);
 
 		// count all testMethods and inform ITestRunListeners
@@ -644,6 +680,8 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	            } catch (UnsupportedEncodingException e1) {
 	                fWriter= new PrintWriter(new BufferedWriter(new OutputStreamWriter(fClientSocket.getOutputStream())), false/*true*/);
 	            }
+				if (fFramedProtocol)
+					fFramedSender= new FramedMessageSender(fClientSocket.getOutputStream(), FramedMessageSender.DEFAULT_TIME_SLICE);
 				try {
 				    fReader= new BufferedReader(new InputStreamReader(fClientSocket.getInputStream(), StandardCharsets.UTF_8));
                 } catch (UnsupportedEncodingException e1) {
@@ -668,6 +706,15 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	 * Shutsdown the connection to the remote test listener.
 	 */
 	private void shutDown() {
+		if (fFramedSender != null) {
+			try {
+				fFramedSender.close();
+			} catch (IOException e) {
+				if (fDebugMode)
+					e.printStackTrace();
+			}
+			fFramedSender= null;
+		}
 		if (fWriter != null) {
 			fWriter.close();
 			fWriter= null;
@@ -701,6 +748,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void sendMessage(String msg) {
+		if (fFramedSender != null) {
+			fFramedSender.sendMessage(msg);
+			return;
+		}
 		if(fWriter == null)
 			return;
 		fWriter.println(msg);
@@ -715,15 +766,32 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 	private void notifyTestRunEnded(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_RUN_END + elapsedTime);
 		fSender.flush();
+		closeFramedSender();
 		//shutDown();
 	}
 
 	protected void notifyTestRunStopped(long elapsedTime) {
 		fSender.sendMessage(MessageIds.TEST_STOPPED + elapsedTime);
 		fSender.flush();
+		closeFramedSender();
 		//shutDown();
 	}
 
+	/**
+	 * Writes the last frame at the end of a run. The sender is kept, so that later messages are not
+	 * sent as text. When reruns are expected, the frames are left to the time slices.
+	 */
+	private void closeFramedSender() {
+		if (fFramedSender == null || fKeepAlive)
+			return;
+		try {
+			fFramedSender.close();
+		} catch (IOException e) {
+			if (fDebugMode)
+				e.printStackTrace();
+		}
+	}
+
 	protected void notifyTestTreeEntry(String treeEntry) {
 		fSender.sendMessage(MessageIds.TEST_TREE + treeEntry);
 	}
@@ -741,6 +809,10 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 
 	@Override
 	public void flush() {
+		if (fFramedSender != null) {
+			fFramedSender.flush();
+			return;
+		}
 	    fWriter.flush();
 	}
 
@@ -752,6 +824,14 @@ public class RemoteTestRunner implements MessageSender, IVisitsTestTrees {
 		return fLoader;
 	}
 
+	/**
+	 * @return the order in which the client wants the tests to run, or <code>null</code> if the
+	 *         tests should run in their usual order
+	 */
+	public TestRanking getTestRanking() {
+		return fTestRanking;
+	}
+
 	public Class<?> loadClass(String className, RemoteTestRunner listener) {
 		Class<?> clazz= null;
 		try {
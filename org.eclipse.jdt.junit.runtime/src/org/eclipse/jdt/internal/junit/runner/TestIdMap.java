@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -35,4 +35,24 @@ public class TestIdMap {
 	public String getTestId(ITestReference ref) { // not used
 		return getTestId(ref.getIdentifier());
 	}
+
+	/**
+	 * Returns the integer value of a test id created by a test id map.
+	 *
+	 * @param testId the test id
+	 * @return the integer value, or -1 if the id has not been created by a test id map
+	 */
+	public static int toInt(String testId) {
+		int length= testId.length();
+		if (length == 0 || length > 9 || testId.charAt(0) == '0')
+			return -1;
+		int value= 0;
+		for (int i= 0; i < length; i++) {
+			char c= testId.charAt(i);
+			if (c < '0' || c > '9')
+				return -1;
+			value= value * 10 + (c - '0');
+		}
+		return value;
+	}
 }
@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit.runner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The order in which tests should run, as computed by the client from the history of past test
+ * runs. The client sends the names of the tests in the form <code>method(class)</code>, highest
+ * priority first, and an empty name at the position of the tests it has no history for.
+ * <p>
+ * A class ranks like its best ranked test, including the tests of its nested classes.
+ * </p>
+ */
+public class TestRanking {
+
+	private final Map<String, Integer> fRanks= new HashMap<>();
+
+	private final Map<String, Integer> fClassRanks= new HashMap<>();
+
+	/**
+	 * The names of the ranked tests of each class and its nested classes, in rank order and with
+	 * an empty name at the position of the unknown tests.
+	 */
+	private final Map<String, List<String>> fClassTestNames= new HashMap<>();
+
+	private final List<String> fTestNames= new ArrayList<>();
+
+	private final int fUnknownRank;
+
+	/**
+	 * @param testNames the names of the tests in the order in which they should run
+	 */
+	public TestRanking(String[] testNames) {
+		int unknownRank= testNames.length;
+		for (int rank= 0; rank < testNames.length; rank++) {
+			String testName= testNames[rank];
+			if (testName.isEmpty()) {
+				if (unknownRank == testNames.length)
+					fTestNames.add(testName);
+				unknownRank= Math.min(unknownRank, rank);
+				continue;
+			}
+			Integer value= Integer.valueOf(rank);
+			if (fRanks.putIfAbsent(testName, value) != null)
+				continue;
+			fTestNames.add(testName);
+			String className= getClassName(testName);
+			while (className != null) {
+				fClassRanks.putIfAbsent(className, value);
+				fClassTestNames.computeIfAbsent(className, k -> new ArrayList<>()).add(testName);
+				int nested= className.lastIndexOf('$');
+				className= nested != -1 ? className.substring(0, nested) : null;
+			}
+		}
+		fUnknownRank= unknownRank;
+		for (List<String> classTestNames : fClassTestNames.values()) {
+			// the names are in rank order, so the unknown tests go before the first one ranked lower
+			int low= 0;
+			int high= classTestNames.size();
+			while (low < high) {
+				int middle= (low + high) >>> 1;
+				if (getRank(classTestNames.get(middle)) < unknownRank)
+					low= middle + 1;
+				else
+					high= middle;
+			}
+			classTestNames.add(low, ""); //$NON-NLS-1$
+		}
+	}
+
+	/**
+	 * @param testName the name of a test in the form <code>method(class)</code>
+	 * @return the rank of the test, lower ranks run first
+	 */
+	public int getRank(String testName) {
+		Integer rank= fRanks.get(testName);
+		return rank != null ? rank.intValue() : fUnknownRank;
+	}
+
+	/**
+	 * @param className the fully qualified name of a test class
+	 * @return the rank of the best ranked test of the class, lower ranks run first
+	 */
+	public int getClassRank(String className) {
+		Integer rank= fClassRanks.get(className);
+		return rank != null ? rank.intValue() : fUnknownRank;
+	}
+
+	/**
+	 * @return the rank of the tests that have not been run before
+	 */
+	public int getUnknownRank() {
+		return fUnknownRank;
+	}
+
+	/**
+	 * Sorts test classes by their rank. Classes of the same rank keep their order.
+	 *
+	 * @param classNames the fully qualified names of the test classes
+	 * @return the sorted names
+	 */
+	public String[] sortClassNames(String[] classNames) {
+		String[] sorted= classNames.clone();
+		Arrays.sort(sorted, Comparator.comparingInt(this::getClassRank));
+		return sorted;
+	}
+
+	/**
+	 * Returns the names of the tests of a class and of its nested classes in the order in which
+	 * they should run, with an empty name at the position of the tests that have not been run
+	 * before.
+	 *
+	 * @param className the fully qualified name of a test class
+	 * @return the test names, or an empty list if no test of the class has been run before
+	 */
+	public List<String> getTestNames(String className) {
+		List<String> names= fClassTestNames.get(className);
+		return names != null ? Collections.unmodifiableList(names) : Collections.emptyList();
+	}
+
+	/**
+	 * Returns the names of all ranked tests in the order in which they should run, with an empty
+	 * name at the position of the tests that have not been run before.
+	 *
+	 * @return the test names
+	 */
+	public List<String> getTestNames() {
+		return Collections.unmodifiableList(fTestNames);
+	}
+
+	/**
+	 * @param testName the name of a test in the form <code>method(class)</code>
+	 * @return the name of the class, or <code>null</code> if the name has another form
+	 */
+	public static String getClassName(String testName) {
+		int start= testName.lastIndexOf('(');
+		if (start == -1 || !testName.endsWith(")")) //$NON-NLS-1$
+			return null;
+		return testName.substring(start + 1, testName.length() - 1);
+	}
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.ui;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The interval of the periodic refresh of the test viewers while tests are running.
+ * <p>
+ * A refresh applies changes in batches until its time budget is used up, so it overshoots the
+ * budget by at most the batch that was running at the deadline. The interval grows when the UI
+ * thread is busy, i.e. when a refresh starts late or a single batch takes longer than the budget,
+ * and shrinks back when the UI thread is idle. While a refresh leaves changes for the next one,
+ * the interval is kept at its minimum, as long as the UI thread keeps up.
+ * </p>
+ * <p>
+ * This class is to be used in the UI thread only.
+ * </p>
+ */
+public final class AdaptiveRefreshRate {
+
+	public static final int MIN_INTERVAL= 50;
+
+	public static final int MAX_INTERVAL= 1000;
+
+	/**
+	 * The time in milliseconds a refresh may spend in the UI thread.
+	 */
+	public static final int FRAME_BUDGET= 25;
+
+	private int fInterval;
+
+	/**
+	 * The {@link System#nanoTime()} at which the next refresh is due.
+	 */
+	private long fDue;
+
+	/**
+	 * @param interval the initial interval in milliseconds
+	 */
+	public AdaptiveRefreshRate(int interval) {
+		fInterval= Math.max(MIN_INTERVAL, Math.min(MAX_INTERVAL, interval));
+	}
+
+	/**
+	 * Returns the delay of the next refresh and records when it is due.
+	 *
+	 * @return the interval in milliseconds
+	 */
+	public int schedule() {
+		fDue= System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(fInterval);
+		return fInterval;
+	}
+
+	/**
+	 * @return the {@link System#nanoTime()} until which a refresh that starts now may apply changes
+	 */
+	public static long getDeadline() {
+		return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FRAME_BUDGET);
+	}
+
+	/**
+	 * Adapts the interval to a refresh that has just finished.
+	 *
+	 * @param start the {@link System#nanoTime()} at which the refresh started
+	 * @param end the {@link System#nanoTime()} at which the refresh ended
+	 * @param pending whether changes are left for the next refresh
+	 */
+	public void refreshed(long start, long end, boolean pending) {
+		long latency= TimeUnit.NANOSECONDS.toMillis(start - fDue);
+		long overshoot= TimeUnit.NANOSECONDS.toMillis(end - start) - FRAME_BUDGET;
+		if (latency > fInterval / 2 || overshoot > FRAME_BUDGET) {
+			fInterval= Math.min(MAX_INTERVAL, fInterval * 3 / 2);
+		} else if (pending) {
+			fInterval= MIN_INTERVAL;
+		} else if (latency < FRAME_BUDGET && overshoot < -FRAME_BUDGET / 2) {
+			fInterval= Math.max(MIN_INTERVAL, fInterval * 3 / 4);
+		}
+	}
+
+	public int getInterval() {
+		return fInterval;
+	}
+}
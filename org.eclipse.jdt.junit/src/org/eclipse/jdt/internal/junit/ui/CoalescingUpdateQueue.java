@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * A lock-free queue of elements that have changed in the model and wait to be shown in a viewer.
+ * An element that is added again before it has been polled is queued only once, at its first
+ * position.
+ * <p>
+ * This class is thread safe. Elements are usually added by the thread that receives the test
+ * results and polled in the UI thread.
+ * </p>
+ *
+ * @param <E> the type of the elements
+ */
+public final class CoalescingUpdateQueue<E> {
+
+	private final ConcurrentLinkedQueue<E> fQueue= new ConcurrentLinkedQueue<>();
+
+	private final Set<E> fPending= ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param element the element to add, unless it is already queued
+	 */
+	public void add(E element) {
+		if (fPending.add(element))
+			fQueue.add(element);
+	}
+
+	/**
+	 * Removes up to <code>max</code> elements from the head of the queue.
+	 *
+	 * @param max the maximum number of elements to return
+	 * @return the removed elements in the order they were added, can be empty
+	 */
+	public List<E> poll(int max) {
+		List<E> elements= new ArrayList<>(Math.min(max, 64));
+		E element;
+		while (elements.size() < max && (element= fQueue.poll()) != null) {
+			fPending.remove(element);
+			elements.add(element);
+		}
+		return elements;
+	}
+
+	public boolean isEmpty() {
+		return fQueue.isEmpty();
+	}
+
+	public void clear() {
+		E element;
+		while ((element= fQueue.poll()) != null) {
+			fPending.remove(element);
+		}
+	}
+}
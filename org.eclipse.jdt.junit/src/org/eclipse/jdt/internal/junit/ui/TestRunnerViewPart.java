@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -765,10 +765,11 @@ public class TestRunnerViewPart extends ViewPart {
 					return;
 				fStopAction.setEnabled(lastLaunchIsKeptAlive());
 				updateRerunFailedFirstAction();
-				processChangesInUI();
-				if (hasErrorsOrFailures()) {
-					selectFirstFailure();
-				}
+				processChangesInFrames(() -> {
+					if (hasErrorsOrFailures()) {
+						selectFirstFailure();
+					}
+				});
 				if (fDirtyListener == null) {
 					fDirtyListener= new DirtyListener();
 					JavaCore.addElementChangedListener(fDirtyListener);
@@ -870,6 +871,7 @@ public class TestRunnerViewPart extends ViewPart {
 
 	private class UpdateUIJob extends UIJob {
 		private boolean fRunning= true;
+		private final AdaptiveRefreshRate fRefreshRate= new AdaptiveRefreshRate(REFRESH_INTERVAL);
 
 		public UpdateUIJob(String name) {
 			super(name);
@@ -878,12 +880,18 @@ public class TestRunnerViewPart extends ViewPart {
 		@Override
 		public IStatus runInUIThread(IProgressMonitor monitor) {
 			if (!isDisposed()) {
-				processChangesInUI();
+				long start= System.nanoTime();
+				boolean pending= processChangesInUI(AdaptiveRefreshRate.getDeadline());
+				fRefreshRate.refreshed(start, System.nanoTime(), pending);
 			}
-			schedule(REFRESH_INTERVAL);
+			schedule(fRefreshRate.schedule());
 			return Status.OK_STATUS;
 		}
 
+		public void start() {
+			schedule(fRefreshRate.schedule());
+		}
+
 		public void stop() {
 			fRunning= false;
 		}
@@ -1360,7 +1368,7 @@ public class TestRunnerViewPart extends ViewPart {
 		getProgressService().schedule(fJUnitIsRunningJob);
 
 		fUpdateJob= new UpdateUIJob(JUnitMessages.TestRunnerViewPart_jobName);
-		fUpdateJob.schedule(REFRESH_INTERVAL);
+		fUpdateJob.start();
 	}
 
 	private void stopUpdateJobs() {
@@ -1375,9 +1383,14 @@ public class TestRunnerViewPart extends ViewPart {
 		postSyncProcessChanges();
 	}
 
-	private void processChangesInUI() {
+	/**
+	 * @param deadline the {@link System#nanoTime()} after which the test viewer stops applying
+	 *            changes
+	 * @return <code>true</code> if changes are left for the next call
+	 */
+	private boolean processChangesInUI(long deadline) {
 		if (fSashForm.isDisposed())
-			return;
+			return false;
 
 		doShowInfoMessage();
 		refreshCounters();
@@ -1389,7 +1402,7 @@ public class TestRunnerViewPart extends ViewPart {
 		}
 		updateNextPreviousActions();
 
-		fTestViewer.processChangesInUI();
+		return fTestViewer.processChangesInUI(deadline);
 	}
 
 	private void updateNextPreviousActions() {
@@ -2281,7 +2294,23 @@ action enablement
 	}
 
 	private void postSyncProcessChanges() {
-		postSyncRunnable(this::processChangesInUI);
+		postSyncRunnable(() -> processChangesInFrames(null));
+	}
+
+	/**
+	 * Applies the pending changes one frame at a time, so that a large backlog, e.g. at the end of
+	 * a run, does not block the UI thread. The frames after the first are posted to the UI thread.
+	 *
+	 * @param done to be run in the UI thread once all changes are applied, can be <code>null</code>
+	 */
+	private void processChangesInFrames(Runnable done) {
+		if (isDisposed())
+			return;
+		if (processChangesInUI(AdaptiveRefreshRate.getDeadline())) {
+			getDisplay().asyncExec(() -> processChangesInFrames(done));
+		} else if (done != null) {
+			done.run();
+		}
 	}
 
 	public void warnOfContentChange() {
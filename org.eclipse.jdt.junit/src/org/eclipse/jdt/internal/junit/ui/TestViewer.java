@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,13 +21,16 @@
 package org.eclipse.jdt.internal.junit.ui;
 
 import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.eclipse.jdt.junit.model.ITestElement;
@@ -196,6 +199,11 @@ public class TestViewer {
 		}
 	}
 
+	/**
+	 * The number of changes applied to a viewer at once.
+	 */
+	private static final int UPDATE_BATCH_SIZE= 64;
+
 	private final FailuresOnlyFilter fFailuresOnlyFilter= new FailuresOnlyFilter();
 	private final IgnoredOnlyFilter fIgnoredOnlyFilter= new IgnoredOnlyFilter();
 
@@ -217,9 +225,10 @@ public class TestViewer {
 
 	private TestRunSession fTestRunSession;
 
-	private boolean fTreeNeedsRefresh;
-	private boolean fTableNeedsRefresh;
-	private HashSet<TestElement> fNeedUpdate;
+	private volatile boolean fTreeNeedsRefresh;
+	private volatile boolean fTableNeedsRefresh;
+	private final CoalescingUpdateQueue<TestElement> fNeedUpdate= new CoalescingUpdateQueue<>();
+	private final CoalescingUpdateQueue<TestElement> fAdded= new CoalescingUpdateQueue<>();
 	private TestCaseElement fAutoScrollTarget;
 
 	private LinkedList<TestSuiteElement> fAutoClose;
@@ -683,6 +692,17 @@ public class TestViewer {
 	 * To be called periodically by the TestRunnerViewPart (in the UI thread).
 	 */
 	public void processChangesInUI() {
+		processChangesInUI(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Applies the pending changes in batches until all are applied or the deadline has passed.
+	 * To be called periodically by the TestRunnerViewPart (in the UI thread).
+	 *
+	 * @param deadline the {@link System#nanoTime()} after which no further batch is started
+	 * @return <code>true</code> if changes are left for the next call
+	 */
+	public boolean processChangesInUI(long deadline) {
 		TestRoot testRoot;
 		if (fTestRunSession == null) {
 			registerViewersRefresh();
@@ -690,48 +710,137 @@ public class TestViewer {
 			fTableNeedsRefresh= false;
 			fTreeViewer.setInput(null);
 			fTableViewer.setInput(null);
-			return;
+			return false;
 		}
 
 		testRoot= fTestRunSession.getTestRoot();
 
 		StructuredViewer viewer= getActiveViewer();
+		boolean pending= false;
+		if (! getActiveViewerNeedsRefresh())
+			pending= processAddedInUI(deadline);
+
 		if (getActiveViewerNeedsRefresh()) {
 			clearUpdateAndExpansion();
 			setActiveViewerNeedsRefresh(false);
 			viewer.setInput(testRoot);
+			pending= false;
 
 		} else {
-			Object[] toUpdate;
-			synchronized (this) {
-				toUpdate= fNeedUpdate.toArray();
-				fNeedUpdate.clear();
+			HashSet<TestElement> parents= new HashSet<>();
+			while (! pending) {
+				List<TestElement> toUpdate= fNeedUpdate.poll(UPDATE_BATCH_SIZE);
+				if (toUpdate.isEmpty())
+					break;
+				updateInUI(toUpdate, parents);
+				pending= isPast(deadline) && ! fNeedUpdate.isEmpty();
 			}
-			if (! fTreeNeedsRefresh && toUpdate.length > 0) {
-				if (fTreeHasFilter)
-					for (Object element : toUpdate)
-						updateElementInTree((TestElement) element);
-				else {
-					HashSet<Object> toUpdateWithParents= new HashSet<>(Arrays.asList(toUpdate));
-					for (Object element : toUpdate) {
-						TestElement parent= ((TestElement) element).getParent();
-						while (parent != null) {
-							toUpdateWithParents.add(parent);
-							parent= parent.getParent();
-						}
+			if (! fTreeNeedsRefresh && ! fTreeHasFilter && ! parents.isEmpty())
+				fTreeViewer.update(parents.toArray(), null); // each parent only once per call
+		}
+		autoScrollInUI();
+		return pending;
+	}
+
+	private void updateInUI(List<TestElement> toUpdate, Set<TestElement> parents) {
+		if (! fTreeNeedsRefresh) {
+			if (fTreeHasFilter)
+				for (TestElement element : toUpdate)
+					updateElementInTree(element);
+			else {
+				for (TestElement element : toUpdate) {
+					TestElement parent= element.getParent();
+					while (parent != null && parents.add(parent)) {
+						parent= parent.getParent();
 					}
-					fTreeViewer.update(toUpdateWithParents.toArray(), null);
 				}
+				fTreeViewer.update(toUpdate.toArray(), null);
 			}
-			if (! fTableNeedsRefresh && toUpdate.length > 0) {
-				if (fTableHasFilter)
-					for (Object element : toUpdate)
-						updateElementInTable((TestElement) element);
-				else
-					fTableViewer.update(toUpdate, null);
+		}
+		if (! fTableNeedsRefresh) {
+			if (fTableHasFilter)
+				for (TestElement element : toUpdate)
+					updateElementInTable(element);
+			else
+				fTableViewer.update(toUpdate.toArray(), null);
+		}
+	}
+
+	/**
+	 * Adds the tests that have been added to the session to the active viewer, or marks the viewer
+	 * for a refresh if that is not possible. The inactive viewer is refreshed when it is shown.
+	 *
+	 * @param deadline the {@link System#nanoTime()} after which no further batch is started
+	 * @return <code>true</code> if added tests are left for the next call
+	 */
+	private boolean processAddedInUI(long deadline) {
+		boolean hierarchical= fLayoutMode == TestRunnerViewPart.LAYOUT_HIERARCHICAL;
+		while (true) {
+			List<TestElement> added= fAdded.poll(UPDATE_BATCH_SIZE);
+			if (added.isEmpty())
+				return false;
+			if (hierarchical) {
+				fTableNeedsRefresh= true;
+				if (fTreeHasFilter || ! addToTree(added)) {
+					fTreeNeedsRefresh= true;
+					return false;
+				}
+			} else {
+				fTreeNeedsRefresh= true;
+				if (fTableHasFilter || ! addToTable(added)) {
+					fTableNeedsRefresh= true;
+					return false;
+				}
 			}
+			if (isPast(deadline))
+				return ! fAdded.isEmpty();
 		}
-		autoScrollInUI();
+	}
+
+	/**
+	 * @param added the added tests, parents before their children
+	 * @return <code>false</code> if the tree has to be refreshed instead
+	 */
+	private boolean addToTree(List<TestElement> added) {
+		Object input= fTreeViewer.getInput();
+		LinkedHashMap<Object, List<TestElement>> byParent= new LinkedHashMap<>();
+		for (TestElement element : added) {
+			if (isDynamicTest(element))
+				return false; // a single dynamic test is not shown, see TestSuiteElement#getChildren()
+			if (fTreeViewer.testFindItem(element) != null)
+				continue; // already added by a refresh
+			TestSuiteElement parent= element.getParent();
+			Object parentElement= parent instanceof TestRoot ? input : parent;
+			byParent.computeIfAbsent(parentElement, p -> new ArrayList<>()).add(element);
+		}
+		for (Entry<Object, List<TestElement>> entry : byParent.entrySet()) {
+			fTreeViewer.add(entry.getKey(), entry.getValue().toArray());
+		}
+		return true;
+	}
+
+	/**
+	 * @param added the added tests, in execution order
+	 * @return <code>false</code> if the table has to be refreshed instead
+	 */
+	private boolean addToTable(List<TestElement> added) {
+		ArrayList<TestElement> testCases= new ArrayList<>(added.size());
+		for (TestElement element : added) {
+			if (isDynamicTest(element))
+				return false;
+			if (element instanceof TestCaseElement && fTableViewer.testFindItem(element) == null)
+				testCases.add(element);
+		}
+		fTableViewer.add(testCases.toArray());
+		return true;
+	}
+
+	private static boolean isPast(long deadline) {
+		return deadline != Long.MAX_VALUE && System.nanoTime() - deadline > 0;
+	}
+
+	private static boolean isDynamicTest(TestElement element) {
+		return element instanceof TestCaseElement testCase && testCase.isDynamicTest();
 	}
 
 	private void updateElementInTree(final TestElement testElement) {
@@ -932,7 +1041,8 @@ public class TestViewer {
 	}
 
 	private void clearUpdateAndExpansion() {
-		fNeedUpdate= new LinkedHashSet<>();
+		fNeedUpdate.clear();
+		fAdded.clear();
 		fAutoClose= new LinkedList<>();
 		fAutoExpand= new HashSet<>();
 	}
@@ -940,13 +1050,11 @@ public class TestViewer {
 	/**
 	 * @param testElement the added test
 	 */
-	public synchronized void registerTestAdded(TestElement testElement) {
-		//TODO: performance: would only need to refresh parent of added element
-		fTreeNeedsRefresh= true;
-		fTableNeedsRefresh= true;
+	public void registerTestAdded(TestElement testElement) {
+		fAdded.add(testElement);
 	}
 
-	public synchronized void registerViewerUpdate(final TestElement testElement) {
+	public void registerViewerUpdate(final TestElement testElement) {
 		fNeedUpdate.add(testElement);
 	}
 
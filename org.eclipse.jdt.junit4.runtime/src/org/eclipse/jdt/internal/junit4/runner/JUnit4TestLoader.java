@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2006, 2021 IBM Corporation and others.
+ * Copyright (c) 2006, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -26,6 +26,7 @@ import org.junit.runner.Runner;
 import org.eclipse.jdt.internal.junit.runner.ITestLoader;
 import org.eclipse.jdt.internal.junit.runner.ITestReference;
 import org.eclipse.jdt.internal.junit.runner.RemoteTestRunner;
+import org.eclipse.jdt.internal.junit.runner.TestRanking;
 import org.eclipse.jdt.internal.junit.runner.junit3.JUnit3TestLoader;
 import org.eclipse.jdt.internal.junit.runner.junit3.JUnit3TestReference;
 
@@ -33,6 +34,8 @@ import junit.framework.Test;
 
 public class JUnit4TestLoader implements ITestLoader {
 
+	private TestRanking fTestRanking;
+
 	@Override
 	public ITestReference[] loadTests(
 			Class<?>[] testClasses,
@@ -43,6 +46,7 @@ public class JUnit4TestLoader implements ITestLoader {
 			String uniqueId,
 			RemoteTestRunner listener) {
 
+		fTestRanking= listener != null ? listener.getTestRanking() : null;
 		ITestReference[] refs= new ITestReference[testClasses.length];
 		for (int i= 0; i < testClasses.length; i++) {
 			Class<?> clazz= testClasses[i];
@@ -96,6 +100,9 @@ public class JUnit4TestLoader implements ITestLoader {
 		if (failureNames != null) {
 			return request.sortWith(new FailuresFirstSorter(failureNames));
 		}
+		if (fTestRanking != null) {
+			return request.sortWith(new RankingSorter(fTestRanking));
+		}
 		return request;
 	}
 
@@ -0,0 +1,69 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.internal.junit4.runner;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.runner.Description;
+
+import org.eclipse.jdt.internal.junit.runner.TestRanking;
+
+/**
+ * Comparator for descriptions to sort according to a {@link TestRanking}. A description ranks
+ * like its best ranked test, based on the description's display string.
+ */
+public class RankingSorter implements Comparator<Description> {
+
+	private final TestRanking fRanking;
+
+	private final Map<Description, Integer> fRanks= new HashMap<>();
+
+	/**
+	 * Creates a sorter.
+	 *
+	 * @param ranking the order in which the tests should run
+	 */
+	public RankingSorter(TestRanking ranking) {
+		fRanking= ranking;
+	}
+
+	@Override
+	public int compare(Description d1, Description d2) {
+		return Integer.compare(getRank(d1), getRank(d2));
+	}
+
+	private int getRank(Description d) {
+		Integer rank= fRanks.get(d);
+		if (rank == null) {
+			rank= Integer.valueOf(computeRank(d));
+			fRanks.put(d, rank);
+		}
+		return rank.intValue();
+	}
+
+	private int computeRank(Description d) {
+		List<Description> children= d.getChildren();
+		if (children.isEmpty())
+			return fRanking.getRank(d.getDisplayName());
+		int best= Integer.MAX_VALUE;
+		for (Description child : children) {
+			best= Math.min(best, getRank(child));
+		}
+		return best;
+	}
+}
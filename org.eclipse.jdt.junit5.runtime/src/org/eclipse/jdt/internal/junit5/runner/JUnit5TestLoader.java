@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2016, 2022 IBM Corporation and others.
+ * Copyright (c) 2016, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -34,6 +34,8 @@ public class JUnit5TestLoader implements ITestLoader {
 
 	public final static String FAILURE_NAMES= "org.eclipse.jdt.junit5.runtime.failureNames"; //$NON-NLS-1$
 
+	public final static String PRIORITY_NAMES= "org.eclipse.jdt.junit5.runtime.priorityNames"; //$NON-NLS-1$
+
 	private Launcher fLauncher= LauncherFactory.create();
 
 	private RemoteTestRunner fRemoteTestRunner;
@@ -83,6 +85,12 @@ public class JUnit5TestLoader implements ITestLoader {
 			}
 			requestBuilder.configurationParameter(FAILURE_NAMES, failureNamesString);
 			requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", FailuresFirstMethodOrderer.class.getName()); //$NON-NLS-1$
+		} else if (fRemoteTestRunner != null && fRemoteTestRunner.getTestRanking() != null) {
+			List<String> priorityNames= fRemoteTestRunner.getTestRanking().getTestNames(clazz.getName());
+			if (!priorityNames.isEmpty()) {
+				requestBuilder.configurationParameter(PRIORITY_NAMES, String.join(";", priorityNames)); //$NON-NLS-1$
+				requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", RankingMethodOrderer.class.getName()); //$NON-NLS-1$
+			}
 		}
 		LauncherDiscoveryRequest request= requestBuilder.build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
@@ -99,15 +107,37 @@ public class JUnit5TestLoader implements ITestLoader {
 		} else {
 			pattern= "^" + pkg + "\\.[^.]+$"; //$NON-NLS-1$//$NON-NLS-2$
 		}
-		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request()
+		LauncherDiscoveryRequestBuilder requestBuilder= LauncherDiscoveryRequestBuilder.request()
 				.selectors(DiscoverySelectors.selectPackage(pkg))
 				.filters(ClassNameFilter.includeClassNamePatterns(pattern))
-				.filters(getTagFilters(includeExcludeTags))
-				.build();
+				.filters(getTagFilters(includeExcludeTags));
+		if (fRemoteTestRunner != null && fRemoteTestRunner.getTestRanking() != null) {
+			List<String> priorityNames= fRemoteTestRunner.getTestRanking().getTestNames();
+			if (!priorityNames.isEmpty()) {
+				// the classes are only known to the engine, so it orders them as well as their methods
+				requestBuilder.configurationParameter(PRIORITY_NAMES, String.join(";", priorityNames)); //$NON-NLS-1$
+				requestBuilder.configurationParameter("junit.jupiter.testmethod.order.default", RankingMethodOrderer.class.getName()); //$NON-NLS-1$
+				if (isClassOrdererSupported())
+					requestBuilder.configurationParameter("junit.jupiter.testclass.order.default", RankingClassOrderer.class.getName()); //$NON-NLS-1$
+			}
+		}
+		LauncherDiscoveryRequest request= requestBuilder.build();
 
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
 	}
 
+	/**
+	 * @return whether the JUnit Jupiter version supports class orderers, which were added in 5.8
+	 */
+	private static boolean isClassOrdererSupported() {
+		try {
+			Class.forName("org.junit.jupiter.api.ClassOrderer", false, JUnit5TestLoader.class.getClassLoader()); //$NON-NLS-1$
+			return true;
+		} catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
 	private ITestReference createUniqueIdTest(String uniqueId, String[][] includeExcludeTags) {
 		LauncherDiscoveryRequest request= LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectUniqueId(uniqueId)).filters(getTagFilters(includeExcludeTags)).build();
 		return new JUnit5TestReference(request, fLauncher, fRemoteTestRunner);
@@ -0,0 +1,48 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit5.runner;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import org.eclipse.jdt.internal.junit.runner.TestRanking;
+
+/**
+ * Orders the test classes of a package by the ranking passed in the
+ * {@link JUnit5TestLoader#PRIORITY_NAMES} configuration parameter. A class ranks like its best
+ * ranked test, and classes of the same rank keep their order.
+ * <p>
+ * {@link ClassOrderer} is only available since JUnit Jupiter 5.8, so this class must not be
+ * loaded with older versions.
+ * </p>
+ */
+public class RankingClassOrderer implements ClassOrderer {
+
+	public RankingClassOrderer() {
+	}
+
+	@Override
+	public void orderClasses(ClassOrdererContext context) {
+		Optional<String> priorityNamesParm= context.getConfigurationParameter(JUnit5TestLoader.PRIORITY_NAMES);
+		String priorityNamesString= priorityNamesParm.orElse(null);
+		if (priorityNamesString == null)
+			return;
+		TestRanking ranking= RankingMethodOrderer.getRanking(priorityNamesString);
+		context.getClassDescriptors().sort(Comparator.comparingInt((ClassDescriptor d) -> ranking.getClassRank(d.getTestClass().getName())));
+	}
+}
@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.junit5.runner;
+
+import java.util.Comparator;
+import java.util.Optional;
+
+import org.junit.jupiter.api.MethodDescriptor;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.MethodOrdererContext;
+
+import org.eclipse.jdt.internal.junit.runner.TestRanking;
+
+/**
+ * Orders the test methods of a class by the ranking the client computed from past test runs. The
+ * ranked test names are passed in the {@link JUnit5TestLoader#PRIORITY_NAMES} configuration
+ * parameter, with an empty name at the position of the tests that have not been run before.
+ * Methods of the same rank keep their order.
+ */
+public class RankingMethodOrderer implements MethodOrderer {
+
+	private static String fgPriorityNames;
+
+	private static TestRanking fgRanking;
+
+	public RankingMethodOrderer() {
+	}
+
+	/**
+	 * Sort the methods encapsulated in the supplied
+	 * {@link MethodOrdererContext} by their rank.
+	 */
+	@Override
+	public void orderMethods(MethodOrdererContext context) {
+		Optional<String> priorityNamesParm= context.getConfigurationParameter(JUnit5TestLoader.PRIORITY_NAMES);
+		String priorityNamesString= priorityNamesParm.orElse(null);
+		if (priorityNamesString == null)
+			return;
+		TestRanking ranking= getRanking(priorityNamesString);
+		context.getMethodDescriptors().sort(Comparator.comparingInt((MethodDescriptor d) -> {
+			// test names are of form METHOD_NAME(CLASS_NAME) so translate MethodDescriptor
+			String methodId= d.getMethod().getName() + "(" + d.getMethod().getDeclaringClass().getName() + ")"; //$NON-NLS-1$ //$NON-NLS-2$
+			return ranking.getRank(methodId);
+		}));
+	}
+
+	/**
+	 * Returns the ranking for the value of the {@link JUnit5TestLoader#PRIORITY_NAMES} parameter.
+	 * The ranking of the last value is kept, since all classes of a package request share the
+	 * names of the whole package.
+	 *
+	 * @param priorityNames the ranked test names, separated by <code>;</code>
+	 * @return the ranking
+	 */
+	static synchronized TestRanking getRanking(String priorityNames) {
+		if (!priorityNames.equals(fgPriorityNames)) {
+			fgRanking= new TestRanking(priorityNames.split(";")); //$NON-NLS-1$
+			fgPriorityNames= priorityNames;
+		}
+		return fgRanking;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -129,6 +129,10 @@ public class AbstractSemanticHighlightingTest {
 		}
 	}
 
+	protected SourceViewer getSourceViewer() {
+		return fSourceViewer;
+	}
+
 	protected Position createPosition(int line, int column, int length) throws BadLocationException {
 		IDocument document= fSourceViewer.getDocument();
 		return new Position(document.getLineOffset(line) + column, length);
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import org.eclipse.jdt.text.tests.performance.EditorTestHelper;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightings;
+
+/**
+ * Checks that the semantic highlighting reconciled incrementally after typical edits in a method
+ * body has the same positions as a full reconcile of the same content.
+ */
+public class IncrementalSemanticHighlightingTest extends AbstractSemanticHighlightingTest {
+	@RegisterExtension
+	public SemanticHighlightingTestSetup shts= new SemanticHighlightingTestSetup("/SHTest/src/SHTest.java");
+
+	@BeforeEach
+	public void enableHighlightings() throws Exception {
+		setUpSemanticHighlighting(SemanticHighlightings.LOCAL_VARIABLE_DECLARATION);
+		setUpSemanticHighlighting(SemanticHighlightings.LOCAL_VARIABLE);
+		setUpSemanticHighlighting(SemanticHighlightings.PARAMETER_VARIABLE);
+		setUpSemanticHighlighting(SemanticHighlightings.FIELD);
+		setUpSemanticHighlighting(SemanticHighlightings.STATIC_METHOD_INVOCATION);
+		setUpSemanticHighlighting(SemanticHighlightings.ABSTRACT_METHOD_INVOCATION);
+		setUpSemanticHighlighting(SemanticHighlightings.METHOD);
+	}
+
+	@Test
+	public void insertStatement() throws Exception {
+		replace("\t\tlocal++;\n", 0, "\t\tlocal+= field;\n");
+		assertIncrementalMatchesFull();
+	}
+
+	@Test
+	public void deleteStatement() throws Exception {
+		replace("\t\tabstractMethod();\n", "\t\tabstractMethod();\n".length(), "");
+		assertIncrementalMatchesFull();
+	}
+
+	@Test
+	public void replaceStatement() throws Exception {
+		String statement= "for (int local2= 0; local2 < 10; local2++);";
+		replace(statement, statement.length(), "for (int index= 0; index < field; index++) local+= index;");
+		assertIncrementalMatchesFull();
+	}
+
+	@Test
+	public void typeStatement() throws Exception {
+		// every keystroke is reconciled, including the ones that leave syntax errors in the body
+		IDocument document= getSourceViewer().getDocument();
+		int offset= document.get().indexOf("\t\t\tparam2= null;");
+		String statement= "param2.printStackTrace(); staticMethod();\n\t\t\t";
+		for (int i= 0; i < statement.length(); i++) {
+			document.replace(offset + 3 + i, 0, statement.substring(i, i + 1));
+			reconcile();
+		}
+		assertIncrementalMatchesFull();
+	}
+
+	@Test
+	public void severalEdits() throws Exception {
+		replace("\t\tlocal++;\n", 0, "\t\tint other= local;\n");
+		replace("\t\ttoString();\n", 0, "\t\tother+= staticField;\n");
+		replace("\t\tstaticMethod();\n", "\t\tstaticMethod();\n".length(), "");
+		assertIncrementalMatchesFull();
+	}
+
+	private void replace(String search, int length, String text) throws Exception {
+		IDocument document= getSourceViewer().getDocument();
+		int offset= document.get().indexOf(search);
+		assertTrue(offset != -1, search);
+		document.replace(offset, length, text);
+		reconcile();
+	}
+
+	private void reconcile() {
+		SourceViewer sourceViewer= getSourceViewer();
+		assertTrue(EditorTestHelper.joinReconciler(sourceViewer, 0, 10000, 100));
+		EditorTestHelper.runEventQueue(100);
+	}
+
+	private void assertIncrementalMatchesFull() throws Exception {
+		Position[] incremental= copy(getSemanticHighlightingPositions());
+		EditorTestHelper.forceReconcile(getSourceViewer());
+		reconcile();
+		Position[] full= getSemanticHighlightingPositions();
+		assertEqualPositions(full, incremental);
+	}
+
+	private static Position[] copy(Position[] positions) {
+		Position[] copies= new Position[positions.length];
+		for (int i= 0; i < positions.length; i++) {
+			copies[i]= new Position(positions[i].getOffset(), positions[i].getLength());
+			if (positions[i].isDeleted())
+				copies[i].delete();
+		}
+		return copies;
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -54,6 +54,7 @@ import org.eclipse.jdt.text.tests.templates.TemplatesTestSuite;
 	BracketInserterTest.class,
 	SpellCheckEngineTestCase.class,
 	SemanticHighlightingTest.class,
+	IncrementalSemanticHighlightingTest.class,
 	SemanticTokensProviderTest.class,
 	AutoboxingSemanticHighlightingTest.class,
 	Java24SemanticHighlightingTest.class,
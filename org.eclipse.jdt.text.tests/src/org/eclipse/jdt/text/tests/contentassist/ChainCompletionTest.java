@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Red Hat Inc. and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc. and others.
  *
  * This program and the accompanying materials are made
  * available under the terms of the Eclipse Public License 2.0
@@ -151,6 +151,49 @@ public class ChainCompletionTest {
 		assertEquals("getBar().getBaz() - 2 elements", proposals.get(0).getDisplayString());
 	}
 
+	@Test
+	public void testRepeatedSearchInSession() throws Exception {
+		StringBuffer buf= new StringBuffer();
+		buf.append("""
+			package test;
+			public class Foo {
+			  public Bar getBar() {
+			    return new Bar();
+			  }
+			 \s
+			  public class Bar {
+			    Baz getBaz () {
+			      return new Baz();
+			    }
+			  }
+			 \s
+			  public class Baz {
+			  }
+			
+			  public static void mainMethod () {
+			    Foo f = new Foo();
+			    Baz b = f.$
+			  }
+			
+			}""");
+
+		int completionIndex= getCompletionIndex(buf);
+		ICompilationUnit cu= getCompilationUnit(pkg, buf, "Foo.java");
+
+		ChainCompletionProposalComputer comp= new ChainCompletionProposalComputer();
+		comp.sessionStarted();
+		try {
+			// the second search uses the member graph of the first one
+			for (int i= 0; i < 2; i++) {
+				List<ICompletionProposal> proposals= computeCompletionProposals(comp, cu, completionIndex);
+				assertEquals(1, proposals.size());
+				assertEquals("getBar().getBaz() - 2 elements", proposals.get(0).getDisplayString());
+			}
+		} finally {
+			comp.sessionEnded();
+		}
+	}
+
 	@Test
 	public void testPrimitiveCompletion() throws Exception {
 		StringBuffer buf= new StringBuffer();
@@ -727,8 +770,10 @@ public class ChainCompletionTest {
 	}
 
 	private List<ICompletionProposal> computeCompletionProposals(ICompilationUnit cu, int completionIndex) throws Exception {
-		ChainCompletionProposalComputer comp= new ChainCompletionProposalComputer();
+		return computeCompletionProposals(new ChainCompletionProposalComputer(), cu, completionIndex);
+	}
 
+	private List<ICompletionProposal> computeCompletionProposals(ChainCompletionProposalComputer comp, ICompilationUnit cu, int completionIndex) throws Exception {
 		IEditorPart editor= EditorUtility.openInEditor(cu);
 		ITextViewer viewer= new TextViewer(editor.getSite().getShell(), SWT.NONE);
 		viewer.setDocument(new Document(cu.getSource()));
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2019, 2020 Red Hat Inc., and others.
+ * Copyright (c) 2019, 2026 Red Hat Inc., and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,6 +19,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
@@ -38,6 +39,7 @@ import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.jface.text.contentassist.ContentAssistant;
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
 
 import org.eclipse.ui.texteditor.ContentAssistAction;
 import org.eclipse.ui.texteditor.ITextEditorActionConstants;
@@ -131,6 +133,72 @@ public class ContentAssistAndThreadsTest extends AbstractCompletionTest {
 		assertTrue("UI was frozen for " + thread.getMaxDuration(), thread.getMaxDuration() < 1000);
 	}
 
+	@Test
+	public void testConcurrentComputersContributeAllProposals() throws Exception {
+		IJavaProject fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar(fJProject1);
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String contents= "package test1;\npublic class Blah {\n\tvoid foo() {\n\t\tStrin\n\t}\n} // " + LongCompletionProposalComputer.CONTENT_TRIGGER_STRING + "\n";
+		ICompilationUnit cu= pack1.createCompilationUnit("Blah.java", contents, true, new NullProgressMonitor());
+		JavaEditor part= (JavaEditor) JavaUI.openInEditor(cu);
+		ContentAssistant assistant= new ContentAssistant();
+		assistant.setDocumentPartitioning(IJavaPartitions.JAVA_PARTITIONING);
+		JavaCompletionProcessor javaProcessor= new JavaCompletionProcessor(part, assistant, getContentType());
+
+		ICompletionProposal[] proposals= javaProcessor.computeCompletionProposals(part.getViewer(), contents.indexOf("Strin") + 5);
+
+		List<String> displayStrings= Arrays.stream(proposals).map(ICompletionProposal::getDisplayString).collect(Collectors.toList());
+		assertTrue("Missing Java proposal: " + displayStrings, displayStrings.stream().anyMatch(s -> s.startsWith("String")));
+		assertTrue("Missing slow proposal: " + displayStrings, displayStrings.contains(LongCompletionProposalComputer.CONTENT_TRIGGER_STRING));
+	}
+
+	@Test
+	public void testQueuedComputersRunWhenAllThreadsAreStuck() throws Exception {
+		IJavaProject fJProject1= JavaProjectHelper.createJavaProject("TestProject1", "bin");
+		JavaProjectHelper.addRTJar(fJProject1);
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String contents= "package test1;\npublic class Blah {\n\tvoid foo() {\n\t\tStrin\n\t}\n}\n";
+		ICompilationUnit cu= pack1.createCompilationUnit("Blah.java", contents, true, new NullProgressMonitor());
+		JavaEditor part= (JavaEditor) JavaUI.openInEditor(cu);
+		int offset= contents.indexOf("Strin") + 5;
+
+		// take all computer threads by computers that ignore their deadline
+		List<Thread> stuckInvocations= new ArrayList<>();
+		StuckCompletionProposalComputer.block();
+		try {
+			for (int i= 1; i <= 4; i++) {
+				ContentAssistant assistant= new ContentAssistant();
+				assistant.setDocumentPartitioning(IJavaPartitions.JAVA_PARTITIONING);
+				JavaCompletionProcessor processor= new JavaCompletionProcessor(part, assistant, getContentType());
+				Thread thread= new Thread(() -> processor.computeCompletionProposals(part.getViewer(), offset));
+				thread.setDaemon(true);
+				thread.start();
+				stuckInvocations.add(thread);
+				long end= System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+				while (StuckCompletionProposalComputer.getStuckCount() < i && System.currentTimeMillis() < end) {
+					Thread.sleep(10);
+				}
+				assertEquals("computer did not start", i, StuckCompletionProposalComputer.getStuckCount());
+			}
+
+			StuckCompletionProposalComputer.stopBlocking();
+			ContentAssistant assistant= new ContentAssistant();
+			assistant.setDocumentPartitioning(IJavaPartitions.JAVA_PARTITIONING);
+			JavaCompletionProcessor javaProcessor= new JavaCompletionProcessor(part, assistant, getContentType());
+			ICompletionProposal[] proposals= javaProcessor.computeCompletionProposals(part.getViewer(), offset);
+
+			List<String> displayStrings= Arrays.stream(proposals).map(ICompletionProposal::getDisplayString).collect(Collectors.toList());
+			assertTrue("Missing Java proposal: " + displayStrings, displayStrings.stream().anyMatch(s -> s.startsWith("String")));
+		} finally {
+			StuckCompletionProposalComputer.release();
+			for (Thread thread : stuckInvocations) {
+				thread.join(TimeUnit.SECONDS.toMillis(30));
+			}
+		}
+	}
+
 	private Table findCompletionSelectionControl(Widget control) {
 		if (control instanceof Table) {
 			return (Table)control;
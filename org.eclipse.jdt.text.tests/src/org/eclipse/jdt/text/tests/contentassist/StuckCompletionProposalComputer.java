@@ -0,0 +1,111 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.text.tests.contentassist;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jface.text.contentassist.ICompletionProposal;
+import org.eclipse.jface.text.contentassist.IContextInformation;
+
+import org.eclipse.jdt.ui.text.java.ContentAssistInvocationContext;
+import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
+
+/**
+ * A computer that, while blocked, ignores its cancelled monitor and interrupts and only returns
+ * once it is released.
+ */
+public class StuckCompletionProposalComputer implements IJavaCompletionProposalComputer {
+
+	private static volatile boolean fgBlocking;
+
+	private static volatile CountDownLatch fgRelease;
+
+	private static final AtomicInteger fgStuck= new AtomicInteger();
+
+	/**
+	 * Lets the following computations get stuck.
+	 */
+	public static void block() {
+		fgStuck.set(0);
+		fgRelease= new CountDownLatch(1);
+		fgBlocking= true;
+	}
+
+	/**
+	 * Lets the following computations return at once, while the stuck ones stay stuck.
+	 */
+	public static void stopBlocking() {
+		fgBlocking= false;
+	}
+
+	/**
+	 * Lets the stuck computations return.
+	 */
+	public static void release() {
+		fgBlocking= false;
+		CountDownLatch release= fgRelease;
+		fgRelease= null;
+		if (release != null)
+			release.countDown();
+	}
+
+	/**
+	 * @return the number of computations that got stuck since {@link #block()}
+	 */
+	public static int getStuckCount() {
+		return fgStuck.get();
+	}
+
+	@Override
+	public void sessionStarted() {
+	}
+
+	@Override
+	public List<ICompletionProposal> computeCompletionProposals(ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		CountDownLatch release= fgRelease;
+		if (fgBlocking && release != null) {
+			fgStuck.incrementAndGet();
+			boolean released= false;
+			while (!released) {
+				try {
+					release.await();
+					released= true;
+				} catch (InterruptedException e) {
+					// ignored, like the monitor
+				}
+			}
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	public List<IContextInformation> computeContextInformation(ContentAssistInvocationContext context, IProgressMonitor monitor) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String getErrorMessage() {
+		return null;
+	}
+
+	@Override
+	public void sessionEnded() {
+	}
+
+}
@@ -0,0 +1,168 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+
+package org.eclipse.jdt.text.tests.performance;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+import org.eclipse.test.performance.PerformanceMeter;
+
+import org.eclipse.text.tests.Accessor;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+
+import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.source.SourceViewer;
+
+import org.eclipse.jdt.core.ITypeRoot;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
+
+import org.eclipse.jdt.ui.JavaUI;
+
+import org.eclipse.jdt.internal.ui.javaeditor.CompilationUnitEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.JavaEditor;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingManager;
+import org.eclipse.jdt.internal.ui.javaeditor.SemanticHighlightingReconciler;
+import org.eclipse.jdt.internal.ui.text.java.IJavaReconcilingListener;
+
+/**
+ * Measures the time to reconcile the semantic highlighting after typing in a method body, for
+ * files of increasing size.
+ */
+public class SemanticHighlightingReconcileTest extends TextPerformanceTestCase {
+
+	private static final Class<SemanticHighlightingReconcileTest> THIS= SemanticHighlightingReconcileTest.class;
+
+	private static final String PACKAGE= "/" + PerformanceTestSetup.PROJECT + "/Eclipse SWT Custom Widgets/common/org/eclipse/swt/custom/";
+
+	private static final String TYPE_NAME= "SemanticHighlightingReconcile";
+
+	private static final int WARM_UP_RUNS= 5;
+
+	private static final int MEASURED_RUNS= 20;
+
+	private CompilationUnitEditor fEditor;
+
+	private SemanticHighlightingReconciler fReconciler;
+
+	private String fFile;
+
+	public static Test suite() {
+		return new PerformanceTestSetup(new TestSuite(THIS));
+	}
+
+	@Override
+	protected void setUp() throws Exception {
+		super.setUp();
+		setWarmUpRuns(WARM_UP_RUNS);
+		setMeasuredRuns(MEASURED_RUNS);
+	}
+
+	@Override
+	protected void tearDown() throws Exception {
+		super.tearDown();
+		if (fReconciler != null)
+			new Accessor(fEditor, CompilationUnitEditor.class).invoke("addReconcileListener", new Class[] { IJavaReconcilingListener.class }, new Object[] { fReconciler });
+		EditorTestHelper.closeAllEditors();
+		if (fFile != null)
+			ResourceTestHelper.delete(fFile);
+	}
+
+	/**
+	 * Measures the reconcile time in a file with 100 methods.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	public void testSmallFile() throws Exception {
+		measure(100);
+	}
+
+	/**
+	 * Measures the reconcile time in a file with 1000 methods.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	public void testMediumFile() throws Exception {
+		measure(1000);
+	}
+
+	/**
+	 * Measures the reconcile time in a file with 5000 methods.
+	 *
+	 * @throws Exception if something goes wrong
+	 */
+	public void testLargeFile() throws Exception {
+		measure(5000);
+	}
+
+	private void measure(int methods) throws Exception {
+		String typeName= TYPE_NAME + methods;
+		fFile= PACKAGE + typeName + ".java";
+		ResourceTestHelper.write(fFile, createSource(typeName, methods));
+		fEditor= (CompilationUnitEditor) EditorTestHelper.openInEditor(ResourceTestHelper.findFile(fFile), EditorTestHelper.COMPILATION_UNIT_EDITOR_ID, true);
+		EditorTestHelper.joinBackgroundActivities(fEditor);
+
+		// detach the reconciler from the editor, so that only the measured calls highlight the changes
+		SemanticHighlightingManager manager= (SemanticHighlightingManager) new Accessor(fEditor, JavaEditor.class).get("fSemanticManager");
+		fReconciler= (SemanticHighlightingReconciler) new Accessor(manager, SemanticHighlightingManager.class).get("fReconciler");
+		new Accessor(fEditor, CompilationUnitEditor.class).invoke("removeReconcileListener", new Class[] { IJavaReconcilingListener.class }, new Object[] { fReconciler });
+
+		measure(methods, getNullPerformanceMeter(), getWarmUpRuns());
+		measure(methods, createPerformanceMeter("-" + methods), getMeasuredRuns());
+		commitAllMeasurements();
+		assertAllPerformance();
+	}
+
+	private void measure(int methods, PerformanceMeter performanceMeter, int runs) throws Exception {
+		IDocument document= EditorTestHelper.getDocument(fEditor);
+		SourceViewer sourceViewer= EditorTestHelper.getSourceViewer(fEditor);
+		ITypeRoot input= JavaUI.getEditorInputTypeRoot(fEditor.getEditorInput());
+		String method= "method" + methods / 2 + "(";
+		for (int i= 0; i < runs; i++) {
+			int offset= document.get().indexOf("return", document.get().indexOf(method));
+			document.replace(offset, 0, "local++;\n\t\t");
+			EditorTestHelper.joinReconciler(sourceViewer, 0, 0, 100);
+			CompilationUnit ast= SharedASTProviderCore.getAST(input, SharedASTProviderCore.WAIT_YES, null);
+
+			performanceMeter.start();
+			fReconciler.reconciled(ast, false, new NullProgressMonitor());
+			performanceMeter.stop();
+
+			EditorTestHelper.runEventQueue();
+		}
+		EditorTestHelper.revertEditor(fEditor, true);
+	}
+
+	private static String createSource(String typeName, int methods) {
+		StringBuilder buffer= new StringBuilder();
+		buffer.append("package org.eclipse.swt.custom;\n\n");
+		buffer.append("public class ").append(typeName).append(" {\n");
+		buffer.append("\tprivate static final int CONSTANT= 42;\n");
+		buffer.append("\tprivate int fField;\n\n");
+		for (int i= 0; i < methods; i++) {
+			buffer.append("\t@Deprecated\n");
+			buffer.append("\tpublic int method").append(i).append("(int param) {\n");
+			buffer.append("\t\tint local= param + fField;\n");
+			buffer.append("\t\tfor (int i= 0; i < CONSTANT; i++) {\n");
+			buffer.append("\t\t\tlocal+= Math.max(i, fField);\n");
+			buffer.append("\t\t}\n");
+			buffer.append("\t\treturn local;\n");
+			buffer.append("\t}\n\n");
+		}
+		buffer.append("}\n");
+		return buffer.toString();
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2018 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,16 +18,20 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.File;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Set;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 
@@ -35,6 +39,7 @@ import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.text.spelling.SpellCheckEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.AbstractSpellDictionary;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.CompactSpellDictionary;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultPhoneticDistanceAlgorithm;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
@@ -260,4 +265,75 @@ public class SpellCheckEngineTestCase {
 		assertTrue(proposals.size() >= 1);
 		assertEquals(- DefaultPhoneticDistanceAlgorithm.COST_CASE, proposals.iterator().next().getRank());
 	}
+
+	@Test
+	public void testCompactDictionary(@TempDir File directory) throws Exception {
+		Files.write(new File(directory, "en_US.dictionary").toPath(), List.of(TRUCK, LORRY, SENTENCECONTENT, "truckload")); //$NON-NLS-1$ //$NON-NLS-2$
+		URL location= directory.toURI().toURL();
+		File cacheDirectory= new File(directory, "cache"); //$NON-NLS-1$
+
+		CompactSpellDictionary dictionary= new CompactSpellDictionary(Locale.US, location, cacheDirectory);
+		assertTrue(dictionary.isCorrect(TRUCK));
+		assertTrue(dictionary.isCorrect(SENTENCECONTENT));
+		assertFalse(dictionary.isCorrect(LASTWAGEN));
+		assertTrue(contains(dictionary.getProposals("Truk", false), TRUCK)); //$NON-NLS-1$
+
+		File[] images= cacheDirectory.listFiles();
+		assertNotNull(images);
+		assertEquals(1, images.length);
+
+		// a second dictionary uses the compiled image
+		CompactSpellDictionary other= new CompactSpellDictionary(Locale.US, location, cacheDirectory);
+		assertTrue(other.isCorrect(LORRY));
+		assertFalse(other.isCorrect(GLOBAL));
+		assertTrue(contains(other.getProposals("Lory", false), LORRY)); //$NON-NLS-1$
+
+		dictionary.unload();
+		other.unload();
+	}
+
+	@Test
+	public void testCompactDictionaryLowercaseName(@TempDir File directory) throws Exception {
+		// the dictionary asks for en_US.dictionary and falls back to the lowercased URL
+		Files.write(new File(directory, "en_us.dictionary").toPath(), List.of(TRUCK, LORRY)); //$NON-NLS-1$
+		URL location= directory.toURI().toURL();
+		File cacheDirectory= new File(directory, "cache"); //$NON-NLS-1$
+
+		CompactSpellDictionary dictionary= new CompactSpellDictionary(Locale.US, location, cacheDirectory);
+		assertTrue(dictionary.isCorrect(TRUCK));
+		assertTrue(dictionary.isCorrect(LORRY));
+		assertFalse(dictionary.isCorrect(GLOBAL));
+		assertTrue(contains(dictionary.getProposals("Truk", false), TRUCK)); //$NON-NLS-1$
+
+		dictionary.unload();
+	}
+
+	@Test
+	public void testCompactDictionaryUpdate(@TempDir File directory) throws Exception {
+		File wordList= new File(directory, "en_US.dictionary"); //$NON-NLS-1$
+		Files.write(wordList.toPath(), List.of(TRUCK, LORRY));
+		URL location= directory.toURI().toURL();
+		File cacheDirectory= new File(directory, "cache"); //$NON-NLS-1$
+
+		CompactSpellDictionary dictionary= new CompactSpellDictionary(Locale.US, location, cacheDirectory);
+		assertTrue(dictionary.isCorrect(LORRY));
+		assertFalse(dictionary.isCorrect(GLOBAL));
+
+		// the image of the old word list stays mapped, the new one is written next to it
+		Files.write(wordList.toPath(), List.of(TRUCK, GLOBAL));
+		assertTrue(wordList.setLastModified(wordList.lastModified() + 2000));
+		CompactSpellDictionary updated= new CompactSpellDictionary(Locale.US, location, cacheDirectory);
+		assertTrue(updated.isCorrect(GLOBAL));
+		assertFalse(updated.isCorrect(LORRY));
+		assertTrue(dictionary.isCorrect(LORRY));
+
+		// a dictionary loaded later maps the image of the new word list
+		CompactSpellDictionary other= new CompactSpellDictionary(Locale.US, location, cacheDirectory);
+		assertTrue(other.isCorrect(GLOBAL));
+		assertFalse(other.isCorrect(LORRY));
+
+		dictionary.unload();
+		updated.unload();
+		other.unload();
+	}
 }
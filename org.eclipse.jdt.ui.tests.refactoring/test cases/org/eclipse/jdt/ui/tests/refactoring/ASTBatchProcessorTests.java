@@ -0,0 +1,160 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.refactoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.OperationCanceledException;
+
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.dom.AST;
+import org.eclipse.jdt.core.dom.ASTParser;
+import org.eclipse.jdt.core.dom.ASTRequestor;
+import org.eclipse.jdt.core.dom.AbstractTypeDeclaration;
+import org.eclipse.jdt.core.dom.CompilationUnit;
+import org.eclipse.jdt.core.dom.ITypeBinding;
+
+import org.eclipse.jdt.internal.corext.refactoring.util.ASTBatchProcessor;
+
+import org.eclipse.jdt.ui.tests.refactoring.rules.RefactoringTestSetup;
+
+public class ASTBatchProcessorTests {
+
+	private static final int UNITS= 12;
+
+	@Rule
+	public RefactoringTestSetup rts= new RefactoringTestSetup();
+
+	private List<ICompilationUnit> fUnits;
+
+	@Before
+	public void setUp() throws Exception {
+		IPackageFragment pack= rts.getPackageP();
+		fUnits= new ArrayList<>(UNITS);
+		for (int i= 0; i < UNITS; i++) {
+			String next= "A" + (i + 1) % UNITS;
+			String contents= "package p;\npublic class A" + i + " extends java.util.ArrayList<" + next + "> {\n\t" + next + " next;\n}\n";
+			fUnits.add(pack.createCompilationUnit("A" + i + ".java", contents, true, null));
+		}
+	}
+
+	private ASTBatchProcessor.ParserFactory createParserFactory() throws Exception {
+		IJavaProject project= rts.getProject();
+		return () -> {
+			ASTParser parser= ASTParser.newParser(AST.getJLSLatest());
+			parser.setResolveBindings(true);
+			parser.setProject(project);
+			return parser;
+		};
+	}
+
+	/**
+	 * Returns the binding key of the super class of every compilation unit.
+	 */
+	private Map<ICompilationUnit, String> process(ASTBatchProcessor processor, List<Thread> threads) throws Exception {
+		Map<ICompilationUnit, String> keys= new HashMap<>();
+		processor.process(processor.split(fUnits, 3), createParserFactory(), new ASTRequestor() {
+			@Override
+			public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+				ITypeBinding binding= ((AbstractTypeDeclaration) ast.types().get(0)).resolveBinding();
+				keys.put(source, binding.getSuperclass().getKey());
+				threads.add(Thread.currentThread());
+			}
+		}, new NullProgressMonitor());
+		return keys;
+	}
+
+	@Test
+	public void testSplit() throws Exception {
+		List<ICompilationUnit[]> batches= new ASTBatchProcessor(4).split(fUnits, 3);
+		assertEquals(4, batches.size());
+		int size= 0;
+		for (ICompilationUnit[] batch : batches) {
+			assertTrue(batch.length <= 3);
+			size+= batch.length;
+		}
+		assertEquals(UNITS, size);
+	}
+
+	@Test
+	public void testParallelMatchesSequential() throws Exception {
+		List<Thread> threads= new ArrayList<>();
+		Map<ICompilationUnit, String> sequential= process(new ASTBatchProcessor(1), threads);
+		assertEquals(UNITS, sequential.size());
+		for (Thread thread : threads) {
+			assertEquals(Thread.currentThread(), thread);
+		}
+
+		threads.clear();
+		Map<ICompilationUnit, String> parallel= process(new ASTBatchProcessor(4), threads);
+		assertEquals(sequential, parallel);
+		for (Thread thread : threads) {
+			assertNotSame(Thread.currentThread(), thread);
+		}
+	}
+
+	@Test
+	public void testFailureStopsOtherBatches() throws Exception {
+		ASTBatchProcessor processor= new ASTBatchProcessor(4);
+		List<ICompilationUnit> accepted= new ArrayList<>();
+		try {
+			processor.process(processor.split(fUnits, 3), createParserFactory(), new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					accepted.add(source);
+					throw new IllegalStateException();
+				}
+			}, new NullProgressMonitor());
+			fail("failure not reported");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		assertEquals(1, accepted.size());
+	}
+
+	@Test
+	public void testCancellationStopsOtherBatches() throws Exception {
+		ASTBatchProcessor processor= new ASTBatchProcessor(4);
+		NullProgressMonitor monitor= new NullProgressMonitor();
+		List<ICompilationUnit> accepted= new ArrayList<>();
+		try {
+			processor.process(processor.split(fUnits, 3), createParserFactory(), new ASTRequestor() {
+				@Override
+				public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
+					accepted.add(source);
+					monitor.setCanceled(true);
+				}
+			}, monitor);
+			fail("cancellation not reported");
+		} catch (OperationCanceledException e) {
+			// expected
+		}
+		assertEquals(1, accepted.size());
+	}
+}
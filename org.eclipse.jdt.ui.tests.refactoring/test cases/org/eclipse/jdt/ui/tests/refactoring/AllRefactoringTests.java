@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -74,6 +74,7 @@ import org.junit.platform.suite.api.Suite;
 
 	//-- generics
 	InferTypeArgumentsTests.class,
+	ASTBatchProcessorTests.class,
 
 	//-- compilation units
 	MoveCompilationUnitTests.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,18 +19,24 @@ import static org.junit.Assert.assertTrue;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Rule;
 import org.junit.Test;
 
+import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.NullProgressMonitor;
 
 import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IPackageFragment;
+import org.eclipse.jdt.core.IType;
 
+import org.eclipse.jdt.internal.corext.refactoring.rename.HierarchySession;
 import org.eclipse.jdt.internal.corext.refactoring.rename.RippleMethodFinder2;
 
 import org.eclipse.jdt.ui.tests.refactoring.infra.AbstractJunit4CUTestCase;
@@ -139,4 +145,62 @@ public class RippleMethodFinderTests extends AbstractJunit4CUTestCase {
 		perform();
 	}
 
+	private static IMethod method(ICompilationUnit cu, String name) {
+		IType type= cu.getTypes()[0];
+		return type.getMethod(name, new String[0]);
+	}
+
+	private static Set<IMethod> relatedMethods(IMethod method, HierarchySession session) throws CoreException {
+		return new HashSet<>(Arrays.asList(RippleMethodFinder2.getRelatedMethods(method, true, session, new NullProgressMonitor(), null)));
+	}
+
+	@Test
+	public void testSession() throws Exception {
+		IPackageFragment p= rts.getPackageP();
+		IPackageFragment q= rts.getPackageQ();
+		ICompilationUnit i= createCU(p, "I.java", "package p;\npublic interface I {\n\tvoid m();\n}\n");
+		ICompilationUnit a= createCU(p, "A.java", "package p;\npublic class A implements I {\n\tpublic void m() {}\n\tvoid n() {}\n}\n");
+		ICompilationUnit b= createCU(p, "B.java", "package p;\npublic class B implements I {\n\tpublic void m() {}\n}\n");
+		ICompilationUnit c= createCU(q, "C.java", "package q;\npublic class C implements p.I {\n\tpublic void m() {}\n}\n");
+		ICompilationUnit d= createCU(q, "D.java", "package q;\npublic class D extends p.A {\n\tvoid n() {}\n}\n");
+		ICompilationUnit e= createCU(p, "E.java", "package p;\npublic class E extends q.D {\n\tvoid n() {}\n}\n");
+		ICompilationUnit f= createCU(p, "F.java", "package p;\npublic class F {\n\tpublic void m() {}\n}\n");
+		createCU(p, "H.java", "package p;\npublic class H extends F implements I {\n}\n");
+
+		IMethod[] methods= { method(i, "m"), method(a, "m"), method(b, "m"), method(c, "m"), method(f, "m"),
+				method(a, "n"), method(d, "n"), method(e, "n"), method(i, "m") };
+		HierarchySession session= new HierarchySession();
+		try {
+			for (IMethod method : methods) {
+				Set<IMethod> expected= relatedMethods(method, null);
+				assertEquals("related methods of " + method, expected, relatedMethods(method, session));
+			}
+		} finally {
+			session.end();
+		}
+
+		Set<IMethod> ripple= new HashSet<>(Arrays.asList(method(i, "m"), method(a, "m"), method(b, "m"), method(c, "m"), method(f, "m")));
+		assertEquals(ripple, relatedMethods(method(b, "m"), null));
+		assertEquals(new HashSet<>(Arrays.asList(method(d, "n"))), relatedMethods(method(d, "n"), null));
+	}
+
+	@Test
+	public void testSessionComputesHierarchyOnce() throws Exception {
+		IPackageFragment p= rts.getPackageP();
+		ICompilationUnit i= createCU(p, "I.java", "package p;\npublic interface I {\n\tvoid m();\n}\n");
+		ICompilationUnit a= createCU(p, "A.java", "package p;\npublic class A implements I {\n\tpublic void m() {}\n}\n");
+		ICompilationUnit b= createCU(p, "B.java", "package p;\npublic class B extends A {\n\tpublic void m() {}\n}\n");
+
+		Set<IMethod> ripple= new HashSet<>(Arrays.asList(method(i, "m"), method(a, "m"), method(b, "m")));
+		HierarchySession session= new HierarchySession();
+		try {
+			for (IMethod method : ripple) {
+				assertEquals(ripple, relatedMethods(method, session));
+				assertEquals(1, session.getHierarchyCount());
+			}
+		} finally {
+			session.end();
+		}
+	}
+
 }
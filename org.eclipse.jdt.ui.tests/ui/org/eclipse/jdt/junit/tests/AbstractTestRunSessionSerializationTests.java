@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -57,7 +57,12 @@ import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
 
 import org.eclipse.jdt.internal.junit.model.JUnitModel;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestElementStore;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
 import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestRunSessionJournal;
 import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
 
 import org.eclipse.jdt.ui.tests.core.rules.JUnitWorkspaceTestSetup;
@@ -115,6 +120,8 @@ public class AbstractTestRunSessionSerializationTests {
 			// due to lingering TestRunnerViewPart$TestSessionListeners
 			serializationResult.fTestRunSession.swapOut();
 			assertEqualSessions(serializationResult.fTestRunSession, imported);
+
+			runWriteRead(serializationResult.fTestRunSession);
 		} finally {
 			if (resultFile.exists())
 				try {
@@ -125,6 +132,97 @@ public class AbstractTestRunSessionSerializationTests {
 		}
 	}
 
+	private TestRunSession runWriteRead(TestRunSession session) throws Exception {
+		File swapFile= File.createTempFile("testrun", ".testrun");
+		try {
+			TestRunSessionJournal.write(session, swapFile);
+			TestRunSession read= new TestRunSession(session.getTestRunName(), null);
+			TestRunSessionJournal.read(swapFile, read);
+			assertEqualSessions(session, read);
+			return read;
+		} finally {
+			swapFile.delete();
+		}
+	}
+
+	private static String largeTrace(String testName) {
+		StringBuilder trace= new StringBuilder("java.lang.AssertionError: " + testName);
+		while (trace.length() <= TestElementStore.LARGE_TRACE) {
+			trace.append("\n\tat pack.Large.frame").append(trace.length()).append("(Large.java:42)");
+		}
+		return trace.toString();
+	}
+
+	/**
+	 * Creates a session whose failure traces add up to more than the traces kept in memory, so
+	 * that some of them are spilled.
+	 *
+	 * @return the session
+	 */
+	private TestRunSession createLargeRun() {
+		TestRunSession session= new TestRunSession("LargeRun", null);
+		TestRoot root= session.getTestRoot();
+		int id= 0;
+		for (int i= 0; i < 40; i++) {
+			String className= "pack.Large" + i;
+			TestSuiteElement suite= (TestSuiteElement) session.createTestElement(root, Integer.toString(id++), className, true, 0, false, className, null,
+					"[engine:junit-jupiter]/[class:" + className + "]");
+			for (int j= 0; j < 40; j++) {
+				String testName= "test" + j + "(" + className + ")";
+				TestElement test= session.createTestElement(suite, Integer.toString(id++), testName, false, 1, false, "test" + j + "()", null,
+						suite.getUniqueId() + "/[method:test" + j + "()]");
+				if (j % 4 == 1) {
+					session.registerTestFailureStatus(test, Status.FAILURE, largeTrace(testName), null, null);
+				} else if (j % 4 == 3) {
+					session.registerTestFailureStatus(test, Status.ERROR, "java.lang.IllegalStateException\n\tat " + className + ".test" + j + "(Large.java:12)\n", null, null);
+				}
+				session.registerTestEnded(test, true);
+			}
+			session.registerTestEnded(suite, true);
+		}
+		return session;
+	}
+
+	private void assertEqualTraces(TestSuiteElement expected, TestSuiteElement actual) {
+		ITestElement[] expChildren= expected.getChildren();
+		ITestElement[] actChildren= actual.getChildren();
+		assertEquals(expChildren.length, actChildren.length);
+		for (int i= 0; i < expChildren.length; i++) {
+			TestElement expChild= (TestElement) expChildren[i];
+			TestElement actChild= (TestElement) actChildren[i];
+			assertEquals(expChild.getTestName(), actChild.getTestName());
+			assertEquals(expChild.getUniqueId(), actChild.getUniqueId());
+			assertEquals(expChild.getTestName(), expChild.getTrace(), actChild.getTrace());
+			if (expChild instanceof TestSuiteElement)
+				assertEqualTraces((TestSuiteElement) expChild, (TestSuiteElement) actChild);
+		}
+	}
+
+	protected void runLargeRunTest() throws Exception {
+		TestRunSession session= createLargeRun();
+		TestRunSession imported= null;
+		TestRunSession read= null;
+		File resultFile= File.createTempFile("testresult", ".xml");
+		try {
+			JUnitModel.exportTestRunSession(session, resultFile);
+			imported= JUnitModel.importTestRunSession(resultFile);
+			assertEqualSessions(session, imported);
+			assertEqualTraces(session.getTestRoot(), imported.getTestRoot());
+			assertEquals(400, imported.getFailureCount());
+			assertEquals(400, imported.getErrorCount());
+
+			read= runWriteRead(session);
+			assertEqualTraces(session.getTestRoot(), read.getTestRoot());
+		} finally {
+			resultFile.delete();
+			session.removeSwapFile();
+			if (imported != null)
+				imported.removeSwapFile();
+			if (read != null)
+				read.removeSwapFile();
+		}
+	}
+
 	private void assertEqualXML(String expected, String actual) {
 		/*
 		 * Strips &#13; and &#10;
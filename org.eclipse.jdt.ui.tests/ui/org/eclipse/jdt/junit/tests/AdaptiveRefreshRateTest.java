@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.ui.AdaptiveRefreshRate;
+
+public class AdaptiveRefreshRateTest {
+
+	/**
+	 * Simulates a refresh that starts when it is due.
+	 *
+	 * @param rate the refresh rate
+	 * @param latency the time in milliseconds the refresh starts late
+	 * @param work the time in milliseconds the refresh takes
+	 * @param pending whether the refresh leaves changes
+	 * @return the interval after the refresh
+	 */
+	private static int refresh(AdaptiveRefreshRate rate, int latency, int work, boolean pending) {
+		long due= System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(rate.schedule());
+		long start= due + TimeUnit.MILLISECONDS.toNanos(latency);
+		rate.refreshed(start, start + TimeUnit.MILLISECONDS.toNanos(work), pending);
+		return rate.getInterval();
+	}
+
+	@Test
+	public void initialInterval() {
+		assertEquals(AdaptiveRefreshRate.MIN_INTERVAL, new AdaptiveRefreshRate(0).getInterval());
+		assertEquals(200, new AdaptiveRefreshRate(200).getInterval());
+		assertEquals(AdaptiveRefreshRate.MAX_INTERVAL, new AdaptiveRefreshRate(Integer.MAX_VALUE).getInterval());
+	}
+
+	@Test
+	public void pendingKeepsIntervalShort() {
+		AdaptiveRefreshRate rate= new AdaptiveRefreshRate(200);
+		// a refresh that uses up its budget and overshoots it by a batch leaves changes
+		for (int i= 0; i < 20; i++) {
+			assertEquals(AdaptiveRefreshRate.MIN_INTERVAL, refresh(rate, 0, AdaptiveRefreshRate.FRAME_BUDGET + 10, true));
+		}
+	}
+
+	@Test
+	public void idleShrinks() {
+		AdaptiveRefreshRate rate= new AdaptiveRefreshRate(AdaptiveRefreshRate.MAX_INTERVAL);
+		int interval= rate.getInterval();
+		while (interval > AdaptiveRefreshRate.MIN_INTERVAL) {
+			int next= refresh(rate, 0, 1, false);
+			assertTrue(next < interval);
+			interval= next;
+		}
+		assertEquals(AdaptiveRefreshRate.MIN_INTERVAL, refresh(rate, 0, 1, false));
+	}
+
+	@Test
+	public void busyGrows() {
+		AdaptiveRefreshRate rate= new AdaptiveRefreshRate(200);
+		// a late start
+		assertEquals(300, refresh(rate, 150, 1, false));
+		// a batch longer than the budget
+		assertEquals(450, refresh(rate, 0, 3 * AdaptiveRefreshRate.FRAME_BUDGET, true));
+		for (int i= 0; i < 10; i++) {
+			refresh(rate, 0, 3 * AdaptiveRefreshRate.FRAME_BUDGET, true);
+		}
+		assertEquals(AdaptiveRefreshRate.MAX_INTERVAL, rate.getInterval());
+	}
+
+	@Test
+	public void steadyWithinBudget() {
+		AdaptiveRefreshRate rate= new AdaptiveRefreshRate(200);
+		// neither idle nor busy
+		assertEquals(200, refresh(rate, 0, AdaptiveRefreshRate.FRAME_BUDGET - 5, false));
+	}
+}
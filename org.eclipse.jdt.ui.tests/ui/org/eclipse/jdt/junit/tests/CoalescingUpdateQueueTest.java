@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.ui.CoalescingUpdateQueue;
+
+public class CoalescingUpdateQueueTest {
+
+	@Test
+	public void coalesce() {
+		CoalescingUpdateQueue<String> queue= new CoalescingUpdateQueue<>();
+		assertTrue(queue.isEmpty());
+		queue.add("a");
+		queue.add("b");
+		queue.add("a");
+		queue.add("c");
+		assertFalse(queue.isEmpty());
+
+		// an element added again is kept at its first position
+		assertEquals(Arrays.asList("a", "b"), queue.poll(2));
+		assertEquals(Arrays.asList("c"), queue.poll(2));
+		assertTrue(queue.poll(2).isEmpty());
+		assertTrue(queue.isEmpty());
+
+		// a polled element can be added again
+		queue.add("a");
+		assertEquals(Arrays.asList("a"), queue.poll(10));
+	}
+
+	@Test
+	public void clear() {
+		CoalescingUpdateQueue<String> queue= new CoalescingUpdateQueue<>();
+		queue.add("a");
+		queue.add("b");
+		queue.clear();
+		assertTrue(queue.isEmpty());
+		assertTrue(queue.poll(10).isEmpty());
+
+		queue.add("b");
+		assertEquals(Arrays.asList("b"), queue.poll(10));
+	}
+
+	@Test
+	public void concurrentAdd() throws Exception {
+		CoalescingUpdateQueue<Integer> queue= new CoalescingUpdateQueue<>();
+		int threadCount= 4;
+		int elementCount= 10000;
+		CountDownLatch start= new CountDownLatch(1);
+		List<Thread> threads= new ArrayList<>();
+		for (int t= 0; t < threadCount; t++) {
+			Thread thread= new Thread(() -> {
+				try {
+					start.await();
+				} catch (InterruptedException e) {
+					return;
+				}
+				for (int i= 0; i < elementCount; i++) {
+					queue.add(Integer.valueOf(i));
+				}
+			});
+			threads.add(thread);
+			thread.start();
+		}
+		Set<Integer> polled= new HashSet<>();
+		int duplicates= 0;
+		start.countDown();
+		boolean running= true;
+		while (running) {
+			running= false;
+			for (Thread thread : threads) {
+				running|= thread.isAlive();
+			}
+			for (Integer element : queue.poll(64)) {
+				if (! polled.add(element))
+					duplicates++;
+			}
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		List<Integer> rest;
+		while (! (rest= queue.poll(64)).isEmpty()) {
+			for (Integer element : rest) {
+				if (! polled.add(element))
+					duplicates++;
+			}
+		}
+		// every element is polled at least once, and again only if it was added after it was polled
+		assertEquals(elementCount, polled.size());
+		assertTrue(duplicates <= (threadCount - 1) * elementCount);
+		assertTrue(queue.isEmpty());
+	}
+}
@@ -0,0 +1,152 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.runner.FramedMessageReader;
+import org.eclipse.jdt.internal.junit.runner.FramedMessageSender;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+import org.eclipse.jdt.internal.junit.runner.TestIdMap;
+
+public class FramedMessageProtocolTest {
+
+	private static final String[] MESSAGES= {
+			MessageIds.TEST_RUN_START + "2 v2",
+			MessageIds.TEST_TREE + "1,pack.ATestCase,true,2,false,-1,ATestCase,,",
+			MessageIds.TEST_TREE + "2,testSucceed(pack.ATestCase),false,1,false,-1,testSucceed,,",
+			MessageIds.TEST_TREE + "3,testFail(pack.ATestCase),false,1,false,-1,testFail,,",
+			MessageIds.TEST_START + "2,testSucceed(pack.ATestCase)",
+			MessageIds.TEST_END + "2,testSucceed(pack.ATestCase)",
+			MessageIds.TEST_START + "3,testFail(pack.ATestCase)",
+			MessageIds.TEST_FAILED + "3,testFail(pack.ATestCase)",
+			MessageIds.EXPECTED_START,
+			"expected\nvalue",
+			MessageIds.EXPECTED_END,
+			MessageIds.TRACE_START,
+			"junit.framework.AssertionFailedError: \u00e4\u00f6\u00fc\n\tat pack.ATestCase.testFail(ATestCase.java:5)\n",
+			MessageIds.TRACE_END,
+			MessageIds.TEST_END + "3,testFail(pack.ATestCase)",
+			MessageIds.TEST_START + "pack.ATestCase,testUnrooted",
+			"",
+			MessageIds.TEST_RUN_END + "42",
+	};
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		FramedMessageSender sender= new FramedMessageSender(out, FramedMessageSender.DEFAULT_TIME_SLICE);
+		for (String message : MESSAGES) {
+			sender.sendMessage(message);
+		}
+		sender.close();
+
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(out.toByteArray()));
+		assertTrue(FramedMessageReader.isFramed(in));
+		FramedMessageReader reader= new FramedMessageReader(in);
+		assertEquals(System.lineSeparator(), reader.getLineSeparator());
+		for (String message : MESSAGES) {
+			assertEquals(message, reader.readMessage());
+		}
+		assertNull(reader.readMessage());
+	}
+
+	@Test
+	public void testBurstInOneFrame() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		// a long time slice, so that the burst cannot span two slices
+		FramedMessageSender sender= new FramedMessageSender(out, 60_000);
+		int headerSize= out.size();
+		for (String message : MESSAGES) {
+			sender.sendMessage(message);
+			// the runner flushes after every test event
+			sender.flush();
+		}
+		assertEquals(headerSize, out.size());
+		sender.close();
+
+		byte[] written= out.toByteArray();
+		DataInputStream frames= new DataInputStream(new ByteArrayInputStream(written, headerSize, written.length - headerSize));
+		int frameSize= frames.readInt();
+		assertEquals(written.length - headerSize - 4, frameSize);
+
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(written));
+		assertTrue(FramedMessageReader.isFramed(in));
+		FramedMessageReader reader= new FramedMessageReader(in);
+		for (String message : MESSAGES) {
+			assertEquals(message, reader.readMessage());
+		}
+		assertNull(reader.readMessage());
+	}
+
+	@Test
+	public void testTimeSliceWritesPendingFrame() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		FramedMessageSender sender= new FramedMessageSender(out, 10);
+		int headerSize= out.size();
+		for (String message : MESSAGES) {
+			sender.sendMessage(message);
+		}
+		// wait until the frames of all slices have been written
+		long end= System.currentTimeMillis() + 10_000;
+		int size= headerSize;
+		while (System.currentTimeMillis() < end) {
+			Thread.sleep(100);
+			int newSize= out.size();
+			if (newSize > headerSize && newSize == size)
+				break;
+			size= newSize;
+		}
+		byte[] written= out.toByteArray(); // the sender is not closed, as if the VM had exited
+
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(written));
+		assertTrue(FramedMessageReader.isFramed(in));
+		FramedMessageReader reader= new FramedMessageReader(in);
+		for (String message : MESSAGES) {
+			assertEquals(message, reader.readMessage());
+		}
+		assertNull(reader.readMessage());
+		sender.close();
+	}
+
+	@Test
+	public void testTextIsNotFramed() throws Exception {
+		byte[] text= (MessageIds.TEST_RUN_START + "1 v2\n").getBytes(StandardCharsets.UTF_8);
+		BufferedInputStream in= new BufferedInputStream(new ByteArrayInputStream(text));
+		assertFalse(FramedMessageReader.isFramed(in));
+		assertEquals('%', in.read());
+	}
+
+	@Test
+	public void testIntegerTestIds() throws Exception {
+		assertEquals(1, TestIdMap.toInt("1"));
+		assertEquals(123456789, TestIdMap.toInt("123456789"));
+		assertEquals(-1, TestIdMap.toInt(""));
+		assertEquals(-1, TestIdMap.toInt("01"));
+		assertEquals(-1, TestIdMap.toInt("-2"));
+		assertEquals(-1, TestIdMap.toInt("pack.ATestCase"));
+		assertEquals(-1, TestIdMap.toInt("1234567890"));
+	}
+}
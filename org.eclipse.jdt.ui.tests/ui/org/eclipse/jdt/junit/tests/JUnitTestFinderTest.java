@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,12 +14,16 @@
 package org.eclipse.jdt.junit.tests;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Consumer;
 
 import org.junit.After;
@@ -38,9 +42,11 @@ import org.eclipse.jdt.testplugin.StringAsserts;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.Path;
 
 import org.eclipse.jdt.core.IClasspathEntry;
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
@@ -50,6 +56,7 @@ import org.eclipse.jdt.core.JavaCore;
 
 import org.eclipse.jdt.internal.junit.launcher.ITestFinder;
 import org.eclipse.jdt.internal.junit.launcher.ITestKind;
+import org.eclipse.jdt.internal.junit.launcher.TestContainerIndex;
 import org.eclipse.jdt.internal.junit.launcher.TestKindRegistry;
 
 
@@ -521,6 +528,140 @@ public class JUnitTestFinderTest {
 		assertTestFound(validTest1.getCompilationUnit(), new String[] { "p.Test1",  "p.Test1.NestedClass" });
 	}
 
+	@Test
+	public void testContainerSearchFollowsChanges() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String str= """
+			package p;
+
+			import org.junit.Test;
+
+			public class Test1 {
+			        @Test public void testFoo() {
+			        }
+			}
+			""";
+		ICompilationUnit cu= p.createCompilationUnit("Test1.java", str, false, null);
+
+		assertTestFound(p, new String[] { "p.Test1" });
+		assertTestFound(fProject, new String[] { "p.Test1" });
+
+		ICompilationUnit workingCopy= cu.getWorkingCopy(null);
+		try {
+			String body= "        }";
+			workingCopy.getBuffer().replace(str.indexOf(body), 0, "        System.out.println();\n");
+			workingCopy.reconcile(ICompilationUnit.NO_AST, false, null, null);
+			workingCopy.commitWorkingCopy(true, null);
+		} finally {
+			workingCopy.discardWorkingCopy();
+		}
+
+		assertTestFound(p, new String[] { "p.Test1" });
+
+		String str1= """
+			package p;
+
+			import org.junit.Test;
+
+			public class Test2 {
+			        @Test public void testBar() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("Test2.java", str1, false, null);
+
+		assertTestFound(p, new String[] { "p.Test1", "p.Test2" });
+		assertTestFound(fProject, new String[] { "p.Test1", "p.Test2" });
+
+		String str2= """
+			package p;
+
+			public class Test1 {
+			        public void testFoo() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("Test1.java", str2, true, null);
+
+		assertTestFound(p, new String[] { "p.Test2" });
+		assertTestFound(fProject, new String[] { "p.Test2" });
+	}
+
+	@Test
+	public void testContainerSearchPatchesSubtypes() throws Exception {
+		IPackageFragment p= fRoot.createPackageFragment("p", true, null);
+		String str= """
+			package p;
+
+			public class Base {
+			        public void helper() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("Base.java", str, false, null);
+		String str1= """
+			package p;
+
+			public class Sub extends Base {
+			}
+			""";
+		p.createCompilationUnit("Sub.java", str1, false, null);
+
+		assertTestFound(p, new String[0]);
+		assertTestFound(fProject, new String[0]);
+
+		String str2= """
+			package p;
+
+			import org.junit.Test;
+
+			public class Base {
+			        public void helper() {
+			        }
+			        @Test public void testFoo() {
+			        }
+			}
+			""";
+		p.createCompilationUnit("Base.java", str2, true, null);
+
+		// only the changed unit and the unit of its subtype are searched
+		ITestKind testKind= TestKindRegistry.getContainerTestKind(p);
+		List<IJavaElement> searched= new ArrayList<>();
+		ITestFinder finder= new ITestFinder() {
+			@Override
+			public void findTestsInContainer(IJavaElement element, Set<IType> result, IProgressMonitor pm) throws CoreException {
+				searched.add(element);
+				testKind.getFinder().findTestsInContainer(element, result, pm);
+			}
+
+			@Override
+			public boolean isTest(IType type) throws CoreException {
+				return testKind.getFinder().isTest(type);
+			}
+		};
+		IType[] tests= TestContainerIndex.getDefault().getTests(testKind.getId(), p, finder, null);
+		assertNotNull(tests);
+		assertEquals(2, tests.length);
+		assertEquals(2, searched.size());
+		for (IJavaElement element : searched) {
+			assertTrue(element.toString(), element instanceof ICompilationUnit);
+		}
+
+		assertTestFound(p, new String[] { "p.Base", "p.Sub" });
+		assertTestFound(fProject, new String[] { "p.Base", "p.Sub" });
+
+		String str3= """
+			package p;
+
+			public class Sub {
+			}
+			""";
+		p.createCompilationUnit("Sub.java", str3, true, null);
+
+		assertTestFound(p, new String[] { "p.Base" });
+		assertTestFound(fProject, new String[] { "p.Base" });
+	}
+
 	private void assertTestFound(IJavaElement container, String[] expectedTypes) throws CoreException {
 		ITestKind testKind= TestKindRegistry.getContainerTestKind(container);
 		assertEquals(fScenario.testKindId(), testKind.getId());
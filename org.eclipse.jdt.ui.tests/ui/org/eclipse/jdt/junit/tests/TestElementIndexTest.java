@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElementIndex;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+
+public class TestElementIndexTest {
+
+	private TestRoot fRoot;
+
+	private TestElementIndex fIndex;
+
+	@Before
+	public void setUp() {
+		fRoot= new TestRunSession("index", null).getTestRoot();
+		fIndex= new TestElementIndex();
+	}
+
+	private TestElement createTestCase(String id) {
+		return new TestCaseElement(fRoot, id, "test" + id + "(pack.ATestCase)", null, false, null, null);
+	}
+
+	@Test
+	public void numericIds() {
+		TestElement first= createTestCase("1");
+		TestElement negative= createTestCase("-3");
+		TestElement max= createTestCase(Integer.toString(Integer.MAX_VALUE));
+		fIndex.put("1", first);
+		fIndex.put("-3", negative);
+		fIndex.put(max.getId(), max);
+
+		assertSame(first, fIndex.get("1"));
+		assertSame(negative, fIndex.get("-3"));
+		assertSame(max, fIndex.get(max.getId()));
+		assertNull(fIndex.get("2"));
+		assertNull(fIndex.get("3"));
+	}
+
+	@Test
+	public void otherIds() {
+		// not the canonical representation of an int, so kept by the string
+		TestElement leadingZero= createTestCase("01");
+		TestElement negativeZero= createTestCase("-0");
+		TestElement tooLarge= createTestCase("2147483648");
+		TestElement name= createTestCase("pack.ATestCase");
+		fIndex.put("01", leadingZero);
+		fIndex.put("-0", negativeZero);
+		fIndex.put("2147483648", tooLarge);
+		fIndex.put("pack.ATestCase", name);
+
+		assertSame(leadingZero, fIndex.get("01"));
+		assertSame(negativeZero, fIndex.get("-0"));
+		assertSame(tooLarge, fIndex.get("2147483648"));
+		assertSame(name, fIndex.get("pack.ATestCase"));
+		assertNull(fIndex.get("1"));
+		assertNull(fIndex.get("0"));
+		assertNull(fIndex.get("-2147483648"));
+	}
+
+	@Test
+	public void replace() {
+		TestElement first= createTestCase("7");
+		TestElement second= createTestCase("7");
+		fIndex.put("7", first);
+		fIndex.put("7", second);
+		assertSame(second, fIndex.get("7"));
+	}
+
+	@Test
+	public void rehash() {
+		List<TestElement> elements= new ArrayList<>();
+		for (int i= 0; i < 1000; i++) {
+			// spread the ids, so that they collide in the smaller tables
+			TestElement element= createTestCase(Integer.toString(i * 64 - 500));
+			elements.add(element);
+			fIndex.put(element.getId(), element);
+		}
+		for (TestElement element : elements) {
+			assertSame(element, fIndex.get(element.getId()));
+		}
+		assertNull(fIndex.get("1"));
+	}
+}
@@ -0,0 +1,147 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElementStore;
+import org.eclipse.jdt.internal.junit.model.TestRoot;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+
+public class TestElementStoreTest {
+
+	private final TestElementStore fStore= new TestElementStore();
+
+	@After
+	public void tearDown() {
+		fStore.dispose();
+	}
+
+	private static String largeTrace(int index) {
+		StringBuilder trace= new StringBuilder("java.lang.AssertionError: " + index);
+		while (trace.length() <= TestElementStore.LARGE_TRACE) {
+			trace.append("\n\tat pack.ATestCase.test").append(index).append("(ATestCase.java:").append(trace.length()).append(')');
+		}
+		return trace.toString();
+	}
+
+	@Test
+	public void internStrings() {
+		String name= "pack.ATestCase";
+		assertSame(name, fStore.intern(name));
+		assertSame(name, fStore.intern(new String(name)));
+		assertNull(fStore.intern((String) null));
+
+		String[] types= { "int", new String("java.lang.String") };
+		String[] shared= fStore.intern(types);
+		assertSame(types, shared);
+		assertSame(shared, fStore.intern(new String[] { "int", "java.lang.String" }));
+		assertSame(shared[1], fStore.intern("java.lang.String"));
+		assertNull(fStore.intern((String[]) null));
+	}
+
+	@Test
+	public void traces() {
+		String first= "java.lang.AssertionError: first\n\tat pack.ATestCase.testFail(ATestCase.java:12)\n\tat java.base/java.lang.Thread.run(Thread.java:833)\n";
+		String second= "java.lang.AssertionError: second\n\tat pack.ATestCase.testFail(ATestCase.java:12)\n\tat java.base/java.lang.Thread.run(Thread.java:833)";
+		Object firstHandle= fStore.storeTrace(first);
+		Object secondHandle= fStore.storeTrace(second);
+		assertEquals(first, fStore.getTrace(firstHandle));
+		assertEquals(second, fStore.getTrace(secondHandle));
+		assertEquals("", fStore.getTrace(fStore.storeTrace("")));
+		assertNull(fStore.storeTrace(null));
+		assertNull(fStore.getTrace(null));
+	}
+
+	@Test
+	public void spillLargeTraces() {
+		List<String> traces= new ArrayList<>();
+		List<Object> handles= new ArrayList<>();
+		long chars= 0;
+		for (int i= 0; chars <= TestElementStore.LARGE_TRACE_BUDGET + 4 * TestElementStore.LARGE_TRACE; i++) {
+			String trace= largeTrace(i);
+			traces.add(trace);
+			handles.add(fStore.storeTrace(trace));
+			chars+= trace.length();
+		}
+		// the traces within the budget stay in memory, the later ones are spilled
+		assertTrue(handles.get(0) instanceof int[]);
+		assertFalse(handles.get(handles.size() - 1) instanceof int[]);
+		for (int i= 0; i < traces.size(); i++) {
+			assertEquals(traces.get(i), fStore.getTrace(handles.get(i)));
+		}
+
+		fStore.dispose();
+		assertEquals(traces.get(0), fStore.getTrace(handles.get(0)));
+		assertNull(fStore.getTrace(handles.get(handles.size() - 1)));
+
+		// a disposed store keeps new traces in memory
+		String trace= largeTrace(-1);
+		assertEquals(trace, fStore.getTrace(fStore.storeTrace(trace)));
+	}
+
+	@Test
+	public void elementNames() {
+		TestRoot root= new TestRunSession("names", null).getTestRoot();
+		String className= "pack.ATestCase";
+		TestCaseElement first= new TestCaseElement(root, "1", "testA(" + className + ")", "testA()", false, new String[] { "int" }, null);
+		TestCaseElement second= new TestCaseElement(root, "2", "testB(" + className + ")", "testB()", false, new String[] { "int" }, null);
+		TestCaseElement plain= new TestCaseElement(root, "3", "plain name", "plain name", false, null, null);
+
+		assertEquals("testA(pack.ATestCase)", first.getTestName());
+		assertSame(first.getTestName(), first.getTestName());
+		assertEquals("testA", first.getTestMethodName());
+		assertEquals(className, first.getTestClassName());
+		assertSame(first.getTestClassName(), second.getTestClassName());
+		assertSame(first.getParameterTypes(), second.getParameterTypes());
+		assertArrayEquals(new String[] { "int" }, second.getParameterTypes());
+		assertEquals("plain name", plain.getTestName());
+
+		first.setName("testC(" + className + ")");
+		assertEquals("testC", first.getTestMethodName());
+		assertSame(second.getTestClassName(), first.getTestClassName());
+	}
+
+	@Test
+	public void relativeUniqueIds() {
+		TestRoot root= new TestRunSession("ids", null).getTestRoot();
+		String suiteId= "[engine:junit-jupiter]/[class:pack.ATestCase]";
+		TestSuiteElement suite= new TestSuiteElement(root, "1", "pack.ATestCase", 2, "ATestCase", null, suiteId);
+		TestSuiteElement nested= new TestSuiteElement(suite, "2", "pack.ATestCase$Nested", 1, "Nested", null, suiteId + "/[nested-class:Nested]");
+		TestCaseElement test= new TestCaseElement(nested, "3", "testA(pack.ATestCase$Nested)", "testA()", false, null, suiteId + "/[nested-class:Nested]/[method:testA()]");
+		TestCaseElement other= new TestCaseElement(suite, "4", "testB(pack.ATestCase)", "testB()", false, null, "[engine:junit-vintage]/[test:testB]");
+		TestCaseElement prefix= new TestCaseElement(suite, "5", "testC(pack.ATestCase)", "testC()", false, null, suiteId + "x/[method:testC()]");
+		TestCaseElement none= new TestCaseElement(suite, "6", "testD(pack.ATestCase)", "testD()", false, null, null);
+
+		assertSame(suiteId, suite.getUniqueId());
+		assertEquals(suiteId + "/[nested-class:Nested]", nested.getUniqueId());
+		assertEquals(suiteId + "/[nested-class:Nested]/[method:testA()]", test.getUniqueId());
+		assertEquals("[engine:junit-vintage]/[test:testB]", other.getUniqueId());
+		assertEquals(suiteId + "x/[method:testC()]", prefix.getUniqueId());
+		assertNull(none.getUniqueId());
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,6 +20,7 @@ import java.util.Enumeration;
 import java.util.List;
 
 import org.eclipse.jdt.internal.junit.runner.FailuresFirstPrioritizer;
+import org.eclipse.jdt.internal.junit.runner.TestRanking;
 
 import junit.extensions.TestDecorator;
 import junit.extensions.TestSetup;
@@ -306,6 +307,75 @@ public class TestPriorization extends TestCase {
 		}
 	}
 
+	public void testRankingTestNames() {
+		String[] ranked= {
+				"testF(pack.Suite2)", "testZ(pack.Suite)", "testD(pack.Suite2)", "", "testX(pack.Suite)", "testE(pack.Suite2)"
+		};
+		TestRanking ranking= new TestRanking(ranked);
+		assertEquals(3, ranking.getUnknownRank());
+		assertEquals(0, ranking.getRank("testF(pack.Suite2)"));
+		assertEquals(4, ranking.getRank("testX(pack.Suite)"));
+		assertEquals(3, ranking.getRank("testA(pack.Suite1)"));
+
+		assertEquals(Arrays.asList("testF(pack.Suite2)", "testD(pack.Suite2)", "", "testE(pack.Suite2)"), ranking.getTestNames("pack.Suite2"));
+		assertEquals(Arrays.asList("testZ(pack.Suite)", "", "testX(pack.Suite)"), ranking.getTestNames("pack.Suite"));
+		assertTrue(ranking.getTestNames("pack.Suite1").isEmpty());
+		assertTrue(ranking.getTestNames("pack").isEmpty());
+	}
+
+	public void testRankingNestedClasses() {
+		String[] ranked= {
+				"testB(pack.Outer$Inner)", "testA(pack.Outer)", "", "testC(pack.Outer$Inner$Deep)", "testD(pack.OuterOther)"
+		};
+		TestRanking ranking= new TestRanking(ranked);
+		// the tests of nested classes belong to the enclosing classes
+		assertEquals(Arrays.asList("testB(pack.Outer$Inner)", "testA(pack.Outer)", "", "testC(pack.Outer$Inner$Deep)"), ranking.getTestNames("pack.Outer"));
+		assertEquals(Arrays.asList("testB(pack.Outer$Inner)", "", "testC(pack.Outer$Inner$Deep)"), ranking.getTestNames("pack.Outer$Inner"));
+		assertEquals(Arrays.asList("", "testC(pack.Outer$Inner$Deep)"), ranking.getTestNames("pack.Outer$Inner$Deep"));
+		assertEquals(Arrays.asList("", "testD(pack.OuterOther)"), ranking.getTestNames("pack.OuterOther"));
+
+		assertEquals(0, ranking.getClassRank("pack.Outer"));
+		assertEquals(3, ranking.getClassRank("pack.Outer$Inner$Deep"));
+		assertEquals(2, ranking.getClassRank("pack.Unknown"));
+	}
+
+	public void testRankingWithoutUnknownTests() {
+		String[] ranked= {
+				"testB(pack.Suite)", "testA(pack.Suite)", "testB(pack.Suite)"
+		};
+		TestRanking ranking= new TestRanking(ranked);
+		// duplicates keep their first rank, and the unknown tests go last
+		assertEquals(3, ranking.getUnknownRank());
+		assertEquals(0, ranking.getRank("testB(pack.Suite)"));
+		assertEquals(Arrays.asList("testB(pack.Suite)", "testA(pack.Suite)", ""), ranking.getTestNames("pack.Suite"));
+		assertEquals(Arrays.asList("testB(pack.Suite)", "testA(pack.Suite)"), ranking.getTestNames());
+	}
+
+	public void testRankingAllTestNames() {
+		String[] ranked= {
+				"testF(pack.Suite2)", "", "testX(pack.Suite)", "testF(pack.Suite2)", "", "testA(pack.Suite1)"
+		};
+		TestRanking ranking= new TestRanking(ranked);
+		assertEquals(1, ranking.getUnknownRank());
+		assertEquals(Arrays.asList("testF(pack.Suite2)", "", "testX(pack.Suite)", "testA(pack.Suite1)"), ranking.getTestNames());
+	}
+
+	public void testRankingSortClassNames() {
+		String[] ranked= {
+				"testF(pack.Suite2)", "testZ(pack.Suite$Nested)", "", "testA(pack.Suite1)"
+		};
+		TestRanking ranking= new TestRanking(ranked);
+		String[] classNames= {
+				"pack.Suite1", "pack.Other", "pack.Suite", "pack.Another", "pack.Suite2"
+		};
+		String[] expected= {
+				"pack.Suite2", "pack.Suite", "pack.Other", "pack.Another", "pack.Suite1"
+		};
+		assertEquals(Arrays.asList(expected), Arrays.asList(ranking.sortClassNames(classNames)));
+		// the given array is not changed
+		assertEquals("pack.Suite1", classNames[0]);
+	}
+
 	private TestSuite createSuiteDEF() {
 		// suite
 		//		D
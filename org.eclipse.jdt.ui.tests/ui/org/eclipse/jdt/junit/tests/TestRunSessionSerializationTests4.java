@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -51,6 +51,11 @@ public class TestRunSessionSerializationTests4 extends AbstractTestRunSessionSer
 		runCUTest(test);
 	}
 
+	@Test
+	public void testLargeRun() throws Exception {
+		runLargeRunTest();
+	}
+
 	@Test
 	public void testFailures() throws Exception {
 		String test= "Failures";
@@ -0,0 +1,239 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.junit.tests;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.eclipse.jdt.junit.model.ITestElement.Result;
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+
+import org.eclipse.debug.core.ILaunchManager;
+import org.eclipse.debug.core.Launch;
+
+import org.eclipse.jdt.core.IJavaProject;
+
+import org.eclipse.jdt.internal.junit.launcher.TestShards;
+import org.eclipse.jdt.internal.junit.model.ITestSessionListener;
+import org.eclipse.jdt.internal.junit.model.TestCaseElement;
+import org.eclipse.jdt.internal.junit.model.TestElement;
+import org.eclipse.jdt.internal.junit.model.TestElement.Status;
+import org.eclipse.jdt.internal.junit.model.TestRunSession;
+import org.eclipse.jdt.internal.junit.model.TestSuiteElement;
+import org.eclipse.jdt.internal.junit.runner.FramedMessageSender;
+import org.eclipse.jdt.internal.junit.runner.MessageIds;
+
+public class TestShardsTest {
+
+	private static final int TIMEOUT= 10 * 1000;
+
+	private IJavaProject fProject;
+
+	@Before
+	public void setUp() throws Exception {
+		fProject= JavaProjectHelper.createJavaProject("TestShardsTest", "bin");
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		JavaProjectHelper.delete(fProject);
+	}
+
+	@Test
+	public void partition() {
+		// the longest items go first, each to the shard with the least duration so far
+		assertArrayEquals(new int[] { 0, 1, 1, 1, 0 }, TestShards.partition(new double[] { 10, 6, 3, 2, 1 }, 2));
+		assertArrayEquals(new int[] { 0, 1, 2, 2 }, TestShards.partition(new double[] { 5, 4, 1, 1 }, 3));
+		// more shards than items
+		assertArrayEquals(new int[] { 0, 1 }, TestShards.partition(new double[] { 1, 1 }, 4));
+		assertArrayEquals(new int[0], TestShards.partition(new double[0], 2));
+		assertArrayEquals(new int[] { 0, 0, 0 }, TestShards.partition(new double[] { 3, 2, 1 }, 1));
+	}
+
+	@Test
+	public void mapId() {
+		assertEquals("0", TestRunSession.mapShardTestId("0", 0, 2));
+		assertEquals("3", TestRunSession.mapShardTestId("1", 1, 2));
+		assertEquals("14", TestRunSession.mapShardTestId("4", 2, 3));
+		// ids that are not decimal, or too large when interleaved, are prefixed with the shard
+		assertEquals("1:pack.ATestCase", TestRunSession.mapShardTestId("pack.ATestCase", 1, 2));
+		assertEquals("1:01", TestRunSession.mapShardTestId("01", 1, 2));
+		assertEquals("0:-2", TestRunSession.mapShardTestId("-2", 0, 2));
+		assertEquals("1:" + Integer.MAX_VALUE, TestRunSession.mapShardTestId(String.valueOf(Integer.MAX_VALUE), 1, 2));
+	}
+
+	@Test
+	public void mapTreeEntry() {
+		assertEquals("3,pack.ATestCase,true,2,false,-1,ATestCase,,",
+				TestRunSession.mapShardTreeEntry("1,pack.ATestCase,true,2,false,-1,ATestCase,,", 1, 2));
+		assertEquals("5,testFail(pack.ATestCase),false,1,false,3,testFail,,[engine:junit-jupiter]/[method:testFail()]",
+				TestRunSession.mapShardTreeEntry("2,testFail(pack.ATestCase),false,1,false,1,testFail,,[engine:junit-jupiter]/[method:testFail()]", 1, 2));
+		// commas in the test name are escaped
+		assertEquals("4,test\\,a(pack.ATestCase),false,1,false,2,test\\,a,,",
+				TestRunSession.mapShardTreeEntry("2,test\\,a(pack.ATestCase),false,1,false,1,test\\,a,,", 0, 2));
+		// an entry without a parent id
+		assertEquals("4,pack.ATestCase,true,1", TestRunSession.mapShardTreeEntry("2,pack.ATestCase,true,1", 0, 2));
+	}
+
+	private static int findFreePort() throws IOException {
+		try (ServerSocket socket= new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	private static Socket connect(int port) throws Exception {
+		long end= System.currentTimeMillis() + TIMEOUT;
+		while (true) {
+			try {
+				return new Socket("127.0.0.1", port);
+			} catch (IOException e) {
+				if (System.currentTimeMillis() > end)
+					throw e;
+				Thread.sleep(50);
+			}
+		}
+	}
+
+	private static void send(FramedMessageSender sender, String... messages) {
+		for (String message : messages) {
+			sender.sendMessage(message);
+		}
+		sender.flush();
+	}
+
+	@Test
+	public void mergedSession() throws Exception {
+		int[] ports= { findFreePort(), findFreePort() };
+		TestRunSession session= new TestRunSession(new Launch(null, ILaunchManager.RUN_MODE, null), fProject, ports);
+		AtomicInteger started= new AtomicInteger();
+		CountDownLatch ended= new CountDownLatch(1);
+		session.addTestSessionListener(new ITestSessionListener() {
+			@Override
+			public void sessionStarted() {
+				started.incrementAndGet();
+			}
+			@Override
+			public void sessionEnded(long elapsedTime) {
+				ended.countDown();
+			}
+			@Override
+			public void sessionStopped(long elapsedTime) {
+			}
+			@Override
+			public void sessionTerminated() {
+			}
+			@Override
+			public void testAdded(TestElement testElement) {
+			}
+			@Override
+			public void runningBegins() {
+			}
+			@Override
+			public void testStarted(TestCaseElement testCaseElement) {
+			}
+			@Override
+			public void testEnded(TestCaseElement testCaseElement) {
+			}
+			@Override
+			public void testFailed(TestElement testElement, Status status, String trace, String expected, String actual) {
+			}
+			@Override
+			public void testReran(TestCaseElement testCaseElement, Status status, String trace, String expectedResult, String actualResult) {
+			}
+			@Override
+			public boolean acceptsSwapToDisk() {
+				return false;
+			}
+		});
+		try (Socket socket0= connect(ports[0]); Socket socket1= connect(ports[1])) {
+			FramedMessageSender shard0= new FramedMessageSender(socket0.getOutputStream(), FramedMessageSender.DEFAULT_TIME_SLICE);
+			FramedMessageSender shard1= new FramedMessageSender(socket1.getOutputStream(), FramedMessageSender.DEFAULT_TIME_SLICE);
+			// both runners use the same ids, and their trees arrive interleaved
+			send(shard0,
+					MessageIds.TEST_RUN_START + "2 v2",
+					MessageIds.TEST_TREE + "1,pack.A,true,2,false,-1,A,,",
+					MessageIds.TEST_TREE + "2,a1(pack.A),false,1,false,1,a1,,");
+			send(shard1,
+					MessageIds.TEST_RUN_START + "1 v2",
+					MessageIds.TEST_TREE + "1,pack.B,true,1,false,-1,B,,");
+			send(shard0,
+					MessageIds.TEST_TREE + "3,a2(pack.A),false,1,false,1,a2,,",
+					MessageIds.TEST_START + "2,a1(pack.A)",
+					MessageIds.TEST_END + "2,a1(pack.A)");
+			send(shard1,
+					MessageIds.TEST_TREE + "2,b1(pack.B),false,1,false,1,b1,,",
+					MessageIds.TEST_START + "2,b1(pack.B)",
+					MessageIds.TEST_FAILED + "2,b1(pack.B)",
+					MessageIds.TRACE_START,
+					"java.lang.AssertionError: b1\n\tat pack.B.b1(B.java:5)\n",
+					MessageIds.TRACE_END,
+					MessageIds.TEST_END + "2,b1(pack.B)",
+					MessageIds.TEST_RUN_END + "10");
+			send(shard0,
+					MessageIds.TEST_START + "3,a2(pack.A)",
+					MessageIds.TEST_END + "3,a2(pack.A)",
+					MessageIds.TEST_RUN_END + "20");
+			assertTrue("session did not end", ended.await(TIMEOUT, TimeUnit.MILLISECONDS));
+			shard0.close();
+			shard1.close();
+		}
+		try {
+			assertEquals(1, started.get());
+			assertEquals(3, session.getTotalCount());
+			assertEquals(3, session.getStartedCount());
+			assertEquals(1, session.getFailureCount());
+			assertEquals(0, session.getErrorCount());
+
+			TestSuiteElement suiteA= (TestSuiteElement) session.getTestElement("2");
+			TestSuiteElement suiteB= (TestSuiteElement) session.getTestElement("3");
+			assertEquals("pack.A", suiteA.getTestName());
+			assertEquals("pack.B", suiteB.getTestName());
+			assertSame(session.getTestRoot(), suiteA.getParent());
+			assertSame(session.getTestRoot(), suiteB.getParent());
+
+			TestElement a1= session.getTestElement("4");
+			TestElement a2= session.getTestElement("6");
+			TestElement b1= session.getTestElement("5");
+			assertNotNull(a1);
+			assertNotNull(a2);
+			assertNotNull(b1);
+			assertEquals("a1(pack.A)", a1.getTestName());
+			assertEquals("a2(pack.A)", a2.getTestName());
+			assertEquals("b1(pack.B)", b1.getTestName());
+			assertSame(suiteA, a1.getParent());
+			assertSame(suiteA, a2.getParent());
+			assertSame(suiteB, b1.getParent());
+			assertEquals(Result.OK, a1.getTestResult(false));
+			assertEquals(Result.OK, a2.getTestResult(false));
+			assertEquals(Result.FAILURE, b1.getTestResult(false));
+			assertTrue(b1.getTrace(), b1.getTrace().startsWith("java.lang.AssertionError: b1"));
+		} finally {
+			session.removeSwapFile();
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -15,6 +15,9 @@ package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.After;
 import org.junit.Before;
@@ -24,12 +27,19 @@ import org.junit.Test;
 import org.eclipse.jdt.testplugin.JavaProjectHelper;
 
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
 
+import org.eclipse.core.filebuffers.FileBuffers;
+import org.eclipse.core.filebuffers.ITextFileBufferManager;
+import org.eclipse.core.filebuffers.LocationKind;
+
 import org.eclipse.text.edits.ReplaceEdit;
 
+import org.eclipse.jface.text.IDocument;
+
 import org.eclipse.ltk.core.refactoring.Change;
 import org.eclipse.ltk.core.refactoring.CreateChangeOperation;
 import org.eclipse.ltk.core.refactoring.PerformChangeOperation;
@@ -40,10 +50,14 @@ import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IJavaProject;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.dom.ASTParser;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.SharedASTProviderCore;
 import org.eclipse.jdt.core.refactoring.CompilationUnitChange;
 
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTCache;
+import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
+
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
 
@@ -142,6 +156,96 @@ public class ASTProviderTest extends CoreTests {
 		cu.getBuffer().save(null, true);
 	}
 
+	@Test
+	public void testASTCache() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu1= pack1.createCompilationUnit("E1.java", str, false, null);
+		str= """
+			package test1;
+			public class E2 {
+			}
+			""";
+		ICompilationUnit cu2= pack1.createCompilationUnit("E2.java", str, false, null);
+
+		CompilationUnit ast1= createAST(cu1);
+		CompilationUnit ast2= createAST(cu2);
+
+		ASTCache cache= new ASTCache(ASTCache.DEFAULT_BUDGET);
+		cache.put(cu1, ast1);
+		cache.put(cu2, ast2);
+		assertEquals(2, cache.size());
+		assertEquals(ASTCache.estimateSize(ast1) + ASTCache.estimateSize(ast2), cache.getRetainedSize());
+		assertTrue(ASTCache.estimateSize(ast1) > ast1.subtreeBytes());
+
+		assertSame(ast1, cache.get(cu1));
+		assertEquals(1, cache.getHitCount());
+
+		cu2.getBuffer().append("//");
+		cu2.makeConsistent(null);
+		assertNull(cache.get(cu2));
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.size());
+
+		cache.put(cu2, createAST(cu2));
+		cache.get(cu1);
+		cache.setBudget(cache.getRetainedSize() - 1);
+		assertEquals(1, cache.getEvictionCount());
+		assertNull(cache.get(cu2));
+		assertSame(ast1, cache.get(cu1));
+		cache.dispose();
+	}
+
+	@Test
+	public void testASTCacheDiscardedChanges() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class E1 {
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("E1.java", str, false, null);
+		IPath path= cu.getResource().getFullPath();
+		ITextFileBufferManager manager= FileBuffers.getTextFileBufferManager();
+		ASTCache cache= new ASTCache(ASTCache.DEFAULT_BUDGET);
+		try {
+			// edit the file and discard the change
+			manager.connect(path, LocationKind.IFILE, null);
+			try {
+				IDocument document= manager.getTextFileBuffer(path, LocationKind.IFILE).getDocument();
+				document.replace(0, 0, "//x\n");
+				cache.put(cu, createAST(cu));
+				assertEquals(1, cache.size());
+			} finally {
+				manager.disconnect(path, LocationKind.IFILE, null);
+			}
+			assertEquals(0, cache.size());
+
+			// a different edit after reopening reaches the same document stamp
+			manager.connect(path, LocationKind.IFILE, null);
+			try {
+				IDocument document= manager.getTextFileBuffer(path, LocationKind.IFILE).getDocument();
+				document.replace(0, 0, "//y\n");
+				assertNull(cache.get(cu));
+			} finally {
+				manager.disconnect(path, LocationKind.IFILE, null);
+			}
+		} finally {
+			cache.dispose();
+		}
+	}
+
+	private static CompilationUnit createAST(ICompilationUnit cu) {
+		ASTParser parser= ASTParser.newParser(IASTSharedValues.SHARED_AST_LEVEL);
+		parser.setSource(cu);
+		parser.setResolveBindings(true);
+		return (CompilationUnit) parser.createAST(null);
+	}
+
 	private static String getNormalizeNumber(int number) {
 		if (number < 10) {
 			return "000" + number;
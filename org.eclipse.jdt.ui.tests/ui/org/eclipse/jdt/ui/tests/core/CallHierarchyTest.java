@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2021 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -17,12 +17,15 @@ package org.eclipse.jdt.ui.tests.core;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -30,12 +33,17 @@ import org.junit.Test;
 
 import org.eclipse.core.runtime.NullProgressMonitor;
 
+import org.eclipse.jdt.core.ICompilationUnit;
 import org.eclipse.jdt.core.IInitializer;
 import org.eclipse.jdt.core.IMember;
 import org.eclipse.jdt.core.IMethod;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.jdt.core.search.SearchEngine;
 
 import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchy;
+import org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyIndex;
+import org.eclipse.jdt.internal.corext.callhierarchy.MethodCall;
 import org.eclipse.jdt.internal.corext.callhierarchy.MethodWrapper;
 
 import org.eclipse.jdt.ui.tests.callhierarchy.CallHierarchyTestHelper;
@@ -157,6 +165,82 @@ public class CallHierarchyTest {
         helper.assertCalls(expectedMethods, cachedCalls);
     }
 
+	@Test
+	public void callIndex() throws Exception {
+        helper.createSimpleClasses();
+
+        CallHierarchyIndex index= CallHierarchyIndex.getDefault();
+        index.waitUntilCurrent(new NullProgressMonitor());
+        assertTrue("Index should be current", index.isCurrent());
+
+        Map<String, MethodCall> callers= index.getCallers(helper.getMethod1(), SearchEngine.createWorkspaceScope());
+        assertNotNull(callers);
+        assertEquals(Set.of(helper.getMethod2().getHandleIdentifier(), helper.getMethod3().getHandleIdentifier()), callers.keySet());
+
+        Map<String, MethodCall> callees= index.getCallees(helper.getMethod3());
+        assertNotNull(callees);
+        assertEquals(Set.of(helper.getMethod1().getHandleIdentifier(), helper.getMethod2().getHandleIdentifier()), callees.keySet());
+
+        CallHierarchy.setCallIndexEnabled(true);
+        try {
+            MethodWrapper wrapper= getSingleCallerRoot(helper.getMethod1());
+            helper.assertCalls(List.of(helper.getMethod2(), helper.getMethod3()), wrapper.getCalls(new NullProgressMonitor()));
+
+            wrapper= getSingleCalleeRoot(helper.getMethod3());
+            helper.assertCalls(List.of(helper.getMethod1(), helper.getMethod2()), wrapper.getCalls(new NullProgressMonitor()));
+        } finally {
+            CallHierarchy.setCallIndexEnabled(false);
+        }
+    }
+
+	@Test
+	public void callIndexPolymorphicCallers() throws Exception {
+        helper.createCalleeClasses();
+
+        CallHierarchyIndex index= CallHierarchyIndex.getDefault();
+        index.waitUntilCurrent(new NullProgressMonitor());
+        assertTrue("Index should be current", index.isCurrent());
+
+        IJavaSearchScope scope= SearchEngine.createWorkspaceScope();
+        assertNull(index.getCallers(helper.getFooMethod(), scope));
+        assertNull(index.getCallers(helper.getFooImplMethod_A(), scope));
+        assertNull(index.getCallers(helper.getAbsFooMethod(), scope));
+        assertNull(index.getCallers(helper.getAbsI1FooMethod(), scope));
+
+        CallHierarchy.setCallIndexEnabled(true);
+        try {
+            checkCalls(helper.getFooMethod(), helper.getCalleeMethod());
+            checkCalls(helper.getAbsFooMethod(), helper.getAbsCalleeMethod());
+        } finally {
+            CallHierarchy.setCallIndexEnabled(false);
+        }
+    }
+
+	@Test
+	public void callIndexUnsavedWorkingCopy() throws Exception {
+        helper.createSimpleClasses();
+
+        CallHierarchyIndex index= CallHierarchyIndex.getDefault();
+        ICompilationUnit unit= helper.getType2().getCompilationUnit();
+        unit.becomeWorkingCopy(null);
+        try {
+            String source= unit.getSource();
+            String original= "method4() { method3(); }";
+            int offset= source.indexOf(original);
+            unit.getBuffer().replace(offset, original.length(), "method4() { method3(); method1(); }");
+            unit.reconcile(ICompilationUnit.NO_AST, false, null, null);
+
+            index.waitUntilCurrent(new NullProgressMonitor());
+            assertTrue("Index should be current", index.isCurrent());
+
+            Map<String, MethodCall> callers= index.getCallers(helper.getMethod1(), SearchEngine.createWorkspaceScope());
+            assertNotNull(callers);
+            assertEquals(Set.of(helper.getMethod2().getHandleIdentifier(), helper.getMethod3().getHandleIdentifier(), helper.getMethod4().getHandleIdentifier()), callers.keySet());
+        } finally {
+            unit.discardWorkingCopy();
+        }
+    }
+
 	@Test
 	public void recursiveCallers() throws Exception {
         helper.createSimpleClasses();
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2020 IBM Corporation and others.
+ * Copyright (c) 2020, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -47,6 +47,7 @@ JavaModelUtilTest.class,
 MethodOverrideTest.class,
 MethodOverrideTest1d8.class,
 NameProposerTest.class,
+OpenTypeHistoryTest.class,
 OverrideTest.class,
 PartialASTTest.class,
 ScopeAnalyzerTest.class,
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2023 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -4042,6 +4042,42 @@ public class ImportOrganizeTest extends CoreTests {
 		}
 	}
 
+	@Test
+	public void testTypeAddedAfterOrganizeImports() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class C {
+			    Helper h;
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("C.java", str, false, null);
+
+		String[] order= new String[0];
+		IChooseImportQuery query= createQuery("C", new String[] {}, new int[] {});
+
+		OrganizeImportsOperation op= createOperation(cu, order, 99, false, true, true, query);
+		op.run(null);
+		assertImports(cu, new String[] {});
+
+		// the type name index of the project must not answer from the state before the type was added
+		IPackageFragment pack2= sourceFolder.createPackageFragment("test2", false, null);
+		String str1= """
+			package test2;
+			public class Helper {
+			}
+			""";
+		pack2.createCompilationUnit("Helper.java", str1, false, null);
+
+		op= createOperation(cu, order, 99, false, true, true, query);
+		op.run(null);
+		assertImports(cu, new String[] {
+			"test2.Helper"
+		});
+	}
+
 	private long getElementInfoTimestamp(CompilationUnit icu) throws NoSuchFieldException, IllegalAccessException, JavaModelException {
 		CompilationUnitElementInfo elementInfo= (CompilationUnitElementInfo) icu.getElementInfo();
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -14,7 +14,10 @@
 package org.eclipse.jdt.ui.tests.core;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.Hashtable;
@@ -58,6 +61,7 @@ import org.eclipse.jdt.internal.corext.dom.Bindings;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.util.CodeFormatterUtil;
 import org.eclipse.jdt.internal.corext.util.MethodOverrideTester;
+import org.eclipse.jdt.internal.corext.util.SuperTypeHierarchyCache;
 
 import org.eclipse.jdt.ui.JavaElementLabels;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
@@ -295,6 +299,58 @@ public class MethodOverrideTest extends CoreTests {
 		doOverrideTests(cu, 1, 1, 0); // B and A
 	}
 
+	@Test
+	public void testSuperTypeHierarchyCache() throws Exception {
+		IPackageFragmentRoot sourceFolder= JavaProjectHelper.addSourceContainer(fJProject1, "src");
+
+		IPackageFragment pack1= sourceFolder.createPackageFragment("test1", false, null);
+		String str= """
+			package test1;
+			public class A {
+			    public void foo() {}
+			}
+			class B extends A {
+			    @Override public void foo() {}
+			}
+			class C extends B {
+			    @Override public void foo() {}
+			}
+			""";
+		ICompilationUnit cu= pack1.createCompilationUnit("A.java", str, false, null);
+		IType[] types= cu.getTypes();
+
+		int budget= SuperTypeHierarchyCache.getBudget();
+		try {
+			SuperTypeHierarchyCache.setBudget(0);
+			SuperTypeHierarchyCache.setBudget(budget);
+			SuperTypeHierarchyCache.resetStatistics();
+
+			ITypeHierarchy hierarchy= SuperTypeHierarchyCache.getTypeHierarchy(types[2]);
+			assertEquals(1, SuperTypeHierarchyCache.getCacheMisses());
+			assertTrue(SuperTypeHierarchyCache.hasInCache(types[0]));
+			assertTrue(SuperTypeHierarchyCache.getWeight() >= 4); // C, B, A, Object
+
+			// the hierarchy of C contains A and B
+			assertSame(hierarchy, SuperTypeHierarchyCache.getTypeHierarchy(types[0]));
+			MethodOverrideTester tester= SuperTypeHierarchyCache.getMethodOverrideTester(types[1]);
+			assertSame(hierarchy, tester.getTypeHierarchy());
+			assertSame(tester, SuperTypeHierarchyCache.getMethodOverrideTester(types[1]));
+			assertEquals(1, SuperTypeHierarchyCache.getCacheMisses());
+			assertEquals(3, SuperTypeHierarchyCache.getCacheHits());
+
+			// a hierarchy that exceeds the budget is computed, but not cached
+			SuperTypeHierarchyCache.setBudget(1);
+			assertFalse(SuperTypeHierarchyCache.hasInCache(types[2]));
+			assertEquals(0, SuperTypeHierarchyCache.getWeight());
+			assertEquals(1, SuperTypeHierarchyCache.getCacheEvictions());
+			assertNotNull(SuperTypeHierarchyCache.getMethodOverrideTester(types[2]));
+			assertFalse(SuperTypeHierarchyCache.hasInCache(types[2]));
+			assertEquals(2, SuperTypeHierarchyCache.getCacheMisses());
+		} finally {
+			SuperTypeHierarchyCache.setBudget(budget);
+		}
+	}
+
 	protected void doOverrideTests(ICompilationUnit cu, int focusIndex, int overridingIndex, int overriddenIndex) throws JavaModelException {
 		CompilationUnit root= assertNoCompilationError(cu);
 
@@ -0,0 +1,200 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
+
+import org.eclipse.jdt.core.Flags;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.search.SearchEngine;
+import org.eclipse.jdt.core.search.TypeNameMatch;
+
+import org.eclipse.jdt.internal.corext.util.OpenTypeHistory;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+public class OpenTypeHistoryTest {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	private OpenTypeHistory fHistory;
+
+	private TypeNameMatch[] fPreviousTypes;
+
+	@Before
+	public void setUp() throws Exception {
+		fHistory= OpenTypeHistory.getInstance();
+		fPreviousTypes= fHistory.getTypeInfos();
+		clearHistory();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		clearHistory();
+		for (int i= fPreviousTypes.length - 1; i >= 0; i--) {
+			fHistory.accessed(fPreviousTypes[i]);
+		}
+		fHistory.save();
+		getFile("OpenTypeHistory.xml").delete();
+	}
+
+	private void clearHistory() {
+		for (TypeNameMatch type : fHistory.getTypeInfos()) {
+			fHistory.remove(type);
+		}
+		assertTrue(fHistory.isEmpty());
+	}
+
+	private static File getFile(String name) {
+		return JavaPlugin.getDefault().getStateLocation().append(name).toFile();
+	}
+
+	private TypeNameMatch createMatch(String name, int modifiers) throws Exception {
+		IType type= pts.getProject().findType(name);
+		assertNotNull(name, type);
+		return SearchEngine.createTypeNameMatch(type, modifiers);
+	}
+
+	private static void assertMatch(TypeNameMatch expected, TypeNameMatch actual) {
+		assertEquals(expected.getType(), actual.getType());
+		assertEquals(expected.getModifiers(), actual.getModifiers());
+	}
+
+	private static String escape(String value) {
+		return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+	}
+
+	@Test
+	public void binaryRoundTrip() throws Exception {
+		TypeNameMatch string= createMatch("java.lang.String", Flags.AccPublic | Flags.AccFinal);
+		TypeNameMatch list= createMatch("java.util.List", Flags.AccPublic | Flags.AccInterface);
+		fHistory.accessed(string);
+		fHistory.accessed(list);
+		fHistory.save();
+
+		File file= getFile("OpenTypeHistory.dat");
+		assertTrue(file.isFile());
+		try (DataInputStream in= new DataInputStream(Files.newInputStream(file.toPath()))) {
+			assertEquals(0x4F544831, in.readInt());
+			assertEquals(2, in.readInt());
+		}
+
+		clearHistory();
+		fHistory.load();
+		TypeNameMatch[] types= fHistory.getTypeInfos();
+		assertEquals(2, types.length);
+		assertMatch(list, types[0]);
+		assertMatch(string, types[1]);
+	}
+
+	@Test
+	public void legacyMigration() throws Exception {
+		TypeNameMatch string= createMatch("java.lang.String", Flags.AccPublic | Flags.AccFinal);
+		TypeNameMatch list= createMatch("java.util.List", Flags.AccPublic | Flags.AccInterface);
+		String xml= "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<typeInfoHistroy>\n"
+				+ "<typeInfo handle=\"" + escape(string.getType().getHandleIdentifier()) + "\" modifiers=\"" + string.getModifiers() + "\" timestamp=\"1234\"/>\n"
+				+ "<typeInfo handle=\"" + escape(list.getType().getHandleIdentifier()) + "\" modifiers=\"" + list.getModifiers() + "\"/>\n"
+				+ "</typeInfoHistroy>\n";
+		File binaryFile= getFile("OpenTypeHistory.dat");
+		binaryFile.delete();
+		File legacyFile= getFile("OpenTypeHistory.xml");
+		Files.write(legacyFile.toPath(), xml.getBytes(StandardCharsets.UTF_8));
+
+		fHistory.load();
+		TypeNameMatch[] types= fHistory.getTypeInfos();
+		assertEquals(2, types.length);
+		assertMatch(list, types[0]);
+		assertMatch(string, types[1]);
+
+		fHistory.save();
+		assertFalse(legacyFile.exists());
+		assertTrue(binaryFile.isFile());
+
+		clearHistory();
+		fHistory.load();
+		assertEquals(2, fHistory.getTypeInfos().length);
+	}
+
+	@Test
+	public void checkWhileOtherCheckInProgress() throws Exception {
+		TypeNameMatch string= createMatch("java.lang.String", Flags.AccPublic | Flags.AccFinal);
+		IType missingType= string.getType().getPackageFragment().getOrdinaryClassFile("OpenTypeHistoryMissing.class").getType();
+		assertFalse(missingType.exists());
+		TypeNameMatch missing= SearchEngine.createTypeNameMatch(missingType, Flags.AccPublic);
+		// Entries without a time stamp are always checked
+		String xml= "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+				+ "<typeInfoHistroy>\n"
+				+ "<typeInfo handle=\"" + escape(missing.getType().getHandleIdentifier()) + "\" modifiers=\"" + missing.getModifiers() + "\"/>\n"
+				+ "<typeInfo handle=\"" + escape(string.getType().getHandleIdentifier()) + "\" modifiers=\"" + string.getModifiers() + "\"/>\n"
+				+ "</typeInfoHistroy>\n";
+		getFile("OpenTypeHistory.dat").delete();
+		Files.write(getFile("OpenTypeHistory.xml").toPath(), xml.getBytes(StandardCharsets.UTF_8));
+		fHistory.load();
+		assertEquals(2, fHistory.getTypeInfos().length);
+
+		CountDownLatch started= new CountDownLatch(1);
+		CountDownLatch release= new CountDownLatch(1);
+		// Stands in for the check of the update job, which stays in progress until released
+		Thread other= new Thread(() -> fHistory.checkConsistency(new NullProgressMonitor() {
+			@Override
+			public void beginTask(String name, int totalWork) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}));
+		// Keep the real update job from completing a check in the meantime
+		Job.getJobManager().suspend();
+		try {
+			fHistory.markAsInconsistent();
+			other.start();
+			assertTrue(started.await(10, TimeUnit.SECONDS));
+
+			fHistory.checkConsistency(new NullProgressMonitor());
+			TypeNameMatch[] types= fHistory.getTypeInfos();
+			assertEquals(1, types.length);
+			assertMatch(string, types[0]);
+			assertFalse(fHistory.needConsistencyCheck());
+		} finally {
+			release.countDown();
+			other.join();
+			Job.getJobManager().resume();
+		}
+		assertEquals(1, fHistory.getTypeInfos().length);
+	}
+}
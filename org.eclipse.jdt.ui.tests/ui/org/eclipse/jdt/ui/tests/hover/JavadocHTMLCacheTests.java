@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.hover;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.eclipse.jdt.testplugin.JavaProjectHelper;
+import org.eclipse.jdt.testplugin.JavaTestPlugin;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.Path;
+
+import org.eclipse.jdt.core.IClasspathAttribute;
+import org.eclipse.jdt.core.IJavaProject;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+
+import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
+
+import org.eclipse.jdt.internal.ui.text.javadoc.JavadocHTMLCache;
+
+/**
+ * Tests for the disk cache of library Javadoc.
+ */
+public class JavadocHTMLCacheTests {
+	@Rule
+	public ProjectTestSetup pts= new ProjectTestSetup();
+
+	@Rule
+	public TemporaryFolder fTemporaryFolder= new TemporaryFolder();
+
+	private static final String TYPE_NAME= "org.eclipse.jdt.ui.tests.noJavadoc.TestClassNoJavaDoc";
+
+	private IJavaProject fJProject1;
+
+	private JavadocHTMLCache fCache;
+
+	private static final class CountingProvider implements JavadocHTMLCache.ContentProvider {
+		private final String fContent;
+		final AtomicInteger fCalls= new AtomicInteger();
+
+		CountingProvider(String content) {
+			fContent= content;
+		}
+
+		@Override
+		public String getHTMLContent() throws CoreException {
+			fCalls.incrementAndGet();
+			return fContent;
+		}
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		fJProject1= pts.getProject();
+		fCache= new JavadocHTMLCache(fTemporaryFolder.newFolder("cache"));
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		fCache.clear();
+		JavaProjectHelper.clear(fJProject1, pts.getDefaultClasspath());
+	}
+
+	private static File getTestData(String name) {
+		File file= JavaTestPlugin.getDefault().getFileInPlugin(new Path("/testresources/PackageJavadocTests/" + name));
+		assertNotNull(name, file);
+		return file;
+	}
+
+	private IPackageFragmentRoot addTestDataLibrary() throws Exception {
+		return JavaProjectHelper.addLibraryWithImport(fJProject1, new Path(getTestData("testData.zip").getAbsolutePath()), new Path(getTestData("testData_src.zip").getAbsolutePath()), new Path("src"));
+	}
+
+	private IType findType() throws Exception {
+		IType type= fJProject1.findType(TYPE_NAME);
+		assertNotNull(TYPE_NAME, type);
+		return type;
+	}
+
+	@Test
+	public void cacheHit() throws Exception {
+		addTestDataLibrary();
+		IType type= findType();
+
+		CountingProvider provider= new CountingProvider("<p>Cached</p>");
+		assertEquals("<p>Cached</p>", fCache.getHTMLContent(type, true, provider));
+		assertEquals("<p>Cached</p>", fCache.getHTMLContent(type, true, provider));
+		assertEquals(1, provider.fCalls.get());
+
+		// the flag is part of the key
+		assertEquals("<p>Cached</p>", fCache.getHTMLContent(type, false, provider));
+		assertEquals(2, provider.fCalls.get());
+
+		// a new instance reads the entries of the previous session
+		JavadocHTMLCache cache= new JavadocHTMLCache(fTemporaryFolder.getRoot().toPath().resolve("cache").toFile());
+		assertEquals("<p>Cached</p>", cache.getHTMLContent(type, true, new CountingProvider("<p>Computed</p>")));
+
+		fCache.clear();
+		assertEquals("<p>Computed</p>", fCache.getHTMLContent(type, true, new CountingProvider("<p>Computed</p>")));
+	}
+
+	@Test
+	public void updatedArchiveInvalidates() throws Exception {
+		IPackageFragmentRoot root= addTestDataLibrary();
+		IType type= findType();
+
+		CountingProvider provider= new CountingProvider("<p>Old</p>");
+		assertEquals("<p>Old</p>", fCache.getHTMLContent(type, true, provider));
+		assertEquals(1, provider.fCalls.get());
+
+		File archive= root.getResource().getLocation().toFile();
+		assertTrue(archive.setLastModified(archive.lastModified() + 10000));
+
+		provider= new CountingProvider("<p>New</p>");
+		assertEquals("<p>New</p>", fCache.getHTMLContent(type, true, provider));
+		assertEquals(1, provider.fCalls.get());
+	}
+
+	@Test
+	public void missingJavadocCached() throws Exception {
+		addTestDataLibrary();
+		IType type= findType();
+
+		CountingProvider provider= new CountingProvider(null);
+		assertNull(fCache.getHTMLContent(type, true, provider));
+		assertNull(fCache.getHTMLContent(type, true, provider));
+		assertEquals(1, provider.fCalls.get());
+	}
+
+	@Test
+	public void missingRemoteJavadocNotCached() throws Exception {
+		IClasspathAttribute attribute= JavaCore.newClasspathAttribute(IClasspathAttribute.JAVADOC_LOCATION_ATTRIBUTE_NAME, "https://example.invalid/api/");
+		JavaProjectHelper.addToClasspath(fJProject1, JavaCore.newLibraryEntry(new Path(getTestData("testData.zip").getAbsolutePath()), null, null, null,
+				new IClasspathAttribute[] { attribute }, false));
+		IType type= findType();
+
+		// e.g. while offline, the next hover fetches again
+		CountingProvider provider= new CountingProvider(null);
+		assertNull(fCache.getHTMLContent(type, true, provider));
+		assertNull(fCache.getHTMLContent(type, true, provider));
+		assertEquals(2, provider.fCalls.get());
+
+		provider= new CountingProvider("<p>Fetched</p>");
+		assertEquals("<p>Fetched</p>", fCache.getHTMLContent(type, true, provider));
+		assertEquals("<p>Fetched</p>", fCache.getHTMLContent(type, true, provider));
+		assertEquals(1, provider.fCalls.get());
+	}
+}
@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.ui.tests.jarexport;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarInputStream;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+
+import org.junit.Test;
+
+import org.eclipse.jdt.internal.ui.jarpackager.JarEntryPipeline;
+import org.eclipse.jdt.internal.ui.jarpackager.JarEntryPipeline.EntryException;
+import org.eclipse.jdt.internal.ui.jarpackager.RawJarOutputStream;
+
+public class JarEntryPipelineTests {
+
+	private static byte[] content(int index, int size) {
+		byte[] bytes= new byte[size];
+		for (int i= 0; i < size; i++)
+			bytes[i]= (byte) ((i % 251) ^ (index * 31) ^ (i / 4096));
+		return bytes;
+	}
+
+	private static List<byte[]> submitEntries(JarEntryPipeline pipeline, int count) throws IOException {
+		List<byte[]> contents= new ArrayList<>();
+		for (int i= 0; i < count; i++) {
+			// every tenth entry is larger than the buffered limit and streamed
+			int size= i % 10 == 9 ? JarEntryPipeline.BUFFERED_ENTRY_LIMIT + 1000 : 100 * i;
+			byte[] bytes= content(i, size);
+			contents.add(bytes);
+			JarEntry entry= new JarEntry("dir/entry" + i + ".bin");
+			entry.setMethod(i % 3 == 0 ? ZipEntry.STORED : ZipEntry.DEFLATED);
+			pipeline.submit(entry, () -> new ByteArrayInputStream(bytes), bytes.length, entry.getName());
+		}
+		return contents;
+	}
+
+	private static void assertEntries(byte[] jar, List<byte[]> contents) throws IOException {
+		// the local headers
+		try (ZipInputStream in= new ZipInputStream(new ByteArrayInputStream(jar))) {
+			for (int i= 0; i < contents.size(); i++) {
+				ZipEntry entry= in.getNextEntry();
+				assertNotNull(entry);
+				assertEquals("dir/entry" + i + ".bin", entry.getName());
+				assertArrayEquals(entry.getName(), contents.get(i), in.readAllBytes());
+			}
+			assertNull(in.getNextEntry());
+		}
+		// the central directory
+		File file= File.createTempFile("pipeline", ".jar");
+		try {
+			Files.write(file.toPath(), jar);
+			try (ZipFile zipFile= new ZipFile(file)) {
+				List<? extends ZipEntry> entries= Collections.list(zipFile.entries());
+				assertEquals(contents.size(), entries.size());
+				for (int i= 0; i < contents.size(); i++) {
+					ZipEntry entry= entries.get(i);
+					assertEquals("dir/entry" + i + ".bin", entry.getName());
+					assertEquals(i % 3 == 0 ? ZipEntry.STORED : ZipEntry.DEFLATED, entry.getMethod());
+					assertArrayEquals(entry.getName(), contents.get(i), zipFile.getInputStream(entry).readAllBytes());
+				}
+			}
+		} finally {
+			file.delete();
+		}
+	}
+
+	@Test
+	public void entriesInSubmissionOrder() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		List<byte[]> contents;
+		try (JarOutputStream jar= new RawJarOutputStream(out)) {
+			JarEntryPipeline pipeline= new JarEntryPipeline(jar);
+			contents= submitEntries(pipeline, 40);
+			pipeline.close();
+		}
+		assertEntries(out.toByteArray(), contents);
+	}
+
+	@Test
+	public void entriesInSubmissionOrderWithJarOutputStream() throws Exception {
+		// the entries are deflated by the writing thread
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		List<byte[]> contents;
+		try (JarOutputStream jar= new JarOutputStream(out)) {
+			JarEntryPipeline pipeline= new JarEntryPipeline(jar);
+			contents= submitEntries(pipeline, 40);
+			pipeline.close();
+		}
+		assertEntries(out.toByteArray(), contents);
+	}
+
+	@Test
+	public void manifestAndStreamedEntries() throws Exception {
+		Manifest manifest= new Manifest();
+		manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+		manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, "p.Main");
+		byte[] bytes= content(1, 5000);
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		try (RawJarOutputStream jar= new RawJarOutputStream(out, manifest)) {
+			jar.setComment("comment");
+			jar.putNextEntry(new JarEntry("deflated.bin"));
+			jar.write(bytes);
+			jar.closeEntry();
+		}
+		try (JarInputStream in= new JarInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			assertEquals("p.Main", in.getManifest().getMainAttributes().get(Attributes.Name.MAIN_CLASS));
+			JarEntry entry= in.getNextJarEntry();
+			assertEquals("deflated.bin", entry.getName());
+			assertArrayEquals(bytes, in.readAllBytes());
+			assertNull(in.getNextJarEntry());
+		}
+	}
+
+	@Test
+	public void duplicateEntry() throws Exception {
+		try (JarOutputStream jar= new RawJarOutputStream(new ByteArrayOutputStream())) {
+			JarEntryPipeline pipeline= new JarEntryPipeline(jar);
+			try {
+				pipeline.submit(new JarEntry("a/"));
+				pipeline.submit(new JarEntry("a/"));
+				fail("duplicate entry not reported");
+			} catch (ZipException e) {
+				assertTrue(e.getMessage(), e.getMessage().startsWith("duplicate entry:"));
+			} finally {
+				pipeline.close();
+			}
+		}
+	}
+
+	@Test
+	public void failedEntryDropsPendingEntries() throws Exception {
+		ByteArrayOutputStream out= new ByteArrayOutputStream();
+		CountDownLatch latch= new CountDownLatch(1);
+		try (JarOutputStream jar= new RawJarOutputStream(out)) {
+			JarEntryPipeline pipeline= new JarEntryPipeline(jar);
+			byte[] bytes= content(0, 100);
+			pipeline.submit(new JarEntry("first.bin"), () -> new ByteArrayInputStream(bytes), bytes.length, "first");
+			pipeline.flush();
+			pipeline.submit(new JarEntry("failing.bin"), () -> {
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				throw new IOException("cannot read");
+			}, 100, "failing");
+			pipeline.submit(new JarEntry("dropped.bin"), () -> new ByteArrayInputStream(bytes), bytes.length, "dropped");
+			latch.countDown();
+			try {
+				pipeline.flush();
+				fail("failure not reported");
+			} catch (EntryException e) {
+				assertEquals("failing", e.getEntryLabel());
+				assertEquals("cannot read", e.getCause().getMessage());
+			}
+			// nothing is left to be read from a closed source
+			pipeline.flush();
+			pipeline.close();
+		}
+		try (ZipInputStream in= new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			assertEquals("first.bin", in.getNextEntry().getName());
+			assertNull(in.getNextEntry());
+		}
+	}
+
+	@Test
+	public void runtimeExceptionReportedWithEntry() throws Exception {
+		try (JarOutputStream jar= new RawJarOutputStream(new ByteArrayOutputStream())) {
+			JarEntryPipeline pipeline= new JarEntryPipeline(jar);
+			JarEntry entry= new JarEntry("large.bin");
+			entry.setMethod(ZipEntry.STORED);
+			// streamed by the writer, like an entry of a library that has been closed
+			pipeline.submit(entry, () -> {
+				throw new IllegalStateException("zip file closed");
+			}, JarEntryPipeline.DEFLATED_ENTRY_LIMIT + 1, "lib.jar!large.bin");
+			try {
+				pipeline.flush();
+				fail("failure not reported");
+			} catch (EntryException e) {
+				assertEquals("lib.jar!large.bin", e.getEntryLabel());
+				assertTrue(e.getCause() instanceof IllegalStateException);
+			} finally {
+				pipeline.close();
+			}
+		}
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -20,7 +20,8 @@ import org.junit.platform.suite.api.Suite;
 @Suite
 @SelectClasses({
 	PlainJarExportTests.class,
-	FatJarExportTests.class
+	FatJarExportTests.class,
+	JarEntryPipelineTests.class
 })
 public class JarExportTests {
 }
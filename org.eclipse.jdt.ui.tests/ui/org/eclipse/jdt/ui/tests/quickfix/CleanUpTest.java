@@ -21,6 +21,7 @@ import static org.eclipse.jdt.internal.ui.fix.MultiFixMessages.ConstantsCleanUp_
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -30,6 +31,7 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Hashtable;
 import java.util.Map;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -60,6 +62,8 @@ import org.eclipse.jdt.core.formatter.DefaultCodeFormatterConstants;
 
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
+import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring.CleanUpTarget;
 import org.eclipse.jdt.internal.corext.fix.FixMessages;
 import org.eclipse.jdt.internal.corext.fix.UpdateProperty;
 import org.eclipse.jdt.internal.corext.refactoring.util.RefactoringASTParser;
@@ -67,6 +71,7 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 
 import org.eclipse.jdt.ui.PreferenceConstants;
 import org.eclipse.jdt.ui.cleanup.CleanUpOptions;
+import org.eclipse.jdt.ui.cleanup.ICleanUp;
 import org.eclipse.jdt.ui.cleanup.ICleanUpFix;
 import org.eclipse.jdt.ui.tests.core.rules.Java13ProjectTestSetup;
 import org.eclipse.jdt.ui.tests.core.rules.ProjectTestSetup;
@@ -29910,6 +29915,78 @@ public class CleanUpTest extends CleanUpTestCase {
 		assertTrue(message, message.contains("parse"));
 	}
 
+	@Test
+	public void testOrganizeImportsParallel() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		ICompilationUnit[] cus= new ICompilationUnit[5];
+		String[] expected= new String[cus.length];
+		for (int i= 0; i < cus.length; i++) {
+			String sample= "" //
+					+ "package test1;\n" //
+					+ "public class E" + i + " {\n" //
+					+ "    ArrayList foo;\n" //
+					+ "}\n";
+			cus[i]= pack1.createCompilationUnit("E" + i + ".java", sample, false, null);
+
+			expected[i]= "" //
+					+ "package test1;\n" //
+					+ "\n" //
+					+ "import java.util.ArrayList;\n" //
+					+ "\n" //
+					+ "public class E" + i + " {\n" //
+					+ "    ArrayList foo;\n" //
+					+ "}\n";
+		}
+
+		enable(CleanUpConstants.ORGANIZE_IMPORTS);
+
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		ref.setUseOptionsFromProfile(true);
+		ref.setParallelism(3);
+		performRefactoring(ref, cus, JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps(), null);
+
+		String[] previews= new String[cus.length];
+		for (int i= 0; i < cus.length; i++) {
+			previews[i]= cus[i].getBuffer().getContents();
+		}
+		assertEqualStringsIgnoreOrder(previews, expected);
+	}
+
+	@Test
+	public void testCleanUpWindows() throws Exception {
+		IPackageFragment pack1= fSourceFolder.createPackageFragment("test1", false, null);
+		CleanUpRefactoring ref= new CleanUpRefactoring();
+		for (int i= 0; i < 5; i++) {
+			String sample= "" //
+					+ "package test1;\n" //
+					+ "public class E" + i + " {\n" //
+					+ "}\n";
+			ref.addCompilationUnit(pack1.createCompilationUnit("E" + i + ".java", sample, false, null));
+		}
+		ICleanUp[] cleanUps= JavaPlugin.getDefault().getCleanUpRegistry().createCleanUps();
+		for (ICleanUp cleanUp : cleanUps) {
+			ref.addCleanUp(cleanUp);
+		}
+
+		assertEquals(1, ref.createWindows(5).length);
+		assertSame(ref, ref.createWindows(5)[0]);
+
+		CleanUpRefactoring[] windows= ref.createWindows(2);
+		assertEquals(3, windows.length);
+		assertEquals(2, windows[0].getCleanUpTargetsSize());
+		assertEquals(2, windows[1].getCleanUpTargetsSize());
+		assertEquals(1, windows[2].getCleanUpTargetsSize());
+
+		Set<ICompilationUnit> units= new HashSet<>();
+		for (CleanUpRefactoring window : windows) {
+			assertEquals(cleanUps.length, window.getCleanUps().length);
+			for (CleanUpTarget target : window.getCleanUpTargets()) {
+				units.add(target.getCompilationUnit());
+			}
+		}
+		assertEquals(5, units.size());
+	}
+
 	@Test
 	public void testOrganizeImportsBug202266() throws Exception {
 		IPackageFragment pack1= fSourceFolder.createPackageFragment("test2", false, null);
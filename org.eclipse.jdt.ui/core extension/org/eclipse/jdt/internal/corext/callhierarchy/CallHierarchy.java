@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2019 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -21,6 +21,7 @@ import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PR
 import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_HIDE_TEST_CODE;
 import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_SHOW_ALL_CODE;
 import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_SHOW_TEST_CODE_ONLY;
+import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_USE_CALL_INDEX;
 import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_USE_FILTERS;
 import static org.eclipse.jdt.internal.corext.callhierarchy.CallHierarchyCore.PREF_USE_IMPLEMENTORS;
 
@@ -86,6 +87,17 @@ public class CallHierarchy {
         settings.setValue(PREF_USE_IMPLEMENTORS, enabled);
     }
 
+    public boolean isCallIndexEnabled() {
+        IPreferenceStore settings = JavaPlugin.getDefault().getPreferenceStore();
+        return settings.getBoolean(PREF_USE_CALL_INDEX);
+    }
+
+    public static void setCallIndexEnabled(boolean enabled) {
+        IPreferenceStore settings = JavaPlugin.getDefault().getPreferenceStore();
+
+        settings.setValue(PREF_USE_CALL_INDEX, enabled);
+    }
+
     public Collection<IJavaElement> getImplementingMethods(IMethod method) {
         return fgCallHierarchyCore.getImplementingMethods(method);
     }
@@ -411,6 +411,8 @@ public class CleanUpConstantsOptions extends CleanUpConstants {
 		}
 
 		store.setDefault(SHOW_CLEAN_UP_WIZARD, true);
+		store.setDefault(CLEAN_UP_PARALLELISM, 1);
+		store.setDefault(CLEAN_UP_WINDOW_SIZE, 0);
 		store.setDefault(CLEANUP_PROFILE, DEFAULT_PROFILE);
 		store.setDefault(CLEANUP_ON_SAVE_PROFILE, DEFAULT_SAVE_PARTICIPANT_PROFILE);
 	}
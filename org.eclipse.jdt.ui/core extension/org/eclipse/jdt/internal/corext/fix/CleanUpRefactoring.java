@@ -19,6 +19,10 @@ import java.util.Hashtable;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.swt.widgets.Display;
 
@@ -252,10 +256,24 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ParseListElement> fCompilationUnitParseElementMap;
 		private final CleanUpRefactoringProgressMonitor fMonitor;
+		private final boolean fReportWork;
 
 		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor) {
+			this(parseList, solutions, monitor, false);
+		}
+
+		/**
+		 * @param parseList the elements to process
+		 * @param solutions the table to store the computed changes in, shared between requestors
+		 * @param monitor the monitor, shared between requestors
+		 * @param reportWork <code>true</code> if the requestor has to report one unit of work per
+		 *            accepted compilation unit itself, because the parser runs without a
+		 *            sub-monitor of <code>monitor</code>
+		 */
+		public CleanUpASTRequestor(List<ParseListElement> parseList, Hashtable<ICompilationUnit, List<CleanUpChange>> solutions, CleanUpRefactoringProgressMonitor monitor, boolean reportWork) {
 			fSolutions= solutions;
 			fMonitor= monitor;
+			fReportWork= reportWork;
 			fUndoneElements= new ArrayList<>();
 			fCompilationUnitParseElementMap= new Hashtable<>(parseList.size());
 			for (ParseListElement element : parseList) {
@@ -266,7 +284,9 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		@Override
 		public void acceptAST(ICompilationUnit source, CompilationUnit ast) {
 
-			fMonitor.subTask(fMonitor.getSubTaskMessage(source));
+			synchronized (fMonitor) {
+				fMonitor.subTask(fMonitor.getSubTaskMessage(source));
+			}
 
 			ICompilationUnit primary= (ICompilationUnit)source.getPrimaryElement();
 			ParseListElement element= fCompilationUnitParseElementMap.get(primary);
@@ -280,11 +300,16 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 			ICleanUp[] rejectedCleanUps= calculateSolutions(context, element.getCleanUps());
 
-			if (rejectedCleanUps.length > 0) {
-				fUndoneElements.add(new ParseListElement(target, rejectedCleanUps));
-				fMonitor.reset();
-			} else {
-				fMonitor.flush();
+			synchronized (fMonitor) {
+				if (fReportWork)
+					fMonitor.internalWorked(1);
+
+				if (rejectedCleanUps.length > 0) {
+					fUndoneElements.add(new ParseListElement(target, rejectedCleanUps));
+					fMonitor.reset();
+				} else {
+					fMonitor.flush();
+				}
 			}
 		}
 
@@ -326,15 +351,19 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private class CleanUpFixpointIterator {
 
+		private final CleanUpTarget[] fTargets;
 		private List<ParseListElement> fParseList;
 		private final Hashtable<ICompilationUnit, List<CleanUpChange>> fSolutions;
 		private final Hashtable<ICompilationUnit, ICompilationUnit> fWorkingCopies; // map from primary to working copy
 		private final Map<String, String> fCleanUpOptions;
 		private final Map<String, String> fSeparateOptions;
 		private final int fSize;
+		private final int fParallelism;
 		private int fIndex;
 
-		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps) {
+		public CleanUpFixpointIterator(CleanUpTarget[] targets, ICleanUp[] cleanUps, int parallelism) {
+			fTargets= targets;
+			fParallelism= parallelism;
 			fSolutions= new Hashtable<>(targets.length);
 			fWorkingCopies= new Hashtable<>();
 
@@ -388,28 +417,17 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 				CleanUpRefactoringProgressMonitor cuMonitor= new CleanUpRefactoringProgressMonitor(monitor, parseList.size() + sourceList.size(), fSize, fIndex);
 				CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor);
+				List<ParseListElement> undoneElements= new ArrayList<>();
 				if (parseList.size() > 0) {
-					ASTBatchParser parser= new ASTBatchParser() {
-						@Override
-						protected ASTParser createParser(IJavaProject project) {
-							ASTParser result= createCleanUpASTParser();
-							result.setProject(project);
-
-							Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
-							if (!fSeparateOptions.isEmpty()) {
-								options.putAll(fSeparateOptions);
-							} else {
-								options.putAll(fCleanUpOptions);
-							}
-							result.setCompilerOptions(options);
-							return result;
+					ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
+					if (fParallelism > 1 && units.length > 1) {
+						undoneElements.addAll(createASTsInParallel(units, cuMonitor));
+					} else {
+						try {
+							createParser().createASTs(units, new String[0], requestor, cuMonitor);
+						} catch (FixCalculationException e) {
+							throw e.getException();
 						}
-					};
-					try {
-						ICompilationUnit[] units= parseList.toArray(new ICompilationUnit[parseList.size()]);
-						parser.createASTs(units, new String[0], requestor, cuMonitor);
-					} catch (FixCalculationException e) {
-						throw e.getException();
 					}
 				}
 
@@ -424,7 +442,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 						throw new OperationCanceledException();
 				}
 
-				fParseList= requestor.getUndoneElements();
+				undoneElements.addAll(requestor.getUndoneElements());
+				fParseList= undoneElements;
 				// check if undone cleanup requires separate options in which case, set up special options.
 				if (fParseList != null && !fParseList.isEmpty()) {
 					ParseListElement element= fParseList.get(0);
@@ -441,6 +460,87 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 			}
 		}
 
+		private ASTBatchParser createParser() {
+			return new ASTBatchParser() {
+				@Override
+				protected ASTParser createParser(IJavaProject project) {
+					ASTParser result= createCleanUpASTParser();
+					result.setProject(project);
+
+					Map<String, String> options= RefactoringASTParser.getCompilerOptions(project);
+					if (!fSeparateOptions.isEmpty()) {
+						options.putAll(fSeparateOptions);
+					} else {
+						options.putAll(fCleanUpOptions);
+					}
+					result.setCompilerOptions(options);
+					return result;
+				}
+			};
+		}
+
+		/**
+		 * Splits <code>units</code> into one slice per worker and lets each worker parse its slice
+		 * with its own parser and compute the fixes for it. The computed changes end up in the
+		 * shared solutions table, the rejected clean ups are returned in slice order, which does
+		 * not depend on the scheduling of the workers.
+		 *
+		 * @param units the compilation units to parse, not empty
+		 * @param cuMonitor the monitor to report progress to
+		 * @return the elements which have to be processed in the next iteration
+		 * @throws CoreException if a fix could not be calculated
+		 */
+		private List<ParseListElement> createASTsInParallel(ICompilationUnit[] units, final CleanUpRefactoringProgressMonitor cuMonitor) throws CoreException {
+			int workers= Math.min(fParallelism, units.length);
+			int sliceSize= (units.length + workers - 1) / workers;
+
+			cuMonitor.beginTask("", units.length); //$NON-NLS-1$
+			IProgressMonitor cancelMonitor= new NullProgressMonitor() {
+				@Override
+				public boolean isCanceled() {
+					return cuMonitor.isCanceled();
+				}
+			};
+
+			ExecutorService executor= Executors.newFixedThreadPool(workers);
+			try {
+				List<CleanUpASTRequestor> requestors= new ArrayList<>(workers);
+				List<Future<?>> futures= new ArrayList<>(workers);
+				for (int start= 0; start < units.length; start+= sliceSize) {
+					ICompilationUnit[] slice= new ICompilationUnit[Math.min(sliceSize, units.length - start)];
+					System.arraycopy(units, start, slice, 0, slice.length);
+
+					CleanUpASTRequestor requestor= new CleanUpASTRequestor(fParseList, fSolutions, cuMonitor, true);
+					requestors.add(requestor);
+					futures.add(executor.submit(() -> createParser().createASTs(slice, new String[0], requestor, cancelMonitor)));
+				}
+
+				for (Future<?> future : futures) {
+					try {
+						future.get();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						throw new OperationCanceledException();
+					} catch (ExecutionException e) {
+						Throwable cause= e.getCause();
+						if (cause instanceof FixCalculationException)
+							throw ((FixCalculationException) cause).getException();
+						if (cause instanceof RuntimeException)
+							throw (RuntimeException) cause;
+						throw new CoreException(new Status(IStatus.ERROR, JavaPlugin.getPluginId(), IJavaStatusConstants.INTERNAL_ERROR, cause.getMessage(), cause));
+					}
+				}
+
+				List<ParseListElement> result= new ArrayList<>();
+				for (CleanUpASTRequestor requestor : requestors) {
+					result.addAll(requestor.getUndoneElements());
+				}
+				return result;
+			} finally {
+				executor.shutdownNow();
+			}
+		}
+
 		public void dispose() {
 			for (ICompilationUnit cu : fWorkingCopies.values()) {
 				try {
@@ -465,9 +565,12 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 			Change[] result= new Change[fSolutions.size()];
 			int i=0;
-			for (Entry<ICompilationUnit, List<CleanUpChange>> entry : fSolutions.entrySet()) {
-				List<CleanUpChange> changes= entry.getValue();
-				ICompilationUnit unit= entry.getKey();
+			HashSet<ICompilationUnit> visited= new HashSet<>();
+			for (CleanUpTarget target : fTargets) {
+				ICompilationUnit unit= target.getCompilationUnit();
+				List<CleanUpChange> changes= fSolutions.get(unit);
+				if (changes == null || !visited.add(unit))
+					continue;
 
 				int saveMode;
 				if (fLeaveFilesDirty) {
@@ -533,6 +636,8 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 
 	private boolean fUseOptionsFromProfile;
 
+	private int fParallelism;
+
 	public CleanUpRefactoring() {
 		this(FixMessages.CleanUpRefactoring_Refactoring_name);
 	}
@@ -542,12 +647,35 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fCleanUps= new ArrayList<>();
 		fProjects= new Hashtable<>();
 		fUseOptionsFromProfile= false;
+		fParallelism= -1;
 	}
 
 	public void setUseOptionsFromProfile(boolean enabled) {
 		fUseOptionsFromProfile= enabled;
 	}
 
+	/**
+	 * Sets the number of worker threads used to compute the fixes of each project.
+	 *
+	 * @param parallelism the number of workers, <code>1</code> to compute all fixes on the calling
+	 *            thread or <code>-1</code> to use the value of
+	 *            {@link CleanUpConstants#CLEAN_UP_PARALLELISM}
+	 */
+	public void setParallelism(int parallelism) {
+		fParallelism= parallelism;
+	}
+
+	/**
+	 * @return the number of worker threads used to compute the fixes of each project, at least
+	 *         <code>1</code>
+	 */
+	public int getParallelism() {
+		int parallelism= fParallelism;
+		if (parallelism == -1)
+			parallelism= JavaPlugin.getDefault().getPreferenceStore().getInt(CleanUpConstants.CLEAN_UP_PARALLELISM);
+		return Math.max(1, parallelism);
+	}
+
 	public void addCompilationUnit(ICompilationUnit unit) {
 		addCleanUpTarget(new CleanUpTarget(unit));
 	}
@@ -602,6 +730,38 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 		fLeaveFilesDirty= leaveFilesDirty;
 	}
 
+	/**
+	 * Splits the targets of this refactoring into windows of at most <code>windowSize</code>
+	 * compilation units. Each window is a refactoring on its own with the clean ups and settings
+	 * of this refactoring. Performing the windows one after the other only keeps the ASTs and
+	 * edits of a single window alive at a time, and each window can be undone separately.
+	 *
+	 * @param windowSize the maximal number of targets per window, must be positive
+	 * @return the windows, this refactoring if all targets fit into one window
+	 */
+	public CleanUpRefactoring[] createWindows(int windowSize) {
+		int size= getCleanUpTargetsSize();
+		if (size <= windowSize)
+			return new CleanUpRefactoring[] { this };
+
+		CleanUpTarget[] targets= getCleanUpTargets();
+		int windowCount= (size + windowSize - 1) / windowSize;
+		CleanUpRefactoring[] result= new CleanUpRefactoring[windowCount];
+		for (int i= 0; i < windowCount; i++) {
+			String name= Messages.format(FixMessages.CleanUpRefactoring_window_name, new Object[] { getName(), Integer.valueOf(i + 1), Integer.valueOf(windowCount) });
+			CleanUpRefactoring window= new CleanUpRefactoring(name);
+			window.fUseOptionsFromProfile= fUseOptionsFromProfile;
+			window.fLeaveFilesDirty= fLeaveFilesDirty;
+			window.fParallelism= fParallelism;
+			window.fCleanUps.addAll(fCleanUps);
+			for (int j= i * windowSize; j < Math.min(size, (i + 1) * windowSize); j++) {
+				window.addCleanUpTarget(targets[j]);
+			}
+			result[i]= window;
+		}
+		return result;
+	}
+
 	@Override
 	public String getName() {
 		return fName;
@@ -696,7 +856,7 @@ public class CleanUpRefactoring extends Refactoring implements IScheduledRefacto
 	}
 
 	private Change[] cleanUpProject(IJavaProject project, CleanUpTarget[] targets, ICleanUp[] cleanUps, IProgressMonitor monitor) throws CoreException {
-		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps);
+		CleanUpFixpointIterator iter= new CleanUpFixpointIterator(targets, cleanUps, getParallelism());
 
 		IProgressMonitor subMonitor= Progress.subMonitor(monitor, 2 * targets.length * cleanUps.length);
 		subMonitor.beginTask("", targets.length); //$NON-NLS-1$
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2015 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -13,15 +13,36 @@
  *******************************************************************************/
  package org.eclipse.jdt.internal.corext.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.ParserConfigurationException;
+
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
 
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 import org.eclipse.core.filesystem.EFS;
 import org.eclipse.core.filesystem.IFileInfo;
@@ -54,10 +75,22 @@ import org.eclipse.jdt.core.search.TypeNameMatch;
 
 import org.eclipse.jdt.internal.corext.CorextMessages;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.util.XmlProcessorFactoryJdtUi;
+
 /**
- * History for the open type dialog. Object and keys are both {@link TypeNameMatch}s.
+ * History for the open type dialog. Keeps the {@link TypeNameMatch}es of the most recently opened
+ * types, together with the time stamps of their containers at the last consistency check.
+ * <p>
+ * Readers never lock: they read an immutable snapshot of the history, which modifications replace
+ * under a short lock (copy on write). The consistency check validates a snapshot without holding the
+ * lock and applies its results to the then current snapshot in one step, so the open type dialog
+ * never waits for a running check. The history is stored in a compact binary file in the state
+ * location of the plug-in; the XML file of earlier versions is read once if there is no binary file
+ * yet.
+ * </p>
  */
-public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
+public class OpenTypeHistory {
 
 	private static class TypeHistoryDeltaListener implements IElementChangedListener {
 		@Override
@@ -165,15 +198,74 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		}
 	}
 
+
+	/**
+	 * An immutable state of the history.
+	 */
+	private static final class Snapshot {
+		static final Snapshot EMPTY= new Snapshot(new LinkedHashMap<>());
+
+		/**
+		 * The types, oldest first.
+		 */
+		final TypeNameMatch[] fTypes;
+		/**
+		 * The container time stamps of {@link #fTypes}, {@link IResource#NULL_STAMP} if unknown.
+		 */
+		final long[] fTimestamps;
+		final Map<TypeNameMatch, Integer> fPositions;
+
+		Snapshot(LinkedHashMap<TypeNameMatch, Long> entries) {
+			int size= entries.size();
+			fTypes= new TypeNameMatch[size];
+			fTimestamps= new long[size];
+			fPositions= new HashMap<>(size * 4 / 3 + 1);
+			int i= 0;
+			for (Map.Entry<TypeNameMatch, Long> entry : entries.entrySet()) {
+				fTypes[i]= entry.getKey();
+				fTimestamps[i]= entry.getValue().longValue();
+				fPositions.put(entry.getKey(), Integer.valueOf(i));
+				i++;
+			}
+		}
+
+		long getTimestamp(TypeNameMatch type) {
+			Integer position= fPositions.get(type);
+			return position != null ? fTimestamps[position.intValue()] : IResource.NULL_STAMP;
+		}
+
+		/**
+		 * @return the entries in a new map that can be modified and published
+		 */
+		LinkedHashMap<TypeNameMatch, Long> toMap() {
+			LinkedHashMap<TypeNameMatch, Long> entries= new LinkedHashMap<>(MAX_HISTORY_SIZE * 4 / 3 + 2);
+			for (int i= 0; i < fTypes.length; i++) {
+				entries.put(fTypes[i], Long.valueOf(fTimestamps[i]));
+			}
+			return entries;
+		}
+	}
+
 	// Needs to be volatile since accesses aren't synchronized.
 	private volatile boolean fNeedsConsistencyCheck;
-	// Map of cached time stamps
-	private Map<TypeNameMatch, Long> fTimestampMapping;
+	// Incremented by markAsInconsistent, to detect changes during a consistency check
+	private final AtomicLong fInconsistencies= new AtomicLong();
+	// The value of fInconsistencies when the last completed consistency check started
+	private final AtomicLong fCheckedInconsistencies= new AtomicLong(-1);
+
+	// The current state, replaced as a whole while holding fWriteLock
+	private volatile Snapshot fSnapshot= Snapshot.EMPTY;
+	private final Object fWriteLock= new Object();
 
 	private final IElementChangedListener fDeltaListener;
 	private final UpdateJob fUpdateJob;
 
-	private static final String FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
+	private static final int MAX_HISTORY_SIZE= 60;
+
+	private static final String FILENAME= "OpenTypeHistory.dat"; //$NON-NLS-1$
+	private static final int FILE_MAGIC= 0x4F544831; // "OTH1"
+
+	private static final String LEGACY_FILENAME= "OpenTypeHistory.xml"; //$NON-NLS-1$
 	private static final String NODE_ROOT= "typeInfoHistroy"; //$NON-NLS-1$
 	private static final String NODE_TYPE_INFO= "typeInfo"; //$NON-NLS-1$
 	private static final String NODE_HANDLE= "handle"; //$NON-NLS-1$
@@ -195,8 +287,6 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	private OpenTypeHistory() {
-		super(FILENAME, NODE_ROOT, NODE_TYPE_INFO);
-		fTimestampMapping= new HashMap<>();
 		fNeedsConsistencyCheck= true;
 		load();
 		fDeltaListener= new TypeHistoryDeltaListener();
@@ -211,6 +301,7 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	}
 
 	public void markAsInconsistent() {
+		fInconsistencies.incrementAndGet();
 		fNeedsConsistencyCheck= true;
 		// cancel the old job. If no job is running this is a NOOP.
 		fUpdateJob.cancel();
@@ -224,109 +315,155 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 	public void checkConsistency(IProgressMonitor monitor) throws OperationCanceledException {
 		if (!fNeedsConsistencyCheck)
 			return;
-		if (fUpdateJob.getState() == Job.RUNNING) {
-			try {
-				Job.getJobManager().join(UpdateJob.FAMILY, monitor);
-			} catch (OperationCanceledException | InterruptedException e) {
-				// Ignore and do the consistency check without
-				// waiting for the update job.
-			}
-		}
-		if (!fNeedsConsistencyCheck)
+		// A check that has completed since the last change, e.g. by the update job, already
+		// covers it. Otherwise check in the calling thread, even while the update job is still
+		// checking: both checks only read a snapshot and publish their results atomically.
+		if (fCheckedInconsistencies.get() == fInconsistencies.get())
 			return;
 		internalCheckConsistency(monitor);
 	}
 
-	@Override
-	public synchronized boolean contains(TypeNameMatch type) {
-		return super.contains(type);
+	public boolean isEmpty() {
+		return fSnapshot.fTypes.length == 0;
+	}
+
+	public boolean contains(TypeNameMatch type) {
+		return fSnapshot.fPositions.containsKey(type);
 	}
 
-	@Override
-	public synchronized void accessed(TypeNameMatch info) {
+	public void accessed(TypeNameMatch info) {
 		// Fetching the timestamp might not be cheap (remote file system
 		// external Jars. So check if we alreay have one.
-		if (!fTimestampMapping.containsKey(info)) {
-			fTimestampMapping.put(info, getContainerTimestamp(info));
+		long timestamp= fSnapshot.getTimestamp(info);
+		if (timestamp == IResource.NULL_STAMP)
+			timestamp= getContainerTimestamp(info);
+		synchronized (fWriteLock) {
+			LinkedHashMap<TypeNameMatch, Long> entries= fSnapshot.toMap();
+			Long known= entries.remove(info);
+			entries.put(info, known != null && known.longValue() != IResource.NULL_STAMP ? known : Long.valueOf(timestamp));
+			publish(entries);
 		}
-		super.accessed(info);
 	}
 
-	@Override
-	public synchronized TypeNameMatch remove(TypeNameMatch info) {
-		fTimestampMapping.remove(info);
-		return (TypeNameMatch)super.remove(info);
+	public TypeNameMatch remove(TypeNameMatch info) {
+		synchronized (fWriteLock) {
+			LinkedHashMap<TypeNameMatch, Long> entries= fSnapshot.toMap();
+			if (entries.remove(info) == null)
+				return null;
+			publish(entries);
+			return info;
+		}
 	}
 
-	public synchronized void replace(TypeNameMatch old, TypeNameMatch newMatch) {
-		fTimestampMapping.remove(old);
-		fTimestampMapping.put(newMatch, getContainerTimestamp(newMatch));
-		super.remove(old);
-		super.accessed(newMatch);
+	public void replace(TypeNameMatch old, TypeNameMatch newMatch) {
+		long timestamp= getContainerTimestamp(newMatch);
+		synchronized (fWriteLock) {
+			LinkedHashMap<TypeNameMatch, Long> entries= fSnapshot.toMap();
+			entries.remove(old);
+			entries.remove(newMatch);
+			entries.put(newMatch, Long.valueOf(timestamp));
+			publish(entries);
+		}
 	}
 
-	public synchronized TypeNameMatch[] getTypeInfos() {
-		Collection<TypeNameMatch> values= getValues();
-		int size= values.size();
+	public TypeNameMatch[] getTypeInfos() {
+		TypeNameMatch[] types= fSnapshot.fTypes;
+		int size= types.length;
 		TypeNameMatch[] result= new TypeNameMatch[size];
-		int i= size - 1;
-		for (TypeNameMatch typeNameMatch : values) {
-			result[i]= typeNameMatch;
-			i--;
+		for (int i= 0; i < size; i++) {
+			result[i]= types[size - 1 - i];
 		}
 		return result;
 	}
 
-	public synchronized TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
-		List<TypeNameMatch> result= new ArrayList<>();
-		for (TypeNameMatch type : getValues()) {
+	public TypeNameMatch[] getFilteredTypeInfos(TypeInfoFilter filter) {
+		TypeNameMatch[] types= fSnapshot.fTypes;
+		List<TypeNameMatch> result= new ArrayList<>(types.length);
+		for (int i= types.length - 1; i >= 0; i--) {
+			TypeNameMatch type= types[i];
 			if ((filter == null || filter.matchesHistoryElement(type)) && !TypeFilter.isFiltered(type.getFullyQualifiedName()))
 				result.add(type);
 		}
-		Collections.reverse(result);
 		return result.toArray(new TypeNameMatch[result.size()]);
+	}
 
+	/**
+	 * Publishes a new state, dropping the eldest entries beyond the maximum size. Must be called
+	 * while holding {@link #fWriteLock}.
+	 *
+	 * @param entries the entries, oldest first
+	 */
+	private void publish(LinkedHashMap<TypeNameMatch, Long> entries) {
+		while (entries.size() > MAX_HISTORY_SIZE) {
+			entries.remove(entries.keySet().iterator().next());
+		}
+		fSnapshot= new Snapshot(entries);
 	}
 
-	@Override
-	protected TypeNameMatch getKey(TypeNameMatch object) {
-		return object;
+	private void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
+		long inconsistencies= fInconsistencies.get();
+		checkSnapshot(monitor);
+		fCheckedInconsistencies.accumulateAndGet(inconsistencies, Math::max);
+		if (fInconsistencies.get() == inconsistencies)
+			fNeedsConsistencyCheck= false;
 	}
 
-	private synchronized void internalCheckConsistency(IProgressMonitor monitor) throws OperationCanceledException {
-		// Setting fNeedsConsistencyCheck is necessary here since
-		// markAsInconsistent isn't synchronized.
-		fNeedsConsistencyCheck= true;
-		List<TypeNameMatch> typesToCheck= new ArrayList<>(getKeys());
-		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, typesToCheck.size());
+	private void checkSnapshot(IProgressMonitor monitor) throws OperationCanceledException {
+		Snapshot snapshot= fSnapshot;
+		List<TypeNameMatch> removed= new ArrayList<>();
+		Map<TypeNameMatch, TypeNameMatch> replaced= new HashMap<>();
+		Map<TypeNameMatch, Long> checked= new HashMap<>();
+		monitor.beginTask(CorextMessages.TypeInfoHistory_consistency_check, snapshot.fTypes.length);
 		monitor.setTaskName(CorextMessages.TypeInfoHistory_consistency_check);
-		for (TypeNameMatch type : typesToCheck) {
+		for (int i= 0; i < snapshot.fTypes.length; i++) {
+			TypeNameMatch type= snapshot.fTypes[i];
 			long currentTimestamp= getContainerTimestamp(type);
-			Long lastTested= fTimestampMapping.get(type);
-			if (lastTested != null && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested.longValue() && !isContainerDirty(type))
+			long lastTested= snapshot.fTimestamps[i];
+			if (lastTested != IResource.NULL_STAMP && currentTimestamp != IResource.NULL_STAMP && currentTimestamp == lastTested && !isContainerDirty(type))
 				continue;
 			try {
 				IType jType= type.getType();
 				if (jType == null || !jType.exists()) {
-					remove(type);
+					removed.add(type);
 				} else {
 					// copy over the modifiers since they may have changed
 					int modifiers= jType.getFlags();
 					if (modifiers != type.getModifiers()) {
-						replace(type, SearchEngine.createTypeNameMatch(jType, modifiers));
+						TypeNameMatch newMatch= SearchEngine.createTypeNameMatch(jType, modifiers);
+						replaced.put(type, newMatch);
+						checked.put(newMatch, Long.valueOf(currentTimestamp));
 					} else {
-						fTimestampMapping.put(type, currentTimestamp);
+						checked.put(type, Long.valueOf(currentTimestamp));
 					}
 				}
 			} catch (JavaModelException e) {
-				remove(type);
+				removed.add(type);
 			}
 			if (monitor.isCanceled())
 				throw new OperationCanceledException();
 			monitor.worked(1);
 		}
+
+		// Entries accessed or removed in the meantime keep their new state
+		if (!removed.isEmpty() || !replaced.isEmpty() || !checked.isEmpty()) {
+			synchronized (fWriteLock) {
+				LinkedHashMap<TypeNameMatch, Long> entries= fSnapshot.toMap();
+				for (TypeNameMatch type : removed) {
+					entries.remove(type);
+				}
+				for (Map.Entry<TypeNameMatch, TypeNameMatch> entry : replaced.entrySet()) {
+					if (entries.remove(entry.getKey()) != null) {
+						entries.remove(entry.getValue());
+						entries.put(entry.getValue(), checked.get(entry.getValue()));
+					}
+				}
+				for (Map.Entry<TypeNameMatch, Long> entry : checked.entrySet()) {
+					entries.replace(entry.getKey(), entry.getValue());
+				}
+				publish(entries);
+			}
+		}
 		monitor.done();
-		fNeedsConsistencyCheck= false;
 	}
 
 	private long getContainerTimestamp(TypeNameMatch match) {
@@ -381,15 +518,73 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 		save();
 	}
 
-	@Override
-	protected TypeNameMatch createFromElement(Element type) {
+	private File getFile(String fileName) {
+		return JavaPlugin.getDefault().getStateLocation().append(fileName).toFile();
+	}
+
+	public void load() {
+		File file= getFile(FILENAME);
+		if (!file.exists()) {
+			loadLegacy();
+			return;
+		}
+		LinkedHashMap<TypeNameMatch, Long> entries= new LinkedHashMap<>();
+		try (DataInputStream in= new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+			if (in.readInt() != FILE_MAGIC)
+				return;
+			int size= in.readInt();
+			for (int i= 0; i < size; i++) {
+				String handle= in.readUTF();
+				int modifiers= in.readInt();
+				long timestamp= in.readLong();
+				IJavaElement element= JavaCore.create(handle);
+				if (element instanceof IType)
+					entries.put(SearchEngine.createTypeNameMatch((IType) element, modifiers), Long.valueOf(timestamp));
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		}
+		synchronized (fWriteLock) {
+			publish(entries);
+		}
+	}
+
+	/**
+	 * Reads the XML file of earlier versions.
+	 */
+	private void loadLegacy() {
+		File file= getFile(LEGACY_FILENAME);
+		if (!file.exists())
+			return;
+		LinkedHashMap<TypeNameMatch, Long> entries= new LinkedHashMap<>();
+		try (InputStreamReader reader= new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+			DocumentBuilder parser= XmlProcessorFactoryJdtUi.createDocumentBuilderFactoryWithErrorOnDOCTYPE().newDocumentBuilder();
+			parser.setErrorHandler(new DefaultHandler());
+			Element root= parser.parse(new InputSource(reader)).getDocumentElement();
+			if (root != null && root.getNodeName().equalsIgnoreCase(NODE_ROOT)) {
+				NodeList list= root.getChildNodes();
+				for (int i= 0; i < list.getLength(); i++) {
+					Node node= list.item(i);
+					if (node.getNodeType() == Node.ELEMENT_NODE && node.getNodeName().equalsIgnoreCase(NODE_TYPE_INFO))
+						readLegacyEntry((Element) node, entries);
+				}
+			}
+		} catch (IOException | ParserConfigurationException | SAXException e) {
+			JavaPlugin.log(e);
+		}
+		synchronized (fWriteLock) {
+			publish(entries);
+		}
+	}
+
+	private static void readLegacyEntry(Element type, LinkedHashMap<TypeNameMatch, Long> entries) {
 		String handle= type.getAttribute(NODE_HANDLE);
-		if (handle == null )
-			return null;
+		if (handle == null)
+			return;
 
 		IJavaElement element= JavaCore.create(handle);
 		if (!(element instanceof IType))
-			return null;
+			return;
 
 		int modifiers= 0;
 		try {
@@ -407,24 +602,37 @@ public class OpenTypeHistory extends History<TypeNameMatch, TypeNameMatch> {
 				// take null stamp
 			}
 		}
-		if (timestamp != IResource.NULL_STAMP) {
-			fTimestampMapping.put(info, timestamp);
-		}
-		return info;
+		// a later element is a later access
+		entries.remove(info);
+		entries.put(info, Long.valueOf(timestamp));
 	}
 
-	@Override
-	protected void setAttributes(Object object, Element typeElement) {
-		TypeNameMatch type= (TypeNameMatch) object;
-		String handleId= type.getType().getHandleIdentifier();
-		typeElement.setAttribute(NODE_HANDLE, handleId);
-		typeElement.setAttribute(NODE_MODIFIERS, Integer.toString(type.getModifiers()));
-		Long timestamp= fTimestampMapping.get(type);
-		if (timestamp == null) {
-			typeElement.setAttribute(NODE_TIMESTAMP, Long.toString(IResource.NULL_STAMP));
-		} else {
-			typeElement.setAttribute(NODE_TIMESTAMP, timestamp.toString());
+	public void save() {
+		Snapshot snapshot= fSnapshot;
+		synchronized (fWriteLock) { // one writer of the file at a time
+			File file= getFile(FILENAME);
+			File temp= new File(file.getPath() + ".tmp"); //$NON-NLS-1$
+			try {
+				try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+					out.writeInt(FILE_MAGIC);
+					out.writeInt(snapshot.fTypes.length);
+					for (int i= 0; i < snapshot.fTypes.length; i++) {
+						TypeNameMatch type= snapshot.fTypes[i];
+						out.writeUTF(type.getType().getHandleIdentifier());
+						out.writeInt(type.getModifiers());
+						out.writeLong(snapshot.fTimestamps[i]);
+					}
+				}
+				try {
+					Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				} catch (AtomicMoveNotSupportedException e) {
+					Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+				}
+				getFile(LEGACY_FILENAME).delete();
+			} catch (IOException e) {
+				JavaPlugin.log(e);
+				temp.delete();
+			}
 		}
 	}
-
 }
@@ -67,6 +67,7 @@ import org.eclipse.jdt.core.refactoring.descriptors.ExtractClassDescriptor;
 import org.eclipse.jdt.core.refactoring.descriptors.IntroduceParameterObjectDescriptor;
 
 import org.eclipse.jdt.internal.core.refactoring.descriptors.RefactoringSignatureDescriptorFactory;
+import org.eclipse.jdt.internal.corext.fix.CleanUpConstants;
 import org.eclipse.jdt.internal.corext.fix.CleanUpRefactoring;
 import org.eclipse.jdt.internal.corext.refactoring.base.RefactoringStatusCodes;
 import org.eclipse.jdt.internal.corext.refactoring.code.ConvertAnonymousToNestedRefactoring;
@@ -251,10 +252,15 @@ public final class RefactoringExecutionStarter {
 				context= JavaPlugin.getActiveWorkbenchWindow();
 			}
 
-			RefactoringExecutionHelper helper= new RefactoringExecutionHelper(refactoring, IStatus.INFO, IRefactoringSaveModes.SAVE_REFACTORING, shell, context);
-			try {
-				helper.perform(true, true, true);
-			} catch (InterruptedException e) {
+			int windowSize= JavaPlugin.getDefault().getPreferenceStore().getInt(CleanUpConstants.CLEAN_UP_WINDOW_SIZE);
+			CleanUpRefactoring[] windows= windowSize > 0 ? refactoring.createWindows(windowSize) : new CleanUpRefactoring[] { refactoring };
+			for (CleanUpRefactoring window : windows) {
+				RefactoringExecutionHelper helper= new RefactoringExecutionHelper(window, IStatus.INFO, IRefactoringSaveModes.SAVE_REFACTORING, shell, context);
+				try {
+					helper.perform(true, true, true);
+				} catch (InterruptedException e) {
+					return;
+				}
 			}
 		} else {
 			CleanUpRefactoringWizard refactoringWizard= new CleanUpRefactoringWizard(refactoring, RefactoringWizard.WIZARD_BASED_USER_INTERFACE);
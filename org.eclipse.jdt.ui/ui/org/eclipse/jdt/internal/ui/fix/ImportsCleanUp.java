@@ -59,8 +59,17 @@ public class ImportsCleanUp extends AbstractCleanUp {
     	if (compilationUnit == null)
     		return null;
 
-		return ImportsFix.createCleanUp(compilationUnit, fCodeGeneratorSettings,
-				isEnabled(CleanUpConstants.ORGANIZE_IMPORTS), fStatus);
+		RefactoringStatus status= fStatus;
+		if (status == null)
+			return ImportsFix.createCleanUp(compilationUnit, fCodeGeneratorSettings, isEnabled(CleanUpConstants.ORGANIZE_IMPORTS), status);
+
+		// fixes may be computed concurrently, see CleanUpConstants#CLEAN_UP_PARALLELISM
+		RefactoringStatus unitStatus= new RefactoringStatus();
+		ICleanUpFix fix= ImportsFix.createCleanUp(compilationUnit, fCodeGeneratorSettings, isEnabled(CleanUpConstants.ORGANIZE_IMPORTS), unitStatus);
+		synchronized (status) {
+			status.merge(unitStatus);
+		}
+		return fix;
 	}
 
     @Override
@@ -63,10 +63,13 @@ public class SortMembersCleanUp extends AbstractCleanUp {
 		boolean sortMembers= isEnabled(CleanUpConstants.SORT_MEMBERS);
 		ICleanUpFix fix= SortMembersFix.createCleanUp(compilationUnit, sortMembers, sortMembers && isEnabled(CleanUpConstants.SORT_MEMBERS_ALL));
 		if (fix != null) {
-			if (fTouchedFiles == null) {
-				fTouchedFiles= new HashSet<>();
+			// fixes may be computed concurrently, see CleanUpConstants#CLEAN_UP_PARALLELISM
+			synchronized (this) {
+				if (fTouchedFiles == null) {
+					fTouchedFiles= new HashSet<>();
+				}
+				fTouchedFiles.add(compilationUnit.getJavaElement().getResource());
 			}
-			fTouchedFiles.add(compilationUnit.getJavaElement().getResource());
 		}
 		return fix;
 	}
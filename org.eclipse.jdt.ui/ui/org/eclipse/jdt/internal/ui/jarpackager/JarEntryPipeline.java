@@ -0,0 +1,360 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * Writes JAR entries in the order in which they are submitted, while the content of the entries
+ * is read ahead on a pool of worker threads.
+ * <p>
+ * The workers read, and for compressed sources inflate, the content and compute the CRC of
+ * stored entries. If the output is a {@link RawJarOutputStream}, the workers also deflate the
+ * content of compressed entries up to {@link #DEFLATED_ENTRY_LIMIT}, otherwise the entries are
+ * deflated by the writing thread. Other content larger than {@link #BUFFERED_ENTRY_LIMIT} is not
+ * buffered but streamed from its source when the entry is written. The amount of content read
+ * ahead is bounded.
+ * </p>
+ * <p>
+ * A failure to read an entry is reported by the call that writes it, which may be a later call
+ * to {@link #submit(JarEntry, ContentSource, long, String)}; see {@link EntryException}. When
+ * {@link #flush()} fails, the entries that are still pending are dropped, so that none of them
+ * is read after the source it is read from has been closed.
+ * </p>
+ * <p>
+ * The pipeline can be disabled with the system property
+ * <code>org.eclipse.jdt.ui.disableParallelJarExport</code>. This class is not thread safe.
+ * </p>
+ */
+public final class JarEntryPipeline {
+
+	/**
+	 * Whether the JAR writers should use a pipeline.
+	 */
+	public static final boolean ENABLED= !Boolean.getBoolean("org.eclipse.jdt.ui.disableParallelJarExport"); //$NON-NLS-1$
+
+	/**
+	 * Size up to which the content of an entry is read into memory by a worker.
+	 */
+	public static final int BUFFERED_ENTRY_LIMIT= 1 << 20;
+
+	/**
+	 * Size up to which the content of a compressed entry is deflated by a worker.
+	 */
+	public static final int DEFLATED_ENTRY_LIMIT= 16 << 20;
+
+	private static final long MAX_PENDING_BYTES= 64L << 20;
+
+	private static final int MAX_PENDING_ENTRIES= 1024;
+
+	/**
+	 * Opens the content of an entry. May be called more than once and from any thread.
+	 */
+	@FunctionalInterface
+	public interface ContentSource {
+		InputStream open() throws IOException;
+	}
+
+	/**
+	 * Signals that an entry that was submitted earlier could not be written.
+	 */
+	public static final class EntryException extends IOException {
+
+		private static final long serialVersionUID= 1L;
+
+		private final String fEntryLabel;
+
+		EntryException(String entryLabel, Exception cause) {
+			super(entryLabel + ": " + cause.getMessage(), cause); //$NON-NLS-1$
+			fEntryLabel= entryLabel;
+		}
+
+		/**
+		 * @return the failure to read or write the entry
+		 */
+		@Override
+		public synchronized Exception getCause() {
+			return (Exception) super.getCause();
+		}
+
+		/**
+		 * @return the label of the entry that could not be written, as passed on submission
+		 */
+		public String getEntryLabel() {
+			return fEntryLabel;
+		}
+	}
+
+	private static final class PendingEntry {
+		final JarEntry fEntry;
+		final ContentSource fSource;
+		final Future<byte[]> fContent;
+		final long fWeight;
+		final String fLabel;
+		/**
+		 * Whether the content has been deflated by the worker.
+		 */
+		final boolean fDeflated;
+
+		PendingEntry(JarEntry entry, ContentSource source, Future<byte[]> content, long weight, String label, boolean deflated) {
+			fEntry= entry;
+			fSource= source;
+			fContent= content;
+			fWeight= weight;
+			fLabel= label;
+			fDeflated= deflated;
+		}
+	}
+
+	private static final byte[] NO_CONTENT= new byte[0];
+
+	private final JarOutputStream fOutput;
+
+	private final ExecutorService fExecutor;
+
+	private final Deque<PendingEntry> fPending= new ArrayDeque<>();
+
+	private final Set<String> fNames= new HashSet<>();
+
+	private long fPendingBytes;
+
+	private IOException fDeferredFailure;
+
+	public JarEntryPipeline(JarOutputStream output) {
+		fOutput= output;
+		int threads= Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors() - 1));
+		fExecutor= Executors.newFixedThreadPool(threads, runnable -> {
+			Thread thread= new Thread(runnable, "JAR Export Reader"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Submits an entry without content, e.g. a directory entry.
+	 *
+	 * @param entry the entry
+	 * @throws IOException if the entry is a duplicate or a previously submitted entry could not be
+	 *             written
+	 */
+	public void submit(JarEntry entry) throws IOException {
+		checkNotDuplicate(entry);
+		enqueue(new PendingEntry(entry, null, CompletableFuture.completedFuture(NO_CONTENT), 0, entry.getName(), false));
+	}
+
+	/**
+	 * Submits an entry. If the method of the entry is {@link ZipEntry#STORED} and its CRC is not
+	 * yet set, the CRC and size are computed from the content.
+	 *
+	 * @param entry the entry, must not be modified by the caller afterwards
+	 * @param source the source of the content
+	 * @param size the size of the content, or <code>-1</code> if unknown
+	 * @param label the label of the entry to report failures with
+	 * @throws IOException if the entry is a duplicate or a previously submitted entry could not be
+	 *             written
+	 */
+	public void submit(JarEntry entry, ContentSource source, long size, String label) throws IOException {
+		checkNotDuplicate(entry);
+		boolean deflated= fOutput instanceof RawJarOutputStream && entry.getMethod() == ZipEntry.DEFLATED && size <= DEFLATED_ENTRY_LIMIT;
+		boolean buffered= deflated || size <= BUFFERED_ENTRY_LIMIT;
+		boolean needsCrc= entry.getMethod() == ZipEntry.STORED && entry.getCrc() == -1;
+		Future<byte[]> content= fExecutor.submit(() -> deflated ? deflate(entry, source) : prepare(entry, source, buffered, needsCrc));
+		long weight= buffered ? (size < 0 ? BUFFERED_ENTRY_LIMIT : size) : 0;
+		enqueue(new PendingEntry(entry, source, content, weight, label, deflated));
+	}
+
+	private static byte[] deflate(JarEntry entry, ContentSource source) throws IOException {
+		byte[] bytes;
+		try (InputStream in= source.open()) {
+			bytes= in.readAllBytes();
+		}
+		CRC32 crc= new CRC32();
+		crc.update(bytes);
+		entry.setSize(bytes.length);
+		entry.setCrc(crc.getValue());
+		Deflater deflater= new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+		try {
+			deflater.setInput(bytes);
+			deflater.finish();
+			ByteArrayOutputStream out= new ByteArrayOutputStream(bytes.length / 2 + 64);
+			byte[] buffer= new byte[8192];
+			while (!deflater.finished()) {
+				int length= deflater.deflate(buffer);
+				out.write(buffer, 0, length);
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static byte[] prepare(JarEntry entry, ContentSource source, boolean buffered, boolean needsCrc) throws IOException {
+		if (buffered) {
+			byte[] bytes;
+			try (InputStream in= source.open()) {
+				bytes= in.readAllBytes();
+			}
+			if (needsCrc)
+				JarPackagerUtil.setCrcAndSize(entry, bytes);
+			return bytes;
+		}
+		if (needsCrc) {
+			CRC32 crc= new CRC32();
+			long size= 0;
+			byte[] buffer= new byte[8192];
+			try (InputStream in= source.open()) {
+				int read;
+				while ((read= in.read(buffer)) != -1) {
+					crc.update(buffer, 0, read);
+					size+= read;
+				}
+			}
+			entry.setSize(size);
+			entry.setCrc(crc.getValue());
+		}
+		return null; // streamed by the writer
+	}
+
+	private void checkNotDuplicate(JarEntry entry) throws IOException {
+		throwDeferredFailure();
+		// reported like JarOutputStream does, but on submission
+		if (!fNames.add(entry.getName()))
+			throw new ZipException("duplicate entry: " + entry.getName()); //$NON-NLS-1$
+	}
+
+	private void enqueue(PendingEntry pending) throws IOException {
+		fPending.addLast(pending);
+		fPendingBytes+= pending.fWeight;
+		while (!fPending.isEmpty() && fPending.peekFirst().fContent.isDone()) {
+			writeFirst();
+		}
+		while (fPendingBytes > MAX_PENDING_BYTES || fPending.size() > MAX_PENDING_ENTRIES) {
+			writeFirst();
+		}
+	}
+
+	/**
+	 * Writes all pending entries. If an entry cannot be written, the entries after it are dropped.
+	 *
+	 * @throws IOException if an entry could not be written
+	 */
+	public void flush() throws IOException {
+		try {
+			throwDeferredFailure();
+			while (!fPending.isEmpty()) {
+				writeFirst();
+			}
+		} catch (IOException e) {
+			discardPending();
+			throw e;
+		}
+	}
+
+	private void discardPending() {
+		for (PendingEntry pending : fPending) {
+			pending.fContent.cancel(true);
+			fNames.remove(pending.fEntry.getName());
+		}
+		fPending.clear();
+		fPendingBytes= 0;
+	}
+
+	/**
+	 * Writes all pending entries and keeps a failure to be reported by the next call to
+	 * {@link #submit(JarEntry, ContentSource, long, String)} or {@link #flush()}.
+	 */
+	public void flushQuietly() {
+		try {
+			flush();
+		} catch (IOException e) {
+			fDeferredFailure= e;
+		}
+	}
+
+	/**
+	 * Writes all pending entries and stops the workers. Does not close the output stream.
+	 *
+	 * @throws IOException if an entry could not be written
+	 */
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			discardPending();
+			fExecutor.shutdownNow();
+		}
+	}
+
+	private void throwDeferredFailure() throws IOException {
+		IOException failure= fDeferredFailure;
+		if (failure != null) {
+			fDeferredFailure= null;
+			throw failure;
+		}
+	}
+
+	private void writeFirst() throws IOException {
+		PendingEntry pending= fPending.removeFirst();
+		fPendingBytes-= pending.fWeight;
+		try {
+			byte[] content;
+			try {
+				content= pending.fContent.get();
+			} catch (ExecutionException e) {
+				Throwable cause= e.getCause();
+				if (cause instanceof IOException io)
+					throw io;
+				if (cause instanceof RuntimeException runtime)
+					throw runtime;
+				throw new IOException(cause);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException();
+			}
+			if (pending.fDeflated) {
+				((RawJarOutputStream) fOutput).putDeflatedEntry(pending.fEntry, content);
+			} else {
+				fOutput.putNextEntry(pending.fEntry);
+				if (content != null) {
+					fOutput.write(content);
+				} else {
+					try (InputStream in= pending.fSource.open()) {
+						in.transferTo(fOutput);
+					}
+				}
+			}
+		} catch (IOException | RuntimeException e) {
+			// e.g. an IllegalStateException if the archive the entry is read from has been closed
+			throw new EntryException(pending.fLabel, e);
+		}
+	}
+}
@@ -0,0 +1,456 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.jarpackager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+
+/**
+ * A {@link JarOutputStream} that also accepts entries whose content has been deflated already,
+ * see {@link #putDeflatedEntry(ZipEntry, byte[])}. This allows to deflate the entries of a JAR on
+ * several threads, while the archive is written by one.
+ * <p>
+ * The archive is written by this class rather than by {@link java.util.zip.ZipOutputStream}, which
+ * has no way to accept compressed content. Entries that are written through
+ * {@link #putNextEntry(ZipEntry)} are handled like {@link JarOutputStream} does, except that the
+ * modification time is only written in MS-DOS format. ZIP64 extensions are written when needed.
+ * </p>
+ */
+public final class RawJarOutputStream extends JarOutputStream {
+
+	private static final int LOCAL_HEADER_SIGNATURE= 0x04034b50;
+	private static final int DATA_DESCRIPTOR_SIGNATURE= 0x08074b50;
+	private static final int CENTRAL_HEADER_SIGNATURE= 0x02014b50;
+	private static final int ZIP64_END_SIGNATURE= 0x06064b50;
+	private static final int ZIP64_LOCATOR_SIGNATURE= 0x07064b50;
+	private static final int END_SIGNATURE= 0x06054b50;
+
+	private static final long ZIP64_MAGIC= 0xFFFFFFFFL;
+	private static final int ZIP64_MAGIC_COUNT= 0xFFFF;
+	private static final int ZIP64_EXTRA_ID= 0x0001;
+
+	private static final int FLAG_DATA_DESCRIPTOR= 0x0008;
+	private static final int FLAG_UTF8= 0x0800;
+
+	private static final int VERSION_STORED= 10;
+	private static final int VERSION_DEFLATED= 20;
+	private static final int VERSION_ZIP64= 45;
+
+	/**
+	 * The extra field that marks a JAR file, written with the first entry.
+	 */
+	private static final byte[] JAR_MAGIC= { (byte) 0xFE, (byte) 0xCA, 0, 0 };
+
+	private static final class Entry {
+		final ZipEntry fEntry;
+		final byte[] fName;
+		final int fMethod;
+		final int fFlags;
+		final long fOffset;
+		final byte[] fExtra;
+		long fCrc;
+		long fSize;
+		long fCompressedSize;
+
+		Entry(ZipEntry entry, int method, int flags, long offset, byte[] extra) {
+			fEntry= entry;
+			fName= entry.getName().getBytes(StandardCharsets.UTF_8);
+			fMethod= method;
+			fFlags= flags;
+			fOffset= offset;
+			fExtra= extra;
+		}
+	}
+
+	private final OutputStream fOut;
+
+	private final List<Entry> fEntries= new ArrayList<>();
+
+	private final Set<String> fNames= new HashSet<>();
+
+	private final CRC32 fCrc= new CRC32();
+
+	private final byte[] fBuffer= new byte[8192];
+
+	private final byte[] fScratch= new byte[8];
+
+	private long fWritten;
+
+	private Entry fCurrent;
+
+	private long fCurrentSize;
+
+	private int fMethod= ZipEntry.DEFLATED;
+
+	private byte[] fComment;
+
+	private boolean fFinished;
+
+	/**
+	 * Creates a stream that writes a JAR without manifest.
+	 *
+	 * @param out the output stream
+	 * @throws IOException if an I/O error has occurred
+	 */
+	public RawJarOutputStream(OutputStream out) throws IOException {
+		super(out);
+		fOut= out;
+	}
+
+	/**
+	 * Creates a stream that writes a JAR with the given manifest, like
+	 * {@link JarOutputStream#JarOutputStream(OutputStream, Manifest)}.
+	 *
+	 * @param out the output stream
+	 * @param manifest the manifest
+	 * @throws IOException if an I/O error has occurred
+	 */
+	public RawJarOutputStream(OutputStream out, Manifest manifest) throws IOException {
+		this(out);
+		ByteArrayOutputStream content= new ByteArrayOutputStream();
+		manifest.write(content);
+		putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+		content.writeTo(this);
+		closeEntry();
+	}
+
+	@Override
+	public void setComment(String comment) {
+		fComment= comment != null ? comment.getBytes(StandardCharsets.UTF_8) : null;
+		if (fComment != null && fComment.length > 0xFFFF)
+			throw new IllegalArgumentException("ZIP file comment too long"); //$NON-NLS-1$
+	}
+
+	@Override
+	public void setMethod(int method) {
+		if (method != ZipEntry.DEFLATED && method != ZipEntry.STORED)
+			throw new IllegalArgumentException("invalid compression method"); //$NON-NLS-1$
+		fMethod= method;
+	}
+
+	@Override
+	public void setLevel(int level) {
+		def.setLevel(level);
+	}
+
+	@Override
+	public void putNextEntry(ZipEntry entry) throws IOException {
+		ensureOpen();
+		closeEntry();
+		int method= entry.getMethod() != -1 ? entry.getMethod() : fMethod;
+		Entry current;
+		if (method == ZipEntry.STORED) {
+			if (entry.getSize() == -1 || entry.getCrc() == -1)
+				throw new ZipException("STORED entry missing size, compressed size, or crc-32"); //$NON-NLS-1$
+			if (entry.getCompressedSize() != -1 && entry.getCompressedSize() != entry.getSize())
+				throw new ZipException("STORED entry where compressed != uncompressed size"); //$NON-NLS-1$
+			current= addEntry(entry, method, 0);
+			current.fCrc= entry.getCrc();
+			current.fSize= entry.getSize();
+			current.fCompressedSize= entry.getSize();
+		} else {
+			// the sizes are written to a data descriptor after the content
+			current= addEntry(entry, method, FLAG_DATA_DESCRIPTOR);
+		}
+		writeLocalHeader(current);
+		fCurrent= current;
+		fCurrentSize= 0;
+		fCrc.reset();
+	}
+
+	/**
+	 * Writes an entry with content that has been deflated already. The CRC and the size of the
+	 * uncompressed content must be set on the entry.
+	 *
+	 * @param entry the entry
+	 * @param deflated the content, deflated without ZLIB header, e.g. with
+	 *            <code>new Deflater(level, true)</code>
+	 * @throws IOException if an I/O error has occurred
+	 */
+	public void putDeflatedEntry(ZipEntry entry, byte[] deflated) throws IOException {
+		ensureOpen();
+		closeEntry();
+		if (entry.getSize() == -1 || entry.getCrc() == -1)
+			throw new ZipException("entry missing size or crc-32"); //$NON-NLS-1$
+		Entry current= addEntry(entry, ZipEntry.DEFLATED, 0);
+		current.fCrc= entry.getCrc();
+		current.fSize= entry.getSize();
+		current.fCompressedSize= deflated.length;
+		entry.setCompressedSize(deflated.length);
+		writeLocalHeader(current);
+		writeBytes(deflated, 0, deflated.length);
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length) throws IOException {
+		ensureOpen();
+		if (offset < 0 || length < 0 || offset > bytes.length - length)
+			throw new IndexOutOfBoundsException();
+		if (length == 0)
+			return;
+		Entry current= fCurrent;
+		if (current == null)
+			throw new ZipException("no current ZIP entry"); //$NON-NLS-1$
+		if (current.fMethod == ZipEntry.STORED) {
+			if (fCurrentSize + length > current.fSize)
+				throw new ZipException("attempt to write past end of STORED entry"); //$NON-NLS-1$
+			writeBytes(bytes, offset, length);
+		} else {
+			def.setInput(bytes, offset, length);
+			while (!def.needsInput())
+				writeDeflated();
+		}
+		fCrc.update(bytes, offset, length);
+		fCurrentSize+= length;
+	}
+
+	@Override
+	public void closeEntry() throws IOException {
+		ensureOpen();
+		Entry current= fCurrent;
+		if (current == null)
+			return;
+		fCurrent= null;
+		if (current.fMethod == ZipEntry.STORED) {
+			if (fCurrentSize != current.fSize)
+				throw new ZipException("invalid entry size (expected " + current.fSize + " but got " + fCurrentSize + " bytes)"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			if (fCrc.getValue() != current.fCrc)
+				throw new ZipException("invalid entry crc-32 (expected 0x" + Long.toHexString(current.fCrc) + " but got 0x" + Long.toHexString(fCrc.getValue()) + ")"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			return;
+		}
+		def.finish();
+		while (!def.finished())
+			writeDeflated();
+		current.fCrc= fCrc.getValue();
+		current.fSize= def.getBytesRead();
+		current.fCompressedSize= def.getBytesWritten();
+		def.reset();
+		current.fEntry.setCrc(current.fCrc);
+		current.fEntry.setSize(current.fSize);
+		current.fEntry.setCompressedSize(current.fCompressedSize);
+		writeInt(DATA_DESCRIPTOR_SIGNATURE);
+		writeInt(current.fCrc);
+		if (current.fSize >= ZIP64_MAGIC || current.fCompressedSize >= ZIP64_MAGIC) {
+			writeLong(current.fCompressedSize);
+			writeLong(current.fSize);
+		} else {
+			writeInt(current.fCompressedSize);
+			writeInt(current.fSize);
+		}
+	}
+
+	@Override
+	public void finish() throws IOException {
+		if (fFinished)
+			return; // also called by close()
+		closeEntry();
+		long centralOffset= fWritten;
+		for (Entry entry : fEntries)
+			writeCentralHeader(entry);
+		long centralSize= fWritten - centralOffset;
+		int count= fEntries.size();
+		if (count >= ZIP64_MAGIC_COUNT || centralOffset >= ZIP64_MAGIC || centralSize >= ZIP64_MAGIC) {
+			long zip64EndOffset= fWritten;
+			writeInt(ZIP64_END_SIGNATURE);
+			writeLong(44); // size of the remaining record
+			writeShort(VERSION_ZIP64);
+			writeShort(VERSION_ZIP64);
+			writeInt(0); // number of this disk
+			writeInt(0); // disk with the central directory
+			writeLong(count);
+			writeLong(count);
+			writeLong(centralSize);
+			writeLong(centralOffset);
+			writeInt(ZIP64_LOCATOR_SIGNATURE);
+			writeInt(0); // disk with the ZIP64 end record
+			writeLong(zip64EndOffset);
+			writeInt(1); // total number of disks
+		}
+		writeInt(END_SIGNATURE);
+		writeShort(0); // number of this disk
+		writeShort(0); // disk with the central directory
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeShort(Math.min(count, ZIP64_MAGIC_COUNT));
+		writeInt(Math.min(centralSize, ZIP64_MAGIC));
+		writeInt(Math.min(centralOffset, ZIP64_MAGIC));
+		if (fComment != null) {
+			writeShort(fComment.length);
+			writeBytes(fComment, 0, fComment.length);
+		} else {
+			writeShort(0);
+		}
+		fFinished= true;
+		fOut.flush();
+	}
+
+	private Entry addEntry(ZipEntry entry, int method, int flags) throws ZipException {
+		if (!fNames.add(entry.getName()))
+			throw new ZipException("duplicate entry: " + entry.getName()); //$NON-NLS-1$
+		if (entry.getTime() == -1)
+			entry.setTime(System.currentTimeMillis());
+		byte[] extra= entry.getExtra();
+		if (fEntries.isEmpty() && !hasJarMagic(extra)) {
+			byte[] withMagic= new byte[JAR_MAGIC.length + (extra != null ? extra.length : 0)];
+			System.arraycopy(JAR_MAGIC, 0, withMagic, 0, JAR_MAGIC.length);
+			if (extra != null)
+				System.arraycopy(extra, 0, withMagic, JAR_MAGIC.length, extra.length);
+			extra= withMagic;
+		}
+		Entry result= new Entry(entry, method, flags | FLAG_UTF8, fWritten, extra);
+		fEntries.add(result);
+		return result;
+	}
+
+	private static boolean hasJarMagic(byte[] extra) {
+		return extra != null && extra.length >= 4 && extra[0] == JAR_MAGIC[0] && extra[1] == JAR_MAGIC[1];
+	}
+
+	private void writeLocalHeader(Entry entry) throws IOException {
+		boolean descriptor= (entry.fFlags & FLAG_DATA_DESCRIPTOR) != 0;
+		boolean zip64= !descriptor && (entry.fSize >= ZIP64_MAGIC || entry.fCompressedSize >= ZIP64_MAGIC);
+		int extraLength= (entry.fExtra != null ? entry.fExtra.length : 0) + (zip64 ? 20 : 0);
+		writeInt(LOCAL_HEADER_SIGNATURE);
+		writeShort(zip64 ? VERSION_ZIP64 : getVersion(entry));
+		writeShort(entry.fFlags);
+		writeShort(entry.fMethod);
+		writeInt(toDosTime(entry.fEntry.getTime()));
+		if (descriptor) {
+			writeInt(0);
+			writeInt(0);
+			writeInt(0);
+		} else {
+			writeInt(entry.fCrc);
+			writeInt(zip64 ? ZIP64_MAGIC : entry.fCompressedSize);
+			writeInt(zip64 ? ZIP64_MAGIC : entry.fSize);
+		}
+		writeShort(entry.fName.length);
+		writeShort(extraLength);
+		writeBytes(entry.fName, 0, entry.fName.length);
+		if (zip64) {
+			writeShort(ZIP64_EXTRA_ID);
+			writeShort(16);
+			writeLong(entry.fSize);
+			writeLong(entry.fCompressedSize);
+		}
+		if (entry.fExtra != null)
+			writeBytes(entry.fExtra, 0, entry.fExtra.length);
+	}
+
+	private void writeCentralHeader(Entry entry) throws IOException {
+		boolean sizeZip64= entry.fSize >= ZIP64_MAGIC;
+		boolean compressedSizeZip64= entry.fCompressedSize >= ZIP64_MAGIC;
+		boolean offsetZip64= entry.fOffset >= ZIP64_MAGIC;
+		int zip64Length= (sizeZip64 ? 8 : 0) + (compressedSizeZip64 ? 8 : 0) + (offsetZip64 ? 8 : 0);
+		int extraLength= (entry.fExtra != null ? entry.fExtra.length : 0) + (zip64Length > 0 ? zip64Length + 4 : 0);
+		String commentString= entry.fEntry.getComment();
+		byte[] comment= commentString != null ? commentString.getBytes(StandardCharsets.UTF_8) : null;
+		int version= zip64Length > 0 ? VERSION_ZIP64 : getVersion(entry);
+		writeInt(CENTRAL_HEADER_SIGNATURE);
+		writeShort(version); // version made by
+		writeShort(version); // version needed to extract
+		writeShort(entry.fFlags);
+		writeShort(entry.fMethod);
+		writeInt(toDosTime(entry.fEntry.getTime()));
+		writeInt(entry.fCrc);
+		writeInt(compressedSizeZip64 ? ZIP64_MAGIC : entry.fCompressedSize);
+		writeInt(sizeZip64 ? ZIP64_MAGIC : entry.fSize);
+		writeShort(entry.fName.length);
+		writeShort(extraLength);
+		writeShort(comment != null ? Math.min(comment.length, 0xFFFF) : 0);
+		writeShort(0); // starting disk number
+		writeShort(0); // internal file attributes
+		writeInt(0); // external file attributes
+		writeInt(offsetZip64 ? ZIP64_MAGIC : entry.fOffset);
+		writeBytes(entry.fName, 0, entry.fName.length);
+		if (zip64Length > 0) {
+			writeShort(ZIP64_EXTRA_ID);
+			writeShort(zip64Length);
+			if (sizeZip64)
+				writeLong(entry.fSize);
+			if (compressedSizeZip64)
+				writeLong(entry.fCompressedSize);
+			if (offsetZip64)
+				writeLong(entry.fOffset);
+		}
+		if (entry.fExtra != null)
+			writeBytes(entry.fExtra, 0, entry.fExtra.length);
+		if (comment != null)
+			writeBytes(comment, 0, Math.min(comment.length, 0xFFFF));
+	}
+
+	private static int getVersion(Entry entry) {
+		return entry.fMethod == ZipEntry.STORED ? VERSION_STORED : VERSION_DEFLATED;
+	}
+
+	private static long toDosTime(long time) {
+		LocalDateTime dateTime= LocalDateTime.ofInstant(Instant.ofEpochMilli(time), ZoneId.systemDefault());
+		int year= dateTime.getYear();
+		if (year < 1980)
+			return (1 << 21) | (1 << 16); // 1980-01-01
+		year= Math.min(year, 2107);
+		return ((year - 1980) << 25 | dateTime.getMonthValue() << 21 | dateTime.getDayOfMonth() << 16
+				| dateTime.getHour() << 11 | dateTime.getMinute() << 5 | dateTime.getSecond() >> 1) & ZIP64_MAGIC;
+	}
+
+	private void writeDeflated() throws IOException {
+		int length= def.deflate(fBuffer, 0, fBuffer.length);
+		if (length > 0)
+			writeBytes(fBuffer, 0, length);
+	}
+
+	private void ensureOpen() throws IOException {
+		if (fFinished)
+			throw new IOException("Stream closed"); //$NON-NLS-1$
+	}
+
+	private void writeBytes(byte[] bytes, int offset, int length) throws IOException {
+		fOut.write(bytes, offset, length);
+		fWritten+= length;
+	}
+
+	private void writeShort(int value) throws IOException {
+		fScratch[0]= (byte) value;
+		fScratch[1]= (byte) (value >>> 8);
+		writeBytes(fScratch, 0, 2);
+	}
+
+	private void writeInt(long value) throws IOException {
+		fScratch[0]= (byte) value;
+		fScratch[1]= (byte) (value >>> 8);
+		fScratch[2]= (byte) (value >>> 16);
+		fScratch[3]= (byte) (value >>> 24);
+		writeBytes(fScratch, 0, 4);
+	}
+
+	private void writeLong(long value) throws IOException {
+		for (int i= 0; i < 8; i++)
+			fScratch[i]= (byte) (value >>> (8 * i));
+		writeBytes(fScratch, 0, 8);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -18,11 +18,16 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.jarpackagerfat;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.util.jar.JarEntry;
 import java.util.jar.JarOutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -39,6 +44,8 @@ import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
 import org.eclipse.jdt.ui.jarpackager.JarPackageData;
 import org.eclipse.jdt.ui.jarpackager.JarWriter3;
 
+import org.eclipse.jdt.internal.ui.jarpackager.JarEntryPipeline;
+import org.eclipse.jdt.internal.ui.jarpackager.JarEntryPipeline.EntryException;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerMessages;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
 
@@ -67,10 +74,71 @@ public class JarWriter4 extends JarWriter3 {
 	}
 
 	public void addZipEntry(ZipEntry zipEntry, ZipFile zipFile, String path) throws IOException {
+		JarEntryPipeline pipeline= getPipeline();
+		if (pipeline == null) {
+			@SuppressWarnings("resource")
+			JarOutputStream jarOutputStream= this.getJarOutputStream();
+			JarPackagerUtilCore.addZipEntry(zipEntry, zipFile, path, fJarPackage.areDirectoryEntriesIncluded(),
+					fJarPackage.isCompressed(), jarOutputStream, this.getDirectories());
+			return;
+		}
+		if (fJarPackage.areDirectoryEntriesIncluded())
+			addDirectories(path);
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		if (fJarPackage.isCompressed())
+			newEntry.setMethod(ZipEntry.DEFLATED);
+		// Entry is filled automatically.
+		else {
+			newEntry.setMethod(ZipEntry.STORED);
+			newEntry.setSize(zipEntry.getSize());
+			newEntry.setCrc(zipEntry.getCrc());
+		}
+		newEntry.setTime(System.currentTimeMillis());
+		// the entry is inflated by a worker of the pipeline
+		pipeline.submit(newEntry, () -> zipFile.getInputStream(zipEntry), zipEntry.getSize(), zipFile.getName() + '!' + zipEntry.getName());
+	}
+
+	/**
+	 * Writes the entries that are still being read, e.g. before the archive they are read from
+	 * is closed.
+	 *
+	 * @throws IOException if an entry could not be read or written
+	 */
+	public void flush() throws IOException {
+		JarEntryPipeline pipeline= getPipeline();
+		if (pipeline != null)
+			pipeline.flush();
+	}
+
+	/**
+	 * Adds an archive as a stored entry, e.g. a library nested in the exported JAR. Archives are
+	 * compressed already, so they are copied without deflating them again.
+	 *
+	 * @param archive the archive
+	 * @param path the path of the archive in the JAR
+	 * @throws IOException if an I/O error has occurred
+	 */
+	public void addStoredArchive(File archive, String path) throws IOException {
+		if (fJarPackage.areDirectoryEntriesIncluded())
+			addDirectories(path);
+		JarEntry newEntry= new JarEntry(path.replace(File.separatorChar, '/'));
+		newEntry.setMethod(ZipEntry.STORED);
+		newEntry.setTime(System.currentTimeMillis());
+		JarEntryPipeline pipeline= getPipeline();
+		if (pipeline != null) {
+			// CRC and size are computed by the pipeline
+			pipeline.submit(newEntry, () -> Files.newInputStream(archive.toPath()), archive.length(), archive.getAbsolutePath());
+			return;
+		}
+		CRC32 crc= new CRC32();
+		try (InputStream in= new CheckedInputStream(Files.newInputStream(archive.toPath()), crc)) {
+			newEntry.setSize(in.transferTo(OutputStream.nullOutputStream()));
+		}
+		newEntry.setCrc(crc.getValue());
 		@SuppressWarnings("resource")
-		JarOutputStream jarOutputStream= this.getJarOutputStream();
-		JarPackagerUtilCore.addZipEntry(zipEntry, zipFile, path, fJarPackage.areDirectoryEntriesIncluded(),
-				fJarPackage.isCompressed(), jarOutputStream, this.getDirectories());
+		JarOutputStream jarOutputStream= getJarOutputStream();
+		jarOutputStream.putNextEntry(newEntry);
+		Files.copy(archive.toPath(), jarOutputStream);
 	}
 
 	public void addZipEntryStream(ZipEntry zipEntry, byte[] content, String path) throws IOException {
@@ -88,6 +156,11 @@ public class JarWriter4 extends JarWriter3 {
 		long lastModified= System.currentTimeMillis();
 		// Set modification time
 		newEntry.setTime(lastModified);
+		JarEntryPipeline pipeline= getPipeline();
+		if (pipeline != null) {
+			pipeline.submit(newEntry, () -> new ByteArrayInputStream(content), content.length, path);
+			return;
+		}
 		@SuppressWarnings("resource")
 		JarOutputStream jarOutputStream= getJarOutputStream();
 		jarOutputStream.putNextEntry(newEntry);
@@ -97,39 +170,53 @@ public class JarWriter4 extends JarWriter3 {
 	public void write(File file, IPath destinationPath) throws CoreException {
 		try {
 			addFile(file, destinationPath);
+		} catch (EntryException ex) {
+			// a file written before could not be read
+			throw createWriteException(ex.getEntryLabel(), ex.getCause());
 		} catch (IOException ex) {
-			// Ensure full path is visible
-			String message= null;
-			IPath path= new Path(file.getAbsolutePath());
-			if (ex.getLocalizedMessage() != null)
-				message= Messages.format(JarPackagerMessages.JarWriter_writeProblemWithMessage,
-						new Object[] { BasicElementLabels.getPathLabel(path, false), ex.getLocalizedMessage() });
-			else
-				message= Messages.format(JarPackagerMessages.JarWriter_writeProblem, BasicElementLabels.getPathLabel(path, false));
-			throw JarPackagerUtil.createCoreException(message, ex);
+			throw createWriteException(BasicElementLabels.getPathLabel(new Path(file.getAbsolutePath()), false), ex);
 		}
 	}
 
+	private static CoreException createWriteException(String pathLabel, Exception ex) {
+		// Ensure full path is visible
+		String message= null;
+		if (ex.getLocalizedMessage() != null)
+			message= Messages.format(JarPackagerMessages.JarWriter_writeProblemWithMessage,
+					new Object[] { pathLabel, ex.getLocalizedMessage() });
+		else
+			message= Messages.format(JarPackagerMessages.JarWriter_writeProblem, pathLabel);
+		return JarPackagerUtil.createCoreException(message, ex);
+	}
+
 	private void addFile(File file, IPath path) throws IOException {
 		if (fJarPackage.areDirectoryEntriesIncluded())
 			addDirectories(path);
 
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
+		newEntry.setTime(file.lastModified());
 
-		byte[] allBytes= Files.readAllBytes(file.toPath());
-		if (fJarPackage.isCompressed())
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		else {
-			newEntry.setMethod(ZipEntry.STORED);
-				JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
+		JarEntryPipeline pipeline= getPipeline();
+		if (pipeline != null) {
+			// CRC and size of stored entries are computed by the pipeline
+			newEntry.setMethod(fJarPackage.isCompressed() ? ZipEntry.DEFLATED : ZipEntry.STORED);
+			pipeline.submit(newEntry, () -> Files.newInputStream(file.toPath()), file.length(), BasicElementLabels.getPathLabel(new Path(file.getAbsolutePath()), false));
+			return;
 		}
 
-		newEntry.setTime(file.lastModified());
-
 		@SuppressWarnings("resource")
 		JarOutputStream jarOutputStream= getJarOutputStream();
-		jarOutputStream.putNextEntry(newEntry);
-		jarOutputStream.write(allBytes);
+		if (fJarPackage.isCompressed()) {
+			newEntry.setMethod(ZipEntry.DEFLATED);
+			// Entry is filled automatically.
+			jarOutputStream.putNextEntry(newEntry);
+			Files.copy(file.toPath(), jarOutputStream);
+		} else {
+			byte[] allBytes= Files.readAllBytes(file.toPath());
+			newEntry.setMethod(ZipEntry.STORED);
+			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
+			jarOutputStream.putNextEntry(newEntry);
+			jarOutputStream.write(allBytes);
+		}
 	}
 }
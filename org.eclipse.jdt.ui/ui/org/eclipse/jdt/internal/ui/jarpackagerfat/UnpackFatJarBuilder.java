@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2007, 2020 IBM Corporation and others.
+ * Copyright (c) 2007, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -16,7 +16,7 @@
  *******************************************************************************/
 package org.eclipse.jdt.internal.ui.jarpackagerfat;
 
-import java.util.jar.JarOutputStream;
+import java.io.IOException;
 import java.util.zip.ZipFile;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -24,7 +24,6 @@ import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
 
 import org.eclipse.jdt.ui.jarpackager.IManifestProvider;
-import org.eclipse.jdt.ui.jarpackager.JarPackageData;
 
 /**
  * A jar builder wich unpacks all referenced libraries into the generated jar.
@@ -62,12 +61,23 @@ public class UnpackFatJarBuilder extends FatJarBuilder {
 
 	@Override
 	public void writeArchive(ZipFile zipFile, IProgressMonitor progressMonitor) {
-		JarWriter4 JarWriter= getJarWriter();
-		JarPackageData JarPackage= JarWriter.getJarPackage();
-		@SuppressWarnings("resource")
-		JarOutputStream jarOutputStream= JarWriter.getJarOutputStream();
-		JarPackagerUtilCore.writeArchive(zipFile, JarPackage.areDirectoryEntriesIncluded(),
-				JarPackage.isCompressed(), jarOutputStream, JarWriter.getDirectories(), getStatus(), progressMonitor);
+		JarWriter4 jarWriter= getJarWriter();
+		// failures of entries written before are not reported against this archive
+		flush(jarWriter);
+		try {
+			JarPackagerUtilCore.writeArchive(zipFile, jarWriter::addZipEntry, getStatus(), progressMonitor);
+		} finally {
+			// the entries must be read before the archive is closed, they are dropped if that fails
+			flush(jarWriter);
+		}
+	}
+
+	private void flush(JarWriter4 jarWriter) {
+		try {
+			jarWriter.flush();
+		} catch (IOException e) {
+			addWarning(e.getLocalizedMessage(), e);
+		}
 	}
 
 }
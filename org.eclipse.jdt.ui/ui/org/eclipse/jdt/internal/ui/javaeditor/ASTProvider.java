@@ -25,6 +25,7 @@ import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.manipulation.CoreASTProvider;
 
+import org.eclipse.jdt.internal.core.manipulation.dom.ASTCache;
 import org.eclipse.jdt.internal.corext.dom.IASTSharedValues;
 
 import org.eclipse.jdt.ui.JavaUI;
@@ -269,6 +270,7 @@ public final class ASTProvider implements IASTSharedValues {
 
 		INSTANCE.disposeAST();
 		INSTANCE.waitLockNotifyAll();
+		ASTCache.getInstance().clear();
 
 	}
 
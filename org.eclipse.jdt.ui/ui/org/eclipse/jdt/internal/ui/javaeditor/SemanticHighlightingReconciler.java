@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2024 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -30,10 +30,14 @@ import org.eclipse.core.runtime.Platform;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
 
+import org.eclipse.jface.text.DocumentEvent;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.jface.text.IDocumentListener;
+import org.eclipse.jface.text.IRegion;
 import org.eclipse.jface.text.ISynchronizable;
 import org.eclipse.jface.text.ITextInputListener;
 import org.eclipse.jface.text.Position;
+import org.eclipse.jface.text.Region;
 import org.eclipse.jface.text.TextPresentation;
 import org.eclipse.jface.text.source.ISourceViewer;
 
@@ -41,15 +45,20 @@ import org.eclipse.ui.IWorkbenchPartSite;
 
 import org.eclipse.jdt.core.ITypeRoot;
 import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.compiler.IProblem;
 import org.eclipse.jdt.core.dom.AST;
 import org.eclipse.jdt.core.dom.ASTNode;
+import org.eclipse.jdt.core.dom.Block;
 import org.eclipse.jdt.core.dom.CompilationUnit;
 import org.eclipse.jdt.core.dom.ConstructorInvocation;
 import org.eclipse.jdt.core.dom.Expression;
 import org.eclipse.jdt.core.dom.GuardedPattern;
 import org.eclipse.jdt.core.dom.IMethodBinding;
+import org.eclipse.jdt.core.dom.Initializer;
+import org.eclipse.jdt.core.dom.MethodDeclaration;
 import org.eclipse.jdt.core.dom.Modifier;
 import org.eclipse.jdt.core.dom.Modifier.ModifierKeyword;
+import org.eclipse.jdt.core.dom.NodeFinder;
 import org.eclipse.jdt.core.dom.RecordDeclaration;
 import org.eclipse.jdt.core.dom.SimpleName;
 import org.eclipse.jdt.core.dom.SimpleType;
@@ -335,6 +344,114 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		}
 	}
 
+	/**
+	 * Tracks the region of the document that has changed since the last reconcile.
+	 * <p>
+	 * The region is kept in document coordinates, i.e. it is shifted and extended with every
+	 * document change. It is only cleared when a reconcile has completed that started after the
+	 * last change.
+	 * </p>
+	 *
+	 * @since 3.35
+	 */
+	private class DirtyRegionTracker implements IDocumentListener, ITextInputListener {
+
+		private IDocument fDocument;
+		private int fStart= -1;
+		private int fEnd= -1;
+		private int fModificationCount;
+		private int fReconcileModificationCount;
+		private boolean fFullReconcileRequired= true;
+
+		public synchronized void connect(IDocument document) {
+			disconnect();
+			fDocument= document;
+			if (fDocument != null)
+				fDocument.addDocumentListener(this);
+			invalidate();
+		}
+
+		public synchronized void disconnect() {
+			if (fDocument != null) {
+				fDocument.removeDocumentListener(this);
+				fDocument= null;
+			}
+		}
+
+		/**
+		 * Requests a reconcile of the whole AST.
+		 */
+		public synchronized void invalidate() {
+			fFullReconcileRequired= true;
+			fStart= -1;
+			fEnd= -1;
+		}
+
+		/**
+		 * @return the region that has changed since the last reconcile or <code>null</code> if the
+		 *         whole AST has to be reconciled
+		 */
+		public synchronized IRegion beginReconcile() {
+			fReconcileModificationCount= fModificationCount;
+			if (fFullReconcileRequired || fStart < 0)
+				return null;
+			return new Region(fStart, fEnd - fStart);
+		}
+
+		/**
+		 * Marks the changes up to the start of the current reconcile as reconciled.
+		 */
+		public synchronized void endReconcile() {
+			fFullReconcileRequired= false;
+			if (fModificationCount == fReconcileModificationCount) {
+				fStart= -1;
+				fEnd= -1;
+			}
+		}
+
+		@Override
+		public void documentAboutToBeChanged(DocumentEvent event) {
+			// do nothing
+		}
+
+		@Override
+		public synchronized void documentChanged(DocumentEvent event) {
+			fModificationCount++;
+			int offset= event.getOffset();
+			int end= offset + event.getLength();
+			String text= event.getText();
+			int newEnd= offset + (text != null ? text.length() : 0);
+			if (fStart < 0) {
+				fStart= offset;
+				fEnd= newEnd;
+				return;
+			}
+			int delta= newEnd - end;
+			int start= fStart <= offset ? fStart : fStart >= end ? fStart + delta : offset;
+			int stop= fEnd <= offset ? fEnd : fEnd >= end ? fEnd + delta : newEnd;
+			fStart= Math.min(start, offset);
+			fEnd= Math.max(stop, newEnd);
+		}
+
+		@Override
+		public void inputDocumentAboutToBeChanged(IDocument oldInput, IDocument newInput) {
+			disconnect();
+		}
+
+		@Override
+		public void inputDocumentChanged(IDocument oldInput, IDocument newInput) {
+			connect(newInput);
+		}
+	}
+
+	/**
+	 * Tells whether a reconcile only revisits the body declarations that enclose the changed region
+	 * of the document.
+	 *
+	 * @since 3.35
+	 */
+	private static final boolean INCREMENTAL= !Boolean.getBoolean("org.eclipse.jdt.ui.disableIncrementalSemanticHighlighting"); //$NON-NLS-1$
+
 	private static final String JAVA_EDITOR_SEMANTIC_TOKENS_EXTENSION_POINT= "org.eclipse.jdt.ui.semanticTokens"; //$NON-NLS-1$
 	private static final String ATTR_CLASS = "class"; //$NON-NLS-1$
 
@@ -363,6 +480,12 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	/** Number of removed positions */
 	private int fNOfRemovedPositions;
 
+	/**
+	 * Tracks the changed region of the document
+	 * @since 3.35
+	 */
+	private final DirtyRegionTracker fDirtyRegionTracker= new DirtyRegionTracker();
+
 	/** Background job */
 	private Job fJob;
 	/** Background job lock */
@@ -451,9 +574,10 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (ast == null || fJobPresenter.isCanceled())
 				return;
 
-			ASTNode[] subtrees= getAffectedSubtrees(ast);
+			ASTNode[] subtrees= getAffectedSubtrees(ast, forced);
 			if (subtrees.length == 0)
 				return;
+			boolean incremental= subtrees[0] != ast;
 
 			startReconcilingPositions();
 
@@ -467,7 +591,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 					}
 				}
 
-				reconcilePositions(subtrees, getContributedSemanticTokens(ast));
+				reconcilePositions(subtrees, incremental, getContributedSemanticTokens(ast));
 
 			}
 
@@ -475,8 +599,10 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			if (!fJobPresenter.isCanceled())
 				textPresentation= fJobPresenter.createPresentation(fAddedPositions, fRemovedPositions);
 
-			if (!fJobPresenter.isCanceled())
+			if (!fJobPresenter.isCanceled()) {
+				fDirtyRegionTracker.endReconcile();
 				updatePresentation(textPresentation, fAddedPositions, fRemovedPositions);
+			}
 
 			stopReconcilingPositions();
 		} finally {
@@ -492,12 +618,83 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	}
 
 	/**
-	 * @param node Root node
+	 * Returns the subtrees that may be affected by the document changes since the last reconcile.
+	 * <p>
+	 * Changes inside a method or initializer body cannot change the highlighting outside of that
+	 * body, unless they break the syntax of the surrounding code. In that case only the enclosing
+	 * body declaration is returned, otherwise the whole AST.
+	 * </p>
+	 *
+	 * @param ast the AST
+	 * @param forced <code>true</code> iff the reconcile has been forced
 	 * @return Array of subtrees that may be affected by past document changes
 	 */
-	private ASTNode[] getAffectedSubtrees(ASTNode node) {
-		// TODO: only return nodes which are affected by document changes - would require an 'anchor' concept for taking distant effects into account
-		return new ASTNode[] { node };
+	private ASTNode[] getAffectedSubtrees(CompilationUnit ast, boolean forced) {
+		IRegion region= fDirtyRegionTracker.beginReconcile();
+		if (!INCREMENTAL || forced || region == null)
+			return new ASTNode[] { ast };
+
+		ASTNode declaration= findEnclosingBodyDeclaration(ast, region);
+		if (declaration == null || hasSyntaxErrorOutside(ast, declaration))
+			return new ASTNode[] { ast };
+		return new ASTNode[] { declaration };
+	}
+
+	/**
+	 * Finds the innermost method or initializer whose body strictly contains the given region.
+	 *
+	 * @param ast the AST
+	 * @param region the changed region
+	 * @return the method declaration or initializer, or <code>null</code> if there is none
+	 * @since 3.35
+	 */
+	private static ASTNode findEnclosingBodyDeclaration(CompilationUnit ast, IRegion region) {
+		int start= region.getOffset();
+		int end= start + region.getLength();
+		ASTNode node= NodeFinder.perform(ast, start, region.getLength());
+		while (node != null) {
+			if (node instanceof Block) {
+				ASTNode parent= node.getParent();
+				if (parent instanceof MethodDeclaration || parent instanceof Initializer) {
+					int blockStart= node.getStartPosition();
+					if (blockStart < start && end < blockStart + node.getLength())
+						return parent;
+				}
+			}
+			node= node.getParent();
+		}
+		return null;
+	}
+
+	/**
+	 * @param ast the AST
+	 * @param subtree a subtree of the AST
+	 * @return <code>true</code> iff the AST has a syntax error outside of the given subtree
+	 * @since 3.35
+	 */
+	private static boolean hasSyntaxErrorOutside(CompilationUnit ast, ASTNode subtree) {
+		int start= subtree.getStartPosition();
+		int end= start + subtree.getLength();
+		for (IProblem problem : ast.getProblems()) {
+			if ((problem.getID() & IProblem.Syntax) != 0 && (problem.getSourceStart() < start || problem.getSourceEnd() >= end))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param offset the offset of a position
+	 * @param subtrees the reconciled subtrees
+	 * @return <code>true</code> iff the position starts in one of the subtrees
+	 * @since 3.35
+	 */
+	private static boolean isInSubtrees(int offset, ASTNode[] subtrees) {
+		for (ASTNode subtree : subtrees) {
+			int start= subtree.getStartPosition();
+			if (start <= offset && offset < start + subtree.getLength())
+				return true;
+		}
+		return false;
 	}
 
 	/**
@@ -512,15 +709,27 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * Reconcile positions based on the AST subtrees
 	 *
 	 * @param subtrees the AST subtrees
+	 * @param incremental <code>true</code> iff the subtrees do not cover the whole AST, the
+	 *            positions outside of them are retained
 	 * @param contributedTokens contributed semantic tokens data
 	 */
-	private void reconcilePositions(ASTNode[] subtrees, List<ISemanticTokensProvider.SemanticToken> contributedTokens) {
-		// FIXME: remove positions not covered by subtrees
+	private void reconcilePositions(ASTNode[] subtrees, boolean incremental, List<ISemanticTokensProvider.SemanticToken> contributedTokens) {
+		if (incremental) {
+			List<Position> affectedPositions= new ArrayList<>();
+			for (Position position : fRemovedPositions) {
+				if (isInSubtrees(position.getOffset(), subtrees))
+					affectedPositions.add(position);
+			}
+			fRemovedPositions= affectedPositions;
+			fNOfRemovedPositions= affectedPositions.size();
+		}
 
 		for (ASTNode subtree : subtrees)
 			subtree.accept(fCollector);
 
 		for (ISemanticTokensProvider.SemanticToken t : contributedTokens) {
+			if (incremental && !isInSubtrees(t.ofset(), subtrees))
+				continue;
 			Highlighting h = fromSemanticTokenType(t.tokenType());
 			if (h == null) {
 				JavaPlugin.logErrorMessage("Cannot find semantic highlighting for %s".formatted(t)); //$NON-NLS-1$
@@ -641,8 +850,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 */
 	private void updatePresentation(TextPresentation textPresentation, List<Position> addedPositions, List<Position> removedPositions) {
 		Runnable runnable= fJobPresenter.createUpdateRunnable(textPresentation, addedPositions, removedPositions);
-		if (runnable == null)
+		if (runnable == null) {
+			if (textPresentation != null)
+				fDirtyRegionTracker.invalidate();
 			return;
+		}
 
 		JavaEditor editor= fEditor;
 		if (editor == null)
@@ -672,6 +884,8 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 				} else {
 					runnable.run();
 				}
+			} else {
+				fDirtyRegionTracker.invalidate();
 			}
 		});
 	}
@@ -703,6 +917,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 		fEditor= editor;
 		fSourceViewer= sourceViewer;
 
+		if (INCREMENTAL && fSourceViewer != null) {
+			fSourceViewer.addTextInputListener(fDirtyRegionTracker);
+			fDirtyRegionTracker.connect(fSourceViewer.getDocument());
+		}
+
 		if (fEditor instanceof CompilationUnitEditor) {
 			if (registerAsEditorReconcilingListener()) {
 				((CompilationUnitEditor)fEditor).addReconcileListener(this);
@@ -746,6 +965,11 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 			fEditor= null;
 		}
 
+		if (INCREMENTAL && fSourceViewer != null) {
+			fSourceViewer.removeTextInputListener(fDirtyRegionTracker);
+			fDirtyRegionTracker.disconnect();
+		}
+
 		fSourceViewer= null;
 		fSemanticHighlightings= null;
 		fHighlightings= null;
@@ -835,6 +1059,7 @@ public class SemanticHighlightingReconciler implements IJavaReconcilingListener,
 	 * @since 3.2
 	 */
 	public void refresh() {
+		fDirtyRegionTracker.invalidate();
 		scheduleJob();
 	}
 }
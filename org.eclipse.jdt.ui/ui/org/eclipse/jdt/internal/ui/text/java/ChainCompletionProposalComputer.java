@@ -1,5 +1,5 @@
 /**
- * Copyright (c) 2010, 2022 Darmstadt University of Technology and others
+ * Copyright (c) 2010, 2026 Darmstadt University of Technology and others
  * All rights reserved. This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License v1.0
  * which accompanies this distribution, and is available at
@@ -14,9 +14,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.core.runtime.IProgressMonitor;
@@ -43,6 +40,7 @@ import org.eclipse.jdt.ui.text.java.IJavaCompletionProposal;
 import org.eclipse.jdt.ui.text.java.IJavaCompletionProposalComputer;
 import org.eclipse.jdt.ui.text.java.JavaContentAssistInvocationContext;
 
+import org.eclipse.jdt.internal.ui.JavaPlugin;
 import org.eclipse.jdt.internal.ui.text.Chain;
 import org.eclipse.jdt.internal.ui.text.ChainElement;
 import org.eclipse.jdt.internal.ui.text.ChainElementAnalyzer;
@@ -58,12 +56,12 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	private CompletionProposalCollector collector;
 
-	private List<ChainElement> entrypoints;
-
 	private String error;
 
 	private String[] excludedTypes;
 
+	private final ChainSearchEngine engine= new ChainSearchEngine();
+
 	@Override
 	public List<ICompletionProposal> computeCompletionProposals(final ContentAssistInvocationContext context,
 			final IProgressMonitor monitor) {
@@ -74,7 +72,7 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 		if (!shouldPerformCompletionOnExpectedType()) {
 			return Collections.emptyList();
 		}
-		return executeCallChainSearch();
+		return executeCallChainSearch(monitor);
 	}
 
 	private boolean initializeRequiredContext(final ContentAssistInvocationContext context) {
@@ -115,8 +113,8 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 				|| ChainElementAnalyzer.getExpectedType(ctx.getProject(), ctx.getCoreContext()) != null;
 	}
 
-	private boolean findEntrypoints() {
-		entrypoints= new LinkedList<>();
+	private List<ChainElement> findEntrypoints() {
+		List<ChainElement> entrypoints= new LinkedList<>();
 		for (IJavaCompletionProposal prop : collector.getJavaCompletionProposals()) {
 			if (prop instanceof AbstractJavaCompletionProposal) {
 				AbstractJavaCompletionProposal aprop= (AbstractJavaCompletionProposal) prop;
@@ -143,7 +141,7 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 			}
 		}
 
-		return !entrypoints.isEmpty();
+		return entrypoints;
 	}
 
 	private boolean matchesExpectedPrefix(final IJavaElement element) {
@@ -151,7 +149,7 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 		return String.valueOf(element.getElementName()).startsWith(prefix);
 	}
 
-	private List<ICompletionProposal> executeCallChainSearch() {
+	private List<ICompletionProposal> executeCallChainSearch(final IProgressMonitor monitor) {
 		final int maxChains, minDepth, maxDepth;
 		try {
 			maxChains= Integer.parseInt(JavaManipulation.getPreference(PreferenceConstants.PREF_MAX_CHAINS, ctx.getProject()));
@@ -172,29 +170,42 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 		final IType invocationType= ctx.getCompilationUnit().findPrimaryType();
 
 		final List<ChainType> expectedTypes= ChainElementAnalyzer.resolveBindingsForExpectedTypes(ctx.getProject(), ctx.getCoreContext());
-		final ChainFinder finder= new ChainFinder(expectedTypes, Arrays.asList(excludedTypes), invocationType);
-		try (ExecutorService executor= Executors.newSingleThreadExecutor()) {
-			try {
-				Future<?> future= executor.submit(() -> {
-					if (findEntrypoints()) {
-						finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth);
-					}
-				});
+		final List<String> excluded= Arrays.asList(excludedTypes);
+		final ChainFinder finder= new ChainFinder(expectedTypes, excluded, invocationType, null, engine.getMemberGraph(invocationType, excluded));
 
-				long timeout;
-				try {
-					timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
-				} catch (NumberFormatException e) {
-					timeout= 1;
-				}
-				future.get(timeout, TimeUnit.SECONDS);
-			} catch (final Exception e) {
-				finder.cancel();
-				executor.shutdownNow();
-				setError("Timeout during call chain computation."); //$NON-NLS-1$
+		long timeout;
+		try {
+			timeout= Long.parseLong(JavaManipulation.getPreference(PreferenceConstants.PREF_CHAIN_TIMEOUT, ctx.getProject()));
+		} catch (NumberFormatException e) {
+			timeout= 1;
+		}
+		long start= System.nanoTime();
+		boolean completed= engine.search(finder, () -> {
+			List<ChainElement> entrypoints= findEntrypoints();
+			if (!entrypoints.isEmpty()) {
+				finder.startChainSearch(entrypoints, maxChains, minDepth, maxDepth);
+			}
+		}, TimeUnit.SECONDS.toMillis(timeout), monitor);
+
+		// on a timeout, propose the chains found so far, which are the shortest ones
+		List<Chain> chains= finder.getChains();
+		if (!completed && chains.isEmpty()) {
+			setError("Timeout during call chain computation."); //$NON-NLS-1$
+		}
+		if (JavaPlugin.DEBUG_RESULT_COLLECTOR) {
+			printStatistics(finder, maxDepth, completed, chains.size(), System.nanoTime() - start);
+		}
+		return buildCompletionProposals(chains);
+	}
+
+	private static void printStatistics(ChainFinder finder, int maxDepth, boolean completed, int chains, long nanos) {
+		System.err.println("Code Assist (chains):\t" + chains + (completed ? " in " : " until timeout after ") + TimeUnit.NANOSECONDS.toMillis(nanos) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+		for (int depth= 1; depth <= maxDepth; depth++) {
+			long expanded= finder.getExpandedChains(depth);
+			if (expanded > 0) {
+				System.err.println("Code Assist (chain depth " + depth + "):\t" + expanded + " expanded in " + TimeUnit.NANOSECONDS.toMillis(finder.getExpansionTime(depth)) + " ms"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
 			}
 		}
-		return buildCompletionProposals(finder.getChains());
 	}
 
 	private List<ICompletionProposal> buildCompletionProposals(final List<Chain> chains) {
@@ -220,6 +231,7 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 	@Override
 	public void sessionStarted() {
 		setError(null);
+		engine.reset();
 	}
 
 	@Override
@@ -229,5 +241,6 @@ public class ChainCompletionProposalComputer implements IJavaCompletionProposalC
 
 	@Override
 	public void sessionEnded() {
+		engine.reset();
 	}
 }
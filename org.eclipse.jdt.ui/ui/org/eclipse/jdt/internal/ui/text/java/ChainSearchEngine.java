@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.java;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+
+import org.eclipse.jdt.core.IType;
+
+import org.eclipse.jdt.internal.ui.text.ChainFinder;
+
+/**
+ * Runs call chain searches on a shared pool of worker threads and keeps the member graph of the
+ * last search for the following searches of the same content assist session.
+ * <p>
+ * A search that does not complete before its deadline, or whose progress monitor is canceled, is
+ * canceled; the chains it has found so far remain available from its {@link ChainFinder}. The
+ * caller does not wait for the worker to stop.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+final class ChainSearchEngine {
+
+	private static final ExecutorService EXECUTOR= Executors.newCachedThreadPool(runnable -> {
+		Thread thread= new Thread(runnable, "Chain Completion Search"); //$NON-NLS-1$
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Interval in milliseconds in which a running search checks for cancellation.
+	 */
+	private static final long POLL_INTERVAL= 50;
+
+	private ChainFinder.MemberGraph fGraph;
+
+	/**
+	 * Returns the member graph for a search, reusing the one of the previous search if it has been
+	 * created for the same receiver type and excluded types since the last {@link #reset()}.
+	 *
+	 * @param receiverType the type in which the chains are inserted
+	 * @param excludedTypes the excluded types
+	 * @return the member graph
+	 */
+	synchronized ChainFinder.MemberGraph getMemberGraph(IType receiverType, List<String> excludedTypes) {
+		if (fGraph == null || !fGraph.isFor(receiverType, excludedTypes))
+			fGraph= new ChainFinder.MemberGraph(receiverType, excludedTypes);
+		return fGraph;
+	}
+
+	/**
+	 * Releases the member graph.
+	 */
+	synchronized void reset() {
+		fGraph= null;
+	}
+
+	/**
+	 * Runs a search until it completes, the timeout expires or the monitor is canceled.
+	 *
+	 * @param finder the finder that is canceled if the search does not complete
+	 * @param search the search, must only report chains to <code>finder</code>
+	 * @param timeout the timeout in milliseconds
+	 * @param monitor the progress monitor, may be <code>null</code>
+	 * @return <code>true</code> if the search completed, <code>false</code> if it has been
+	 *         canceled or has failed
+	 */
+	boolean search(ChainFinder finder, Runnable search, long timeout, IProgressMonitor monitor) {
+		Future<?> future= EXECUTOR.submit(search);
+		long deadline= System.currentTimeMillis() + timeout;
+		try {
+			long remaining;
+			while ((remaining= deadline - System.currentTimeMillis()) > 0 && (monitor == null || !monitor.isCanceled())) {
+				try {
+					future.get(Math.min(remaining, POLL_INTERVAL), TimeUnit.MILLISECONDS);
+					return true;
+				} catch (TimeoutException e) {
+					// check the deadline and the monitor again
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException e) {
+			// reported like a timeout, with the chains found so far
+		}
+		finder.cancel();
+		future.cancel(false);
+		return false;
+	}
+}
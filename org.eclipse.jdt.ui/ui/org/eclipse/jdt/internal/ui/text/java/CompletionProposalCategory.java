@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2013 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -276,6 +276,23 @@ public final class CompletionProposalCategory {
 		return false;
 	}
 
+	/**
+	 * Returns the descriptors of the computers of this category that contribute to the given
+	 * partition, in the order in which {@link #computeCompletionProposals} calls them.
+	 *
+	 * @param partition the partition
+	 * @return the descriptors
+	 * @since 3.35
+	 */
+	List<CompletionProposalComputerDescriptor> getComputerDescriptors(String partition) {
+		List<CompletionProposalComputerDescriptor> result= new ArrayList<>();
+		for (CompletionProposalComputerDescriptor desc : fRegistry.getProposalComputerDescriptors(partition)) {
+			if (desc.getCategory() == this)
+				result.add(desc);
+		}
+		return result;
+	}
+
 	/**
 	 * @return sortOrder
 	 */
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2012 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -530,6 +530,18 @@ final class CompletionProposalComputerDescriptor {
 		}
 	}
 
+	/**
+	 * Reports that the computer did not return its proposals before the deadline of a concurrent
+	 * invocation and its proposals were left out.
+	 */
+	void reportDeadlineExceeded() {
+		IStatus status= createPerformanceStatus(COMPUTE_COMPLETION_PROPOSALS);
+		if (fIsReportingDelay)
+			fRegistry.informUser(this, status);
+		else
+			JavaPlugin.log(status);
+	}
+
 	private IStatus createExceptionStatus(InvalidRegistryObjectException x) {
 		// extension has become invalid - log & disable
 		String blame= createBlameMessage();
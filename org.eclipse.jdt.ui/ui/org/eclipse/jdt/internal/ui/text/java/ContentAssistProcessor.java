@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2016 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -19,10 +19,20 @@ package org.eclipse.jdt.internal.ui.text.java;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -62,6 +72,7 @@ import org.eclipse.jface.text.contentassist.IContentAssistantExtension3;
 import org.eclipse.jface.text.contentassist.IContextInformation;
 import org.eclipse.jface.text.contentassist.IContextInformationValidator;
 
+import org.eclipse.ui.IWorkbenchCommandConstants;
 import org.eclipse.ui.PlatformUI;
 import org.eclipse.ui.dialogs.PreferencesUtil;
 import org.eclipse.ui.keys.IBindingService;
@@ -93,6 +104,14 @@ import org.eclipse.jdt.internal.ui.util.Progress;
  * contexts are provided)</li>
  * <li><code>getErrorMessage</code> to change error reporting</li>
  * </ul>
+ * <p>
+ * Computers that do not require the UI thread run concurrently, each on a worker thread and
+ * against the same context. A computer that does not finish within its deadline is cancelled and
+ * its proposals are left out, so that a slow computer does not hold back the proposals of the
+ * others. The deadline starts when the computer starts; a computer that is still waiting for a
+ * thread when its proposals are needed runs on the calling thread instead. The concurrent mode can be disabled with the system property
+ * <code>org.eclipse.jdt.ui.disableConcurrentContentAssist</code>.
+ * </p>
  *
  * @since 3.2
  */
@@ -226,6 +245,119 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 	 */
 	private static final String PREF_WARN_ABOUT_EMPTY_ASSIST_CATEGORY= "EmptyDefaultAssistCategory"; //$NON-NLS-1$
 
+	/**
+	 * Whether computers that do not require the UI thread run concurrently.
+	 *
+	 * @since 3.35
+	 */
+	private static final boolean CONCURRENT_COMPUTATION= !Boolean.getBoolean("org.eclipse.jdt.ui.disableConcurrentContentAssist"); //$NON-NLS-1$
+
+	/**
+	 * The time in milliseconds after which a concurrently running computer is cancelled.
+	 *
+	 * @since 3.35
+	 */
+	private static final long COMPUTER_DEADLINE= Long.getLong("org.eclipse.jdt.ui.codeAssistComputerDeadline", 5000).longValue(); //$NON-NLS-1$
+
+	/**
+	 * The threads the concurrently running computers are executed on.
+	 *
+	 * @since 3.35
+	 */
+	private static final ExecutorService COMPUTER_EXECUTOR;
+	static {
+		// bounded, since a computer that ignores its cancelled monitor keeps its thread
+		int threads= Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+		ThreadPoolExecutor executor= new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+			Thread thread= new Thread(runnable, "Content Assist Computer"); //$NON-NLS-1$
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.allowCoreThreadTimeOut(true);
+		COMPUTER_EXECUTOR= executor;
+	}
+
+	/**
+	 * A computer that runs concurrently to the other computers of an invocation.
+	 */
+	private static final class ComputerTask {
+
+		private final CompletionProposalComputerDescriptor fDescriptor;
+		private final ContentAssistInvocationContext fContext;
+		private final NullProgressMonitor fMonitor= new NullProgressMonitor();
+		// 0 until the computer starts, then the time at which it is cancelled
+		private final AtomicLong fDeadline= new AtomicLong();
+		private final Future<List<ICompletionProposal>> fFuture;
+		private boolean fTimedOut;
+
+		ComputerTask(CompletionProposalComputerDescriptor descriptor, ContentAssistInvocationContext context) {
+			fDescriptor= descriptor;
+			fContext= context;
+			fFuture= COMPUTER_EXECUTOR.submit(this::compute);
+		}
+
+		private List<ICompletionProposal> compute() {
+			// the time spent waiting for a thread does not count
+			if (!fDeadline.compareAndSet(0, System.currentTimeMillis() + COMPUTER_DEADLINE))
+				return Collections.emptyList(); // taken over by the calling thread
+			return fDescriptor.computeCompletionProposals(fContext, fMonitor);
+		}
+
+		/**
+		 * Waits for the proposals of the computer until its deadline has passed or the given
+		 * monitor is cancelled. The computer is cancelled if it has not finished by then. A
+		 * computer that has not started yet, because all threads are taken by other computers,
+		 * is run on the calling thread.
+		 *
+		 * @param monitor the monitor of the invocation
+		 * @return the proposals, empty if the computer did not finish in time
+		 * @see #isTimedOut()
+		 */
+		List<ICompletionProposal> getProposals(IProgressMonitor monitor) {
+			if (fDeadline.compareAndSet(0, Long.MAX_VALUE)) {
+				fFuture.cancel(false);
+				return fDescriptor.computeCompletionProposals(fContext, monitor);
+			}
+			try {
+				long remaining;
+				while ((remaining= fDeadline.get() - System.currentTimeMillis()) > 0 && !monitor.isCanceled()) {
+					try {
+						return fFuture.get(Math.min(remaining, 100), TimeUnit.MILLISECONDS);
+					} catch (TimeoutException e) {
+						// check the deadline and the monitor again
+					}
+				}
+				if (!monitor.isCanceled()) {
+					fTimedOut= true;
+					fDescriptor.reportDeadlineExceeded();
+				}
+				if (JavaPlugin.DEBUG_RESULT_COLLECTOR) {
+					System.err.println("Code Assist (cancelled):\t" + fDescriptor.getName()); //$NON-NLS-1$
+				}
+			} catch (ExecutionException e) {
+				JavaPlugin.log(e.getCause());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			cancel();
+			return Collections.emptyList();
+		}
+
+		/**
+		 * @return whether the proposals were left out because the computer did not finish before
+		 *         its deadline
+		 */
+		boolean isTimedOut() {
+			return fTimedOut;
+		}
+
+		void cancel() {
+			// no interrupt, computers may use interruptible channels
+			fMonitor.setCanceled(true);
+			fFuture.cancel(false);
+		}
+	}
+
 	private static final Comparator<CompletionProposalCategory> ORDER_COMPARATOR= (d1, d2) -> d1.getSortOrder() - d2.getSortOrder();
 
 	private final List<CompletionProposalCategory> fCategories;
@@ -328,12 +460,42 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		boolean needsSortingAfterFiltering= false;
 		List<ICompletionProposal> proposals= new ArrayList<>();
 		List<CompletionProposalCategory> providers= getCategories();
-		for (CompletionProposalCategory cat : providers) {
-			List<ICompletionProposal> computed= cat.computeCompletionProposals(context, fPartition, Progress.subMonitor(monitor, 1));
-			proposals.addAll(computed);
-			needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
-			if (fErrorMessage == null) {
-				fErrorMessage= cat.getErrorMessage();
+		Map<CompletionProposalComputerDescriptor, ComputerTask> tasks= startConcurrentComputers(providers, context);
+		try {
+			for (CompletionProposalCategory cat : providers) {
+				List<ICompletionProposal> computed;
+				String errorMessage;
+				if (tasks == null) {
+					computed= cat.computeCompletionProposals(context, fPartition, Progress.subMonitor(monitor, 1));
+					errorMessage= cat.getErrorMessage();
+				} else {
+					computed= new ArrayList<>();
+					errorMessage= null;
+					IProgressMonitor categoryMonitor= Progress.subMonitor(monitor, 1);
+					for (CompletionProposalComputerDescriptor desc : cat.getComputerDescriptors(fPartition)) {
+						ComputerTask task= tasks.remove(desc);
+						if (task != null) {
+							computed.addAll(task.getProposals(monitor));
+							if (task.isTimedOut() && errorMessage == null)
+								errorMessage= getTookTooLongMessage();
+						} else {
+							computed.addAll(desc.computeCompletionProposals(context, categoryMonitor));
+						}
+						if (errorMessage == null)
+							errorMessage= desc.getErrorMessage();
+					}
+				}
+				proposals.addAll(computed);
+				needsSortingAfterFiltering= needsSortingAfterFiltering || (cat.isSortingAfterFilteringNeeded() && !computed.isEmpty());
+				if (fErrorMessage == null) {
+					fErrorMessage= errorMessage;
+				}
+			}
+		} finally {
+			if (tasks != null) {
+				for (ComputerTask task : tasks.values()) {
+					task.cancel();
+				}
 			}
 		}
 		if (fNeedsSortingAfterFiltering && !needsSortingAfterFiltering) {
@@ -343,6 +505,40 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 		return proposals;
 	}
 
+	/**
+	 * Starts the computers of the given categories that do not require the UI thread, if there is
+	 * more than one computer to call.
+	 *
+	 * @param categories the categories to compute the proposals of
+	 * @param context the code assist invocation context
+	 * @return the started computers, or <code>null</code> if all computers are to be called one
+	 *         after the other
+	 * @since 3.35
+	 */
+	private Map<CompletionProposalComputerDescriptor, ComputerTask> startConcurrentComputers(List<CompletionProposalCategory> categories, ContentAssistInvocationContext context) {
+		if (!CONCURRENT_COMPUTATION)
+			return null;
+		List<CompletionProposalComputerDescriptor> concurrent= new ArrayList<>();
+		int count= 0;
+		for (CompletionProposalCategory cat : categories) {
+			if (!cat.isEnabled())
+				continue;
+			for (CompletionProposalComputerDescriptor desc : cat.getComputerDescriptors(fPartition)) {
+				count++;
+				if (!desc.requiresUIThread())
+					concurrent.add(desc);
+			}
+		}
+		if (count < 2 || concurrent.isEmpty())
+			return null;
+
+		Map<CompletionProposalComputerDescriptor, ComputerTask> tasks= new HashMap<>();
+		for (CompletionProposalComputerDescriptor desc : concurrent) {
+			tasks.put(desc, new ComputerTask(desc, context));
+		}
+		return tasks;
+	}
+
 	/**
 	 * Filters and sorts the proposals. The passed list may be modified
 	 * and returned, or a new list may be created and returned.
@@ -691,6 +887,12 @@ public class ContentAssistProcessor implements IContentAssistProcessor {
 				: JavaTextMessages.ContentAssistProcessor_toggle_affordance_click_gesture;
 	}
 
+	private static String getTookTooLongMessage() {
+		IBindingService bindingSvc= PlatformUI.getWorkbench().getAdapter(IBindingService.class);
+		String keyBinding= bindingSvc.getBestActiveBindingFormattedFor(IWorkbenchCommandConstants.EDIT_CONTENT_ASSIST);
+		return Messages.format(JavaTextMessages.CompletionProcessor_error_javaCompletion_took_too_long_message, keyBinding);
+	}
+
 	private KeySequence getIterationBinding() {
 	    final IBindingService bindingSvc= PlatformUI.getWorkbench().getAdapter(IBindingService.class);
 		TriggerSequence binding= bindingSvc.getBestActiveBindingFor(ITextEditorActionDefinitionIds.CONTENT_ASSIST_PROPOSALS);
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2008, 2023 IBM Corporation and others.
+ * Copyright (c) 2008, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -46,7 +46,7 @@ public class JavadocContentAccess2 {
 	 * @throws CoreException is thrown when the element's Javadoc cannot be accessed
 	 */
 	public static String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc) throws CoreException {
-		return new CoreJavadocAccess().getHTMLContent(element, useAttachedJavadoc);
+		return JavadocHTMLCache.getDefault().getHTMLContent(element, useAttachedJavadoc, () -> new CoreJavadocAccess().getHTMLContent(element, useAttachedJavadoc));
 	}
 
 	/**
@@ -0,0 +1,364 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.javadoc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+
+import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IMethod;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
+import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaModelException;
+
+import org.eclipse.jdt.internal.corext.javadoc.JavaDocLocations;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+/**
+ * A size-bounded cache on disk of the Javadoc HTML of elements in binary archives.
+ * <p>
+ * Reading the Javadoc of a library element may require a fetch from a remote Javadoc location, or
+ * reading and parsing its attached source. The rendered HTML of such elements is therefore kept in
+ * the state location of the plug-in, across sessions. The entries are keyed by the element handle
+ * and the path and time stamp of the archive, the source attachment and the Javadoc location, so an
+ * updated library or attachment does not hit stale entries. The key of a method also contains the
+ * archives of its supertypes, which <code>{@inheritDoc}</code> may copy from. Elements in source
+ * folders and class folders, and methods that inherit from them, are not cached.
+ * </p>
+ * <p>
+ * Elements without Javadoc are only cached if there is no remote Javadoc location, since a failed
+ * fetch is not distinguished from missing Javadoc.
+ * </p>
+ * <p>
+ * When the cache grows beyond its size limit, the least recently used entries are deleted. The limit
+ * in bytes can be set with the system property <code>org.eclipse.jdt.ui.javadocCacheSize</code>,
+ * the cache is disabled with <code>org.eclipse.jdt.ui.disableJavadocCache</code>.
+ * </p>
+ * <p>
+ * This class is thread safe.
+ * </p>
+ */
+public final class JavadocHTMLCache {
+
+	/**
+	 * Computes the HTML of an element on a cache miss.
+	 */
+	@FunctionalInterface
+	public interface ContentProvider {
+		String getHTMLContent() throws CoreException;
+	}
+
+	private static final String CACHE_DIR= "javadoc-cache"; //$NON-NLS-1$
+
+	private static final String FILE_EXTENSION= ".html"; //$NON-NLS-1$
+
+	/**
+	 * Version of the file format and the key, to be incremented when either changes.
+	 */
+	private static final int FORMAT_VERSION= 2;
+
+	private static final long MAX_SIZE= Long.getLong("org.eclipse.jdt.ui.javadocCacheSize", 32L << 20).longValue(); //$NON-NLS-1$
+
+	private static JavadocHTMLCache fgDefault;
+
+	private final File fDirectory;
+
+	/**
+	 * The size of the cache directory in bytes, or -1 if not yet computed. Guarded by this.
+	 */
+	private long fSize= -1;
+
+	/**
+	 * Creates a cache in the given directory. Clients use {@link #getDefault()}, other instances
+	 * are for tests.
+	 *
+	 * @param directory the cache directory, or <code>null</code> to disable the cache
+	 */
+	public JavadocHTMLCache(File directory) {
+		fDirectory= directory;
+	}
+
+	/**
+	 * @return the shared cache in the state location of the plug-in
+	 */
+	public static synchronized JavadocHTMLCache getDefault() {
+		if (fgDefault == null) {
+			File directory= null;
+			if (!Boolean.getBoolean("org.eclipse.jdt.ui.disableJavadocCache")) { //$NON-NLS-1$
+				try {
+					directory= JavaPlugin.getDefault().getStateLocation().append(CACHE_DIR).toFile();
+					if (!directory.isDirectory() && !directory.mkdirs()) {
+						JavaPlugin.logErrorMessage("Failed to create Javadoc cache directory " + directory.toString()); //$NON-NLS-1$
+						directory= null;
+					}
+				} catch (IllegalStateException e) {
+					// no state location
+				}
+			}
+			fgDefault= new JavadocHTMLCache(directory);
+		}
+		return fgDefault;
+	}
+
+	/**
+	 * Returns the Javadoc HTML of the given element, from the cache if possible.
+	 *
+	 * @param element the element
+	 * @param useAttachedJavadoc whether attached Javadoc is used if there is no source
+	 * @param provider computes the HTML if it is not cached
+	 * @return the HTML or <code>null</code> if the element does not have Javadoc
+	 * @throws CoreException if the HTML could not be computed
+	 */
+	public String getHTMLContent(IJavaElement element, boolean useAttachedJavadoc, ContentProvider provider) throws CoreException {
+		if (fDirectory == null)
+			return provider.getHTMLContent();
+		String key;
+		URL javadocLocation= null;
+		try {
+			javadocLocation= JavaDocLocations.getJavadocBaseLocation(element);
+			key= getKey(element, useAttachedJavadoc, javadocLocation);
+		} catch (JavaModelException e) {
+			key= null;
+		}
+		if (key == null)
+			return provider.getHTMLContent();
+
+		File file= new File(fDirectory, hash(key) + FILE_EXTENSION);
+		if (file.isFile()) {
+			try (DataInputStream in= new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())))) {
+				if (key.equals(in.readUTF())) {
+					String content= in.readBoolean() ? new String(in.readAllBytes(), StandardCharsets.UTF_8) : null;
+					file.setLastModified(System.currentTimeMillis());
+					return content;
+				}
+			} catch (IOException e) {
+				file.delete(); // truncated or concurrently replaced
+			}
+		}
+
+		String content= provider.getHTMLContent();
+		if (content != null || !isRemote(javadocLocation))
+			store(file, key, content);
+		return content;
+	}
+
+	private void store(File file, String key, String content) {
+		File temp= null;
+		try {
+			temp= File.createTempFile("javadoc", ".tmp", fDirectory); //$NON-NLS-1$ //$NON-NLS-2$
+			try (DataOutputStream out= new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp.toPath())))) {
+				out.writeUTF(key);
+				out.writeBoolean(content != null);
+				if (content != null)
+					out.write(content.getBytes(StandardCharsets.UTF_8));
+			}
+			long length= temp.length();
+			try {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			temp= null;
+			added(length);
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+		} finally {
+			if (temp != null)
+				temp.delete();
+		}
+	}
+
+	private synchronized void added(long length) {
+		if (fSize == -1) {
+			fSize= 0;
+			for (File file : listEntries()) {
+				fSize+= file.length();
+			}
+		} else {
+			fSize+= length;
+		}
+		if (fSize > MAX_SIZE)
+			evict();
+	}
+
+	/**
+	 * Deletes the least recently used entries until the cache is below three quarters of its limit.
+	 */
+	private void evict() {
+		File[] files= listEntries();
+		long[] lastModified= new long[files.length];
+		Integer[] order= new Integer[files.length];
+		for (int i= 0; i < files.length; i++) {
+			lastModified[i]= files[i].lastModified();
+			order[i]= Integer.valueOf(i);
+		}
+		Arrays.sort(order, Comparator.comparingLong(i -> lastModified[i.intValue()]));
+		long size= 0;
+		for (File file : files) {
+			size+= file.length();
+		}
+		for (int i= 0; i < order.length && size > MAX_SIZE * 3 / 4; i++) {
+			File file= files[order[i].intValue()];
+			long length= file.length();
+			if (file.delete())
+				size-= length;
+		}
+		fSize= size;
+	}
+
+	private File[] listEntries() {
+		File[] files= fDirectory.listFiles((dir, name) -> name.endsWith(FILE_EXTENSION));
+		return files != null ? files : new File[0];
+	}
+
+	/**
+	 * Deletes all entries.
+	 */
+	public synchronized void clear() {
+		if (fDirectory == null)
+			return;
+		for (File file : listEntries()) {
+			file.delete();
+		}
+		fSize= 0;
+	}
+
+	private static boolean isRemote(URL location) {
+		if (location == null)
+			return false;
+		String externalForm= location.toExternalForm();
+		return !externalForm.startsWith("file:") && !externalForm.startsWith("jar:file:"); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	private static String getKey(IJavaElement element, boolean useAttachedJavadoc, URL javadocLocation) throws JavaModelException {
+		IPackageFragmentRoot root= (IPackageFragmentRoot) element.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+		if (root == null || !root.isArchive() || root.getKind() != IPackageFragmentRoot.K_BINARY)
+			return null;
+		File archive= toFile(root.getPath());
+		if (archive == null || !archive.isFile())
+			return null;
+
+		StringBuilder key= new StringBuilder();
+		key.append(FORMAT_VERSION).append(' ').append(JavaPlugin.getDefault().getBundle().getVersion()).append('\n');
+		key.append(element.getHandleIdentifier()).append('\n');
+		key.append(useAttachedJavadoc).append('\n');
+		appendFile(key, archive);
+		IPath sourceAttachment= root.getSourceAttachmentPath();
+		if (sourceAttachment != null) {
+			File source= toFile(sourceAttachment);
+			if (source != null)
+				appendFile(key, source);
+			else
+				key.append(sourceAttachment).append('\n');
+		}
+		if (javadocLocation != null)
+			key.append(javadocLocation.toExternalForm()).append('\n');
+		if (element instanceof IMethod method) {
+			if (!appendSupertypes(key, method.getDeclaringType(), root, new HashSet<>()))
+				return null;
+		}
+		return key.toString();
+	}
+
+	/**
+	 * Appends the archives of the supertypes that are not in the given root.
+	 *
+	 * @param key the key
+	 * @param type the type whose supertypes are appended
+	 * @param root the root of the element
+	 * @param visited the names of the visited supertypes
+	 * @return <code>false</code> if a supertype is not in a binary archive, and the key is not
+	 *         stable
+	 * @throws JavaModelException if a supertype cannot be accessed
+	 */
+	private static boolean appendSupertypes(StringBuilder key, IType type, IPackageFragmentRoot root, Set<String> visited) throws JavaModelException {
+		List<String> names= new ArrayList<>();
+		String superclassName= type.getSuperclassName();
+		if (superclassName != null)
+			names.add(superclassName);
+		names.addAll(Arrays.asList(type.getSuperInterfaceNames()));
+		for (String name : names) {
+			if (!visited.add(name))
+				continue;
+			IType supertype= type.getJavaProject().findType(name.replace('$', '.'));
+			if (supertype == null) {
+				key.append('?').append(name).append('\n'); // found once it is added to the class path
+				continue;
+			}
+			IPackageFragmentRoot supertypeRoot= (IPackageFragmentRoot) supertype.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+			if (!root.equals(supertypeRoot)) {
+				if (!supertypeRoot.isArchive() || supertypeRoot.getKind() != IPackageFragmentRoot.K_BINARY)
+					return false;
+				File archive= toFile(supertypeRoot.getPath());
+				if (archive != null && archive.isFile())
+					appendFile(key, archive);
+				else
+					key.append(supertypeRoot.getPath()).append('\n');
+			}
+			if (!appendSupertypes(key, supertype, root, visited))
+				return false;
+		}
+		return true;
+	}
+
+	private static File toFile(IPath path) {
+		IResource resource= ResourcesPlugin.getWorkspace().getRoot().findMember(path);
+		if (resource != null) {
+			IPath location= resource.getLocation();
+			return location != null ? location.toFile() : null;
+		}
+		return path.toFile();
+	}
+
+	private static void appendFile(StringBuilder key, File file) {
+		key.append(file.getAbsolutePath()).append(' ').append(file.lastModified()).append(' ').append(file.length()).append('\n');
+	}
+
+	private static String hash(String key) {
+		try {
+			byte[] digest= MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8)); //$NON-NLS-1$
+			StringBuilder name= new StringBuilder(40);
+			for (int i= 0; i < 20; i++) {
+				name.append(Character.forDigit((digest[i] >> 4) & 0xF, 16)).append(Character.forDigit(digest[i] & 0xF, 16));
+			}
+			return name.toString();
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e); // every Java platform supports SHA-256
+		}
+	}
+}
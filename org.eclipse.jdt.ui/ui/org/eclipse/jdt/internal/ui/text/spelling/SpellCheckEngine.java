@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,14 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 
+import org.eclipse.osgi.service.datalocation.Location;
+
 import org.eclipse.core.variables.IStringVariableManager;
 import org.eclipse.core.variables.VariablesPlugin;
 
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.FileLocator;
+import org.eclipse.core.runtime.Platform;
 
 import org.eclipse.jface.preference.IPreferenceStore;
 import org.eclipse.jface.util.IPropertyChangeListener;
@@ -41,9 +44,11 @@ import org.eclipse.ui.texteditor.spelling.SpellingService;
 
 import org.eclipse.ui.editors.text.EditorsUI;
 
+import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jdt.ui.PreferenceConstants;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.text.spelling.engine.CompactSpellDictionary;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.DefaultSpellChecker;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellCheckEngine;
 import org.eclipse.jdt.internal.ui.text.spelling.engine.ISpellChecker;
@@ -62,6 +67,13 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 	/** The dictionary location */
 	public static final String DICTIONARY_LOCATION= "dictionaries/"; //$NON-NLS-1$
 
+	/**
+	 * Tells whether the installed dictionaries are kept in hash maps instead of compact images.
+	 *
+	 * @since 3.35
+	 */
+	private static final boolean DISABLE_COMPACT_DICTIONARIES= Boolean.getBoolean("org.eclipse.jdt.ui.disableCompactSpellDictionaries"); //$NON-NLS-1$
+
 	/** The singleton engine instance */
 	private static ISpellCheckEngine fgEngine= null;
 
@@ -226,6 +238,29 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 		return null;
 	}
 
+	/**
+	 * Returns the directory in which the compiled images of the installed dictionaries are stored.
+	 * <p>
+	 * The images are stored in the configuration area, so that all workspaces share them. If the
+	 * configuration area is read-only, the state location of the plug-in is used instead.
+	 * </p>
+	 *
+	 * @return the directory or <code>null</code> if there is none
+	 * @since 3.35
+	 */
+	private static File getDictionaryCacheLocation() {
+		Location configuration= Platform.getConfigurationLocation();
+		if (configuration != null && !configuration.isReadOnly()) {
+			URL url= configuration.getURL();
+			if (url != null && "file".equals(url.getProtocol())) //$NON-NLS-1$
+				return new File(new File(url.getFile(), JavaUI.ID_PLUGIN), DICTIONARY_LOCATION);
+		}
+		final JavaPlugin plugin= JavaPlugin.getDefault();
+		if (plugin != null)
+			return plugin.getStateLocation().append(DICTIONARY_LOCATION).toFile();
+		return null;
+	}
+
 	/**
 	 * Returns the singleton instance of the spell check engine.
 	 *
@@ -274,6 +309,7 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 
 			Locale locale= null;
 			final Enumeration<URL> locations= getDictionaryLocations();
+			final File cacheLocation= DISABLE_COMPACT_DICTIONARIES ? null : getDictionaryCacheLocation();
 
 			while (locations != null && locations.hasMoreElements()) {
 				URL location= locations.nextElement();
@@ -281,7 +317,10 @@ public class SpellCheckEngine implements ISpellCheckEngine, IPropertyChangeListe
 				for (final Iterator<Locale> iterator= getLocalesWithInstalledDictionaries(location).iterator(); iterator.hasNext();) {
 
 					locale= iterator.next();
-					fLocaleDictionaries.put(locale, new LocaleSensitiveSpellDictionary(locale, location));
+					if (DISABLE_COMPACT_DICTIONARIES)
+						fLocaleDictionaries.put(locale, new LocaleSensitiveSpellDictionary(locale, location));
+					else
+						fLocaleDictionaries.put(locale, new CompactSpellDictionary(locale, location, cacheLocation));
 				}
 			}
 
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2025 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -27,11 +27,14 @@ import java.nio.charset.CodingErrorAction;
 import java.nio.charset.MalformedInputException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.BiConsumer;
 
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
@@ -143,12 +146,17 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 
 	/**
 	 * Returns all candidates with the same phonetic hash.
+	 * <p>
+	 * Subclasses that keep their words in a different store may override this method. The
+	 * candidates are either a single <code>byte[]</code> or an <code>ArrayList&lt;byte[]&gt;</code>
+	 * with the UTF-8 encoded words.
+	 * </p>
 	 *
 	 * @param hash
 	 *                   The hash to retrieve the candidates of
 	 * @return Array of candidates for the phonetic hash
 	 */
-	protected final Object getCandidates(final String hash) {
+	protected Object getCandidates(final String hash) {
 		ByteArrayWrapper hashBytes;
 		try {
 			hashBytes= new ByteArrayWrapper(hash.getBytes(UTF_8));
@@ -495,6 +503,29 @@ public abstract class AbstractSpellDictionary implements ISpellDictionary {
 		}
 	}
 
+	/**
+	 * Removes all hashed words from this dictionary and passes them to the given consumer, one
+	 * phonetic hash bucket at a time.
+	 *
+	 * @param consumer
+	 *                   The consumer of the UTF-8 encoded hash and the UTF-8 encoded words with
+	 *                   that hash, in the order they have been added
+	 * @since 3.35
+	 */
+	@SuppressWarnings("unchecked")
+	final void drainBuckets(final BiConsumer<byte[], List<byte[]>> consumer) {
+		synchronized(fHashBuckets) {
+			for (Map.Entry<ByteArrayWrapper, Object> entry : fHashBuckets.entrySet()) {
+				Object bucket= entry.getValue();
+				if (bucket instanceof byte[])
+					consumer.accept(entry.getKey().byteArray, Collections.singletonList((byte[])bucket));
+				else
+					consumer.accept(entry.getKey().byteArray, (ArrayList<byte[]>)bucket);
+			}
+			fHashBuckets.clear();
+		}
+	}
+
 	@SuppressWarnings("unchecked")
 	@Override
 	public boolean isCorrect(String word) {
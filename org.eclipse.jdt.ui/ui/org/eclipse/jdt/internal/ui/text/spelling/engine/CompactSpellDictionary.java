@@ -0,0 +1,453 @@
+/*******************************************************************************
+ * Copyright (c) 2026 IBM Corporation and others.
+ *
+ * This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Contributors:
+ *     IBM Corporation - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.jdt.internal.ui.text.spelling.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.runtime.FileLocator;
+
+import org.eclipse.jdt.internal.ui.JavaPlugin;
+
+
+/**
+ * Platform wide read-only locale sensitive dictionary that keeps its words in a compact, read-only
+ * image instead of a hash map on the heap.
+ * <p>
+ * The image is compiled from the word list when the dictionary is loaded for the first time and
+ * written to a cache directory. Later loads memory-map the cached image as long as the word list
+ * is unchanged. Images are shared by all dictionaries of the same word list, so that reloading a
+ * dictionary, e.g. after the spelling engine has been restarted, is cheap.
+ * </p>
+ * <p>
+ * A mapped image file can neither be replaced nor deleted on some platforms. The name of an image
+ * file therefore includes a stamp of its word list, so that the image of an updated word list is
+ * written to a new file, and only one image per word list is kept mapped. Images of older versions
+ * of a word list are deleted where possible.
+ * </p>
+ * <p>
+ * Image format:
+ * <pre>
+ * image:     MAGIC VERSION sourceLength:long sourceModified:long key:string bucketCount:int
+ *            bucketOffset:int* bucket*
+ * bucket:    hash:bytes wordCount:varint word*
+ * word:      sharedPrefixLength:varint suffix:bytes
+ * bytes:     length:varint byte*
+ * </pre>
+ * The buckets are sorted by their phonetic hash. The words of a bucket are in the order of the word
+ * list and front coded against the previous word.
+ * </p>
+ *
+ * @since 3.35
+ */
+public class CompactSpellDictionary extends LocaleSensitiveSpellDictionary {
+
+	/**
+	 * A read-only compiled word list.
+	 */
+	static final class Image {
+
+		private static final int MAGIC= 0x4A535044;
+		private static final int VERSION= 1;
+
+		private final ByteBuffer fBuffer;
+		private final long fSourceLength;
+		private final long fSourceModified;
+		private final String fKey;
+		private final int fBucketCount;
+		private final int fDirectory;
+
+		private Image(ByteBuffer buffer) throws IOException {
+			fBuffer= buffer;
+			ByteBuffer header= buffer.duplicate();
+			try {
+				if (header.getInt() != MAGIC || header.getInt() != VERSION)
+					throw new IOException("Not a compact dictionary image"); //$NON-NLS-1$
+				fSourceLength= header.getLong();
+				fSourceModified= header.getLong();
+				byte[] key= new byte[header.getInt()];
+				header.get(key);
+				fKey= new String(key, StandardCharsets.UTF_8);
+				fBucketCount= header.getInt();
+				fDirectory= header.position();
+				if (fBucketCount < 0 || fDirectory + 4L * fBucketCount > buffer.limit())
+					throw new IOException("Corrupt compact dictionary image"); //$NON-NLS-1$
+			} catch (BufferUnderflowException | NegativeArraySizeException e) {
+				throw new IOException("Corrupt compact dictionary image", e); //$NON-NLS-1$
+			}
+		}
+
+		/**
+		 * Compiles the words of the given dictionary into an image. The words are removed from the
+		 * dictionary.
+		 *
+		 * @param dictionary the dictionary with the hashed words
+		 * @param sourceLength the length of the word list
+		 * @param sourceModified the modification time of the word list
+		 * @param key the key of the encoding and hash provider used to read the word list
+		 * @return the image
+		 * @throws IOException if writing the image fails
+		 */
+		static byte[] compile(AbstractSpellDictionary dictionary, long sourceLength, long sourceModified, String key) throws IOException {
+			List<Map.Entry<byte[], List<byte[]>>> buckets= new ArrayList<>();
+			dictionary.drainBuckets((hash, words) -> buckets.add(Map.entry(hash, words)));
+			buckets.sort((b1, b2) -> Arrays.compareUnsigned(b1.getKey(), b2.getKey()));
+
+			ByteArrayOutputStream data= new ByteArrayOutputStream();
+			DataOutputStream dataOut= new DataOutputStream(data);
+			int[] offsets= new int[buckets.size()];
+			for (int i= 0; i < offsets.length; i++) {
+				List<byte[]> words= buckets.get(i).getValue();
+				offsets[i]= dataOut.size();
+				writeBytes(dataOut, buckets.get(i).getKey(), 0);
+				writeVarInt(dataOut, words.size());
+				byte[] previous= new byte[0];
+				for (byte[] word : words) {
+					int shared= Arrays.mismatch(previous, word);
+					if (shared < 0)
+						shared= word.length;
+					writeVarInt(dataOut, shared);
+					writeBytes(dataOut, word, shared);
+					previous= word;
+				}
+			}
+
+			ByteArrayOutputStream image= new ByteArrayOutputStream(data.size() + 4 * offsets.length + 64);
+			DataOutputStream out= new DataOutputStream(image);
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(sourceLength);
+			out.writeLong(sourceModified);
+			byte[] keyBytes= key.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(keyBytes.length);
+			out.write(keyBytes);
+			out.writeInt(offsets.length);
+			int base= out.size() + 4 * offsets.length;
+			for (int offset : offsets) {
+				out.writeInt(base + offset);
+			}
+			data.writeTo(out);
+			out.flush();
+			return image.toByteArray();
+		}
+
+		/**
+		 * Creates an image from compiled bytes.
+		 *
+		 * @param bytes the bytes created by {@link #compile(AbstractSpellDictionary, long, long, String)}
+		 * @return the image
+		 * @throws IOException if the bytes are not an image
+		 */
+		static Image create(byte[] bytes) throws IOException {
+			return new Image(ByteBuffer.wrap(bytes).asReadOnlyBuffer());
+		}
+
+		/**
+		 * Memory-maps an image file.
+		 *
+		 * @param file the image file
+		 * @return the image or <code>null</code> if the file does not exist or is not an image
+		 */
+		static Image map(File file) {
+			if (!file.isFile())
+				return null;
+			try (FileChannel channel= FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+				return new Image(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+			} catch (IOException e) {
+				return null;
+			}
+		}
+
+		boolean matches(long sourceLength, long sourceModified, String key) {
+			return fSourceLength == sourceLength && fSourceModified == sourceModified && fKey.equals(key);
+		}
+
+		boolean isEmpty() {
+			return fBucketCount == 0;
+		}
+
+		/**
+		 * Returns the words with the given phonetic hash.
+		 *
+		 * @param hash the UTF-8 encoded hash
+		 * @return <code>null</code>, a single UTF-8 encoded word or an <code>ArrayList</code> of
+		 *         them, see {@link AbstractSpellDictionary#getCandidates(String)}
+		 */
+		Object getBucket(byte[] hash) {
+			ByteBuffer buffer= fBuffer.duplicate();
+			int low= 0;
+			int high= fBucketCount - 1;
+			while (low <= high) {
+				int middle= (low + high) >>> 1;
+				buffer.position(buffer.getInt(fDirectory + 4 * middle));
+				int comparison= compare(buffer, hash);
+				if (comparison < 0) {
+					low= middle + 1;
+				} else if (comparison > 0) {
+					high= middle - 1;
+				} else {
+					return readWords(buffer);
+				}
+			}
+			return null;
+		}
+
+		/*
+		 * Compares the hash at the position of the buffer with the given one and positions the
+		 * buffer after the hash.
+		 */
+		private static int compare(ByteBuffer buffer, byte[] hash) {
+			int length= readVarInt(buffer);
+			int end= buffer.position() + length;
+			int common= Math.min(length, hash.length);
+			for (int i= 0; i < common; i++) {
+				int comparison= Integer.compare(buffer.get() & 0xFF, hash[i] & 0xFF);
+				if (comparison != 0)
+					return comparison;
+			}
+			buffer.position(end);
+			return Integer.compare(length, hash.length);
+		}
+
+		private static Object readWords(ByteBuffer buffer) {
+			int count= readVarInt(buffer);
+			if (count == 1) {
+				readVarInt(buffer);
+				byte[] word= new byte[readVarInt(buffer)];
+				buffer.get(word);
+				return word;
+			}
+			ArrayList<byte[]> words= new ArrayList<>(count);
+			byte[] previous= new byte[0];
+			for (int i= 0; i < count; i++) {
+				int shared= readVarInt(buffer);
+				int suffix= readVarInt(buffer);
+				byte[] word= Arrays.copyOf(previous, shared + suffix);
+				buffer.get(word, shared, suffix);
+				words.add(word);
+				previous= word;
+			}
+			return words;
+		}
+
+		private static void writeBytes(DataOutputStream out, byte[] bytes, int offset) throws IOException {
+			writeVarInt(out, bytes.length - offset);
+			out.write(bytes, offset, bytes.length - offset);
+		}
+
+		private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+			while ((value & ~0x7F) != 0) {
+				out.writeByte((value & 0x7F) | 0x80);
+				value>>>= 7;
+			}
+			out.writeByte(value);
+		}
+
+		private static int readVarInt(ByteBuffer buffer) {
+			int value= 0;
+			for (int shift= 0; ; shift+= 7) {
+				int b= buffer.get();
+				value|= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0)
+					return value;
+			}
+		}
+	}
+
+	private static final String CACHE_FILE_EXTENSION= ".cdict"; //$NON-NLS-1$
+
+	/** The images in use, by the cache file prefix of their word list */
+	private static final Map<String, Image> fgImages= new ConcurrentHashMap<>();
+
+	/** The directory of the compiled images */
+	private final File fCacheDirectory;
+
+	/** The image of this dictionary or <code>null</code> if not loaded */
+	private volatile Image fImage;
+
+	/**
+	 * Creates a new compact spell dictionary.
+	 *
+	 * @param locale
+	 *                   The locale for this dictionary
+	 * @param location
+	 *                   The location of the locale sensitive dictionaries
+	 * @param cacheDirectory
+	 *                   The directory in which the compiled images are stored
+	 */
+	public CompactSpellDictionary(final Locale locale, final URL location, final File cacheDirectory) {
+		super(locale, location);
+		fCacheDirectory= cacheDirectory;
+	}
+
+	@Override
+	protected Object getCandidates(final String hash) {
+		final Image image= fImage;
+		if (image == null)
+			return super.getCandidates(hash);
+		return image.getBucket(hash.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Override
+	protected boolean isEmpty() {
+		final Image image= fImage;
+		if (image == null)
+			return super.isEmpty();
+		return image.isEmpty();
+	}
+
+	@Override
+	protected synchronized boolean load(final URL url) {
+		if (fImage != null)
+			return true;
+		if (url == null)
+			return false;
+
+		long sourceLength= -1;
+		long sourceModified= -1;
+		try {
+			URL fileURL= FileLocator.toFileURL(url);
+			if ("file".equals(fileURL.getProtocol())) { //$NON-NLS-1$
+				File source= new File(fileURL.getFile());
+				if (source.isFile()) {
+					sourceLength= source.length();
+					sourceModified= source.lastModified();
+				}
+			}
+		} catch (IOException e) {
+			// compile the image without caching it
+		}
+		boolean cacheable= sourceLength >= 0 && fCacheDirectory != null;
+		String key= getEncoding() + '|' + getHashProvider().getClass().getName();
+
+		File cacheFile= null;
+		String prefix= null;
+		if (cacheable) {
+			prefix= new File(fCacheDirectory, getCacheFilePrefix(url)).getAbsolutePath();
+			cacheFile= new File(prefix + '-' + getStamp(sourceLength, sourceModified, key) + CACHE_FILE_EXTENSION);
+			Image image= fgImages.get(prefix);
+			if (image == null || !image.matches(sourceLength, sourceModified, key)) {
+				image= Image.map(cacheFile);
+				if (image != null && !image.matches(sourceLength, sourceModified, key))
+					image= null;
+			}
+			if (image != null) {
+				fgImages.put(prefix, image);
+				fImage= image;
+				return true;
+			}
+		}
+
+		if (!super.load(url))
+			return false;
+		// the word list was found under the lowercased URL, and that load compiled the image
+		if (fImage != null)
+			return true;
+
+		try {
+			byte[] bytes= Image.compile(this, sourceLength, sourceModified, key);
+			Image image= Image.create(bytes);
+			if (cacheable) {
+				store(cacheFile, bytes);
+				fgImages.put(prefix, image);
+			}
+			fImage= image;
+			return true;
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			return false;
+		}
+	}
+
+	@Override
+	public synchronized void unload() {
+		fImage= null;
+		super.unload();
+	}
+
+	/**
+	 * Writes an image to the cache and deletes the images of older versions of the word list.
+	 * Failures are logged, the image in memory is used then and compiled again on the next load.
+	 *
+	 * @param file the cache file, must not be mapped
+	 * @param bytes the image
+	 */
+	private static void store(File file, byte[] bytes) {
+		try {
+			Path directory= file.getParentFile().toPath();
+			Files.createDirectories(directory);
+			Path temp= Files.createTempFile(directory, file.getName(), ".tmp"); //$NON-NLS-1$
+			try {
+				Files.write(temp, bytes);
+				Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+		} catch (IOException e) {
+			JavaPlugin.log(e);
+			return;
+		}
+		deleteStaleImages(file);
+	}
+
+	/**
+	 * Deletes the images of the same word list other than the given one. Images that are still
+	 * mapped cannot be deleted on some platforms; they are deleted after a later update.
+	 *
+	 * @param file the current image file
+	 */
+	private static void deleteStaleImages(File file) {
+		String name= file.getName();
+		String prefix= name.substring(0, name.lastIndexOf('-') + 1);
+		File[] stale= file.getParentFile().listFiles((directory, candidate) -> candidate.startsWith(prefix)
+				&& candidate.endsWith(CACHE_FILE_EXTENSION) && !candidate.equals(name));
+		if (stale == null)
+			return;
+		for (File staleFile : stale) {
+			try {
+				Files.deleteIfExists(staleFile.toPath());
+			} catch (IOException e) {
+				// still mapped
+			}
+		}
+	}
+
+	private static String getCacheFilePrefix(URL url) {
+		String path= url.getPath();
+		String name= path.substring(path.lastIndexOf('/') + 1).replaceAll("[^\\w.-]", "_"); //$NON-NLS-1$ //$NON-NLS-2$
+		return name + '-' + Integer.toHexString(url.toString().hashCode());
+	}
+
+	private static String getStamp(long sourceLength, long sourceModified, String key) {
+		int hash= 31 * (31 * Long.hashCode(sourceLength) + Long.hashCode(sourceModified)) + key.hashCode();
+		return Integer.toHexString(hash);
+	}
+}
@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2000, 2020 IBM Corporation and others.
+ * Copyright (c) 2000, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -63,8 +63,11 @@ import org.eclipse.jdt.internal.corext.util.Messages;
 import org.eclipse.jdt.internal.jarpackager.JarPackagerUtilCore;
 
 import org.eclipse.jdt.internal.ui.JavaPlugin;
+import org.eclipse.jdt.internal.ui.jarpackager.JarEntryPipeline;
+import org.eclipse.jdt.internal.ui.jarpackager.JarEntryPipeline.EntryException;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerMessages;
 import org.eclipse.jdt.internal.ui.jarpackager.JarPackagerUtil;
+import org.eclipse.jdt.internal.ui.jarpackager.RawJarOutputStream;
 
 
 /**
@@ -84,14 +87,19 @@ public class JarWriter3 {
 
 	private JarPackageData fJarPackage;
 
+	private JarEntryPipeline fPipeline;
+
 	/**
-	* Gets the fJarOutputStream of this JarWriter3
+	* Gets the fJarOutputStream of this JarWriter3. Entries that are still being read are written
+	* before the stream is returned.
 	*
 	* @return the fJarOutputStream of this JarWriter3
 	*
 	* @since 3.22
 	*/
 	public JarOutputStream getJarOutputStream() {
+		if (fPipeline != null)
+			fPipeline.flushQuietly();
 		return fJarOutputStream;
 	}
 
@@ -126,11 +134,15 @@ public class JarWriter3 {
 			throw new OperationCanceledException("Cannot create JAR with path: " + fJarPackage.getAbsoluteJarLocation()); //$NON-NLS-1$
 		JarOutputStream jos= null;
 		try {
-			if (fJarPackage.usesManifest() && fJarPackage.areGeneratedFilesExported()) {
-				Manifest manifest= fJarPackage.getManifestProvider().create(fJarPackage);
-				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())), manifest);
+			Manifest manifest= null;
+			if (fJarPackage.usesManifest() && fJarPackage.areGeneratedFilesExported())
+				manifest= fJarPackage.getManifestProvider().create(fJarPackage);
+			BufferedOutputStream out= new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile()));
+			if (JarEntryPipeline.ENABLED) {
+				// accepts the entries deflated by the pipeline
+				jos= manifest != null ? new RawJarOutputStream(out, manifest) : new RawJarOutputStream(out);
 			} else {
-				jos= new JarOutputStream(new BufferedOutputStream(new FileOutputStream(fJarPackage.getAbsoluteJarLocation().toFile())));
+				jos= manifest != null ? new JarOutputStream(out, manifest) : new JarOutputStream(out);
 			}
 			String comment= jarPackage.getComment();
 			if (comment != null)
@@ -142,6 +154,8 @@ public class JarWriter3 {
 				addHistory(fJarPackage, new Path(JarPackagerUtil.getRefactoringsEntry()), new NullProgressMonitor());
 			}
 			fJarOutputStream= jos;
+			if (JarEntryPipeline.ENABLED)
+				fPipeline= new JarEntryPipeline(jos);
 		} catch (IOException exception) {
 			if (jos != null) {
 				try {
@@ -193,7 +207,7 @@ public class JarWriter3 {
 		}
 
 		for (int i= directories.size() - 1; i >= 0; --i) {
-			fJarOutputStream.putNextEntry(directories.get(i));
+			putNextEntry(directories.get(i));
 		}
 	}
 
@@ -241,7 +255,7 @@ public class JarWriter3 {
 		}
 
 		for (int i= directories.size() - 1; i >= 0; --i) {
-			fJarOutputStream.putNextEntry(directories.get(i));
+			putNextEntry(directories.get(i));
 		}
 	}
 
@@ -257,31 +271,79 @@ public class JarWriter3 {
 	 */
 	protected void addFile(IFile resource, IPath path) throws IOException, CoreException {
 		JarEntry newEntry= new JarEntry(path.toString().replace(File.separatorChar, '/'));
-		byte[] allBytes;
-		try (InputStream contents= resource.getContents(false)) {
-			allBytes= contents.readAllBytes();
-		}
-		if (fJarPackage.isCompressed()) {
-			newEntry.setMethod(ZipEntry.DEFLATED);
-			// Entry is filled automatically.
-		} else {
-			newEntry.setMethod(ZipEntry.STORED);
-			JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
-		}
 
 		long lastModified= System.currentTimeMillis();
+		long length= -1;
 		URI locationURI= resource.getLocationURI();
 		if (locationURI != null) {
 			IFileInfo info= EFS.getStore(locationURI).fetchInfo();
-			if (info.exists())
+			if (info.exists()) {
 				lastModified= info.getLastModified();
+				length= info.getLength();
+			}
 		}
 
 		// Set modification time
 		newEntry.setTime(lastModified);
 
-		fJarOutputStream.putNextEntry(newEntry);
-		fJarOutputStream.write(allBytes);
+		if (fJarPackage.isCompressed()) {
+			newEntry.setMethod(ZipEntry.DEFLATED);
+			// Entry is filled automatically.
+		} else {
+			newEntry.setMethod(ZipEntry.STORED);
+			if (fPipeline == null) {
+				byte[] allBytes;
+				try (InputStream contents= resource.getContents(false)) {
+					allBytes= contents.readAllBytes();
+				}
+				JarPackagerUtil.setCrcAndSize(newEntry, allBytes);
+				fJarOutputStream.putNextEntry(newEntry);
+				fJarOutputStream.write(allBytes);
+				return;
+			}
+			// CRC and size are computed by the pipeline
+		}
+
+		if (fPipeline != null) {
+			fPipeline.submit(newEntry, () -> getContents(resource), length, BasicElementLabels.getPathLabel(resource.getFullPath(), false));
+		} else {
+			fJarOutputStream.putNextEntry(newEntry);
+			try (InputStream contents= resource.getContents(false)) {
+				contents.transferTo(fJarOutputStream);
+			}
+		}
+	}
+
+	private static InputStream getContents(IFile resource) throws IOException {
+		try {
+			return resource.getContents(false);
+		} catch (CoreException e) {
+			throw new IOException(e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Writes the given entry, after the pending entries if the entries are read in parallel.
+	 *
+	 * @param entry the entry without content
+	 * @throws IOException if an I/O error has occurred
+	 */
+	private void putNextEntry(JarEntry entry) throws IOException {
+		if (fPipeline != null)
+			fPipeline.submit(entry);
+		else
+			fJarOutputStream.putNextEntry(entry);
+	}
+
+	/**
+	 * Returns the pipeline that reads entries in parallel and writes them in order, if enabled.
+	 *
+	 * @return the pipeline or <code>null</code>
+	 * @noreference This method is not intended to be referenced by clients.
+	 * @since 3.35
+	 */
+	protected JarEntryPipeline getPipeline() {
+		return fPipeline;
 	}
 
 	/**
@@ -296,6 +358,8 @@ public class JarWriter3 {
 	 * @since 3.4
 	 */
 	protected void addEntry(JarEntry entry, InputStream content) throws IOException {
+		if (fPipeline != null)
+			fPipeline.flush();
 		JarPackagerUtilCore.addEntry(entry, content, fJarOutputStream);
 	}
 
@@ -381,8 +445,15 @@ public class JarWriter3 {
 	public void close() throws CoreException {
 		if (fJarOutputStream != null)
 			try {
-				fJarOutputStream.close();
+				try {
+					if (fPipeline != null)
+						fPipeline.close();
+				} finally {
+					fJarOutputStream.close();
+				}
 				registerInWorkspaceIfNeeded();
+			} catch (EntryException ex) {
+				throw createWriteException(ex.getEntryLabel(), ex.getCause());
 			} catch (IOException ex) {
 				throw JarPackagerUtil.createCoreException(ex.getLocalizedMessage(), ex);
 			}
@@ -426,17 +497,31 @@ public class JarWriter3 {
 			if (fJarPackage.areDirectoryEntriesIncluded())
 				addDirectories(resource, destinationPath);
 			addFile(resource, destinationPath);
+		} catch (EntryException ex) {
+			// a file written before could not be read
+			throw createWriteException(ex.getEntryLabel(), ex.getCause());
 		} catch (IOException ex) {
-			// Ensure full path is visible
-			String message= null;
-			if (ex.getLocalizedMessage() != null)
-				message= Messages.format(JarPackagerMessages.JarWriter_writeProblemWithMessage, new Object[] {BasicElementLabels.getPathLabel(resource.getFullPath(), false), ex.getLocalizedMessage()});
-			else
-				message= Messages.format(JarPackagerMessages.JarWriter_writeProblem, BasicElementLabels.getPathLabel(resource.getFullPath(), false));
-			throw JarPackagerUtil.createCoreException(message, ex);
+			throw createWriteException(BasicElementLabels.getPathLabel(resource.getFullPath(), false), ex);
 		}
 	}
 
+	/**
+	 * Creates the exception for a file that could not be written.
+	 *
+	 * @param pathLabel the label of the path of the file
+	 * @param ex the cause
+	 * @return the exception
+	 */
+	private static CoreException createWriteException(String pathLabel, Exception ex) {
+		// Ensure full path is visible
+		String message= null;
+		if (ex.getLocalizedMessage() != null)
+			message= Messages.format(JarPackagerMessages.JarWriter_writeProblemWithMessage, new Object[] {pathLabel, ex.getLocalizedMessage()});
+		else
+			message= Messages.format(JarPackagerMessages.JarWriter_writeProblem, pathLabel);
+		return JarPackagerUtil.createCoreException(message, ex);
+	}
+
 	/**
 	 * Writes the meta file to the JAR file.
 	 *
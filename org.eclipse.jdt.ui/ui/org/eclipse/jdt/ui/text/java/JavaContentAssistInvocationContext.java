@@ -1,5 +1,5 @@
 /*******************************************************************************
- * Copyright (c) 2005, 2020 IBM Corporation and others.
+ * Copyright (c) 2005, 2026 IBM Corporation and others.
  *
  * This program and the accompanying materials
  * are made available under the terms of the Eclipse Public License 2.0
@@ -40,6 +40,10 @@ import org.eclipse.jdt.internal.ui.text.java.ContentAssistHistory.RHSHistory;
  * <p>
  * Clients may use but not subclass this class.
  * </p>
+ * <p>
+ * The computed values are cached and shared by all computers of an invocation. Since 3.35 the
+ * context may be accessed by computers that run concurrently.
+ * </p>
  *
  * @since 3.2
  *
@@ -53,7 +57,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	private boolean fCUComputed= false;
 
 	private CompletionProposalLabelProvider fLabelProvider;
-	private CompletionProposalCollector fCollector;
+	private volatile CompletionProposalCollector fCollector;
 	private RHSHistory fRHSHistory;
 	private IType fType;
 
@@ -103,11 +107,12 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return the compilation unit that content assist is invoked in, possibly <code>null</code>
 	 */
-	public ICompilationUnit getCompilationUnit() {
+	public synchronized ICompilationUnit getCompilationUnit() {
 		if (!fCUComputed) {
 			fCUComputed= true;
-			if (fCollector != null) {
-				fCU= fCollector.getCompilationUnit();
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null) {
+				fCU= collector.getCompilationUnit();
 			} else {
 				IJavaElement je= EditorUtility.getEditorInputJavaElement(fEditor, false);
 				if (je instanceof ICompilationUnit) {
@@ -139,11 +144,12 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return the available keyword proposals
 	 */
-	public IJavaCompletionProposal[] getKeywordProposals() {
+	public synchronized IJavaCompletionProposal[] getKeywordProposals() {
 		if (fKeywordProposals == null) {
-			if (fCollector != null && !fCollector.isIgnored(CompletionProposal.KEYWORD) && fCollector.getContext() != null) {
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null && !collector.isIgnored(CompletionProposal.KEYWORD) && collector.getContext() != null) {
 				// use the existing collector if it exists, collects keywords, and has already been invoked
-				fKeywordProposals= fCollector.getKeywordCompletionProposals();
+				fKeywordProposals= collector.getKeywordCompletionProposals();
 			} else {
 				// otherwise, retrieve keywords ourselves
 				computeKeywordsAndContext();
@@ -164,9 +170,10 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return the core completion context if available, <code>null</code> otherwise
 	 */
-	public CompletionContext getCoreContext() {
-		if (fCollector != null) {
-			CompletionContext context= fCollector.getContext();
+	public synchronized CompletionContext getCoreContext() {
+		CompletionProposalCollector collector= fCollector;
+		if (collector != null) {
+			CompletionContext context= collector.getContext();
 			if (context != null) {
 				if (fCoreContext == null) {
 					fCoreContext= context;
@@ -205,7 +212,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return the content assist type history for the expected type
 	 */
-	private RHSHistory getRHSHistory() {
+	private synchronized RHSHistory getRHSHistory() {
 		if (fRHSHistory == null) {
 			CompletionContext context= getCoreContext();
 			if (context != null) {
@@ -232,7 +239,7 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return the expected type if any, <code>null</code> otherwise
 	 */
-	public IType getExpectedType() {
+	public synchronized IType getExpectedType() {
 		if (fType == null && getCompilationUnit() != null) {
 			CompletionContext context= getCoreContext();
 			if (context != null) {
@@ -257,10 +264,11 @@ public class JavaContentAssistInvocationContext extends ContentAssistInvocationC
 	 *
 	 * @return a label provider that can be used to compute proposal labels
 	 */
-	public CompletionProposalLabelProvider getLabelProvider() {
+	public synchronized CompletionProposalLabelProvider getLabelProvider() {
 		if (fLabelProvider == null) {
-			if (fCollector != null) {
-				fLabelProvider= fCollector.getLabelProvider();
+			CompletionProposalCollector collector= fCollector;
+			if (collector != null) {
+				fLabelProvider= collector.getLabelProvider();
 			} else {
 				fLabelProvider= new CompletionProposalLabelProvider();
 			}